@@ -0,0 +1,105 @@
+package com.softserve.rms.mapper;
+
+import com.softserve.rms.dto.UserDto;
+import com.softserve.rms.dto.resourceRecord.ResourceRecordDTO;
+import com.softserve.rms.dto.template.ResourceTemplateDTO;
+import com.softserve.rms.entities.ParameterType;
+import com.softserve.rms.entities.ResourceParameter;
+import com.softserve.rms.entities.ResourceRecord;
+import com.softserve.rms.entities.ResourceTemplate;
+import com.softserve.rms.entities.User;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of per item entity to DTO mapping with application mappers compared to
+ * {@link ModelMapper}, both with a shared instance and with a new instance per mapping.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MapperBenchmark {
+    private ModelMapper modelMapper = new ModelMapper();
+    private UserMapper userMapper = new UserMapper();
+    private ResourceRecordMapper resourceRecordMapper = new ResourceRecordMapper();
+    private ResourceTemplateMapper resourceTemplateMapper = new ResourceTemplateMapper(new ResourceParameterMapper());
+    private ResourceRecord resourceRecord;
+    private ResourceTemplate resourceTemplate;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        user = new User();
+        user.setId(1L);
+        user.setFirstName("firstName");
+        user.setLastName("lastName");
+        user.setEmail("email@gmail.com");
+        user.setPhone("0671234567");
+        user.setEnabled(true);
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("weight", 120);
+        parameters.put("color", "green");
+        resourceRecord = ResourceRecord.builder()
+                .id(1L).name("Oak").description("Old oak tree").user(user)
+                .photosNames("photo,").documentNames("document,").parameters(parameters)
+                .build();
+        resourceTemplate = new ResourceTemplate();
+        resourceTemplate.setId(1L);
+        resourceTemplate.setName("Trees");
+        resourceTemplate.setTableName("trees");
+        resourceTemplate.setDescription("Trees of the park");
+        resourceTemplate.setIsPublished(true);
+        resourceTemplate.setUser(user);
+        resourceTemplate.setVersion(0L);
+        List<ResourceParameter> resourceParameters = new ArrayList<>();
+        for (long i = 0; i < 5; i++) {
+            resourceParameters.add(new ResourceParameter(i, "Parameter " + i, "parameter_" + i,
+                    ParameterType.POINT_INT, null, resourceTemplate, null));
+        }
+        resourceTemplate.setResourceParameters(resourceParameters);
+        modelMapper.map(resourceRecord, ResourceRecordDTO.class);
+        modelMapper.map(resourceTemplate, ResourceTemplateDTO.class);
+        modelMapper.map(user, UserDto.class);
+    }
+
+    @Benchmark
+    public ResourceRecordDTO mapResourceRecord() {
+        return resourceRecordMapper.toDto(resourceRecord);
+    }
+
+    @Benchmark
+    public ResourceRecordDTO mapResourceRecordWithModelMapper() {
+        return modelMapper.map(resourceRecord, ResourceRecordDTO.class);
+    }
+
+    @Benchmark
+    public ResourceRecordDTO mapResourceRecordWithNewModelMapper() {
+        return new ModelMapper().map(resourceRecord, ResourceRecordDTO.class);
+    }
+
+    @Benchmark
+    public ResourceTemplateDTO mapResourceTemplate() {
+        return resourceTemplateMapper.toDto(resourceTemplate);
+    }
+
+    @Benchmark
+    public ResourceTemplateDTO mapResourceTemplateWithModelMapper() {
+        return modelMapper.map(resourceTemplate, ResourceTemplateDTO.class);
+    }
+
+    @Benchmark
+    public UserDto mapUser() {
+        return userMapper.toDto(user);
+    }
+
+    @Benchmark
+    public UserDto mapUserWithModelMapper() {
+        return modelMapper.map(user, UserDto.class);
+    }
+}
@@ -0,0 +1,148 @@
+package com.softserve.rms.repository.implementation;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.softserve.rms.dto.resourceRecord.ResourceRecordDTO;
+import com.softserve.rms.entities.ResourceTemplate;
+import com.softserve.rms.entities.User;
+import com.softserve.rms.mapper.ResourceRecordMapper;
+import com.softserve.rms.repository.ResourceRecordRepository;
+import com.softserve.rms.service.ResourceTemplateService;
+import com.softserve.rms.service.UserService;
+import com.softserve.rms.service.implementation.ResourceRecordServiceImpl;
+import com.softserve.rms.util.ResourceRecordColumns;
+import org.jooq.Cursor;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockResult;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+import static org.jooq.impl.DSL.field;
+
+/**
+ * Benchmark of writing page of records: converting rows to {@link ResourceRecordDTO} before
+ * serialization versus streaming rows to {@link JsonGenerator} in json and columnar formats.
+ * Rows are read from jOOQ mock connection, so all variants include reading of result set.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResourceRecordPageBenchmark {
+    private static final String COORDINATES = "49.842,24.031;49.843,24.032;49.844,24.033;49.845,24.034;49.846,24.035";
+    private static final String TABLE = "trees";
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private DSLContext dslContext;
+    private ResourceRecordRepositoryImpl repository;
+    private ResourceRecordMapper mapper;
+    private ResourceRecordServiceImpl service;
+    private ObjectMapper objectMapper;
+    private SmileFactory smileFactory;
+    private ByteArrayOutputStream outputStream;
+
+    @Setup
+    public void setUp() {
+        User user = new User();
+        user.setId(1L);
+        UserService userService = (UserService) Proxy.newProxyInstance(UserService.class.getClassLoader(),
+                new Class[]{UserService.class}, (proxy, method, args) -> user);
+        ResourceTemplate template = new ResourceTemplate();
+        template.setIsPublished(true);
+        ResourceTemplateService templateService = (ResourceTemplateService) Proxy.newProxyInstance(
+                ResourceTemplateService.class.getClassLoader(), new Class[]{ResourceTemplateService.class},
+                (proxy, method, args) -> template);
+
+        Field<?>[] fields = {
+                field("id", Long.class), field("name", String.class), field("description", String.class),
+                field("user_id", Long.class), field("photos_names", String.class), field("documents_names", String.class),
+                field("weight", Integer.class), field("height_from", Double.class), field("height_to", Double.class),
+                field("color", String.class), field("owner_ref", Long.class), field("owner_ref_name", String.class),
+                field("land_coordinate", String.class)};
+        DSLContext mockContext = DSL.using(SQLDialect.POSTGRES);
+        Result<Record> result = mockContext.newResult(fields);
+        for (long i = 1; i <= pageSize; i++) {
+            Record record = mockContext.newRecord(fields);
+            record.fromArray(i, "Oak " + i, "Old oak tree", 1L, null, null, 120, 10.5, 12.5, "green", 2L,
+                    "owner", COORDINATES);
+            result.add(record);
+        }
+        dslContext = DSL.using(new MockConnection(ctx -> new MockResult[]{new MockResult(result.size(), result)}),
+                SQLDialect.POSTGRES);
+        repository = new ResourceRecordRepositoryImpl(dslContext, null, userService);
+        mapper = new ResourceRecordMapper();
+        ResourceRecordRepository streamingRepository = (ResourceRecordRepository) Proxy.newProxyInstance(
+                ResourceRecordRepository.class.getClassLoader(), new Class[]{ResourceRecordRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("count")) {
+                        return (long) pageSize;
+                    }
+                    @SuppressWarnings("unchecked")
+                    BiConsumer<ResourceRecordColumns, Cursor<Record>> consumer =
+                            (BiConsumer<ResourceRecordColumns, Cursor<Record>>) args[3];
+                    try (Cursor<Record> cursor = dslContext.selectFrom(TABLE).fetchLazy()) {
+                        consumer.accept(ResourceRecordColumns.of(cursor.fields()), cursor);
+                    }
+                    return null;
+                });
+        service = new ResourceRecordServiceImpl(streamingRepository, templateService, userService, null, null, mapper, null, 1000, 2);
+        objectMapper = new ObjectMapper();
+        smileFactory = new SmileFactory();
+        smileFactory.setCodec(objectMapper);
+        outputStream = new ByteArrayOutputStream(64 * 1024);
+    }
+
+    @Benchmark
+    public int convertToDto() throws IOException {
+        outputStream.reset();
+        List<ResourceRecordDTO> content = dslContext.selectFrom(TABLE).fetch().stream()
+                .map(repository::convertRecordToResource)
+                .map(mapper::toDto)
+                .collect(Collectors.toList());
+        Page<ResourceRecordDTO> page = new PageImpl<>(content, PageRequest.of(0, pageSize), pageSize);
+        objectMapper.writeValue(outputStream, page);
+        return outputStream.size();
+    }
+
+    @Benchmark
+    public int stream() throws IOException {
+        return writePage(objectMapper.getFactory(), false);
+    }
+
+    @Benchmark
+    public int streamColumnar() throws IOException {
+        return writePage(objectMapper.getFactory(), true);
+    }
+
+    @Benchmark
+    public int streamColumnarSmile() throws IOException {
+        return writePage(smileFactory, true);
+    }
+
+    private int writePage(JsonFactory factory, boolean columnar) throws IOException {
+        outputStream.reset();
+        try (JsonGenerator generator = factory.createGenerator(outputStream)) {
+            service.writeAll(TABLE, 1, pageSize, 0, columnar, generator);
+        }
+        return outputStream.size();
+    }
+}
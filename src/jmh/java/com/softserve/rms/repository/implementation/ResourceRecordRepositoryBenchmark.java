@@ -0,0 +1,66 @@
+package com.softserve.rms.repository.implementation;
+
+import com.softserve.rms.entities.ResourceRecord;
+import com.softserve.rms.entities.User;
+import com.softserve.rms.service.UserService;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.jooq.impl.DSL.field;
+
+/**
+ * Benchmarks of converting container table rows to {@link ResourceRecord}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResourceRecordRepositoryBenchmark {
+    private static final String COORDINATES = "49.842,24.031;49.843,24.032;49.844,24.033;49.845,24.034;49.846,24.035";
+
+    private ResourceRecordRepositoryImpl repository;
+    private Record record;
+
+    @Setup
+    public void setUp() {
+        User user = new User();
+        user.setId(1L);
+        UserService userService = (UserService) Proxy.newProxyInstance(UserService.class.getClassLoader(),
+                new Class[]{UserService.class}, (proxy, method, args) -> user);
+        DSLContext dslContext = DSL.using(SQLDialect.POSTGRES);
+        repository = new ResourceRecordRepositoryImpl(dslContext, null, userService);
+
+        Field<?>[] fields = {
+                field("id", Long.class), field("name", String.class), field("description", String.class),
+                field("user_id", Long.class), field("photos_names", String.class), field("documents_names", String.class),
+                field("weight", Integer.class), field("height_from", Double.class), field("height_to", Double.class),
+                field("color", String.class), field("owner_ref", Long.class), field("owner_ref_name", String.class),
+                field("land_coordinate", String.class)};
+        record = dslContext.newRecord(fields);
+        record.fromArray(1L, "Oak", "Old oak tree", 1L, "photo,", "document,", 120, 10.5, 12.5, "green", 2L,
+                "owner", COORDINATES);
+    }
+
+    @Benchmark
+    public ResourceRecord convertRecordToResource() {
+        return repository.convertRecordToResource(record);
+    }
+
+    @Benchmark
+    public Map<String, Object> getParameters() {
+        return repository.getParameters(record);
+    }
+
+    @Benchmark
+    public List<Map<String, Double>> getAllCoordinates() {
+        return repository.getAllCoordinates(COORDINATES);
+    }
+}
@@ -0,0 +1,46 @@
+package com.softserve.rms.service.implementation;
+
+import com.softserve.rms.mapper.ResourceRecordMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of generating download urls of record files. Presigned urls are signed locally,
+ * so no requests are sent to the storage.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResourceRecordServiceBenchmark {
+    private ResourceRecordServiceImpl resourceRecordService;
+
+    @Param({"1", "10"})
+    private int filesCount;
+
+    private String files;
+
+    @Setup
+    public void setUp() throws Exception {
+        FileStorageServiceImpl fileStorageService = new FileStorageServiceImpl("bucket", "accessKey",
+                "secretAccessKey", 900000L, false, null, new SimpleMeterRegistry());
+        Method initializeAmazon = FileStorageServiceImpl.class.getDeclaredMethod("initializeAmazon");
+        initializeAmazon.setAccessible(true);
+        initializeAmazon.invoke(fileStorageService);
+        resourceRecordService = new ResourceRecordServiceImpl(null, null, null, fileStorageService, null,
+                new ResourceRecordMapper(), null, 1000, 2);
+
+        StringBuilder names = new StringBuilder();
+        for (int i = 0; i < filesCount; i++) {
+            names.append("3f1c2a9e-8d4b-4c7e-9a61-0b5d2e7f4c1").append(i).append(',');
+        }
+        files = names.toString();
+    }
+
+    @Benchmark
+    public String generateUrlForFiles() {
+        return resourceRecordService.generateUrlForFiles(files);
+    }
+}
@@ -0,0 +1,34 @@
+package com.softserve.rms.util;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of in-memory pagination.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PaginationUtilBenchmark {
+    private List<Integer> items;
+
+    @Param({"100", "10000"})
+    private int itemsCount;
+
+    @Setup
+    public void setUp() {
+        items = new ArrayList<>(itemsCount);
+        for (int i = 0; i < itemsCount; i++) {
+            items.add(i);
+        }
+    }
+
+    @Benchmark
+    public Page<Integer> buildPage() {
+        return PaginationUtil.buildPage(items, 3, 20);
+    }
+}
@@ -0,0 +1,23 @@
+package com.softserve.rms.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of regex generation for integer ranges.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RangeIntegerPatternGeneratorBenchmark {
+    private RangeIntegerPatternGenerator patternGenerator = new RangeIntegerPatternGenerator();
+
+    @Param({"1 9", "17 98765"})
+    private String range;
+
+    @Benchmark
+    public String generateRangeIntegerRegex() {
+        return patternGenerator.generateRangeIntegerRegex(range);
+    }
+}
@@ -0,0 +1,114 @@
+package com.softserve.rms.load;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects response times per endpoint and calculates percentiles.
+ */
+public class LatencyRecorder {
+    private final Map<String, Samples> samples = new ConcurrentHashMap<>();
+
+    public void record(String endpoint, long nanos, boolean success) {
+        samples.computeIfAbsent(endpoint, key -> new Samples()).add(nanos, success);
+    }
+
+    /**
+     * Method calculates statistics of every endpoint.
+     *
+     * @param elapsedNanos duration of the measured run
+     * @return statistics ordered by endpoint name
+     */
+    public List<EndpointStats> getStats(long elapsedNanos) {
+        List<EndpointStats> stats = new ArrayList<>();
+        new TreeMap<>(samples).forEach((endpoint, endpointSamples) ->
+                stats.add(endpointSamples.toStats(endpoint, elapsedNanos)));
+        return stats;
+    }
+
+    private static class Samples {
+        private long[] nanos = new long[1024];
+        private int count;
+        private int errors;
+
+        synchronized void add(long value, boolean success) {
+            if (count == nanos.length) {
+                nanos = Arrays.copyOf(nanos, count * 2);
+            }
+            nanos[count++] = value;
+            if (!success) {
+                errors++;
+            }
+        }
+
+        synchronized EndpointStats toStats(String endpoint, long elapsedNanos) {
+            long[] sorted = Arrays.copyOf(nanos, count);
+            Arrays.sort(sorted);
+            double seconds = elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1);
+            return new EndpointStats(endpoint, count, errors, count / seconds,
+                    percentile(sorted, 50), percentile(sorted, 95), percentile(sorted, 99));
+        }
+
+        private double percentile(long[] sorted, int percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+            return sorted[Math.max(index, 0)] / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        }
+    }
+
+    public static class EndpointStats {
+        private final String endpoint;
+        private final long requests;
+        private final long errors;
+        private final double requestsPerSecond;
+        private final double p50;
+        private final double p95;
+        private final double p99;
+
+        EndpointStats(String endpoint, long requests, long errors, double requestsPerSecond,
+                      double p50, double p95, double p99) {
+            this.endpoint = endpoint;
+            this.requests = requests;
+            this.errors = errors;
+            this.requestsPerSecond = requestsPerSecond;
+            this.p50 = p50;
+            this.p95 = p95;
+            this.p99 = p99;
+        }
+
+        public String getEndpoint() {
+            return endpoint;
+        }
+
+        public long getRequests() {
+            return requests;
+        }
+
+        public long getErrors() {
+            return errors;
+        }
+
+        public double getRequestsPerSecond() {
+            return requestsPerSecond;
+        }
+
+        public double getP50() {
+            return p50;
+        }
+
+        public double getP95() {
+            return p95;
+        }
+
+        public double getP99() {
+            return p99;
+        }
+    }
+}
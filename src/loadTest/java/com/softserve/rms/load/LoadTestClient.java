@@ -0,0 +1,111 @@
+package com.softserve.rms.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.DefaultResponseErrorHandler;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Http client of the application which measures every request.
+ */
+public class LoadTestClient {
+    private static final String AUTHORIZATION = "authorization";
+    private static final String REFRESH_TOKEN = "refreshToken";
+
+    private final RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory());
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+    private final LatencyRecorder recorder;
+    private String email;
+    private String accessToken;
+    private String refreshToken;
+
+    public LoadTestClient(String baseUrl, LatencyRecorder recorder) {
+        this.baseUrl = baseUrl;
+        this.recorder = recorder;
+        restTemplate.setErrorHandler(new DefaultResponseErrorHandler() {
+            @Override
+            public boolean hasError(ClientHttpResponse response) throws IOException {
+                return false;
+            }
+        });
+    }
+
+    public ResponseEntity<String> login(String email, String password) {
+        this.email = email;
+        Map<String, Object> body = new HashMap<>();
+        body.put("email", email);
+        body.put("password", password);
+        ResponseEntity<String> response = exchange("login", HttpMethod.POST, "/authentication", body, false);
+        rememberTokens(response);
+        return response;
+    }
+
+    public ResponseEntity<String> refresh() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(REFRESH_TOKEN, refreshToken);
+        ResponseEntity<String> response = exchange("refresh", HttpMethod.POST, "/refresh", new HttpEntity<>(headers));
+        rememberTokens(response);
+        return response;
+    }
+
+    /**
+     * Method sends authorized request.
+     *
+     * @param endpoint name of the endpoint in the report
+     * @param method   http method
+     * @param path     path of the request
+     * @param body     json body, may be {@code null}
+     * @return response
+     */
+    public ResponseEntity<String> send(String endpoint, HttpMethod method, String path, Object body) {
+        return exchange(endpoint, method, path, body, true);
+    }
+
+    public JsonNode readJson(ResponseEntity<String> response) {
+        try {
+            return objectMapper.readTree(response.getBody());
+        } catch (IOException e) {
+            throw new IllegalStateException("Response is not json: " + response.getBody(), e);
+        }
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    private ResponseEntity<String> exchange(String endpoint, HttpMethod method, String path, Object body,
+                                            boolean authorized) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        if (authorized) {
+            headers.set(AUTHORIZATION, accessToken);
+        }
+        return exchange(endpoint, method, path, new HttpEntity<>(body, headers));
+    }
+
+    private ResponseEntity<String> exchange(String endpoint, HttpMethod method, String path, HttpEntity<?> entity) {
+        long start = System.nanoTime();
+        ResponseEntity<String> response = restTemplate.exchange(baseUrl + path, method, entity, String.class);
+        recorder.record(endpoint, System.nanoTime() - start, !response.getStatusCode().isError());
+        return response;
+    }
+
+    private void rememberTokens(ResponseEntity<String> response) {
+        if (response.getHeaders().getFirst(AUTHORIZATION) != null) {
+            accessToken = response.getHeaders().getFirst(AUTHORIZATION);
+            refreshToken = response.getHeaders().getFirst(REFRESH_TOKEN);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.softserve.rms.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.softserve.rms.RmsApplication;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpMethod;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Boots the application against embedded PostgreSQL, seeds it and drives mixed workload from
+ * several threads. Reports p50/p95/p99 latency and requests per second of every endpoint.
+ * <p>
+ * Settings are read from system properties: {@code loadTest.templates}, {@code loadTest.records},
+ * {@code loadTest.threads}, {@code loadTest.warmupSeconds}, {@code loadTest.durationSeconds},
+ * {@code loadTest.resultsFile} and {@code loadTest.jdbcUrl} with {@code loadTest.jdbcUser} and
+ * {@code loadTest.jdbcPassword} to use already running database instead of embedded one.
+ */
+public class LoadTestRunner {
+    private static final int PAGE_SIZE = 20;
+
+    private final int threads = Integer.getInteger("loadTest.threads", 8);
+    private final int templates = Integer.getInteger("loadTest.templates", 5);
+    private final int records = Integer.getInteger("loadTest.records", 500);
+    private final long warmupSeconds = Long.getLong("loadTest.warmupSeconds", 10L);
+    private final long durationSeconds = Long.getLong("loadTest.durationSeconds", 60L);
+    private final String resultsFile = System.getProperty("loadTest.resultsFile", "build/reports/load/results.json");
+
+    public static void main(String[] args) throws Exception {
+        new LoadTestRunner().run();
+    }
+
+    private void run() throws Exception {
+        EmbeddedPostgres postgres = null;
+        String jdbcUrl = System.getProperty("loadTest.jdbcUrl");
+        String jdbcUser = System.getProperty("loadTest.jdbcUser", "postgres");
+        String jdbcPassword = System.getProperty("loadTest.jdbcPassword", "postgres");
+        if (jdbcUrl == null) {
+            postgres = EmbeddedPostgres.builder().start();
+            jdbcUrl = postgres.getJdbcUrl("postgres", "postgres");
+        }
+        try (ConfigurableApplicationContext context = startApplication(jdbcUrl, jdbcUser, jdbcPassword)) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            String baseUrl = "http://localhost:" + port;
+            LoadTestSeeder seeder = new LoadTestSeeder(context);
+            List<String> users = seeder.seedUsers(threads);
+            LoadTestClient seedClient = new LoadTestClient(baseUrl, new LatencyRecorder());
+            seedClient.login(users.get(0), LoadTestSeeder.PASSWORD);
+            List<LoadTestSeeder.SeededTemplate> seededTemplates = seeder.seedTemplates(seedClient, templates, records);
+
+            drive(baseUrl, users, seededTemplates, new LatencyRecorder(), TimeUnit.SECONDS.toNanos(warmupSeconds));
+            LatencyRecorder recorder = new LatencyRecorder();
+            long elapsed = drive(baseUrl, users, seededTemplates, recorder, TimeUnit.SECONDS.toNanos(durationSeconds));
+            report(recorder.getStats(elapsed));
+        } finally {
+            if (postgres != null) {
+                postgres.close();
+            }
+        }
+    }
+
+    /**
+     * Method starts the application. Settings are passed as system properties, because
+     * they have to override placeholders of application.properties.
+     */
+    private ConfigurableApplicationContext startApplication(String jdbcUrl, String jdbcUser, String jdbcPassword) {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("server.port", "0");
+        properties.put("DATASOURCE_URL", jdbcUrl);
+        properties.put("DATASOURCE_USER", jdbcUser);
+        properties.put("DATASOURCE_PASSWORD", jdbcPassword);
+        properties.put("GOOGLE_CLIENT_ID", "load-test");
+        properties.put("GOOGLE_CLIENT_SECRET", "load-test");
+        properties.put("EMAIL", "load-test@load.test");
+        properties.put("EMAIL_PASSWORD", "load-test");
+        properties.put("BUCKET_NAME", "load-test");
+        properties.put("AWSAccessKeyId", "load-test");
+        properties.put("AWSSecretKey", "load-test");
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("logging.level.root", "WARN");
+        properties.forEach(System::setProperty);
+        return SpringApplication.run(RmsApplication.class);
+    }
+
+    /**
+     * Method runs workload from every thread for provided time.
+     *
+     * @return measured time in nanoseconds
+     */
+    private long drive(String baseUrl, List<String> users, List<LoadTestSeeder.SeededTemplate> seededTemplates,
+                       LatencyRecorder recorder, long durationNanos) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        long start = System.nanoTime();
+        long deadline = start + durationNanos;
+        List<Future<?>> futures = new ArrayList<>();
+        for (String user : users) {
+            futures.add(executor.submit(() -> {
+                LoadTestClient client = new LoadTestClient(baseUrl, recorder);
+                client.login(user, LoadTestSeeder.PASSWORD);
+                while (System.nanoTime() < deadline) {
+                    runOperation(client, seededTemplates);
+                }
+            }));
+        }
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Method runs one random operation. Weights approximate usage of the application:
+     * mostly reads, some writes, template search and token refresh.
+     */
+    private void runOperation(LoadTestClient client, List<LoadTestSeeder.SeededTemplate> seededTemplates) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LoadTestSeeder.SeededTemplate template = seededTemplates.get(random.nextInt(seededTemplates.size()));
+        String resourcePath = "/resource-template/resource/" + template.tableName;
+        int operation = random.nextInt(100);
+        if (operation < 35) {
+            int page = random.nextInt(Math.max(template.records / PAGE_SIZE, 1)) + 1;
+            client.send("GET records", HttpMethod.GET, resourcePath + "?page=" + page + "&pageSize=" + PAGE_SIZE, null);
+        } else if (operation < 65) {
+            client.send("GET record", HttpMethod.GET, resourcePath + "/" + (random.nextInt(template.records) + 1), null);
+        } else if (operation < 75) {
+            client.send("POST record", HttpMethod.POST, resourcePath,
+                    LoadTestSeeder.record(random.nextInt(1000), template.weightColumn, template.colorColumn));
+        } else if (operation < 85) {
+            client.send("PATCH record", HttpMethod.PATCH, resourcePath + "/" + (random.nextInt(template.records) + 1),
+                    LoadTestSeeder.record(random.nextInt(1000), template.weightColumn, template.colorColumn));
+        } else if (operation < 95) {
+            client.send("GET template search", HttpMethod.GET,
+                    "/resource-template/search?searchedWord=load&pageSize=" + PAGE_SIZE, null);
+        } else if (operation < 98) {
+            client.refresh();
+        } else {
+            client.login(client.getEmail(), LoadTestSeeder.PASSWORD);
+        }
+    }
+
+    private void report(List<LatencyRecorder.EndpointStats> stats) throws IOException {
+        System.out.println(String.format("%-22s %9s %7s %9s %9s %9s %9s",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms"));
+        for (LatencyRecorder.EndpointStats endpoint : stats) {
+            System.out.println(String.format("%-22s %9d %7d %9.1f %9.2f %9.2f %9.2f",
+                    endpoint.getEndpoint(), endpoint.getRequests(), endpoint.getErrors(),
+                    endpoint.getRequestsPerSecond(), endpoint.getP50(), endpoint.getP95(), endpoint.getP99()));
+        }
+        File file = new File(resultsFile);
+        file.getAbsoluteFile().getParentFile().mkdirs();
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file, stats);
+        System.out.println("Results are saved to " + file.getAbsolutePath());
+    }
+}
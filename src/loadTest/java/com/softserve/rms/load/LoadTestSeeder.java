@@ -0,0 +1,134 @@
+package com.softserve.rms.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.softserve.rms.entities.Role;
+import com.softserve.rms.entities.User;
+import com.softserve.rms.repository.UserRepository;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fills the database with users, published templates and their records.
+ */
+public class LoadTestSeeder {
+    static final String PASSWORD = "LoadTest1";
+    private static final Role MANAGER_ROLE = new Role(2L, "ROLE_MANAGER");
+
+    private final ApplicationContext context;
+
+    public LoadTestSeeder(ApplicationContext context) {
+        this.context = context;
+    }
+
+    /**
+     * Method saves enabled users with manager role, so that every user can read all templates.
+     *
+     * @param count of users
+     * @return emails of the users
+     */
+    public List<String> seedUsers(int count) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        String password = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+        List<String> emails = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String email = "user" + i + "@load.test";
+            User user = new User();
+            user.setFirstName("Load" + i);
+            user.setLastName("Test");
+            user.setEmail(email);
+            user.setPhone(String.format("+380%09d", i));
+            user.setPassword(password);
+            user.setEnabled(true);
+            user.setRole(MANAGER_ROLE);
+            userRepository.save(user);
+            emails.add(email);
+        }
+        return emails;
+    }
+
+    /**
+     * Method creates and publishes templates through the api and adds records to every template.
+     *
+     * @param client    logged in client
+     * @param templates count of templates
+     * @param records   count of records per template
+     * @return created templates
+     */
+    public List<SeededTemplate> seedTemplates(LoadTestClient client, int templates, int records) {
+        List<SeededTemplate> seededTemplates = new ArrayList<>();
+        for (int i = 0; i < templates; i++) {
+            Map<String, Object> template = new HashMap<>();
+            template.put("name", "Load template " + (char) ('a' + i % 26) + i);
+            template.put("description", "Template seeded for load test number " + i);
+            JsonNode savedTemplate = client.readJson(checked(client.send("seed", HttpMethod.POST,
+                    "/resource-template", template)));
+            long templateId = savedTemplate.get("id").asLong();
+            String weightColumn = saveParameter(client, templateId, "weight", "POINT_INT");
+            String colorColumn = saveParameter(client, templateId, "color", "POINT_STRING");
+            checked(client.send("seed", HttpMethod.PUT, "/resource-template/" + templateId + "/publish",
+                    Collections.singletonMap("isPublished", true)));
+            String tableName = savedTemplate.get("tableName").asText();
+            for (int j = 0; j < records; j++) {
+                checked(client.send("seed", HttpMethod.POST, "/resource-template/resource/" + tableName,
+                        record(j, weightColumn, colorColumn)));
+            }
+            seededTemplates.add(new SeededTemplate(tableName, weightColumn, colorColumn, records));
+        }
+        return seededTemplates;
+    }
+
+    /**
+     * Method builds body of record with parameters of seeded templates.
+     *
+     * @param number of the record
+     * @return record body
+     */
+    static Map<String, Object> record(int number, String weightColumn, String colorColumn) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put(weightColumn, number);
+        parameters.put(colorColumn, "color " + number % 10);
+        Map<String, Object> record = new HashMap<>();
+        record.put("name", "Record " + number);
+        record.put("description", "Record seeded for load test number " + number);
+        record.put("parameters", parameters);
+        return record;
+    }
+
+    private String saveParameter(LoadTestClient client, long templateId, String name, String type) {
+        Map<String, Object> parameter = new HashMap<>();
+        parameter.put("name", name);
+        parameter.put("parameterType", type);
+        JsonNode saved = client.readJson(checked(client.send("seed", HttpMethod.POST,
+                "/resource-template/" + templateId + "/resource-parameter", parameter)));
+        return saved.get("columnName").asText();
+    }
+
+    private ResponseEntity<String> checked(ResponseEntity<String> response) {
+        if (response.getStatusCode().isError()) {
+            throw new IllegalStateException("Seeding failed with " + response.getStatusCode() + ": " + response.getBody());
+        }
+        return response;
+    }
+
+    static class SeededTemplate {
+        final String tableName;
+        final String weightColumn;
+        final String colorColumn;
+        final int records;
+
+        SeededTemplate(String tableName, String weightColumn, String colorColumn, int records) {
+            this.tableName = tableName;
+            this.weightColumn = weightColumn;
+            this.colorColumn = colorColumn;
+            this.records = records;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.softserve.rms.load;
+
+import com.softserve.rms.dto.file.PresignedUrlDto;
+import com.softserve.rms.service.implementation.FileStorageServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.mail.internet.MimeMessage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Replaces external services with in-memory stubs, so load test measures only the application
+ * and its database.
+ */
+@Configuration
+public class LoadTestStubs {
+    private static final String STUB_URL = "http://localhost/load-test/";
+
+    @Bean
+    @Primary
+    public FileStorageServiceImpl inMemoryFileStorageService(MeterRegistry meterRegistry) {
+        return new InMemoryFileStorageService(meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public JavaMailSender noOpMailSender() {
+        return new JavaMailSenderImpl() {
+            @Override
+            protected void doSend(MimeMessage[] mimeMessages, Object[] originalMessages) {
+            }
+        };
+    }
+
+    static class InMemoryFileStorageService extends FileStorageServiceImpl {
+        private final Map<String, byte[]> files = new ConcurrentHashMap<>();
+
+        InMemoryFileStorageService(MeterRegistry meterRegistry) {
+            super("load-test", "load-test", "load-test", 900000L, false, null, meterRegistry);
+        }
+
+        @Override
+        public String uploadFile(MultipartFile multipartFile) {
+            String fileName = UUID.randomUUID().toString();
+            try {
+                files.put(fileName, multipartFile.getBytes());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return fileName;
+        }
+
+        @Override
+        public void uploadFile(String fileName, byte[] content, String contentType) {
+            files.put(fileName, content);
+        }
+
+        @Override
+        public InputStream downloadFile(String fileName) {
+            return new ByteArrayInputStream(files.getOrDefault(fileName, new byte[0]));
+        }
+
+        @Override
+        public void deleteFile(String fileName) {
+            files.remove(fileName);
+        }
+
+        @Override
+        public boolean isFileReferenced(String fileName) {
+            return false;
+        }
+
+        @Override
+        public PresignedUrlDto generatePresignedUploadUrl(String prefix, String contentType) {
+            String fileName = prefix + UUID.randomUUID().toString();
+            return new PresignedUrlDto(fileName, STUB_URL + fileName, new Date());
+        }
+
+        @Override
+        public String generatePresignedDownloadUrl(String fileName) {
+            return STUB_URL + fileName;
+        }
+
+        @Override
+        public boolean isFileExist(String fileName) {
+            return files.containsKey(fileName);
+        }
+    }
+}
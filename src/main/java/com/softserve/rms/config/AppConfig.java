@@ -2,23 +2,92 @@ package com.softserve.rms.config;
 
 import com.softserve.rms.repository.implementation.JooqDDL;
 import org.jooq.DSLContext;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 public class AppConfig {
     @Autowired
     private DSLContext dslContext;
+    @Value("${imageProcessing.poolSize}")
+    private int imageProcessingPoolSize;
+    @Value("${imageProcessing.queueCapacity}")
+    private int imageProcessingQueueCapacity;
+    @Value("${fileCleanup.poolSize}")
+    private int fileCleanupPoolSize;
+    @Value("${fileCleanup.queueCapacity}")
+    private int fileCleanupQueueCapacity;
+    @Value("${referenceLookup.poolSize}")
+    private int referenceLookupPoolSize;
+    @Value("${referenceLookup.queueCapacity}")
+    private int referenceLookupQueueCapacity;
+    @Value("${migration.poolSize}")
+    private int migrationPoolSize;
+    @Value("${migration.queueCapacity}")
+    private int migrationQueueCapacity;
+    @Value("${backfill.poolSize}")
+    private int backfillPoolSize;
+    @Value("${backfill.queueCapacity}")
+    private int backfillQueueCapacity;
 
     @Bean
-    public ModelMapper modelMapper() {
-        return new ModelMapper();
+    public JooqDDL createJooqDDL() {
+        return new JooqDDL(dslContext);
     }
 
     @Bean
-    public JooqDDL createJooqDDL() {
-        return new JooqDDL(dslContext);
+    public ThreadPoolTaskExecutor imageProcessingExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(imageProcessingPoolSize);
+        executor.setMaxPoolSize(imageProcessingPoolSize);
+        executor.setQueueCapacity(imageProcessingQueueCapacity);
+        executor.setThreadNamePrefix("image-processing-");
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor fileCleanupExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(fileCleanupPoolSize);
+        executor.setMaxPoolSize(fileCleanupPoolSize);
+        executor.setQueueCapacity(fileCleanupQueueCapacity);
+        executor.setThreadNamePrefix("file-cleanup-");
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor referenceLookupExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(referenceLookupPoolSize);
+        executor.setMaxPoolSize(referenceLookupPoolSize);
+        executor.setQueueCapacity(referenceLookupQueueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("reference-lookup-");
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor migrationExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(migrationPoolSize);
+        executor.setMaxPoolSize(migrationPoolSize);
+        executor.setQueueCapacity(migrationQueueCapacity);
+        executor.setThreadNamePrefix("migration-");
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor backfillExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(backfillPoolSize);
+        executor.setMaxPoolSize(backfillPoolSize);
+        executor.setQueueCapacity(backfillQueueCapacity);
+        executor.setThreadNamePrefix("backfill-");
+        return executor;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,33 @@
+package com.softserve.rms.config;
+
+import com.softserve.rms.constants.AuditQueries;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+
+/**
+ * Creates indexes used by account audit queries. Audit tables are created by Hibernate Envers,
+ * so indexes are created when the application is ready instead of in schema.sql.
+ */
+@Configuration
+public class AuditIndexConfig {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public AuditIndexConfig(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createAuditIndexes() {
+        jdbcTemplate.batchUpdate(AuditQueries.REVINFO_TIMESTAMP_INDEX,
+                AuditQueries.USERS_AUD_REV_INDEX,
+                AuditQueries.USERS_AUD_ID_REV_INDEX,
+                AuditQueries.USERS_AUD_REVTYPE_INDEX);
+    }
+}
@@ -0,0 +1,50 @@
+package com.softserve.rms.config;
+
+import com.softserve.rms.constants.FieldConstants;
+import com.softserve.rms.entities.ParameterType;
+import com.softserve.rms.repository.implementation.JooqDDL;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record2;
+import org.jooq.Table;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.table;
+
+/**
+ * Indexes reference columns of container tables of templates published before records
+ * referencing a record could be looked up.
+ */
+@Configuration
+public class ContainerTableReferenceIndexConfig {
+
+    private final DSLContext dslContext;
+    private final JooqDDL jooqDDL;
+
+    @Autowired
+    public ContainerTableReferenceIndexConfig(DSLContext dslContext, JooqDDL jooqDDL) {
+        this.dslContext = dslContext;
+        this.jooqDDL = jooqDDL;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createReferenceIndexes() {
+        Table<?> templates = table(FieldConstants.RESOURCE_TEMPLATES_TABLE.getValue()).as("t");
+        Table<?> parameters = table(FieldConstants.RESOURCE_PARAMETERS_TABLE.getValue()).as("p");
+        Field<String> tableName = field("t.table_name", String.class);
+        Field<String> columnName = field("p.column_name", String.class);
+        for (Record2<String, String> record : dslContext
+                .select(tableName, columnName)
+                .from(templates)
+                .join(parameters).on(field("p.resource_template_id").eq(field("t.id")))
+                .where(field("t.is_published", Boolean.class).isTrue())
+                .and(field("p.field_type", String.class).eq(ParameterType.POINT_REFERENCE.name()))
+                .fetch()) {
+            jooqDDL.createReferenceIndex(record.value1(), record.value2());
+        }
+    }
+}
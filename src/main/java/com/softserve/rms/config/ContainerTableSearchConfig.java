@@ -0,0 +1,79 @@
+package com.softserve.rms.config;
+
+import com.softserve.rms.constants.FieldConstants;
+import com.softserve.rms.entities.ParameterType;
+import com.softserve.rms.entities.ResourceBackfill;
+import com.softserve.rms.entities.ResourceParameter;
+import com.softserve.rms.repository.implementation.JooqDDL;
+import com.softserve.rms.service.ResourceBackfillService;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record3;
+import org.jooq.Table;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.table;
+
+/**
+ * Adds full-text search columns and triggers to container tables of templates published before records
+ * could be searched. Only missing parts are created, and rows of such tables are filled by chunks with
+ * {@link ResourceBackfill.Transformation#SEARCH_VECTOR} backfill, so tables are not locked at startup.
+ */
+@Configuration
+public class ContainerTableSearchConfig {
+    private static final Logger LOG = LoggerFactory.getLogger(ContainerTableSearchConfig.class);
+
+    private final DSLContext dslContext;
+    private final JooqDDL jooqDDL;
+    private final ResourceBackfillService resourceBackfillService;
+
+    @Autowired
+    public ContainerTableSearchConfig(DSLContext dslContext, JooqDDL jooqDDL,
+                                      ResourceBackfillService resourceBackfillService) {
+        this.dslContext = dslContext;
+        this.jooqDDL = jooqDDL;
+        this.resourceBackfillService = resourceBackfillService;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createSearchVectors() {
+        Table<?> templates = table(FieldConstants.RESOURCE_TEMPLATES_TABLE.getValue()).as("t");
+        Table<?> parameters = table(FieldConstants.RESOURCE_PARAMETERS_TABLE.getValue()).as("p");
+        Field<String> tableName = field("t.table_name", String.class);
+        Field<String> columnName = field("p.column_name", String.class);
+        Field<String> parameterType = field("p.field_type", String.class);
+        Map<String, List<ResourceParameter>> tables = new LinkedHashMap<>();
+        for (Record3<String, String, String> record : dslContext
+                .select(tableName, columnName, parameterType)
+                .from(templates)
+                .leftJoin(parameters).on(field("p.resource_template_id").eq(field("t.id")))
+                .where(field("t.is_published", Boolean.class).isTrue())
+                .fetch()) {
+            List<ResourceParameter> tableParameters = tables.computeIfAbsent(record.value1(), key -> new ArrayList<>());
+            if (record.value2() != null) {
+                ResourceParameter parameter = new ResourceParameter();
+                parameter.setColumnName(record.value2());
+                parameter.setParameterType(ParameterType.valueOf(record.value3()));
+                tableParameters.add(parameter);
+            }
+        }
+        jooqDDL.createSearchFunctions();
+        tables.forEach((table, tableParameters) -> {
+            if (jooqDDL.createMissingSearchVector(table, tableParameters)) {
+                LOG.info("Search vectors of table " + table + " are filled by backfill");
+                resourceBackfillService.startWithoutAccessCheck(table, ResourceBackfill.Transformation.SEARCH_VECTOR);
+            }
+        });
+    }
+}
@@ -0,0 +1,44 @@
+package com.softserve.rms.config;
+
+import com.softserve.rms.constants.FieldConstants;
+import com.softserve.rms.repository.implementation.JooqDDL;
+import org.jooq.DSLContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.table;
+
+/**
+ * Adds version columns, version trigger and record count triggers to container tables of templates
+ * published before records and tables were versioned. Container tables are not managed by Hibernate,
+ * so they are altered when the application is ready. Counts of existing records are filled by
+ * the first reconciliation of template statistics.
+ */
+@Configuration
+public class ContainerTableVersionConfig {
+
+    private final DSLContext dslContext;
+    private final JooqDDL jooqDDL;
+
+    @Autowired
+    public ContainerTableVersionConfig(DSLContext dslContext, JooqDDL jooqDDL) {
+        this.dslContext = dslContext;
+        this.jooqDDL = jooqDDL;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void addVersionColumns() {
+        dslContext.select(field("table_name", String.class))
+                .from(table(FieldConstants.RESOURCE_TEMPLATES_TABLE.getValue()))
+                .where(field("is_published", Boolean.class).isTrue())
+                .fetch(field("table_name", String.class))
+                .forEach(tableName -> {
+                    jooqDDL.addVersionColumns(tableName);
+                    jooqDDL.createVersionTrigger(tableName);
+                    jooqDDL.createStatsTriggers(tableName);
+                });
+    }
+}
@@ -1,6 +1,9 @@
 package com.softserve.rms.config;
 
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
@@ -29,4 +32,17 @@ public class DatabaseConfig {
         dataSource.setPassword(postgresPassword);
         return dataSource;
     }
-}
\ No newline at end of file
+
+    /**
+     * Passes every statement prepared by Hibernate to {@link SqlProfiler}. Hibernate does not
+     * report execution time, so these statements are only counted.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer sqlProfilingCustomizer(SqlProfiler sqlProfiler) {
+        StatementInspector statementInspector = sql -> {
+            sqlProfiler.recordStatement(sql, SqlProfiler.NOT_TIMED);
+            return sql;
+        };
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementInspector);
+    }
+}
@@ -1,7 +1,11 @@
 package com.softserve.rms.config;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.jooq.ExecuteContext;
 import org.jooq.ExecuteListener;
+import org.jooq.ExecuteListenerProvider;
 import org.jooq.SQLDialect;
 import org.jooq.impl.*;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,6 +17,8 @@ import org.springframework.jdbc.support.SQLErrorCodeSQLExceptionTranslator;
 import org.springframework.jdbc.support.SQLExceptionTranslator;
 
 import javax.sql.DataSource;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @Configuration
 @EnableAutoConfiguration
@@ -46,6 +52,28 @@ public class JooqConfig {
         return jooqConfiguration;
     }
 
+    /**
+     * Provides listener that records latency and row count of every jOOQ query.
+     *
+     * @param meterRegistry {@link MeterRegistry}
+     * @return {@link ExecuteListenerProvider}
+     */
+    @Bean
+    public ExecuteListenerProvider queryMetricsListenerProvider(MeterRegistry meterRegistry) {
+        return new DefaultExecuteListenerProvider(new QueryMetricsListener(meterRegistry));
+    }
+
+    /**
+     * Provides listener that passes every jOOQ query with its execution time to {@link SqlProfiler}.
+     *
+     * @param sqlProfiler {@link SqlProfiler}
+     * @return {@link ExecuteListenerProvider}
+     */
+    @Bean
+    public ExecuteListenerProvider sqlProfilingListenerProvider(SqlProfiler sqlProfiler) {
+        return new DefaultExecuteListenerProvider(new SqlProfilingListener(sqlProfiler));
+    }
+
     private ExecuteListener exceptionTransformer() {
         return new ExceptionTranslator();
     }
@@ -60,4 +88,94 @@ public class JooqConfig {
                     .translate("Access database using jOOQ", context.sql(), context.sqlException()));
         }
     }
+
+    /**
+     * Passes every query with time from its start to the end of fetching to {@link SqlProfiler}.
+     */
+    static class SqlProfilingListener extends DefaultExecuteListener {
+        private static final String START_KEY = SqlProfilingListener.class.getName();
+
+        private final SqlProfiler sqlProfiler;
+
+        SqlProfilingListener(SqlProfiler sqlProfiler) {
+            this.sqlProfiler = sqlProfiler;
+        }
+
+        @Override
+        public void start(ExecuteContext ctx) {
+            ctx.data(START_KEY, System.nanoTime());
+        }
+
+        @Override
+        public void end(ExecuteContext ctx) {
+            Object start = ctx.data(START_KEY);
+            if (start instanceof Long) {
+                String sql = ctx.sql() != null || ctx.batchSQL().length == 0 ? ctx.sql() : ctx.batchSQL()[0];
+                sqlProfiler.recordStatement(sql, System.nanoTime() - (Long) start);
+            }
+        }
+    }
+
+    /**
+     * Records {@code jooq.query} timer and {@code jooq.query.rows} summary tagged by
+     * query type and the first table the query reads from or writes to.
+     */
+    static class QueryMetricsListener extends DefaultExecuteListener {
+        static final String QUERY_TIMER = "jooq.query";
+        static final String QUERY_ROWS = "jooq.query.rows";
+        private static final String SAMPLE_KEY = QueryMetricsListener.class.getName();
+        private static final String UNKNOWN_TABLE = "unknown";
+        private static final Pattern TABLE_PATTERN = Pattern.compile(
+                "\\b(?:from|into|update|table(?: if (?:not )?exists)?)\\s+(?:\"?\\w+\"?\\.)?\"?(\\w+)",
+                Pattern.CASE_INSENSITIVE);
+
+        private final MeterRegistry meterRegistry;
+
+        QueryMetricsListener(MeterRegistry meterRegistry) {
+            this.meterRegistry = meterRegistry;
+        }
+
+        @Override
+        public void start(ExecuteContext ctx) {
+            ctx.data(SAMPLE_KEY, Timer.start(meterRegistry));
+        }
+
+        @Override
+        public void end(ExecuteContext ctx) {
+            Object sample = ctx.data(SAMPLE_KEY);
+            if (!(sample instanceof Timer.Sample)) {
+                return;
+            }
+            String type = ctx.type().name().toLowerCase();
+            String table = resolveTable(ctx.sql());
+            String outcome = ctx.exception() == null ? "success" : "error";
+            ((Timer.Sample) sample).stop(Timer.builder(QUERY_TIMER)
+                    .tag("type", type)
+                    .tag("table", table)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+            int rows = ctx.result() != null ? ctx.result().size() : ctx.rows();
+            if (rows >= 0) {
+                DistributionSummary.builder(QUERY_ROWS)
+                        .tag("type", type)
+                        .tag("table", table)
+                        .register(meterRegistry)
+                        .record(rows);
+            }
+        }
+
+        /**
+         * Method that extracts name of the first table from sql.
+         *
+         * @param sql rendered sql
+         * @return table name or {@code unknown}
+         */
+        static String resolveTable(String sql) {
+            if (sql == null) {
+                return UNKNOWN_TABLE;
+            }
+            Matcher matcher = TABLE_PATTERN.matcher(sql);
+            return matcher.find() ? matcher.group(1).toLowerCase() : UNKNOWN_TABLE;
+        }
+    }
 }
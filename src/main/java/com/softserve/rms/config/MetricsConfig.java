@@ -0,0 +1,48 @@
+package com.softserve.rms.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import net.sf.ehcache.Ehcache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.acls.domain.EhCacheBasedAclCache;
+
+/**
+ * Configuration of application metrics that are not bound by Spring Boot itself.
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Binds statistics of the cache behind {@link EhCacheBasedAclCache}. Ehcache 2.6 is older
+     * than the statistics API used by Micrometer cache binders, so they are read directly.
+     *
+     * @param cache cache used for ACLs
+     * @return {@link MeterBinder}
+     */
+    @Bean
+    public MeterBinder aclCacheMetrics(Ehcache cache) {
+        cache.setStatisticsEnabled(true);
+        Tags tags = Tags.of("cache", cache.getName());
+        return registry -> {
+            FunctionCounter.builder("cache.gets", cache, c -> c.getStatistics().getCacheHits())
+                    .tags(tags).tag("result", "hit")
+                    .description("The number of times cache lookup methods have returned a cached value")
+                    .register(registry);
+            FunctionCounter.builder("cache.gets", cache, c -> c.getStatistics().getCacheMisses())
+                    .tags(tags).tag("result", "miss")
+                    .description("The number of times cache lookup methods have not returned a value")
+                    .register(registry);
+            FunctionCounter.builder("cache.evictions", cache, c -> c.getStatistics().getEvictionCount())
+                    .tags(tags)
+                    .description("Cache evictions")
+                    .register(registry);
+            Gauge.builder("cache.size", cache, c -> c.getStatistics().getObjectCount())
+                    .tags(tags)
+                    .description("The number of entries in this cache")
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,12 @@
+package com.softserve.rms.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables periodic jobs, such as reconciliation of statistics of templates.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
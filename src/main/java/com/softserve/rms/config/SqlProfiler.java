@@ -0,0 +1,182 @@
+package com.softserve.rms.config;
+
+import com.softserve.rms.dto.SlowStatementDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Collects statements executed by jOOQ and Hibernate. Statements of the current HTTP request
+ * are counted, so requests exceeding statement count or time budget are logged together with
+ * their statements. Timed statements of the whole application are kept to show the slowest ones.
+ */
+@Component
+public class SqlProfiler {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SqlProfiler.class);
+    static final long NOT_TIMED = -1;
+    private static final int MAX_TRACKED_STATEMENTS = 1000;
+
+    private final ThreadLocal<RequestProfile> currentRequest = new ThreadLocal<>();
+    private final Map<String, StatementStats> statements = new ConcurrentHashMap<>();
+    private final int maxStatements;
+    private final long maxTimeNanos;
+    private final int slowStatementsLimit;
+
+    /**
+     * Constructor with parameters
+     *
+     * @param maxStatements       statement count budget of one request
+     * @param maxTimeMs           time budget of one request in milliseconds
+     * @param slowStatementsLimit size of slow statements list
+     */
+    @Autowired
+    public SqlProfiler(@Value("${sqlProfiler.maxStatements}") int maxStatements,
+                       @Value("${sqlProfiler.maxTimeMs}") long maxTimeMs,
+                       @Value("${sqlProfiler.slowStatements}") int slowStatementsLimit) {
+        this.maxStatements = maxStatements;
+        this.maxTimeNanos = TimeUnit.MILLISECONDS.toNanos(maxTimeMs);
+        this.slowStatementsLimit = slowStatementsLimit;
+    }
+
+    /**
+     * Method that starts profiling of request handled by current thread
+     *
+     * @param request description of the request used in log
+     */
+    public void startRequest(String request) {
+        currentRequest.set(new RequestProfile(request, System.nanoTime()));
+    }
+
+    /**
+     * Method that finishes profiling of current request and logs it when it exceeded budget
+     */
+    public void endRequest() {
+        RequestProfile profile = currentRequest.get();
+        currentRequest.remove();
+        if (profile == null) {
+            return;
+        }
+        long elapsed = System.nanoTime() - profile.start;
+        if (profile.count > maxStatements || elapsed > maxTimeNanos) {
+            LOGGER.warn(formatProfile(profile, elapsed));
+        }
+    }
+
+    /**
+     * Method that records executed statement
+     *
+     * @param sql   statement
+     * @param nanos execution time or {@link #NOT_TIMED}
+     */
+    public void recordStatement(String sql, long nanos) {
+        if (sql == null) {
+            return;
+        }
+        RequestProfile profile = currentRequest.get();
+        if (profile != null) {
+            profile.record(sql, nanos);
+        }
+        if (nanos != NOT_TIMED) {
+            StatementStats stats = statements.get(sql);
+            if (stats == null && statements.size() < MAX_TRACKED_STATEMENTS) {
+                stats = statements.computeIfAbsent(sql, key -> new StatementStats());
+            }
+            if (stats != null) {
+                stats.record(nanos);
+            }
+        }
+    }
+
+    /**
+     * Method that returns slowest statements ordered by maximal execution time
+     *
+     * @return list of {@link SlowStatementDto}
+     */
+    public List<SlowStatementDto> getSlowStatements() {
+        return statements.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, StatementStats> entry) ->
+                        entry.getValue().maxNanos.get()).reversed())
+                .limit(slowStatementsLimit)
+                .map(entry -> entry.getValue().toDto(entry.getKey()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Method that clears collected slow statements
+     */
+    public void reset() {
+        statements.clear();
+    }
+
+    private String formatProfile(RequestProfile profile, long elapsed) {
+        StringBuilder builder = new StringBuilder()
+                .append(profile.request).append(" executed ").append(profile.count)
+                .append(" statements in ").append(TimeUnit.NANOSECONDS.toMillis(elapsed)).append(" ms");
+        profile.statements.forEach((sql, stats) -> builder.append(System.lineSeparator())
+                .append(stats.count).append("x ")
+                .append(stats.timed ? TimeUnit.NANOSECONDS.toMillis(stats.nanos) + " ms " : "")
+                .append(sql));
+        return builder.toString();
+    }
+
+    private static class RequestProfile {
+        private final String request;
+        private final long start;
+        private final Map<String, RequestStatement> statements = new LinkedHashMap<>();
+        private int count;
+
+        RequestProfile(String request, long start) {
+            this.request = request;
+            this.start = start;
+        }
+
+        void record(String sql, long nanos) {
+            count++;
+            RequestStatement statement = statements.computeIfAbsent(sql, key -> new RequestStatement());
+            statement.count++;
+            if (nanos != NOT_TIMED) {
+                statement.nanos += nanos;
+                statement.timed = true;
+            }
+        }
+    }
+
+    private static class RequestStatement {
+        private int count;
+        private long nanos;
+        private boolean timed;
+    }
+
+    private static class StatementStats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0);
+
+        void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+
+        SlowStatementDto toDto(String sql) {
+            long executions = count.sum();
+            long total = totalNanos.sum();
+            return new SlowStatementDto(sql, executions,
+                    total / 1_000_000.0,
+                    maxNanos.get() / 1_000_000.0,
+                    executions == 0 ? 0 : total / 1_000_000.0 / executions);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.softserve.rms.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * Profiles statements executed while handling every HTTP request, including security filters.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SqlProfilingFilter extends OncePerRequestFilter {
+
+    private final SqlProfiler sqlProfiler;
+
+    @Autowired
+    public SqlProfilingFilter(SqlProfiler sqlProfiler) {
+        this.sqlProfiler = sqlProfiler;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        sqlProfiler.startRequest(request.getMethod() + " " + request.getRequestURI());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            sqlProfiler.endRequest();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.softserve.rms.config;
+
+import com.softserve.rms.constants.SearchQueries;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+
+/**
+ * Creates full-text index on name and description of templates. Templates table is created by
+ * Hibernate, so the index is created when the application is ready instead of in schema.sql.
+ */
+@Configuration
+public class TemplateSearchIndexConfig {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public TemplateSearchIndexConfig(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createTemplateSearchIndex() {
+        jdbcTemplate.execute(SearchQueries.TEMPLATE_SEARCH_INDEX);
+    }
+}
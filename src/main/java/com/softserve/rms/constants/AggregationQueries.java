@@ -0,0 +1,23 @@
+package com.softserve.rms.constants;
+
+public class AggregationQueries {
+
+    public static final int TABLE_VERSION_SHARDS = 16;
+    public static final String TABLE_VERSION_FUNCTION = "create or replace function resource_table_version() returns trigger as $$\n" +
+            "begin\n" +
+            "    insert into resource_table_versions (table_name, shard, version)\n" +
+            "    values (tg_table_name, txid_current() % " + TABLE_VERSION_SHARDS + ", 1)\n" +
+            "    on conflict (table_name, shard) do update set version = resource_table_versions.version + 1;\n" +
+            "    return null;\n" +
+            "end\n" +
+            "$$ language plpgsql";
+    public static final String DROP_TABLE_VERSION_TRIGGER = "drop trigger if exists {0} on {1}";
+    public static final String TABLE_VERSION_TRIGGER = "create trigger {0} after insert or update or delete or truncate " +
+            "on {1} for each statement execute procedure resource_table_version()";
+    public static final String TABLE_VERSION = "select coalesce(sum(version), 0) from resource_table_versions " +
+            "where table_name = {0}";
+    public static final String WIDTH_BUCKET = "width_bucket({0}, {1}, {2}, {3})";
+
+    public AggregationQueries() {
+    }
+}
@@ -0,0 +1,12 @@
+package com.softserve.rms.constants;
+
+public class AuditQueries {
+
+    public static final String REVINFO_TIMESTAMP_INDEX = "create index if not exists revinfo_revtstmp_idx on revinfo (revtstmp)";
+    public static final String USERS_AUD_REV_INDEX = "create index if not exists users_aud_rev_idx on users_aud (rev)";
+    public static final String USERS_AUD_ID_REV_INDEX = "create index if not exists users_aud_id_rev_idx on users_aud (id, rev)";
+    public static final String USERS_AUD_REVTYPE_INDEX = "create index if not exists users_aud_revtype_idx on users_aud (revtype)";
+
+    public AuditQueries() {
+    }
+}
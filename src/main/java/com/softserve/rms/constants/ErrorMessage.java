@@ -23,11 +23,6 @@ public enum ErrorMessage {
     RESOURCE_PARAMETER_IS_ALREADY_EXISTED("Resource parameter is already existed with name: "),
     RESOURCE_PARAMETER_NAME_IS_NOT_UNIQUE("Resource template already has a parameter with provided name"),
     RESOURCE_PARAMETER_COLUMN_NAME_IS_NOT_UNIQUE("This resource parameter name is not allowed"),
-    RESOURCE_PARAMETER_CAN_NOT_BE_UPDATED("Resource parameter can not be updated since resource template " +
-            "has been published"),
-    PARAMETER_CAN_NOT_BE_ADDED("Parameter can not be added since resource template has been published"),
-    RESOURCE_PARAMETER_CAN_NOT_BE_DELETED("Resource parameter can not be deleted since resource template " +
-            "has been published"),
 
     USER_NOT_SAVED ("User was not saved "),
     USER_NOT_DELETE("User was not deleted"),
@@ -48,6 +43,34 @@ public enum ErrorMessage {
     CAN_NOT_FIND_A_RESOURCE_BY_ID("There is no such a resource with id: "),
     RESOURCE_CAN_NOT_BE_DELETED_BY_ID("Resource can not be deleted with id: "),
     RESOURCE_CAN_NOT_BE_SAVED("Resource can not be saved, wrong data "),
+    FILE_IS_NOT_UPLOADED("There is no uploaded file with name: "),
+    FILE_CAN_NOT_BE_UPLOADED("File can not be uploaded: "),
+    FILE_IS_NOT_ISSUED_FOR_RESOURCE("Upload url of the file was not issued for the resource: "),
+    RESOURCE_VERSION_CONFLICT("Resource has been changed since it was read, id: "),
+    ENTITY_VERSION_CONFLICT("Entity has been changed concurrently: "),
+    RESOURCE_VERSION_IS_NOT_VALID("If-Match header does not contain a version of the resource: "),
+    SEARCH_QUERY_IS_EMPTY("Search query must not be empty"),
+    RESOURCE_SEARCH_IS_NOT_ALLOWED("Only managers can search resources"),
+    RESOURCE_FILTER_IS_EMPTY("Filter of resources must have at least one condition"),
+    RESOURCE_VALUES_ARE_EMPTY("There are no values to update"),
+    RESOURCE_COLUMN_IS_NOT_VALID("Resource template does not have such column: "),
+    RESOURCE_COLUMN_VALUE_IS_NOT_VALID("Value is not valid for column: "),
+    RESOURCE_AGGREGATES_ARE_EMPTY("Aggregation must have at least one aggregate"),
+    RESOURCE_AGGREGATE_IS_NOT_VALID("Aggregate is not valid for column: "),
+    RESOURCE_AGGREGATE_NAME_IS_NOT_UNIQUE("Aggregation result already has a column named: "),
+    RESOURCE_PARAMETER_DEFAULT_VALUE_IS_REQUIRED("Default value of existing resources is required to add " +
+            "parameter to published resource template"),
+    RESOURCE_PARAMETER_DEFAULT_VALUE_IS_NOT_VALID("Default value is not valid for parameter: "),
+    RESOURCE_PARAMETER_TYPE_CAN_NOT_BE_CHANGED("Type and related template of parameter of published " +
+            "resource template can not be changed"),
+    RESOURCE_TEMPLATE_MIGRATION_IS_RUNNING("Parameters can not be changed until migration of resource template " +
+            "is finished: "),
+    RESOURCE_MIGRATION_CAN_NOT_BE_FOUND_BY_ID("Resource template migration does not exist with id: "),
+    RESOURCE_BACKFILL_TRANSFORMATION_IS_EMPTY("Transformation of resources must be provided"),
+    RESOURCE_BACKFILL_CAN_NOT_BE_FOUND_BY_ID("Backfill of resources does not exist with id: "),
+    RESOURCE_TEMPLATE_PARTITIONING_IS_NOT_VALID("Partitioning of resource template is not valid: "),
+    RESOURCE_TEMPLATE_REFERENCES_PARTITIONED_TEMPLATE("Parameter can not reference resource template, " +
+            "which container table is partitioned: "),
 
     WRONG_PASSWORD("Wrong password"),
     INVALID_LINK_OR_TOKEN("Link is invalid or broken"),
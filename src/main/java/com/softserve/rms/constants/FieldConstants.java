@@ -9,9 +9,26 @@ public enum FieldConstants {
     USER_ID("user_id"),
     PHOTOS_NAMES("photos_names"),
     DOCUMENTS_NAMES("documents_names"),
+    VERSION("version"),
+    UPDATED_AT("updated_at"),
+    SEARCH_VECTOR("search_vector"),
+    CREATED_AT("created_at"),
+    PARTITIONING("partitioning"),
+    STRATEGY("strategy"),
+    COLUMN("column"),
+    BOUNDS("bounds"),
 
     PRIMARY_KEY("_PK"),
     FOREIGN_KEY("_FK"),
+    PARTITION("_p"),
+    SEARCH_INDEX("_search_idx"),
+    INDEX("_idx"),
+    NOT_NULL_CHECK("_nn"),
+    SEARCH_TRIGGER("_search_trg"),
+    RESOURCE_SEARCH_TRIGGER("_global_search_trg"),
+    VERSION_TRIGGER("_version_trg"),
+    STATS_INSERT_TRIGGER("_stats_ins_trg"),
+    STATS_DELETE_TRIGGER("_stats_del_trg"),
     FROM("_from"),
     TO("_to"),
     REFERENCE("_ref"),
@@ -20,6 +37,7 @@ public enum FieldConstants {
     LATITUDE("lat"),
     LONGITUDE("lng"),
     RESOURCE_TEMPLATES_TABLE("resource_templates"),
+    RESOURCE_PARAMETERS_TABLE("resource_parameters"),
     RESOURCE_RELATION_TABLE("resource_relations");
 
 
@@ -3,12 +3,15 @@ package com.softserve.rms.constants;
 public class HttpStatuses {
     public static final String OK = "OK";
     public static final String CREATED = "Created";
+    public static final String ACCEPTED = "Accepted";
     public static final String NO_CONTENT = "No content";
+    public static final String NOT_MODIFIED = "Not Modified";
 
     public static final String BAD_REQUEST = "Bad Request";
     public static final String UNAUTHORIZED = "Unauthorized";
     public static final String FORBIDDEN = "Forbidden";
     public static final String NOT_FOUND = "Not Found";
+    public static final String CONFLICT = "Conflict";
     public static final String SEE_OTHER = "SEE_OTHER";
 
     HttpStatuses() {
@@ -0,0 +1,16 @@
+package com.softserve.rms.constants;
+
+public class MigrationQueries {
+
+    public static final String LOCK_TIMEOUT = "set local lock_timeout = {0}";
+    public static final String NOT_NULL_CHECK = "alter table {0} add constraint {1} check ({2} is not null) not valid";
+    public static final String VALIDATE_CONSTRAINT = "alter table {0} validate constraint {1}";
+    public static final String DROP_DEFAULT = "alter table {0} alter column {1} drop default";
+    public static final String DROP_CONSTRAINT = "alter table {0} drop constraint if exists {1}";
+    public static final String REFERENCE_CONSTRAINT = "alter table {0} add constraint {1} foreign key ({2}) " +
+            "references {3} not valid";
+    public static final String REFERENCE_INDEX = "create index concurrently if not exists {0} on {1} ({2})";
+
+    public MigrationQueries() {
+    }
+}
@@ -0,0 +1,21 @@
+package com.softserve.rms.constants;
+
+public class PartitionQueries {
+
+    public static final int HASH_PARTITIONS = 16;
+    public static final int MAX_RANGE_BOUNDS = 255;
+    public static final String HASH_PARTITION_KEY = "partition by list ((id % " + HASH_PARTITIONS + "))";
+    public static final String RANGE_PARTITION_KEY = "partition by range ({0})";
+    public static final String HASH_PARTITION = "create table {0} partition of {1} " +
+            "(constraint {2} primary key (id)) for values in ({3})";
+    public static final String RANGE_PARTITION = "create table {0} partition of {1} " +
+            "(constraint {2} primary key (id)) for values from ({3}) to ({4})";
+    public static final String HASH_CONDITION = "id % " + HASH_PARTITIONS + " = {0}";
+    public static final String PARTITIONS = "select c.relname from pg_inherits i " +
+            "join pg_class c on c.oid = i.inhrelid where i.inhparent = to_regclass({0}) order by c.relname";
+    public static final String MIN_VALUE = "minvalue";
+    public static final String MAX_VALUE = "maxvalue";
+
+    public PartitionQueries() {
+    }
+}
@@ -0,0 +1,64 @@
+package com.softserve.rms.constants;
+
+public class SearchQueries {
+
+    public static final String SEARCH_VECTOR_FUNCTION = "create or replace function resource_search_vector() returns trigger as $$\n" +
+            "declare\n" +
+            "    document jsonb := to_jsonb(new);\n" +
+            "    parameters text := '';\n" +
+            "    i integer;\n" +
+            "begin\n" +
+            "    for i in 0 .. tg_nargs - 1 loop\n" +
+            "        parameters := parameters || ' ' || coalesce(document ->> tg_argv[i], '');\n" +
+            "    end loop;\n" +
+            "    new.search_vector := setweight(to_tsvector('simple', coalesce(new.name, '')), 'A')\n" +
+            "        || setweight(to_tsvector('simple', coalesce(new.description, '')), 'B')\n" +
+            "        || setweight(to_tsvector('simple', parameters), 'C');\n" +
+            "    return new;\n" +
+            "end\n" +
+            "$$ language plpgsql";
+    public static final String SEARCH_VECTOR_COLUMN = "alter table {0} add column if not exists {1} tsvector";
+    public static final String SEARCH_VECTOR_COLUMN_COUNT = "select count(*) from pg_attribute " +
+            "where attrelid = to_regclass({0}) and attname = {1} and not attisdropped";
+    public static final String SEARCH_TRIGGER_COUNT = "select count(*) from pg_trigger " +
+            "where tgrelid = to_regclass({0}) and tgname in ({1}, {2})";
+    public static final String DROP_SEARCH_TRIGGER = "drop trigger if exists {0} on {1}";
+    public static final String SEARCH_TRIGGER = "create trigger {0} before insert or update of {1} on {2} " +
+            "for each row execute procedure resource_search_vector({3})";
+    public static final String SEARCH_INDEX = "create index if not exists {0} on {1} using gin ({2})";
+    public static final String FILL_SEARCH_VECTOR = "update {0} set {1} = null where {1} is null";
+    public static final String SEARCH_CONDITION = "{0} @@ plainto_tsquery('simple', {1})";
+    public static final String SEARCH_RANK = "ts_rank_cd({0}, plainto_tsquery('simple', {1}))";
+    public static final String RESOURCE_SEARCH_FUNCTION = "create or replace function resource_search_index() returns trigger as $$\n" +
+            "declare\n" +
+            "    container_table text := coalesce(tg_argv[0], tg_table_name);\n" +
+            "begin\n" +
+            "    if tg_op = 'DELETE' then\n" +
+            "        delete from resource_search where table_name = container_table and record_id = old.id;\n" +
+            "        return old;\n" +
+            "    end if;\n" +
+            "    insert into resource_search (table_name, record_id, name, description, search_vector)\n" +
+            "    values (container_table, new.id, new.name, new.description, new.search_vector)\n" +
+            "    on conflict (table_name, record_id) do update set name = excluded.name,\n" +
+            "        description = excluded.description, search_vector = excluded.search_vector;\n" +
+            "    return new;\n" +
+            "end\n" +
+            "$$ language plpgsql";
+    public static final String RESOURCE_SEARCH_TRIGGER = "create trigger {0} after insert or delete or update of {1} " +
+            "on {2} for each row execute procedure resource_search_index({3})";
+    public static final String FILL_RESOURCE_SEARCH = "insert into resource_search " +
+            "(table_name, record_id, name, description, search_vector) " +
+            "select {0}, id, name, description, search_vector from {1} " +
+            "on conflict (table_name, record_id) do nothing";
+    public static final String DELETE_RESOURCE_SEARCH = "delete from resource_search where table_name = {0}";
+    public static final String SEARCH_HEADLINE = "ts_headline('simple', {0}, plainto_tsquery('simple', {1}))";
+    public static final String TEMPLATE_DOCUMENT = "setweight(to_tsvector('simple', coalesce(name, '')), 'A') || " +
+            "setweight(to_tsvector('simple', coalesce(description, '')), 'B')";
+    public static final String TEMPLATE_SEARCH_INDEX = "create index if not exists resource_templates_search_idx " +
+            "on resource_templates using gin ((" + TEMPLATE_DOCUMENT + "))";
+    public static final String TEMPLATE_SEARCH_CONDITION = "(" + TEMPLATE_DOCUMENT + ") @@ to_tsquery('simple', {0})";
+    public static final String TEMPLATE_SEARCH_RANK = "ts_rank_cd(" + TEMPLATE_DOCUMENT + ", to_tsquery('simple', {0}))";
+
+    public SearchQueries() {
+    }
+}
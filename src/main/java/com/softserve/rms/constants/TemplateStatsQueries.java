@@ -0,0 +1,37 @@
+package com.softserve.rms.constants;
+
+public class TemplateStatsQueries {
+
+    public static final String STATS_FUNCTION = "create or replace function resource_template_stats() returns trigger as $$\n" +
+            "begin\n" +
+            "    insert into resource_template_stats (table_name, user_id, record_count)\n" +
+            "    select tg_table_name, user_id, count(*) * tg_argv[0]::integer from changed_records\n" +
+            "    group by user_id order by user_id\n" +
+            "    on conflict (table_name, user_id) do update\n" +
+            "        set record_count = resource_template_stats.record_count + excluded.record_count;\n" +
+            "    return null;\n" +
+            "end\n" +
+            "$$ language plpgsql";
+    public static final String DROP_STATS_TRIGGER = "drop trigger if exists {0} on {1}";
+    public static final String STATS_INSERT_TRIGGER = "create trigger {0} after insert on {1} " +
+            "referencing new table as changed_records for each statement execute procedure resource_template_stats(1)";
+    public static final String STATS_DELETE_TRIGGER = "create trigger {0} after delete on {1} " +
+            "referencing old table as changed_records for each statement execute procedure resource_template_stats('-1')";
+    public static final String LOCK_STATS = "select user_id from resource_template_stats where table_name = {0} " +
+            "order by user_id for update";
+    public static final String RECONCILE_STATS = "with actual as (select user_id, count(*) as record_count from {1} " +
+            "group by user_id), " +
+            "removed as (delete from resource_template_stats s where s.table_name = {0} " +
+            "and not exists (select 1 from actual a where a.user_id = s.user_id)) " +
+            "insert into resource_template_stats (table_name, user_id, record_count) " +
+            "select {0}, user_id, record_count from actual order by user_id " +
+            "on conflict (table_name, user_id) do update set record_count = excluded.record_count";
+    public static final String SAVE_RECONCILED_VERSION = "insert into resource_template_stats_versions " +
+            "(table_name, version) values ({0}, {1}) on conflict (table_name) do update set version = excluded.version";
+    public static final String DELETE_STATS = "delete from resource_template_stats where table_name = {0}";
+    public static final String DELETE_RECONCILED_VERSION = "delete from resource_template_stats_versions " +
+            "where table_name = {0}";
+
+    public TemplateStatsQueries() {
+    }
+}
@@ -1,7 +1,11 @@
 package com.softserve.rms.controller;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.softserve.rms.config.SqlProfiler;
 import com.softserve.rms.constants.HttpStatuses;
+import com.softserve.rms.dto.SlowStatementDto;
 import com.softserve.rms.dto.UserDto;
 import com.softserve.rms.dto.UserDtoRole;
 import com.softserve.rms.entities.User;
@@ -11,9 +15,16 @@ import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -25,11 +36,16 @@ public class AdminController {
 
     private final AdminService adminService;
     private final UserHistoryService userHistoryService;
+    private final ObjectMapper objectMapper;
+    private final SqlProfiler sqlProfiler;
 
     @Autowired
-    public AdminController(AdminService adminService,UserHistoryService userHistoryService) {
+    public AdminController(AdminService adminService,UserHistoryService userHistoryService, ObjectMapper objectMapper,
+                           SqlProfiler sqlProfiler) {
         this.adminService = adminService;
         this.userHistoryService=userHistoryService;
+        this.objectMapper = objectMapper;
+        this.sqlProfiler = sqlProfiler;
     }
 
     @ApiResponses(value = {
@@ -93,10 +109,14 @@ public class AdminController {
 
 
     /**
-     * Method that show all {@link User} history.
+     * Method that show page of {@link User} history.
      *
      * @param id
-     * @return list of all user's history
+     * @param from first day of the history
+     * @param to last day of the history
+     * @param page
+     * @param pageSize
+     * @return page of user's history
      * @author Mariia Shchur
      */
     @ApiResponses(value = {
@@ -106,14 +126,57 @@ public class AdminController {
             @ApiResponse(code = 400 ,message = HttpStatuses.BAD_REQUEST)
     })
     @GetMapping("user/{id}/history")
-    public ResponseEntity<List<Map<String,Object>>> getUserHistory(@PathVariable long id){
-        return ResponseEntity.status(HttpStatus.OK).body(userHistoryService.getUserHistory(id));
+    public ResponseEntity<Page<Map<String,Object>>> getUserHistory(@PathVariable long id,
+                                                                   @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) Optional<LocalDate> from,
+                                                                   @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) Optional<LocalDate> to,
+                                                                   @RequestParam Optional<Integer> page,
+                                                                   @RequestParam Optional<Integer> pageSize){
+        return ResponseEntity.status(HttpStatus.OK).body(userHistoryService.getUserHistory(id, from.orElse(null),
+                to.orElse(null), page.orElseGet(() -> 1), pageSize.orElseGet(() -> 20)));
     }
 
     /**
-     * Method that returns all deleted accounts
+     * Method that streams the whole {@link User} history as json array.
      *
-     * @return list of all deleted accounts
+     * @param id
+     * @param from first day of the history
+     * @param to last day of the history
+     * @return user's history
+     */
+    @ApiResponses(value = {
+            @ApiResponse(code = 200,message = HttpStatuses.OK),
+            @ApiResponse(code = 401 ,message = HttpStatuses.UNAUTHORIZED),
+            @ApiResponse(code = 403 ,message = HttpStatuses.FORBIDDEN),
+            @ApiResponse(code = 400 ,message = HttpStatuses.BAD_REQUEST)
+    })
+    @GetMapping("user/{id}/history/export")
+    public ResponseEntity<StreamingResponseBody> exportUserHistory(@PathVariable long id,
+                                                                   @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) Optional<LocalDate> from,
+                                                                   @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) Optional<LocalDate> to){
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.writeStartArray();
+                userHistoryService.exportUserHistory(id, from.orElse(null), to.orElse(null), row -> {
+                    try {
+                        generator.writeObject(row);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.status(HttpStatus.OK).contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    /**
+     * Method that returns page of deleted accounts
+     *
+     * @param from first day of the history
+     * @param to last day of the history
+     * @param page
+     * @param pageSize
+     * @return page of deleted accounts
      * @author Mariia Shchur
      */
     @ApiResponses(value = {
@@ -123,14 +186,22 @@ public class AdminController {
             @ApiResponse(code = 400 ,message = HttpStatuses.BAD_REQUEST)
     })
     @GetMapping("/deleted_accounts")
-    public ResponseEntity<List<Map<String, Object>>> getAllDeletedAccounts(){
-        return ResponseEntity.status(HttpStatus.OK).body(userHistoryService.getDeletedAccounts());
+    public ResponseEntity<Page<Map<String, Object>>> getAllDeletedAccounts(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) Optional<LocalDate> from,
+                                                                           @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) Optional<LocalDate> to,
+                                                                           @RequestParam Optional<Integer> page,
+                                                                           @RequestParam Optional<Integer> pageSize){
+        return ResponseEntity.status(HttpStatus.OK).body(userHistoryService.getDeletedAccounts(from.orElse(null),
+                to.orElse(null), page.orElseGet(() -> 1), pageSize.orElseGet(() -> 20)));
     }
 
     /**
-     * Method that returns all ever created accounts(inactive,active and deleted)
+     * Method that returns page of all ever created accounts(inactive,active and deleted)
      *
-     * @return list of all accounts
+     * @param from first day of the history
+     * @param to last day of the history
+     * @param page
+     * @param pageSize
+     * @return page of all accounts
      * @author Mariia Shchur
      */
     @ApiResponses(value = {
@@ -140,14 +211,21 @@ public class AdminController {
             @ApiResponse(code = 400 ,message = HttpStatuses.BAD_REQUEST)
     })
     @GetMapping("/all_accounts")
-    public ResponseEntity<List<Map<String, Object>>> getAllAccounts(){
-        return ResponseEntity.status(HttpStatus.OK).body(userHistoryService.getAllAccounts());
+    public ResponseEntity<Page<Map<String, Object>>> getAllAccounts(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) Optional<LocalDate> from,
+                                                                    @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) Optional<LocalDate> to,
+                                                                    @RequestParam Optional<Integer> page,
+                                                                    @RequestParam Optional<Integer> pageSize){
+        return ResponseEntity.status(HttpStatus.OK).body(userHistoryService.getAllAccounts(from.orElse(null),
+                to.orElse(null), page.orElseGet(() -> 1), pageSize.orElseGet(() -> 20)));
     }
 
     /**
-     * Method that returns all users history by accurate data
+     * Method that returns page of all users history by accurate data
      *
-     * @return list of all accounts
+     * @param date day of the history
+     * @param page
+     * @param pageSize
+     * @return page of all accounts
      * @author Mariia Shchur
      */
     @ApiResponses(value = {
@@ -157,9 +235,39 @@ public class AdminController {
             @ApiResponse(code = 400 ,message = HttpStatuses.BAD_REQUEST)
     })
     @GetMapping("/by_date")
-    public ResponseEntity<List<Map<String, Object>>> getAllByDate(@RequestParam String date){
-        return ResponseEntity.status(HttpStatus.OK).body(userHistoryService.getAllByData(date));
+    public ResponseEntity<Page<Map<String, Object>>> getAllByDate(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+                                                                  @RequestParam Optional<Integer> page,
+                                                                  @RequestParam Optional<Integer> pageSize){
+        return ResponseEntity.status(HttpStatus.OK).body(userHistoryService.getAllByData(date,
+                page.orElseGet(() -> 1), pageSize.orElseGet(() -> 20)));
     }
 
+    /**
+     * Method that returns slowest statements executed by the application
+     *
+     * @return list of {@link SlowStatementDto}
+     */
+    @ApiResponses(value = {
+            @ApiResponse(code = 200,message = HttpStatuses.OK),
+            @ApiResponse(code = 401 ,message = HttpStatuses.UNAUTHORIZED),
+            @ApiResponse(code = 403 ,message = HttpStatuses.FORBIDDEN)
+    })
+    @GetMapping("/admin/sql/slow")
+    public ResponseEntity<List<SlowStatementDto>> getSlowStatements() {
+        return ResponseEntity.status(HttpStatus.OK).body(sqlProfiler.getSlowStatements());
+    }
 
-}
\ No newline at end of file
+    /**
+     * Method that clears collected slow statements
+     */
+    @ApiResponses(value = {
+            @ApiResponse(code = 200,message = HttpStatuses.OK),
+            @ApiResponse(code = 401 ,message = HttpStatuses.UNAUTHORIZED),
+            @ApiResponse(code = 403 ,message = HttpStatuses.FORBIDDEN)
+    })
+    @DeleteMapping("/admin/sql/slow")
+    public ResponseEntity<Object> resetSlowStatements() {
+        sqlProfiler.reset();
+        return ResponseEntity.status(HttpStatus.OK).build();
+    }
+}
@@ -1,24 +1,49 @@
 package com.softserve.rms.controller;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.softserve.rms.constants.HttpStatuses;
+import com.softserve.rms.dto.VersionDto;
+import com.softserve.rms.dto.file.FileUploadCompleteDto;
+import com.softserve.rms.dto.file.PresignedUrlDto;
+import com.softserve.rms.dto.resourceRecord.ResourceBackfillDTO;
+import com.softserve.rms.dto.resourceRecord.ResourceBackfillSaveDTO;
+import com.softserve.rms.dto.resourceRecord.ResourceRecordAggregationDTO;
+import com.softserve.rms.dto.resourceRecord.ResourceRecordAggregationResultDTO;
+import com.softserve.rms.dto.resourceRecord.ResourceRecordBulkResultDTO;
+import com.softserve.rms.dto.resourceRecord.ResourceRecordBulkUpdateDTO;
 import com.softserve.rms.dto.resourceRecord.ResourceRecordDTO;
+import com.softserve.rms.dto.resourceRecord.ResourceRecordFilterDTO;
+import com.softserve.rms.dto.resourceRecord.ResourceRecordReferenceDTO;
 import com.softserve.rms.dto.resourceRecord.ResourceRecordSaveDTO;
+import com.softserve.rms.entities.ResourceBackfill;
 import com.softserve.rms.entities.ResourceRecord;
 import com.softserve.rms.entities.ResourceTemplate;
+import com.softserve.rms.service.ResourceAggregationService;
+import com.softserve.rms.service.ResourceBackfillService;
 import com.softserve.rms.service.ResourceRecordService;
+import com.softserve.rms.service.ResourceReferenceService;
+import com.softserve.rms.util.HttpCacheUtil;
+import com.softserve.rms.util.ResourceRecordFormat;
 import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
 import javax.websocket.server.PathParam;
+import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,6 +51,11 @@ import java.util.Optional;
 @RequestMapping("/resource-template/resource/{tableName}")
 public class ResourceRecordController {
     private ResourceRecordService resourceRecordService;
+    private ResourceReferenceService resourceReferenceService;
+    private ResourceAggregationService resourceAggregationService;
+    private ResourceBackfillService resourceBackfillService;
+    private ObjectMapper objectMapper;
+    private SmileFactory smileFactory;
     private static final Logger LOG = LoggerFactory.getLogger(ResourceRecordController.class);
 
     /**
@@ -34,8 +64,17 @@ public class ResourceRecordController {
      * @author Andrii Bren
      */
     @Autowired
-    public ResourceRecordController(ResourceRecordService resourceRecordService) {
+    public ResourceRecordController(ResourceRecordService resourceRecordService,
+                                    ResourceReferenceService resourceReferenceService,
+                                    ResourceAggregationService resourceAggregationService,
+                                    ResourceBackfillService resourceBackfillService, ObjectMapper objectMapper) {
         this.resourceRecordService = resourceRecordService;
+        this.resourceReferenceService = resourceReferenceService;
+        this.resourceAggregationService = resourceAggregationService;
+        this.resourceBackfillService = resourceBackfillService;
+        this.objectMapper = objectMapper;
+        this.smileFactory = new SmileFactory();
+        this.smileFactory.setCodec(objectMapper);
     }
 
     /**
@@ -62,50 +101,149 @@ public class ResourceRecordController {
 
     /**
      * Controller finds all dynamic {@link ResourceRecord} in a table specified
-     * by the reсorder.
+     * by the reсorder. Page of {@link ResourceRecordDTO} is streamed to the response
+     * while rows are read from the table. Format of the page is chosen by {@code Accept}
+     * header, see {@link ResourceRecordFormat}. Page is not read when {@code If-None-Match}
+     * header matches version of the page. Page with expanded references depends on referenced
+     * tables, so it is always read.
      *
-     * @param tableName {@link ResourceTemplate} table name
-     * @return {@link ResponseEntity} with generic type {@link ResourceRecordDTO}
+     * @param tableName  {@link ResourceTemplate} table name
+     * @param expand     number of levels of references expanded with referenced records
+     * @param accept     value of {@code Accept} header
+     * @param webRequest {@link WebRequest} with conditional headers
+     * @param response   {@link HttpServletResponse} the page is written to
+     * @throws IOException if the page can not be written
      * @author Andrii Bren
      */
     @ApiResponses(value = {
-            @ApiResponse(code = 200, message = HttpStatuses.OK),
+            @ApiResponse(code = 200, message = HttpStatuses.OK, response = ResourceRecordDTO.class, responseContainer = "List"),
+            @ApiResponse(code = 304, message = HttpStatuses.NOT_MODIFIED),
             @ApiResponse(code = 401, message = HttpStatuses.UNAUTHORIZED),
             @ApiResponse(code = 403, message = HttpStatuses.FORBIDDEN)
     })
-    @GetMapping
-    public ResponseEntity<Page<ResourceRecordDTO>> findAll(@PathVariable String tableName,
-                                                           @RequestParam Optional<Integer> page,
-                                                           @RequestParam Optional<Integer> pageSize) {
-        return ResponseEntity.status(HttpStatus.OK)
-                .body(resourceRecordService.findAll(tableName, page.orElseGet(() -> 1), pageSize.orElseGet(() -> 5)));
+    @GetMapping(produces = {ResourceRecordFormat.JSON_VALUE, ResourceRecordFormat.SMILE_VALUE,
+            ResourceRecordFormat.COLUMNAR_JSON_VALUE, ResourceRecordFormat.COLUMNAR_SMILE_VALUE})
+    public void findAll(@PathVariable String tableName,
+                        @RequestParam Optional<Integer> page,
+                        @RequestParam Optional<Integer> pageSize,
+                        @RequestParam Optional<Integer> expand,
+                        @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                        WebRequest webRequest,
+                        HttpServletResponse response) throws IOException {
+        ResourceRecordFormat format = ResourceRecordFormat.negotiate(accept);
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, HttpCacheUtil.CACHE_CONTROL.getHeaderValue());
+        if (expand.orElse(0) <= 0) {
+            VersionDto version = resourceRecordService.findPageVersionDTO(tableName, page.orElseGet(() -> 1),
+                    pageSize.orElseGet(() -> 5));
+            if (HttpCacheUtil.checkNotModified(webRequest, version, format.ordinal())) {
+                return;
+            }
+            if (version.getLastModified() != null) {
+                response.setDateHeader(HttpHeaders.LAST_MODIFIED, version.getLastModified());
+            }
+        }
+        response.setContentType(format.getMediaType().toString());
+        JsonFactory factory = format.isSmile() ? smileFactory : objectMapper.getFactory();
+        JsonGenerator generator = factory.createGenerator(response.getOutputStream());
+        resourceRecordService.writeAll(tableName, page.orElseGet(() -> 1), pageSize.orElseGet(() -> 5),
+                expand.orElse(0), format.isColumnar(), generator);
+        // closed only after success, so an exception thrown before the page is flushed
+        // is still handled by CustomExceptionHandler
+        generator.close();
     }
 
     /**
-     * Controller finds a dynamic {@link ResourceRecord} in a table specified
-     * by the reсorder.
+     * Controller finds dynamic {@link ResourceRecord} in a table specified by the reсorder,
+     * which name, description or string parameters contain all words of the query.
+     * The most relevant records are returned first.
      *
      * @param tableName {@link ResourceTemplate} table name
-     * @param id        of {@link ResourceRecordDTO} id
-     * @return {@link ResponseEntity} with generic type {@link ResourceRecordDTO}
+     * @param query     words to search
+     * @param expand    number of levels of references expanded with referenced records
+     * @return {@link ResponseEntity} with page of {@link ResourceRecordDTO}
+     */
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = HttpStatuses.OK, response = ResourceRecordDTO.class, responseContainer = "List"),
+            @ApiResponse(code = 401, message = HttpStatuses.UNAUTHORIZED),
+            @ApiResponse(code = 403, message = HttpStatuses.FORBIDDEN),
+            @ApiResponse(code = 400, message = HttpStatuses.BAD_REQUEST)
+    })
+    @GetMapping("/search")
+    public ResponseEntity<Page<ResourceRecordDTO>> search(@PathVariable String tableName,
+                                                          @RequestParam String query,
+                                                          @RequestParam Optional<Integer> page,
+                                                          @RequestParam Optional<Integer> pageSize,
+                                                          @RequestParam Optional<Integer> expand) {
+        return ResponseEntity.status(HttpStatus.OK).body(resourceRecordService.search(tableName, query,
+                page.orElseGet(() -> 1), pageSize.orElseGet(() -> 5), expand.orElse(0)));
+    }
+
+    /**
+     * Controller finds a dynamic {@link ResourceRecord} in a table specified
+     * by the reсorder. Record is not read when {@code If-None-Match} header matches
+     * version of the record. Record with expanded references is always read.
+     *
+     * @param tableName  {@link ResourceTemplate} table name
+     * @param id         of {@link ResourceRecordDTO} id
+     * @param expand     number of levels of references expanded with referenced records
+     * @param webRequest {@link WebRequest} with conditional headers
+     * @return {@link ResponseEntity} with generic type {@link ResourceRecordDTO}, null if not modified
      * @author Andrii Bren
      */
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = HttpStatuses.OK),
+            @ApiResponse(code = 304, message = HttpStatuses.NOT_MODIFIED),
             @ApiResponse(code = 403, message = HttpStatuses.FORBIDDEN),
             @ApiResponse(code = 401, message = HttpStatuses.UNAUTHORIZED),
             @ApiResponse(code = 400, message = HttpStatuses.BAD_REQUEST)
     })
     @GetMapping("/{id}")
-    public ResponseEntity<ResourceRecordDTO> findById(@PathVariable String tableName, @PathVariable Long id) {
-        return ResponseEntity.status(HttpStatus.OK).body(resourceRecordService.findByIdDTO(tableName, id));
+    public ResponseEntity<ResourceRecordDTO> findById(@PathVariable String tableName, @PathVariable Long id,
+                                                      @RequestParam Optional<Integer> expand,
+                                                      WebRequest webRequest) {
+        if (expand.orElse(0) > 0) {
+            return ResponseEntity.status(HttpStatus.OK).cacheControl(HttpCacheUtil.CACHE_CONTROL)
+                    .body(resourceRecordService.findByIdDTO(tableName, id, expand.get()));
+        }
+        VersionDto version = resourceRecordService.findVersionDTO(tableName, id);
+        if (HttpCacheUtil.checkNotModified(webRequest, version)) {
+            return null;
+        }
+        return HttpCacheUtil.cachedResponse(version, resourceRecordService.findByIdDTO(tableName, id, 0));
     }
 
     /**
-     * Controller which updates a dynamic {@link ResourceRecord}.
+     * Controller finds dynamic {@link ResourceRecord} of other templates, which reference
+     * the record with Point Reference parameters.
+     *
+     * @param tableName {@link ResourceTemplate} table name
+     * @param id        of referenced {@link ResourceRecordDTO}
+     * @return {@link ResponseEntity} with page of {@link ResourceRecordReferenceDTO}
+     */
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = HttpStatuses.OK),
+            @ApiResponse(code = 403, message = HttpStatuses.FORBIDDEN),
+            @ApiResponse(code = 401, message = HttpStatuses.UNAUTHORIZED),
+            @ApiResponse(code = 404, message = HttpStatuses.NOT_FOUND)
+    })
+    @GetMapping("/{id}/referenced-by")
+    public ResponseEntity<Page<ResourceRecordReferenceDTO>> findReferencing(@PathVariable String tableName,
+                                                                            @PathVariable Long id,
+                                                                            @RequestParam Optional<Integer> page,
+                                                                            @RequestParam Optional<Integer> pageSize) {
+        return ResponseEntity.status(HttpStatus.OK).body(resourceReferenceService.findReferencing(tableName, id,
+                page.orElseGet(() -> 1), pageSize.orElseGet(() -> 5)));
+    }
+
+    /**
+     * Controller which updates provided values of a dynamic {@link ResourceRecord}. When
+     * {@code If-Match} header contains ETag of the record, the record is updated only if it
+     * has not been changed since then.
      *
      * @param tableName             {@link ResourceTemplate} table name
      * @param id                    of {@link ResourceRecordDTO} id
+     * @param version               value of {@code If-Match} header
      * @param resourceRecordSaveDTO instance of {@link ResourceRecordSaveDTO}
      * @return {@link ResponseEntity} with generic type {@link ResourceRecordDTO}
      * @author Andrii Bren
@@ -114,15 +252,145 @@ public class ResourceRecordController {
             @ApiResponse(code = 200, message = HttpStatuses.OK),
             @ApiResponse(code = 403, message = HttpStatuses.FORBIDDEN),
             @ApiResponse(code = 401, message = HttpStatuses.UNAUTHORIZED),
-            @ApiResponse(code = 400, message = HttpStatuses.BAD_REQUEST)
+            @ApiResponse(code = 400, message = HttpStatuses.BAD_REQUEST),
+            @ApiResponse(code = 409, message = HttpStatuses.CONFLICT)
     })
     @PatchMapping("/{id}")
     public HttpStatus update(@PathVariable String tableName, @PathVariable Long id,
+                             @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String version,
                              @Valid @RequestBody ResourceRecordSaveDTO resourceRecordSaveDTO) {
-        resourceRecordService.update(tableName, id, resourceRecordSaveDTO);
+        resourceRecordService.update(tableName, id, version, resourceRecordSaveDTO);
         return HttpStatus.OK;
     }
 
+    /**
+     * Controller which updates values of all dynamic {@link ResourceRecord} matching the filter.
+     * With {@code dryRun} records are only counted.
+     *
+     * @param tableName                   {@link ResourceTemplate} table name
+     * @param dryRun                      whether records are only counted
+     * @param resourceRecordBulkUpdateDTO instance of {@link ResourceRecordBulkUpdateDTO}
+     * @return {@link ResponseEntity} with generic type {@link ResourceRecordBulkResultDTO}
+     */
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = HttpStatuses.OK),
+            @ApiResponse(code = 403, message = HttpStatuses.FORBIDDEN),
+            @ApiResponse(code = 401, message = HttpStatuses.UNAUTHORIZED),
+            @ApiResponse(code = 400, message = HttpStatuses.BAD_REQUEST)
+    })
+    @PatchMapping
+    public ResponseEntity<ResourceRecordBulkResultDTO> updateAll(@PathVariable String tableName,
+                                                                 @RequestParam Optional<Boolean> dryRun,
+                                                                 @RequestBody ResourceRecordBulkUpdateDTO resourceRecordBulkUpdateDTO) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(resourceRecordService.updateAll(tableName, resourceRecordBulkUpdateDTO, dryRun.orElse(false)));
+    }
+
+    /**
+     * Controller which deletes all dynamic {@link ResourceRecord} matching the filter.
+     * With {@code dryRun} records are only counted.
+     *
+     * @param tableName               {@link ResourceTemplate} table name
+     * @param dryRun                  whether records are only counted
+     * @param resourceRecordFilterDTO instance of {@link ResourceRecordFilterDTO}
+     * @return {@link ResponseEntity} with generic type {@link ResourceRecordBulkResultDTO}
+     */
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = HttpStatuses.OK),
+            @ApiResponse(code = 403, message = HttpStatuses.FORBIDDEN),
+            @ApiResponse(code = 401, message = HttpStatuses.UNAUTHORIZED),
+            @ApiResponse(code = 400, message = HttpStatuses.BAD_REQUEST)
+    })
+    @PostMapping("/delete")
+    public ResponseEntity<ResourceRecordBulkResultDTO> deleteAll(@PathVariable String tableName,
+                                                                 @RequestParam Optional<Boolean> dryRun,
+                                                                 @RequestBody ResourceRecordFilterDTO resourceRecordFilterDTO) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(resourceRecordService.deleteAll(tableName, resourceRecordFilterDTO, dryRun.orElse(false)));
+    }
+
+    /**
+     * Controller which computes count, sum, avg, min, max, percentile and histogram of columns of
+     * dynamic {@link ResourceRecord} matching the filter, grouped by provided columns.
+     *
+     * @param tableName   {@link ResourceTemplate} table name
+     * @param aggregation instance of {@link ResourceRecordAggregationDTO}
+     * @return {@link ResponseEntity} with generic type {@link ResourceRecordAggregationResultDTO}
+     */
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = HttpStatuses.OK),
+            @ApiResponse(code = 403, message = HttpStatuses.FORBIDDEN),
+            @ApiResponse(code = 401, message = HttpStatuses.UNAUTHORIZED),
+            @ApiResponse(code = 400, message = HttpStatuses.BAD_REQUEST)
+    })
+    @PostMapping("/aggregate")
+    public ResponseEntity<ResourceRecordAggregationResultDTO> aggregate(@PathVariable String tableName,
+                                                                        @RequestBody ResourceRecordAggregationDTO aggregation) {
+        return ResponseEntity.status(HttpStatus.OK).body(resourceAggregationService.aggregate(tableName, aggregation));
+    }
+
+    /**
+     * Controller which starts {@link ResourceBackfill}, which transforms all dynamic {@link ResourceRecord}
+     * in background by chunks.
+     *
+     * @param tableName               {@link ResourceTemplate} table name
+     * @param resourceBackfillSaveDTO instance of {@link ResourceBackfillSaveDTO}
+     * @return {@link ResponseEntity} with generic type {@link ResourceBackfillDTO}
+     */
+    @ApiResponses(value = {
+            @ApiResponse(code = 202, message = HttpStatuses.ACCEPTED),
+            @ApiResponse(code = 403, message = HttpStatuses.FORBIDDEN),
+            @ApiResponse(code = 401, message = HttpStatuses.UNAUTHORIZED),
+            @ApiResponse(code = 400, message = HttpStatuses.BAD_REQUEST)
+    })
+    @PostMapping("/backfill")
+    public ResponseEntity<ResourceBackfillDTO> startBackfill(@PathVariable String tableName,
+                                                             @RequestBody ResourceBackfillSaveDTO resourceBackfillSaveDTO) {
+        LOG.info("Starting backfill of table: " + tableName);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(resourceBackfillService.start(tableName, resourceBackfillSaveDTO));
+    }
+
+    /**
+     * Controller which finds {@link ResourceBackfill} of container table, latest first.
+     *
+     * @param tableName {@link ResourceTemplate} table name
+     * @param page      page number
+     * @param pageSize  page size
+     * @return {@link ResponseEntity} with page of {@link ResourceBackfillDTO}
+     */
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = HttpStatuses.OK),
+            @ApiResponse(code = 403, message = HttpStatuses.FORBIDDEN),
+            @ApiResponse(code = 401, message = HttpStatuses.UNAUTHORIZED)
+    })
+    @GetMapping("/backfill")
+    public ResponseEntity<Page<ResourceBackfillDTO>> findBackfills(@PathVariable String tableName,
+                                                                   @RequestParam Optional<Integer> page,
+                                                                   @RequestParam Optional<Integer> pageSize) {
+        return ResponseEntity.status(HttpStatus.OK).body(resourceBackfillService.findAllByTableName(tableName,
+                page.orElseGet(() -> 1), pageSize.orElseGet(() -> 5)));
+    }
+
+    /**
+     * Controller which finds progress of {@link ResourceBackfill} by id.
+     *
+     * @param tableName  {@link ResourceTemplate} table name
+     * @param backfillId {@link ResourceBackfill} id
+     * @return {@link ResponseEntity} with generic type {@link ResourceBackfillDTO}
+     */
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = HttpStatuses.OK),
+            @ApiResponse(code = 403, message = HttpStatuses.FORBIDDEN),
+            @ApiResponse(code = 401, message = HttpStatuses.UNAUTHORIZED),
+            @ApiResponse(code = 404, message = HttpStatuses.NOT_FOUND)
+    })
+    @GetMapping("/backfill/{backfillId}")
+    public ResponseEntity<ResourceBackfillDTO> findBackfillById(@PathVariable String tableName,
+                                                                @PathVariable Long backfillId) {
+        return ResponseEntity.status(HttpStatus.OK).body(resourceBackfillService.findById(tableName, backfillId));
+    }
+
     /**
      * Controller which deletes a dynamic {@link ResourceRecord} by id.
      *
@@ -201,7 +469,7 @@ public class ResourceRecordController {
             @ApiResponse(code = 401, message = HttpStatuses.UNAUTHORIZED),
             @ApiResponse(code = 400, message = HttpStatuses.BAD_REQUEST)
     })
-    @DeleteMapping("/{id}/{photo}")
+    @DeleteMapping("/{id}/deletePhoto/{photo}")
     public ResponseEntity deletePhoto(@PathVariable String tableName, @PathVariable Long id, @PathVariable String photo) {
         resourceRecordService.deletePhoto(tableName, id, photo);
         return ResponseEntity.status(HttpStatus.OK).build();
@@ -222,7 +490,7 @@ public class ResourceRecordController {
             @ApiResponse(code = 401, message = HttpStatuses.UNAUTHORIZED),
             @ApiResponse(code = 400, message = HttpStatuses.BAD_REQUEST)
     })
-    @DeleteMapping("/{id}/{document}")
+    @DeleteMapping("/{id}/deleteDocument/{document}")
     public ResponseEntity deleteDocument(@PathVariable String tableName, @PathVariable Long id, @PathVariable String document) {
         resourceRecordService.deleteDocument(tableName, id, document);
         return ResponseEntity.status(HttpStatus.OK).build();
@@ -265,4 +533,67 @@ public class ResourceRecordController {
         return ResponseEntity.status(HttpStatus.OK).build();
     }
 
+    /**
+     * Method generates a presigned url for direct upload of a photo or document to the storage.
+     *
+     * @param tableName   {@link ResourceTemplate} table name
+     * @param id          {@link ResourceRecordDTO} id
+     * @param contentType of the file which will be uploaded
+     * @return {@link ResponseEntity} with generic type {@link PresignedUrlDto}
+     */
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = HttpStatuses.OK),
+            @ApiResponse(code = 403, message = HttpStatuses.FORBIDDEN),
+            @ApiResponse(code = 401, message = HttpStatuses.UNAUTHORIZED),
+            @ApiResponse(code = 400, message = HttpStatuses.BAD_REQUEST)
+    })
+    @PostMapping("/{id}/upload-url")
+    public ResponseEntity<PresignedUrlDto> generateUploadUrl(@PathVariable String tableName,
+                                                             @PathVariable Long id,
+                                                             @RequestParam Optional<String> contentType) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(resourceRecordService.generateUploadUrl(tableName, id, contentType.orElse(null)));
+    }
+
+    /**
+     * Method registers a photo uploaded by a presigned url on {@link ResourceRecord}.
+     *
+     * @param tableName             {@link ResourceTemplate} table name
+     * @param id                    {@link ResourceRecordDTO} id
+     * @param fileUploadCompleteDto {@link FileUploadCompleteDto}
+     * @return {@link ResponseEntity}.
+     */
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = HttpStatuses.OK),
+            @ApiResponse(code = 403, message = HttpStatuses.FORBIDDEN),
+            @ApiResponse(code = 401, message = HttpStatuses.UNAUTHORIZED),
+            @ApiResponse(code = 400, message = HttpStatuses.BAD_REQUEST)
+    })
+    @PutMapping("/{id}/photo/complete")
+    public ResponseEntity completePhotoUpload(@PathVariable String tableName, @PathVariable Long id,
+                                              @Valid @RequestBody FileUploadCompleteDto fileUploadCompleteDto) {
+        resourceRecordService.completePhotoUpload(tableName, id, fileUploadCompleteDto.getFileName());
+        return ResponseEntity.status(HttpStatus.OK).build();
+    }
+
+    /**
+     * Method registers a document uploaded by a presigned url on {@link ResourceRecord}.
+     *
+     * @param tableName             {@link ResourceTemplate} table name
+     * @param id                    {@link ResourceRecordDTO} id
+     * @param fileUploadCompleteDto {@link FileUploadCompleteDto}
+     * @return {@link ResponseEntity}.
+     */
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = HttpStatuses.OK),
+            @ApiResponse(code = 403, message = HttpStatuses.FORBIDDEN),
+            @ApiResponse(code = 401, message = HttpStatuses.UNAUTHORIZED),
+            @ApiResponse(code = 400, message = HttpStatuses.BAD_REQUEST)
+    })
+    @PutMapping("/{id}/document/complete")
+    public ResponseEntity completeDocumentUpload(@PathVariable String tableName, @PathVariable Long id,
+                                                 @Valid @RequestBody FileUploadCompleteDto fileUploadCompleteDto) {
+        resourceRecordService.completeDocumentUpload(tableName, id, fileUploadCompleteDto.getFileName());
+        return ResponseEntity.status(HttpStatus.OK).build();
+    }
 }
@@ -2,13 +2,17 @@ package com.softserve.rms.controller;
 
 import com.softserve.rms.dto.PermissionDto;
 import com.softserve.rms.dto.PrincipalPermissionDto;
+import com.softserve.rms.dto.VersionDto;
 import com.softserve.rms.dto.resourceParameter.ResourceParameterDTO;
 import com.softserve.rms.dto.resourceParameter.ResourceParameterSaveDTO;
 import com.softserve.rms.dto.security.ChangeOwnerDto;
+import com.softserve.rms.dto.template.ResourceMigrationDTO;
 import com.softserve.rms.dto.template.ResourceTemplateSaveDTO;
 import com.softserve.rms.dto.template.ResourceTemplateDTO;
+import com.softserve.rms.service.ResourceMigrationService;
 import com.softserve.rms.service.ResourceParameterService;
 import com.softserve.rms.service.ResourceTemplateService;
+import com.softserve.rms.util.HttpCacheUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,6 +20,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.security.Principal;
 import java.util.List;
@@ -28,6 +33,7 @@ public class ResourceTemplateController implements ResourceTemplateControllerApi
     private static final Logger LOG = LoggerFactory.getLogger(ResourceTemplateController.class);
     private ResourceTemplateService resourceTemplateService;
     private ResourceParameterService resourceParameterService;
+    private ResourceMigrationService resourceMigrationService;
 
     /**
      * Constructor with parameters.
@@ -35,9 +41,11 @@ public class ResourceTemplateController implements ResourceTemplateControllerApi
      * @author Halyna Yatseniuk
      */
     @Autowired
-    public ResourceTemplateController(ResourceTemplateService resourceTemplateService, ResourceParameterService resourceParameterService1) {
+    public ResourceTemplateController(ResourceTemplateService resourceTemplateService, ResourceParameterService resourceParameterService1,
+                                      ResourceMigrationService resourceMigrationService) {
         this.resourceTemplateService = resourceTemplateService;
         this.resourceParameterService = resourceParameterService1;
+        this.resourceMigrationService = resourceMigrationService;
     }
 
     /**
@@ -57,9 +65,13 @@ public class ResourceTemplateController implements ResourceTemplateControllerApi
      * @author Halyna Yatseniuk
      */
     @Override
-    public ResponseEntity<ResourceTemplateDTO> findTemplateById(Long templateId) {
+    public ResponseEntity<ResourceTemplateDTO> findTemplateById(Long templateId, WebRequest webRequest) {
         LOG.info("Getting Resource Template by ID: " + templateId);
-        return ResponseEntity.status(HttpStatus.OK).body(resourceTemplateService.findDTOById(templateId));
+        VersionDto version = resourceTemplateService.findDTOVersionById(templateId);
+        if (HttpCacheUtil.checkNotModified(webRequest, version)) {
+            return null;
+        }
+        return HttpCacheUtil.cachedResponse(version, resourceTemplateService.findDTOById(templateId));
     }
 
     /**
@@ -92,9 +104,13 @@ public class ResourceTemplateController implements ResourceTemplateControllerApi
      * @author Andrii Bren
      */
     @Override
-    public ResponseEntity<ResourceTemplateDTO> findTemplateByTableName(String tableName) {
+    public ResponseEntity<ResourceTemplateDTO> findTemplateByTableName(String tableName, WebRequest webRequest) {
         LOG.info("Getting Template by table name");
-        return ResponseEntity.status(HttpStatus.OK).body(resourceTemplateService.findByTableNameDTO(tableName));
+        VersionDto version = resourceTemplateService.findDTOVersionByTableName(tableName);
+        if (HttpCacheUtil.checkNotModified(webRequest, version)) {
+            return null;
+        }
+        return HttpCacheUtil.cachedResponse(version, resourceTemplateService.findByTableNameDTO(tableName));
     }
 
     /**
@@ -138,11 +154,12 @@ public class ResourceTemplateController implements ResourceTemplateControllerApi
      * @author Halyna Yatseniuk
      */
     @Override
-    public ResponseEntity<Page<ResourceTemplateDTO>> searchTemplateByNameOrDescription(String searchedWord, Optional<Integer> page,
+    public ResponseEntity<Page<ResourceTemplateDTO>> searchTemplateByNameOrDescription(String searchedWord, Optional<Boolean> prefix,
+                                                                                       Optional<Integer> page,
                                                                                        Optional<Integer> pageSize) {
         LOG.info("Search a Resource Template by name or description contains: " + searchedWord);
         return ResponseEntity.status(HttpStatus.OK)
-                .body(resourceTemplateService.searchByNameOrDescriptionContaining(searchedWord, page.orElseGet(() -> 1), pageSize.orElseGet(() -> 5)));
+                .body(resourceTemplateService.searchByNameOrDescriptionContaining(searchedWord, prefix.orElse(true), page.orElseGet(() -> 1), pageSize.orElseGet(() -> 5)));
     }
 
     /**
@@ -200,9 +217,14 @@ public class ResourceTemplateController implements ResourceTemplateControllerApi
      */
     @Override
     public ResponseEntity<Page<ResourceParameterDTO>> findParametersByTemplateId(Long templateId, Optional<Integer> page,
-                                                                                 Optional<Integer> pageSize) {
+                                                                                 Optional<Integer> pageSize,
+                                                                                 WebRequest webRequest) {
         LOG.info("Getting Resource Parameter by Template ID: " + templateId);
-        return ResponseEntity.status(HttpStatus.OK).body(resourceParameterService.findAllByTemplateId(templateId, page.orElseGet(() -> 1), pageSize.orElseGet(() -> 5)));
+        VersionDto version = resourceTemplateService.findVersionById(templateId);
+        if (HttpCacheUtil.checkNotModified(webRequest, version, page.orElseGet(() -> 1), pageSize.orElseGet(() -> 5))) {
+            return null;
+        }
+        return HttpCacheUtil.cachedResponse(version, resourceParameterService.findAllByTemplateId(templateId, page.orElseGet(() -> 1), pageSize.orElseGet(() -> 5)));
     }
 
     /**
@@ -211,9 +233,14 @@ public class ResourceTemplateController implements ResourceTemplateControllerApi
      * @author Andrii Bren
      */
     @Override
-    public ResponseEntity<ResourceParameterDTO> findParameterById(Long templateId, Long parameterId) {
+    public ResponseEntity<ResourceParameterDTO> findParameterById(Long templateId, Long parameterId,
+                                                                  WebRequest webRequest) {
         LOG.info("Getting Resource Parameter by Parameter ID: " + parameterId);
-        return ResponseEntity.status(HttpStatus.OK).body(resourceParameterService.findByIdDTO(templateId, parameterId));
+        VersionDto version = resourceTemplateService.findVersionById(templateId);
+        if (HttpCacheUtil.checkNotModified(webRequest, version, parameterId)) {
+            return null;
+        }
+        return HttpCacheUtil.cachedResponse(version, resourceParameterService.findByIdDTO(templateId, parameterId));
     }
 
     /**
@@ -239,4 +266,25 @@ public class ResourceTemplateController implements ResourceTemplateControllerApi
         resourceParameterService.checkIfParameterCanBeDeleted(templateId, parameterId);
         return ResponseEntity.status(HttpStatus.OK).build();
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResponseEntity<Page<ResourceMigrationDTO>> findMigrationsByTemplateId(Long templateId,
+                                                                                 Optional<Integer> page,
+                                                                                 Optional<Integer> pageSize) {
+        LOG.info("Getting migrations of Resource Template by ID: " + templateId);
+        return ResponseEntity.status(HttpStatus.OK).body(resourceMigrationService.findAllByTemplateId(templateId,
+                page.orElseGet(() -> 1), pageSize.orElseGet(() -> 5)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResponseEntity<ResourceMigrationDTO> findMigrationById(Long templateId, Long migrationId) {
+        LOG.info("Getting migration of Resource Template by ID: " + migrationId);
+        return ResponseEntity.status(HttpStatus.OK).body(resourceMigrationService.findById(templateId, migrationId));
+    }
 }
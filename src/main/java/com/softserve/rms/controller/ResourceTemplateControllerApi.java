@@ -6,8 +6,10 @@ import com.softserve.rms.dto.PrincipalPermissionDto;
 import com.softserve.rms.dto.resourceParameter.ResourceParameterDTO;
 import com.softserve.rms.dto.resourceParameter.ResourceParameterSaveDTO;
 import com.softserve.rms.dto.security.ChangeOwnerDto;
+import com.softserve.rms.dto.template.ResourceMigrationDTO;
 import com.softserve.rms.dto.template.ResourceTemplateDTO;
 import com.softserve.rms.dto.template.ResourceTemplateSaveDTO;
+import com.softserve.rms.entities.ResourceMigration;
 import com.softserve.rms.entities.ResourceParameter;
 import com.softserve.rms.entities.ResourceTemplate;
 import com.softserve.rms.entities.User;
@@ -16,6 +18,7 @@ import io.swagger.annotations.ApiResponses;
 import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.security.Principal;
 import java.util.List;
@@ -41,20 +44,23 @@ public interface ResourceTemplateControllerApi {
     ResponseEntity<ResourceTemplateDTO> saveTemplate(@RequestBody ResourceTemplateSaveDTO templateDTO);
 
     /**
-     * The controller which finds a {@link ResourceTemplateDTO} by provided id.
+     * The controller which finds a {@link ResourceTemplateDTO} by provided id. Template is not mapped
+     * when {@code If-None-Match} header matches version of the template.
      *
      * @param templateId ResourceTemplateDTO id
-     * @return {@link ResourceTemplateDTO}
+     * @param webRequest {@link WebRequest} with conditional headers
+     * @return {@link ResourceTemplateDTO}, null if not modified
      * @author Halyna Yatseniuk
      */
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = HttpStatuses.OK),
+            @ApiResponse(code = 304, message = HttpStatuses.NOT_MODIFIED),
             @ApiResponse(code = 403, message = HttpStatuses.FORBIDDEN),
             @ApiResponse(code = 401, message = HttpStatuses.UNAUTHORIZED),
             @ApiResponse(code = 400, message = HttpStatuses.BAD_REQUEST)
     })
     @GetMapping("/{templateId}")
-    ResponseEntity<ResourceTemplateDTO> findTemplateById(@PathVariable Long templateId);
+    ResponseEntity<ResourceTemplateDTO> findTemplateById(@PathVariable Long templateId, WebRequest webRequest);
 
     /**
      * The controller which finds all {@link ResourceTemplateDTO}.
@@ -87,19 +93,23 @@ public interface ResourceTemplateControllerApi {
                                                                         @RequestParam Optional<Integer> pageSize);
 
     /**
-     * The controller which finds {@link ResourceTemplateDTO} by table name.
+     * The controller which finds {@link ResourceTemplateDTO} by table name. Template is not mapped
+     * when {@code If-None-Match} header matches version of the template.
      *
-     * @param tableName of {@link ResourceTemplateDTO}
-     * @return {@link ResourceTemplateDTO}
+     * @param tableName  of {@link ResourceTemplateDTO}
+     * @param webRequest {@link WebRequest} with conditional headers
+     * @return {@link ResourceTemplateDTO}, null if not modified
      * @author Andrii Bren
      */
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = HttpStatuses.OK),
+            @ApiResponse(code = 304, message = HttpStatuses.NOT_MODIFIED),
             @ApiResponse(code = 401, message = HttpStatuses.UNAUTHORIZED),
             @ApiResponse(code = 403, message = HttpStatuses.FORBIDDEN)
     })
     @GetMapping("/table/{tableName}")
-    ResponseEntity<ResourceTemplateDTO> findTemplateByTableName(@PathVariable String tableName);
+    ResponseEntity<ResourceTemplateDTO> findTemplateByTableName(@PathVariable String tableName,
+                                                                WebRequest webRequest);
 
     /**
      * The controller which finds all {@link ResourceTemplateDTO} created by provided user id.
@@ -154,9 +164,11 @@ public interface ResourceTemplateControllerApi {
 
     /**
      * The controller which searches all {@link ResourceTemplateDTO} by name or description.
+     * Templates which contain all words are found, the most relevant first.
      *
      * @param searchedWord request parameter to search resource templates
-     * @return list of {@link ResourceTemplateDTO}
+     * @param prefix       whether words match beginning of words, true by default for autocomplete
+     * @return page of {@link ResourceTemplateDTO}
      * @author Halyna Yatseniuk
      */
     @ApiResponses(value = {
@@ -166,6 +178,7 @@ public interface ResourceTemplateControllerApi {
     })
     @GetMapping("/search")
     ResponseEntity<Page<ResourceTemplateDTO>> searchTemplateByNameOrDescription(@RequestParam String searchedWord,
+                                                                                @RequestParam Optional<Boolean> prefix,
                                                                                 @RequestParam Optional<Integer> page,
                                                                                 @RequestParam Optional<Integer> pageSize);
 
@@ -240,39 +253,47 @@ public interface ResourceTemplateControllerApi {
                                                        @RequestBody ResourceParameterSaveDTO parameterDTO);
 
     /**
-     * Controller which finds {@link ResourceParameter} by {@link ResourceTemplate} id.
+     * Controller which finds {@link ResourceParameter} by {@link ResourceTemplate} id. Parameters
+     * are not read when {@code If-None-Match} header matches version of the template.
      *
      * @param templateId {@link ResourceTemplate} id
-     * @return {@link ResponseEntity} with generic type list of {@link ResourceParameterDTO}
+     * @param webRequest {@link WebRequest} with conditional headers
+     * @return {@link ResponseEntity} with generic type list of {@link ResourceParameterDTO}, null if not modified
      * @author Andrii Bren
      */
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = HttpStatuses.OK),
+            @ApiResponse(code = 304, message = HttpStatuses.NOT_MODIFIED),
             @ApiResponse(code = 403, message = HttpStatuses.FORBIDDEN),
             @ApiResponse(code = 401, message = HttpStatuses.UNAUTHORIZED),
             @ApiResponse(code = 400, message = HttpStatuses.BAD_REQUEST)
     })
     @GetMapping("/{templateId}/resource-parameter")
     ResponseEntity<Page<ResourceParameterDTO>> findParametersByTemplateId(@PathVariable Long templateId,
-                                                                          @RequestParam Optional<Integer> page, @RequestParam Optional<Integer> pageSize);
+                                                                          @RequestParam Optional<Integer> page, @RequestParam Optional<Integer> pageSize,
+                                                                          WebRequest webRequest);
 
     /**
-     * Controller which finds {@link ResourceParameter} by id.
+     * Controller which finds {@link ResourceParameter} by id. Parameter is not read when
+     * {@code If-None-Match} header matches version of the template.
      *
      * @param templateId  {@link ResourceTemplate} id
      * @param parameterId {@link ResourceParameter} id
-     * @return {@link ResponseEntity} with generic type {@link ResourceParameterDTO}
+     * @param webRequest  {@link WebRequest} with conditional headers
+     * @return {@link ResponseEntity} with generic type {@link ResourceParameterDTO}, null if not modified
      * @author Andrii Bren
      */
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = HttpStatuses.OK),
+            @ApiResponse(code = 304, message = HttpStatuses.NOT_MODIFIED),
             @ApiResponse(code = 403, message = HttpStatuses.FORBIDDEN),
             @ApiResponse(code = 401, message = HttpStatuses.UNAUTHORIZED),
             @ApiResponse(code = 400, message = HttpStatuses.BAD_REQUEST)
     })
     @GetMapping("/{templateId}/resource-parameter/{parameterId}")
     ResponseEntity<ResourceParameterDTO> findParameterById(@PathVariable Long templateId,
-                                                           @PathVariable Long parameterId);
+                                                           @PathVariable Long parameterId,
+                                                           WebRequest webRequest);
 
     /**
      * Controller which updates {@link ResourceParameter}.
@@ -311,4 +332,40 @@ public interface ResourceTemplateControllerApi {
     })
     @DeleteMapping("/{templateId}/resource-parameter/{parameterId}")
     ResponseEntity<Object> deleteParameterById(@PathVariable Long templateId, @PathVariable Long parameterId);
+
+    /**
+     * Controller which finds migrations of container table of {@link ResourceTemplate}, latest first.
+     *
+     * @param templateId {@link ResourceTemplate} id
+     * @param page       page number
+     * @param pageSize   page size
+     * @return {@link ResponseEntity} with generic type page of {@link ResourceMigrationDTO}
+     */
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = HttpStatuses.OK),
+            @ApiResponse(code = 403, message = HttpStatuses.FORBIDDEN),
+            @ApiResponse(code = 401, message = HttpStatuses.UNAUTHORIZED),
+            @ApiResponse(code = 400, message = HttpStatuses.BAD_REQUEST)
+    })
+    @GetMapping("/{templateId}/migration")
+    ResponseEntity<Page<ResourceMigrationDTO>> findMigrationsByTemplateId(@PathVariable Long templateId,
+                                                                          @RequestParam Optional<Integer> page,
+                                                                          @RequestParam Optional<Integer> pageSize);
+
+    /**
+     * Controller which finds status and progress of {@link ResourceMigration} by id.
+     *
+     * @param templateId  {@link ResourceTemplate} id
+     * @param migrationId {@link ResourceMigration} id
+     * @return {@link ResponseEntity} with generic type {@link ResourceMigrationDTO}
+     */
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = HttpStatuses.OK),
+            @ApiResponse(code = 403, message = HttpStatuses.FORBIDDEN),
+            @ApiResponse(code = 401, message = HttpStatuses.UNAUTHORIZED),
+            @ApiResponse(code = 400, message = HttpStatuses.BAD_REQUEST)
+    })
+    @GetMapping("/{templateId}/migration/{migrationId}")
+    ResponseEntity<ResourceMigrationDTO> findMigrationById(@PathVariable Long templateId,
+                                                           @PathVariable Long migrationId);
 }
@@ -0,0 +1,50 @@
+package com.softserve.rms.controller;
+
+import com.softserve.rms.constants.HttpStatuses;
+import com.softserve.rms.dto.search.ResourceSearchDTO;
+import com.softserve.rms.entities.ResourceRecord;
+import com.softserve.rms.service.ResourceSearchService;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/search")
+public class SearchController {
+    private final ResourceSearchService resourceSearchService;
+
+    @Autowired
+    public SearchController(ResourceSearchService resourceSearchService) {
+        this.resourceSearchService = resourceSearchService;
+    }
+
+    /**
+     * Controller finds {@link ResourceRecord} of all published templates, which name, description
+     * or string parameters contain all words of the query. Only managers can search records.
+     *
+     * @param query words to search
+     * @return {@link ResponseEntity} with page of {@link ResourceSearchDTO}
+     */
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = HttpStatuses.OK),
+            @ApiResponse(code = 401, message = HttpStatuses.UNAUTHORIZED),
+            @ApiResponse(code = 403, message = HttpStatuses.FORBIDDEN),
+            @ApiResponse(code = 400, message = HttpStatuses.BAD_REQUEST)
+    })
+    @GetMapping
+    public ResponseEntity<Page<ResourceSearchDTO>> search(@RequestParam String query,
+                                                          @RequestParam Optional<Integer> page,
+                                                          @RequestParam Optional<Integer> pageSize) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(resourceSearchService.search(query, page.orElseGet(() -> 1), pageSize.orElseGet(() -> 5)));
+    }
+}
@@ -0,0 +1,16 @@
+package com.softserve.rms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlowStatementDto {
+    private String sql;
+    private Long executions;
+    private Double totalMs;
+    private Double maxMs;
+    private Double avgMs;
+}
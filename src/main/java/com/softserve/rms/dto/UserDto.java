@@ -5,6 +5,8 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.Map;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -18,4 +20,5 @@ public class UserDto {
     private String password;
     private boolean enabled;
     private Role role;
+    private Map<String, String> imageDerivatives;
 }
\ No newline at end of file
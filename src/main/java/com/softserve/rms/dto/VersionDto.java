@@ -0,0 +1,14 @@
+package com.softserve.rms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VersionDto {
+    private String version;
+    private Long lastModified;
+    private Boolean withFiles;
+}
@@ -0,0 +1,15 @@
+package com.softserve.rms.dto.file;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.NotBlank;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FileUploadCompleteDto {
+    @NotBlank
+    private String fileName;
+}
@@ -0,0 +1,16 @@
+package com.softserve.rms.dto.file;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PresignedUrlDto {
+    private String fileName;
+    private String url;
+    private Date expiresAt;
+}
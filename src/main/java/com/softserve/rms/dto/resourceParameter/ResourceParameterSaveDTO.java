@@ -13,4 +13,5 @@ public class ResourceParameterSaveDTO {
     private ParameterType parameterType;
     private String pattern;
     private Long relatedResourceTemplateId;
+    private String defaultValue;
 }
@@ -0,0 +1,27 @@
+package com.softserve.rms.dto.resourceRecord;
+
+import com.softserve.rms.entities.ResourceBackfill;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResourceBackfillDTO implements Serializable {
+
+    private Long id;
+    private ResourceBackfill.Transformation transformation;
+    private String columnName;
+    private ResourceBackfill.Status status;
+    private Long processedRecords;
+    private Long lastId;
+    private Long maxId;
+    private Integer progress;
+    private String error;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,18 @@
+package com.softserve.rms.dto.resourceRecord;
+
+import com.softserve.rms.entities.ResourceBackfill;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResourceBackfillSaveDTO implements Serializable {
+
+    private ResourceBackfill.Transformation transformation;
+    private String columnName;
+    private String argument;
+}
@@ -0,0 +1,25 @@
+package com.softserve.rms.dto.resourceRecord;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResourceRecordAggregateDTO implements Serializable {
+
+    private Function function;
+    private String column;
+    private String alias;
+    private Double percentile;
+    private Double from;
+    private Double to;
+    private Integer buckets;
+
+    public enum Function {
+        COUNT, SUM, AVG, MIN, MAX, PERCENTILE, HISTOGRAM
+    }
+}
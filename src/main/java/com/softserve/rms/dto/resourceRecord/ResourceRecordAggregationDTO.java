@@ -0,0 +1,18 @@
+package com.softserve.rms.dto.resourceRecord;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResourceRecordAggregationDTO implements Serializable {
+
+    private List<String> groupBy;
+    private List<ResourceRecordAggregateDTO> aggregates;
+    private List<ResourceRecordConditionDTO> filter;
+}
@@ -0,0 +1,18 @@
+package com.softserve.rms.dto.resourceRecord;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResourceRecordAggregationResultDTO implements Serializable {
+
+    private List<Map<String, Object>> rows;
+    private boolean truncated;
+}
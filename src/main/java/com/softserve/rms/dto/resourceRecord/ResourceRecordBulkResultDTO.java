@@ -0,0 +1,17 @@
+package com.softserve.rms.dto.resourceRecord;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResourceRecordBulkResultDTO implements Serializable {
+
+    private Long count;
+    private Integer chunks;
+    private Boolean dryRun;
+}
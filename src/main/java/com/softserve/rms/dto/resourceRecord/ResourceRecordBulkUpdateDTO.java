@@ -0,0 +1,18 @@
+package com.softserve.rms.dto.resourceRecord;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResourceRecordBulkUpdateDTO implements Serializable {
+
+    private List<ResourceRecordConditionDTO> filter;
+    private Map<String, Object> parameters;
+}
@@ -0,0 +1,21 @@
+package com.softserve.rms.dto.resourceRecord;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResourceRecordConditionDTO implements Serializable {
+
+    private String column;
+    private Operator operator;
+    private Object value;
+
+    public enum Operator {
+        EQ, NE, LT, LE, GT, GE, LIKE, IN, IS_NULL, IS_NOT_NULL
+    }
+}
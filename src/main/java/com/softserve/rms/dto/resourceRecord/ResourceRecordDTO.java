@@ -17,4 +17,5 @@ public class ResourceRecordDTO {
     private String photos;
     private String document;
     private Map<String, Object> parameters;
-}
\ No newline at end of file
+    private Map<String, String> photoDerivatives;
+}
@@ -0,0 +1,16 @@
+package com.softserve.rms.dto.resourceRecord;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResourceRecordFilterDTO implements Serializable {
+
+    private List<ResourceRecordConditionDTO> filter;
+}
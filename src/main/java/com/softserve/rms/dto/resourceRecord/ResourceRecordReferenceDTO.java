@@ -0,0 +1,20 @@
+package com.softserve.rms.dto.resourceRecord;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResourceRecordReferenceDTO implements Serializable {
+
+    private Long templateId;
+    private String templateName;
+    private String tableName;
+    private String columnName;
+    private Long recordId;
+    private String name;
+}
@@ -0,0 +1,20 @@
+package com.softserve.rms.dto.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResourceSearchDTO implements Serializable {
+
+    private Long templateId;
+    private String templateName;
+    private String tableName;
+    private Long recordId;
+    private String name;
+    private String snippet;
+}
@@ -0,0 +1,22 @@
+package com.softserve.rms.dto.template;
+
+import com.softserve.rms.entities.ResourceMigration;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResourceMigrationDTO {
+    private Long id;
+    private String columnName;
+    private ResourceMigration.Operation operation;
+    private ResourceMigration.Status status;
+    private Long backfillId;
+    private String error;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -18,4 +18,5 @@ public class ResourceTemplateDTO {
     private Boolean isPublished;
     private Long userId;
     private List<ResourceParameterDTO> resourceParameters;
+    private Long recordCount;
 }
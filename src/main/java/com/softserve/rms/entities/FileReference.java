@@ -0,0 +1,21 @@
+package com.softserve.rms.entities;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "file_references")
+public class FileReference {
+    @Id
+    @Column(name = "file_name", length = 64)
+    private String fileName;
+
+    @Column(name = "reference_count", nullable = false)
+    private Long referenceCount;
+}
@@ -0,0 +1,21 @@
+package com.softserve.rms.entities;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "image_derivatives")
+public class ImageDerivatives {
+    @Id
+    @Column(name = "file_name")
+    private String fileName;
+
+    @Column(name = "derivative_names", nullable = false)
+    private String derivativeNames;
+}
@@ -0,0 +1,6 @@
+package com.softserve.rms.entities;
+
+public enum PartitionStrategy {
+    HASH,
+    RANGE
+}
@@ -0,0 +1,31 @@
+package com.softserve.rms.entities;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+/**
+ * File of deleted record, which is still to be deleted from the storage. Rows are kept until
+ * the file is deleted, so cleanup survives full queues and restarts.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "pending_file_deletions")
+public class PendingFileDeletion {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "file_name", nullable = false)
+    private String fileName;
+
+    /**
+     * Derivatives of photos are deleted together with photos.
+     */
+    @Column(nullable = false)
+    private Boolean photo;
+}
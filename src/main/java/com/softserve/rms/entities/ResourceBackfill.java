@@ -0,0 +1,67 @@
+package com.softserve.rms.entities;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity(name = "resource_backfills")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResourceBackfill {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String tableName;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private Transformation transformation;
+
+    private String columnName;
+
+    private String argument;
+
+    /**
+     * Standalone backfills are resumed at startup by themselves, others by migrations running them.
+     */
+    @Column(nullable = false)
+    private Boolean standalone;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private Status status;
+
+    @Column(nullable = false)
+    private Long lastId;
+
+    @Column(nullable = false)
+    private Long maxId;
+
+    @Column(nullable = false)
+    private Long processedRecords;
+
+    @Column(length = 1000)
+    private String error;
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+
+    public enum Transformation {
+        DEFAULT_VALUE, REFERENCE_NAME, SEARCH_VECTOR
+    }
+
+    public enum Status {
+        RUNNING, COMPLETED, FAILED
+    }
+}
@@ -0,0 +1,62 @@
+package com.softserve.rms.entities;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity(name = "resource_migrations")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResourceMigration {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long resourceTemplateId;
+
+    @Column(nullable = false)
+    private String tableName;
+
+    @Column(nullable = false)
+    private String columnName;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private ParameterType parameterType;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private Operation operation;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private Status status;
+
+    private String defaultValue;
+
+    private Long backfillId;
+
+    @Column(length = 1000)
+    private String error;
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+
+    public enum Operation {
+        ADD, RENAME, DROP
+    }
+
+    public enum Status {
+        RUNNING, COMPLETED, FAILED
+    }
+}
@@ -1,8 +1,10 @@
 package com.softserve.rms.entities;
 
 import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import javax.persistence.*;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity(name = "resource_templates")
@@ -35,4 +37,20 @@ public class ResourceTemplate {
 
     @OneToMany(mappedBy = "relatedResourceTemplate")
     private List<ResourceRelation> resourceRelations;
+
+    @Version
+    @Column(columnDefinition = "bigint default 0 not null")
+    private Long version;
+
+    @UpdateTimestamp
+    @Column(columnDefinition = "timestamp default now() not null")
+    private LocalDateTime updatedAt;
+
+    /**
+     * Strategy and key column of partitions of container table, both are empty if the table is not partitioned.
+     */
+    @Enumerated(EnumType.STRING)
+    private PartitionStrategy partitionStrategy;
+
+    private String partitionColumn;
 }
@@ -0,0 +1,17 @@
+package com.softserve.rms.exceptions;
+
+/**
+ * Exception that we get when entity has been changed by someone else since the version
+ * provided by the client was read.
+ */
+public class VersionConflictException extends RuntimeException {
+
+    /**
+     * Constructor for VersionConflictException.
+     *
+     * @param message - giving message
+     */
+    public VersionConflictException(String message) {
+        super(message);
+    }
+}
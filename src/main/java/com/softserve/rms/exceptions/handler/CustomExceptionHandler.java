@@ -1,11 +1,13 @@
 package com.softserve.rms.exceptions.handler;
 
+import com.softserve.rms.constants.ErrorMessage;
 import com.softserve.rms.exceptions.*;
 import com.softserve.rms.exceptions.resourseTemplate.ResourceTemplateParameterListIsEmpty;
 import com.softserve.rms.exceptions.NotFoundException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -122,6 +124,36 @@ public class CustomExceptionHandler extends ResponseEntityExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(generateErrorMessage(exception));
     }
 
+    /**
+     * Method which handles {@link VersionConflictException} exception.
+     *
+     * @param exception  {@link VersionConflictException}
+     * @return ResponseEntity which contains an error message
+     */
+    @ExceptionHandler(VersionConflictException.class)
+    public ResponseEntity<Object> handleVersionConflictException
+    (VersionConflictException exception) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(generateErrorMessage(exception));
+    }
+
+    /**
+     * Method which handles {@link ObjectOptimisticLockingFailureException} exception
+     * thrown when a versioned entity was changed by a concurrent transaction.
+     *
+     * @param exception  {@link ObjectOptimisticLockingFailureException}
+     * @return ResponseEntity which contains an error message
+     */
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<Object> handleObjectOptimisticLockingFailureException
+    (ObjectOptimisticLockingFailureException exception) {
+        String entityName = exception.getPersistentClassName();
+        Map<String, String> errorResponse = new HashMap<>();
+        errorResponse.put("message", ErrorMessage.ENTITY_VERSION_CONFLICT.getMessage()
+                + (entityName != null ? entityName.substring(entityName.lastIndexOf('.') + 1)
+                + " " + exception.getIdentifier() : ""));
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
     /**
      * Method which handles {@link MethodArgumentNotValidException} exception.
      *
@@ -0,0 +1,36 @@
+package com.softserve.rms.mapper;
+
+import com.softserve.rms.dto.group.GroupDto;
+import com.softserve.rms.dto.group.GroupSaveDto;
+import com.softserve.rms.entities.Group;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maps {@link Group} to its DTOs and back.
+ */
+@Component
+public class GroupMapper {
+
+    /**
+     * Method converts {@link Group} to {@link GroupDto}
+     *
+     * @param group {@link Group}
+     * @return {@link GroupDto}
+     */
+    public GroupDto toDto(Group group) {
+        return new GroupDto(group.getId(), group.getName(), group.getDescription());
+    }
+
+    /**
+     * Method converts {@link GroupSaveDto} to {@link Group}
+     *
+     * @param groupSaveDto {@link GroupSaveDto}
+     * @return {@link Group}
+     */
+    public Group toEntity(GroupSaveDto groupSaveDto) {
+        Group group = new Group();
+        group.setName(groupSaveDto.getName());
+        group.setDescription(groupSaveDto.getDescription());
+        return group;
+    }
+}
@@ -0,0 +1,41 @@
+package com.softserve.rms.mapper;
+
+import com.softserve.rms.dto.resourceParameter.ResourceParameterDTO;
+import com.softserve.rms.entities.ResourceParameter;
+import com.softserve.rms.entities.ResourceTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maps {@link ResourceParameter} to {@link ResourceParameterDTO}.
+ */
+@Component
+public class ResourceParameterMapper {
+
+    /**
+     * Method converts {@link ResourceParameter} to {@link ResourceParameterDTO}. Only id of
+     * the owning template is read, related template is read for reference parameters.
+     *
+     * @param resourceParameter {@link ResourceParameter}
+     * @return {@link ResourceParameterDTO}
+     */
+    public ResourceParameterDTO toDto(ResourceParameter resourceParameter) {
+        ResourceParameterDTO resourceParameterDTO = new ResourceParameterDTO();
+        resourceParameterDTO.setId(resourceParameter.getId());
+        resourceParameterDTO.setName(resourceParameter.getName());
+        resourceParameterDTO.setColumnName(resourceParameter.getColumnName());
+        resourceParameterDTO.setParameterType(resourceParameter.getParameterType());
+        resourceParameterDTO.setPattern(resourceParameter.getPattern());
+        if (resourceParameter.getResourceTemplate() != null) {
+            resourceParameterDTO.setResourceTemplateId(resourceParameter.getResourceTemplate().getId());
+        }
+        if (resourceParameter.getResourceRelations() != null
+                && resourceParameter.getResourceRelations().getRelatedResourceTemplate() != null) {
+            ResourceTemplate relatedResourceTemplate = resourceParameter.getResourceRelations()
+                    .getRelatedResourceTemplate();
+            resourceParameterDTO.setRelatedResourceTemplateId(relatedResourceTemplate.getId());
+            resourceParameterDTO.setRelatedResourceTemplateName(relatedResourceTemplate.getName());
+            resourceParameterDTO.setRelatedResourceTemplateTableName(relatedResourceTemplate.getTableName());
+        }
+        return resourceParameterDTO;
+    }
+}
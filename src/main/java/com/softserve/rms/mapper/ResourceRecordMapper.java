@@ -0,0 +1,33 @@
+package com.softserve.rms.mapper;
+
+import com.softserve.rms.dto.resourceRecord.ResourceRecordDTO;
+import com.softserve.rms.entities.ResourceRecord;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maps {@link ResourceRecord} to {@link ResourceRecordDTO}.
+ */
+@Component
+public class ResourceRecordMapper {
+
+    /**
+     * Method converts {@link ResourceRecord} to {@link ResourceRecordDTO}. Parameters map is
+     * shared with the record.
+     *
+     * @param resourceRecord {@link ResourceRecord}
+     * @return {@link ResourceRecordDTO} without photo derivatives
+     */
+    public ResourceRecordDTO toDto(ResourceRecord resourceRecord) {
+        ResourceRecordDTO resourceRecordDTO = new ResourceRecordDTO();
+        resourceRecordDTO.setId(resourceRecord.getId());
+        resourceRecordDTO.setName(resourceRecord.getName());
+        resourceRecordDTO.setDescription(resourceRecord.getDescription());
+        if (resourceRecord.getUser() != null) {
+            resourceRecordDTO.setUserId(resourceRecord.getUser().getId());
+        }
+        resourceRecordDTO.setPhotos(resourceRecord.getPhotosNames());
+        resourceRecordDTO.setDocument(resourceRecord.getDocumentNames());
+        resourceRecordDTO.setParameters(resourceRecord.getParameters());
+        return resourceRecordDTO;
+    }
+}
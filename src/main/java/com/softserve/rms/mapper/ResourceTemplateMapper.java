@@ -0,0 +1,62 @@
+package com.softserve.rms.mapper;
+
+import com.softserve.rms.dto.template.ResourceTemplateDTO;
+import com.softserve.rms.entities.ResourceParameter;
+import com.softserve.rms.entities.ResourceTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Maps {@link ResourceTemplate} to {@link ResourceTemplateDTO}. Only id of the creator is read.
+ * Parameters of the template are mapped by {@link ResourceParameterMapper}. Lists of templates pass
+ * parameters loaded for all of them at once, so lazy parameters are not loaded per template.
+ */
+@Component
+public class ResourceTemplateMapper {
+
+    private final ResourceParameterMapper resourceParameterMapper;
+
+    @Autowired
+    public ResourceTemplateMapper(ResourceParameterMapper resourceParameterMapper) {
+        this.resourceParameterMapper = resourceParameterMapper;
+    }
+
+    /**
+     * Method converts {@link ResourceTemplate} to {@link ResourceTemplateDTO}
+     *
+     * @param resourceTemplate {@link ResourceTemplate}
+     * @return {@link ResourceTemplateDTO}
+     */
+    public ResourceTemplateDTO toDto(ResourceTemplate resourceTemplate) {
+        return toDto(resourceTemplate, resourceTemplate.getResourceParameters());
+    }
+
+    /**
+     * Method converts {@link ResourceTemplate} with already loaded parameters to {@link ResourceTemplateDTO},
+     * parameters of the template itself are not read.
+     *
+     * @param resourceTemplate   {@link ResourceTemplate}
+     * @param resourceParameters list of {@link ResourceParameter} of the template
+     * @return {@link ResourceTemplateDTO}
+     */
+    public ResourceTemplateDTO toDto(ResourceTemplate resourceTemplate, List<ResourceParameter> resourceParameters) {
+        ResourceTemplateDTO resourceTemplateDTO = new ResourceTemplateDTO();
+        resourceTemplateDTO.setId(resourceTemplate.getId());
+        resourceTemplateDTO.setName(resourceTemplate.getName());
+        resourceTemplateDTO.setTableName(resourceTemplate.getTableName());
+        resourceTemplateDTO.setDescription(resourceTemplate.getDescription());
+        resourceTemplateDTO.setIsPublished(resourceTemplate.getIsPublished());
+        if (resourceTemplate.getUser() != null) {
+            resourceTemplateDTO.setUserId(resourceTemplate.getUser().getId());
+        }
+        if (resourceParameters != null) {
+            resourceTemplateDTO.setResourceParameters(resourceParameters.stream()
+                    .map(resourceParameterMapper::toDto)
+                    .collect(Collectors.toList()));
+        }
+        return resourceTemplateDTO;
+    }
+}
@@ -0,0 +1,92 @@
+package com.softserve.rms.mapper;
+
+import com.softserve.rms.dto.UserDto;
+import com.softserve.rms.dto.group.MemberDto;
+import com.softserve.rms.dto.user.PermissionUserDto;
+import com.softserve.rms.dto.user.RegistrationDto;
+import com.softserve.rms.entities.User;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maps {@link User} to its DTOs and back. Only listed fields are copied, so lazy associations
+ * of the entity are never touched.
+ */
+@Component
+public class UserMapper {
+
+    /**
+     * Method converts {@link User} to {@link UserDto}
+     *
+     * @param user {@link User}
+     * @return {@link UserDto} without image derivatives
+     */
+    public UserDto toDto(User user) {
+        UserDto userDto = new UserDto();
+        userDto.setId(user.getId());
+        userDto.setImageUrl(user.getImageUrl());
+        userDto.setFirstName(user.getFirstName());
+        userDto.setLastName(user.getLastName());
+        userDto.setEmail(user.getEmail());
+        userDto.setPhone(user.getPhone());
+        userDto.setPassword(user.getPassword());
+        userDto.setEnabled(user.isEnabled());
+        userDto.setRole(user.getRole());
+        return userDto;
+    }
+
+    /**
+     * Method converts {@link User} to {@link PermissionUserDto}
+     *
+     * @param user {@link User}
+     * @return {@link PermissionUserDto}
+     */
+    public PermissionUserDto toPermissionUserDto(User user) {
+        return new PermissionUserDto(user.getEmail(), user.getFirstName(), user.getLastName(), user.getRole());
+    }
+
+    /**
+     * Method converts {@link User} to {@link MemberDto}
+     *
+     * @param user {@link User}
+     * @return {@link MemberDto}
+     */
+    public MemberDto toMemberDto(User user) {
+        return new MemberDto(user.getEmail(), user.getFirstName(), user.getLastName());
+    }
+
+    /**
+     * Method converts {@link UserDto} to {@link User}
+     *
+     * @param userDto {@link UserDto}
+     * @return {@link User}
+     */
+    public User toEntity(UserDto userDto) {
+        User user = new User();
+        user.setId(userDto.getId());
+        user.setImageUrl(userDto.getImageUrl());
+        user.setFirstName(userDto.getFirstName());
+        user.setLastName(userDto.getLastName());
+        user.setEmail(userDto.getEmail());
+        user.setPhone(userDto.getPhone());
+        user.setPassword(userDto.getPassword());
+        user.setEnabled(userDto.isEnabled());
+        user.setRole(userDto.getRole());
+        return user;
+    }
+
+    /**
+     * Method converts {@link RegistrationDto} to {@link User}
+     *
+     * @param registrationDto {@link RegistrationDto}
+     * @return {@link User}
+     */
+    public User toEntity(RegistrationDto registrationDto) {
+        User user = new User();
+        user.setFirstName(registrationDto.getFirstName());
+        user.setLastName(registrationDto.getLastName());
+        user.setEmail(registrationDto.getEmail());
+        user.setPhone(registrationDto.getPhone());
+        user.setPassword(registrationDto.getPassword());
+        return user;
+    }
+}
@@ -0,0 +1,26 @@
+package com.softserve.rms.repository;
+
+import com.softserve.rms.entities.FileReference;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface FileReferenceRepository extends JpaRepository<FileReference, String> {
+    @Modifying
+    @Query(value = "insert into file_references (file_name, reference_count) values (:fileName, 1) " +
+            "on conflict (file_name) do update set reference_count = file_references.reference_count + 1",
+            nativeQuery = true)
+    void incrementReferenceCount(String fileName);
+
+    @Modifying
+    @Query(value = "update file_references set reference_count = reference_count - 1 where file_name = :fileName",
+            nativeQuery = true)
+    int decrementReferenceCount(String fileName);
+
+    @Modifying
+    @Query(value = "delete from file_references where file_name = :fileName and reference_count <= 0",
+            nativeQuery = true)
+    int deleteUnreferenced(String fileName);
+}
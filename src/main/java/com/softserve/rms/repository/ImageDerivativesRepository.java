@@ -0,0 +1,9 @@
+package com.softserve.rms.repository;
+
+import com.softserve.rms.entities.ImageDerivatives;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ImageDerivativesRepository extends JpaRepository<ImageDerivatives, String> {
+}
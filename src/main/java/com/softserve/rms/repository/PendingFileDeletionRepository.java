@@ -0,0 +1,26 @@
+package com.softserve.rms.repository;
+
+import com.softserve.rms.entities.PendingFileDeletion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.LockModeType;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PendingFileDeletionRepository extends JpaRepository<PendingFileDeletion, Long> {
+
+    List<PendingFileDeletion> findFirst100ByIdGreaterThanOrderById(Long id);
+
+    /**
+     * Method finds and locks {@link PendingFileDeletion}, so concurrent workers do not delete
+     * the same file twice.
+     *
+     * @param id of {@link PendingFileDeletion}
+     * @return {@link Optional} of {@link PendingFileDeletion}, empty if it has been processed already
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<PendingFileDeletion> findLockedById(Long id);
+}
@@ -0,0 +1,19 @@
+package com.softserve.rms.repository;
+
+import com.softserve.rms.entities.ResourceBackfill;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ResourceBackfillRepository extends JpaRepository<ResourceBackfill, Long> {
+    Page<ResourceBackfill> findAllByTableNameOrderByIdDesc(String tableName, Pageable pageable);
+
+    Optional<ResourceBackfill> findByIdAndTableName(Long id, String tableName);
+
+    List<ResourceBackfill> findAllByStatusAndStandaloneTrueOrderById(ResourceBackfill.Status status);
+}
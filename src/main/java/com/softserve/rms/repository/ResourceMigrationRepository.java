@@ -0,0 +1,21 @@
+package com.softserve.rms.repository;
+
+import com.softserve.rms.entities.ResourceMigration;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ResourceMigrationRepository extends JpaRepository<ResourceMigration, Long> {
+    Page<ResourceMigration> findAllByResourceTemplateIdOrderByIdDesc(Long resourceTemplateId, Pageable pageable);
+
+    Optional<ResourceMigration> findByIdAndResourceTemplateId(Long id, Long resourceTemplateId);
+
+    boolean existsByTableNameAndStatus(String tableName, ResourceMigration.Status status);
+
+    List<ResourceMigration> findAllByStatusOrderById(ResourceMigration.Status status);
+}
@@ -6,8 +6,11 @@ import com.softserve.rms.entities.ResourceTemplate;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -42,4 +45,15 @@ public interface ResourceParameterRepository extends JpaRepository<ResourceParam
      * @author Halyna Yatseniuk
      */
     Optional<ResourceParameter> findByColumnNameAndResourceTemplateId(String columnName, Long id);
+
+    /**
+     * Method finds all {@link ResourceParameter} of given templates in one query, together with
+     * {@link ResourceRelation} and related {@link ResourceTemplate} of reference parameters.
+     *
+     * @param ids of {@link ResourceTemplate}
+     * @return list of {@link ResourceParameter} ordered by id
+     */
+    @Query("select p from resource_parameters p left join fetch p.resourceRelations r " +
+            "left join fetch r.relatedResourceTemplate where p.resourceTemplate.id in :ids order by p.id")
+    List<ResourceParameter> findAllWithRelationsByResourceTemplateIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -1,15 +1,24 @@
 package com.softserve.rms.repository;
 
+import com.softserve.rms.constants.FieldConstants;
+import com.softserve.rms.dto.VersionDto;
 import com.softserve.rms.entities.ResourceRecord;
 import com.softserve.rms.entities.ResourceTemplate;
 import com.softserve.rms.exceptions.NotDeletedException;
 import com.softserve.rms.exceptions.NotFoundException;
+import com.softserve.rms.util.ResourceRecordColumns;
+import org.jooq.Condition;
+import org.jooq.Cursor;
+import org.jooq.Field;
+import org.jooq.Record;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiConsumer;
 
 @Repository
 public interface ResourceRecordRepository {
@@ -26,14 +35,41 @@ public interface ResourceRecordRepository {
 
     /**
      * Method updates dynamic {@link ResourceRecord} in a table specified
-     * by the reсorder.
+     * by the reсorder with single statement. Only name, description and parameters which are not
+     * null are written, file names are changed by {@link #appendFileName} and {@link #removeFileNames}.
      *
      * @param tableName      {@link ResourceTemplate} tableName
      * @param id             {@link ResourceRecord} id
-     * @param resourceRecord instance of {@link ResourceRecord}
+     * @param version        expected version of the row, null to update any version
+     * @param resourceRecord instance of {@link ResourceRecord} with changed values
+     * @return false if there is no row with provided id and version
      * @author Andrii Bren
      */
-    void update(String tableName, Long id, ResourceRecord resourceRecord);
+    boolean update(String tableName, Long id, Long version, ResourceRecord resourceRecord);
+
+    /**
+     * Method appends file name to comma separated file names of dynamic {@link ResourceRecord}
+     * without reading them, so concurrent uploads are not lost.
+     *
+     * @param tableName {@link ResourceTemplate} tableName
+     * @param id        {@link ResourceRecord} id
+     * @param column    {@link FieldConstants#PHOTOS_NAMES} or {@link FieldConstants#DOCUMENTS_NAMES}
+     * @param fileName  to append
+     * @return false if there is no row with provided id
+     */
+    boolean appendFileName(String tableName, Long id, FieldConstants column, String fileName);
+
+    /**
+     * Method removes file names from comma separated file names of dynamic {@link ResourceRecord}
+     * without reading them. Other file names are kept, column is set to null when no files are left.
+     *
+     * @param tableName {@link ResourceTemplate} tableName
+     * @param id        {@link ResourceRecord} id
+     * @param column    {@link FieldConstants#PHOTOS_NAMES} or {@link FieldConstants#DOCUMENTS_NAMES}
+     * @param fileNames to remove
+     * @return false if there is no row with provided id
+     */
+    boolean removeFileNames(String tableName, Long id, FieldConstants column, Collection<String> fileNames);
 
     /**
      * Method finds all dynamic {@link ResourceRecord} in a table specified
@@ -44,6 +80,138 @@ public interface ResourceRecordRepository {
      */
     Page<ResourceRecord> findAll(String tableName, Integer page, Integer pageSize);
 
+    /**
+     * Method finds page of dynamic {@link ResourceRecord} which name, description or string
+     * parameters contain all words of the query, the most relevant first.
+     *
+     * @param tableName {@link ResourceTemplate} tableName
+     * @param query     words to search
+     * @param page      zero based page number
+     * @param pageSize  size of the page
+     * @return page of {@link ResourceRecord}
+     */
+    Page<ResourceRecord> search(String tableName, String query, Integer page, Integer pageSize);
+
+    /**
+     * Method counts dynamic {@link ResourceRecord} in a table specified by the reсorder.
+     *
+     * @param tableName {@link ResourceTemplate} tableName
+     * @return number of records
+     */
+    long count(String tableName);
+
+    /**
+     * Method counts dynamic {@link ResourceRecord} which match the condition.
+     *
+     * @param tableName {@link ResourceTemplate} tableName
+     * @param condition compiled filter of the records
+     * @return number of matching records
+     */
+    long count(String tableName, Condition condition);
+
+    /**
+     * Method finds the greatest id of dynamic {@link ResourceRecord} using primary key index.
+     *
+     * @param tableName {@link ResourceTemplate} tableName
+     * @return the greatest id, 0 if the table is empty
+     */
+    long findMaxId(String tableName);
+
+    /**
+     * Method finds slice of dynamic {@link ResourceRecord} which match the condition, ordered by id.
+     *
+     * @param tableName {@link ResourceTemplate} tableName
+     * @param condition condition of the records
+     * @param offset    number of matching records to skip
+     * @param limit     maximum number of records to return
+     * @return list of {@link ResourceRecord}
+     */
+    List<ResourceRecord> findAll(String tableName, Condition condition, long offset, int limit);
+
+    /**
+     * Method computes aggregates of dynamic {@link ResourceRecord} which match the condition,
+     * grouped by provided columns. Groups are ordered by group-by columns.
+     *
+     * @param tableName  {@link ResourceTemplate} tableName
+     * @param groupBy    group-by columns, empty for single group of all records
+     * @param aggregates aliased aggregate functions
+     * @param condition  condition of the records
+     * @param limit      maximum number of groups to return
+     * @return list of maps of result column name and value
+     */
+    List<Map<String, Object>> aggregate(String tableName, List<Field<?>> groupBy, List<Field<?>> aggregates,
+                                        Condition condition, int limit);
+
+    /**
+     * Method finds version of container table, which changes with every statement that changes
+     * records of the table.
+     *
+     * @param tableName {@link ResourceTemplate} tableName
+     * @return version of the table
+     */
+    long findTableVersion(String tableName);
+
+    /**
+     * Method updates values of chunk of dynamic {@link ResourceRecord} which match the condition
+     * and have id greater than provided one, with single statement, so every chunk is a separate
+     * short transaction.
+     *
+     * @param tableName   {@link ResourceTemplate} tableName
+     * @param condition   compiled filter of the records
+     * @param values      map of column name and value
+     * @param afterId     id of the last record of previous chunk, 0 for the first chunk
+     * @param chunkSize   maximum number of records to update
+     * @param nextVersion whether version and update time of the rows are changed, false for updates
+     *                    which do not change what clients read
+     * @return ids of updated records
+     */
+    List<Long> updateChunk(String tableName, Condition condition, Map<String, Object> values,
+                           long afterId, int chunkSize, boolean nextVersion);
+
+    /**
+     * Method deletes chunk of dynamic {@link ResourceRecord} which match the condition
+     * with single statement.
+     *
+     * @param tableName {@link ResourceTemplate} tableName
+     * @param condition compiled filter of the records
+     * @param chunkSize maximum number of records to delete
+     * @return deleted {@link ResourceRecord} with id and file names only
+     */
+    List<ResourceRecord> deleteChunk(String tableName, Condition condition, int chunkSize);
+
+    /**
+     * Method passes page of rows ordered by id to the consumer without converting them to
+     * {@link ResourceRecord}. Cursor is open only while the consumer is running.
+     *
+     * @param tableName {@link ResourceTemplate} tableName
+     * @param page      zero based page number
+     * @param pageSize  size of the page
+     * @param consumer  of cached {@link ResourceRecordColumns} of the table and {@link Cursor} over the rows
+     */
+    void findAll(String tableName, Integer page, Integer pageSize,
+                 BiConsumer<ResourceRecordColumns, Cursor<Record>> consumer);
+
+    /**
+     * Method finds version of dynamic {@link ResourceRecord} without reading its parameters.
+     *
+     * @param tableName {@link ResourceTemplate} tableName
+     * @param id        {@link ResourceRecord} id
+     * @return {@link Optional<VersionDto>} with version of the row, empty if the row is not found
+     */
+    Optional<VersionDto> findVersion(String tableName, Long id);
+
+    /**
+     * Method finds version of the page of dynamic {@link ResourceRecord} ordered by id. Version
+     * changes when any row of the page is changed, added or removed, or when total number
+     * of rows changes.
+     *
+     * @param tableName {@link ResourceTemplate} tableName
+     * @param page      zero based page number
+     * @param pageSize  size of the page
+     * @return {@link VersionDto} with digest of ids and versions of the rows
+     */
+    VersionDto findPageVersion(String tableName, Integer page, Integer pageSize);
+
     /**
      * Method finds dynamic {@link Optional<ResourceRecord>} by id.
      *
@@ -54,6 +222,16 @@ public interface ResourceRecordRepository {
      */
     Optional<ResourceRecord> findById(String tableName, Long id);
 
+    /**
+     * Method finds dynamic {@link ResourceRecord} list by ids with single query.
+     * Ids which are not found are skipped.
+     *
+     * @param tableName {@link ResourceTemplate} tableName
+     * @param ids       ids of records
+     * @return list of {@link ResourceRecord} ordered by id
+     */
+    List<ResourceRecord> findAllById(String tableName, Collection<Long> ids);
+
     /**
      * Method deletes dynamic {@link ResourceRecord} by id.
      *
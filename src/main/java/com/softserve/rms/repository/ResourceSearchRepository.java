@@ -0,0 +1,22 @@
+package com.softserve.rms.repository;
+
+import com.softserve.rms.dto.search.ResourceSearchDTO;
+import com.softserve.rms.entities.ResourceRecord;
+import com.softserve.rms.entities.ResourceTemplate;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ResourceSearchRepository {
+
+    /**
+     * Method finds page of {@link ResourceRecord} of all published {@link ResourceTemplate}, which
+     * name, description or string parameters contain all words of the query, the most relevant first.
+     *
+     * @param query    words to search
+     * @param page     zero based page number
+     * @param pageSize size of the page
+     * @return page of {@link ResourceSearchDTO} with words of the query highlighted in snippet
+     */
+    Page<ResourceSearchDTO> search(String query, Integer page, Integer pageSize);
+}
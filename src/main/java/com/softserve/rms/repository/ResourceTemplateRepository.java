@@ -51,17 +51,6 @@ public interface ResourceTemplateRepository extends JpaRepository<ResourceTempla
     @PostFilter("hasPermission(filterObject, 'read') or hasRole('MANAGER')")
     List<ResourceTemplate> findAllByUserId(Long id);
 
-    /**
-     * Method finds list of{@link ResourceTemplate} by name or description.
-     *
-     * @param name        searched word
-     * @param description searched word
-     * @return list of {@link ResourceTemplate}
-     * @author Halyna Yatseniuk
-     */
-    @PostFilter("hasPermission(filterObject, 'read') or hasRole('MANAGER')")
-    List<ResourceTemplate> findByNameContainsIgnoreCaseOrDescriptionContainsIgnoreCase(String name, String description);
-
     /**
      * Method finds {@link Optional<ResourceTemplate>} by name.
      *
@@ -92,6 +81,16 @@ public interface ResourceTemplateRepository extends JpaRepository<ResourceTempla
     @PreAuthorize("hasRole('MANAGER')")
     Optional<ResourceTemplate> findByTableName(String tableName);
 
+    /**
+     * Method finds {@link Optional<ResourceTemplate>} by table name without checking permissions.
+     * It is used by background jobs, which run without authenticated user, after the request
+     * starting them has checked access to the template.
+     *
+     * @param tableName of {@link ResourceTemplate}
+     * @return {@link Optional<ResourceTemplate>}
+     */
+    Optional<ResourceTemplate> findUnsecuredByTableName(String tableName);
+
     /**
      * Method creates a new {@link ResourceTemplate}.
      *
@@ -0,0 +1,39 @@
+package com.softserve.rms.repository;
+
+import com.softserve.rms.entities.ResourceTemplate;
+import org.springframework.data.domain.Page;
+import org.springframework.security.acls.model.Sid;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+@Repository
+public interface ResourceTemplateSearchRepository {
+
+    /**
+     * Method finds page of ids of {@link ResourceTemplate} which name or description contain all
+     * words of the query, the most relevant first. Matches in name rank higher than in description.
+     * Templates are found by index on their words, so a word matches only from its beginning.
+     * Templates found by prefix or without words are ordered by name.
+     *
+     * @param query    words to search, all templates are found when there are no words
+     * @param prefix   whether words of the query match beginning of words, e.g. while typing
+     * @param sids     {@link Sid} list of the user, templates are found only if one of them has
+     *                 read permission; null to find templates regardless of permissions
+     * @param page     zero based page number
+     * @param pageSize size of the page
+     * @return page of {@link ResourceTemplate} ids
+     */
+    Page<Long> search(String query, boolean prefix, List<Sid> sids, Integer page, Integer pageSize);
+
+    /**
+     * Method finds ids of published {@link ResourceTemplate} among the given ones, which the user can read.
+     *
+     * @param ids  ids of {@link ResourceTemplate}
+     * @param sids {@link Sid} list of the user; null to find templates regardless of permissions
+     * @return set of readable {@link ResourceTemplate} ids
+     */
+    Set<Long> findReadable(Collection<Long> ids, List<Sid> sids);
+}
@@ -0,0 +1,54 @@
+package com.softserve.rms.repository;
+
+import com.softserve.rms.entities.ResourceRecord;
+import com.softserve.rms.entities.ResourceTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface ResourceTemplateStatsRepository {
+
+    /**
+     * Method finds numbers of {@link ResourceRecord} in container tables kept in
+     * {@code resource_template_stats}.
+     *
+     * @param tableNames {@link ResourceTemplate} table names
+     * @return map of table name and number of records, tables without records are absent
+     */
+    Map<String, Long> countRecords(Collection<String> tableNames);
+
+    /**
+     * Method counts {@link ResourceRecord} of container table again and replaces kept numbers.
+     * Kept rows of the table are locked first, so records written concurrently are either counted
+     * or added by trigger after the numbers are replaced. Version of the table is kept together
+     * with the numbers in {@code resource_template_stats_versions}.
+     *
+     * @param tableName {@link ResourceTemplate} table name
+     * @param version   of the table read before it is counted
+     */
+    void reconcile(String tableName, long version);
+
+    /**
+     * Method finds version of container table, which changes with every statement that changes
+     * records of the table, so it changes together with kept numbers of records.
+     *
+     * @param tableName {@link ResourceTemplate} table name
+     * @return version of the table
+     */
+    long findTableVersion(String tableName);
+
+    /**
+     * Method finds versions of container tables kept by the latest reconciliation.
+     *
+     * @return map of table name and version, tables which were never reconciled are absent
+     */
+    Map<String, Long> findReconciledVersions();
+
+    /**
+     * Method finds table names of published {@link ResourceTemplate}.
+     *
+     * @return list of table names
+     */
+    List<String> findPublishedTableNames();
+}
@@ -1,14 +1,33 @@
 package com.softserve.rms.repository.implementation;
 
+import com.softserve.rms.constants.AggregationQueries;
 import com.softserve.rms.constants.FieldConstants;
+import com.softserve.rms.constants.MigrationQueries;
+import com.softserve.rms.constants.PartitionQueries;
+import com.softserve.rms.constants.SearchQueries;
+import com.softserve.rms.constants.TemplateStatsQueries;
 import com.softserve.rms.entities.*;
+import com.softserve.rms.util.ResourceTablePartitioning;
+import org.jooq.CreateTableColumnStep;
 import org.jooq.DSLContext;
+import org.jooq.DataType;
+import org.jooq.Name;
+import org.jooq.QueryPart;
 import org.jooq.Table;
 import org.jooq.impl.SQLDataType;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import static org.jooq.impl.DSL.constraint;
+import static org.jooq.impl.DSL.currentTimestamp;
+import static org.jooq.impl.DSL.inline;
+import static org.jooq.impl.DSL.keyword;
+import static org.jooq.impl.DSL.list;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.DSL.sql;
 
 public class JooqDDL {
     private DSLContext dslContext;
@@ -25,19 +44,281 @@ public class JooqDDL {
      * @author Halyna Yatseniuk
      */
     public void createResourceContainerTable(ResourceTemplate resourceTemplate) {
-        dslContext.createTable(resourceTemplate.getTableName())
+        createResourceContainerTable(resourceTemplate, null);
+    }
+
+    /**
+     * Method creates {@link ResourceRecord} container table, which is partitioned declaratively. Postgres 10
+     * has neither hash partitioning nor primary keys, indexes and row triggers of partitioned tables,
+     * so hash of id is partitioned by list of remainders of id and partitions have their own primary keys,
+     * indexes, foreign keys and row triggers. Statement triggers are created on the partitioned table.
+     *
+     * @param resourceTemplate {@link ResourceTemplate}
+     * @param partitioning     {@link ResourceTablePartitioning}, or null if the table is not partitioned
+     */
+    public void createResourceContainerTable(ResourceTemplate resourceTemplate, ResourceTablePartitioning partitioning) {
+        String tableName = resourceTemplate.getTableName();
+        CreateTableColumnStep createTable = dslContext.createTable(tableName)
                 .column(FieldConstants.ID.getValue(), SQLDataType.BIGINT.nullable(false).identity(true))
                 .column(FieldConstants.NAME.getValue(), SQLDataType.VARCHAR(255).nullable(false))
                 .column(FieldConstants.DESCRIPTION.getValue(), SQLDataType.VARCHAR(255))
                 .column(FieldConstants.USER_ID.getValue(), SQLDataType.BIGINT.nullable(false))
                 .column(FieldConstants.PHOTOS_NAMES.getValue(), SQLDataType.VARCHAR)
                 .column(FieldConstants.DOCUMENTS_NAMES.getValue(), SQLDataType.VARCHAR)
-                .constraints(
-                        constraint(resourceTemplate.getTableName()
-                                .concat(FieldConstants.PRIMARY_KEY.getValue()))
-                                .primaryKey(FieldConstants.ID.getValue()))
-                .execute();
+                .column(FieldConstants.VERSION.getValue(), SQLDataType.BIGINT.nullable(false).defaultValue(inline(0L)))
+                .column(FieldConstants.UPDATED_AT.getValue(),
+                        SQLDataType.TIMESTAMP.nullable(false).defaultValue(currentTimestamp()));
+        if (partitioning == null) {
+            createTable.constraints(
+                    constraint(tableName.concat(FieldConstants.PRIMARY_KEY.getValue()))
+                            .primaryKey(FieldConstants.ID.getValue()))
+                    .execute();
+        } else if (partitioning.getStrategy().equals(PartitionStrategy.HASH)) {
+            createTable.storage(PartitionQueries.HASH_PARTITION_KEY).execute();
+            createHashPartitions(tableName);
+        } else {
+            createTable.column(FieldConstants.CREATED_AT.getValue(),
+                    SQLDataType.TIMESTAMP.nullable(false).defaultValue(currentTimestamp()))
+                    .storage(sql(PartitionQueries.RANGE_PARTITION_KEY, name(partitioning.getColumn())))
+                    .execute();
+            createRangePartitions(tableName, partitioning.getBounds());
+        }
         addColumnsToResourceContainerTable(resourceTemplate);
+        createSearchVector(tableName, resourceTemplate.getResourceParameters());
+        createVersionTrigger(tableName);
+        createStatsTriggers(tableName);
+    }
+
+    /**
+     * Method creates partitions of container table partitioned by remainder of id. Key of partitions
+     * is the remainder, so queries find partition of a record by id when they compare remainder of id too.
+     *
+     * @param tableName {@link ResourceTemplate} table name
+     */
+    private void createHashPartitions(String tableName) {
+        for (int remainder = 0; remainder < PartitionQueries.HASH_PARTITIONS; remainder++) {
+            String partition = tableName + FieldConstants.PARTITION.getValue() + remainder;
+            dslContext.execute(PartitionQueries.HASH_PARTITION, name(partition), name(tableName),
+                    name(partition.concat(FieldConstants.PRIMARY_KEY.getValue())), inline(remainder));
+        }
+    }
+
+    /**
+     * Method creates partitions between bounds of container table partitioned by range. Postgres 10 takes
+     * literals as bounds only, so bounds are written as strings, which are cast to type of the key column.
+     *
+     * @param tableName {@link ResourceTemplate} table name
+     * @param bounds    ascending bounds
+     */
+    private void createRangePartitions(String tableName, List<Object> bounds) {
+        List<QueryPart> values = new ArrayList<>();
+        values.add(keyword(PartitionQueries.MIN_VALUE));
+        for (Object bound : bounds) {
+            values.add(inline(String.valueOf(bound)));
+        }
+        values.add(keyword(PartitionQueries.MAX_VALUE));
+        for (int i = 0; i < values.size() - 1; i++) {
+            String partition = tableName + FieldConstants.PARTITION.getValue() + i;
+            dslContext.execute(PartitionQueries.RANGE_PARTITION, name(partition), name(tableName),
+                    name(partition.concat(FieldConstants.PRIMARY_KEY.getValue())), values.get(i), values.get(i + 1));
+        }
+    }
+
+    /**
+     * Method finds tables, which keep rows of {@link ResourceRecord} container table. Indexes, foreign keys
+     * and row triggers are created on every one of them.
+     *
+     * @param tableName {@link ResourceTemplate} table name
+     * @return names of partitions, or the table name if the table is not partitioned
+     */
+    public List<String> findPartitions(String tableName) {
+        List<String> partitions = dslContext.fetch(PartitionQueries.PARTITIONS, inline(tableName))
+                .getValues(0, String.class);
+        return partitions.isEmpty() ? Collections.singletonList(tableName) : partitions;
+    }
+
+    /**
+     * Method creates triggers which add numbers of inserted and deleted records of every owner to
+     * {@code resource_template_stats}, so records of the table are counted without scanning it.
+     * Triggers run once per statement, so bulk operations change every owner row once.
+     *
+     * @param tableName {@link ResourceTemplate} table name
+     */
+    public void createStatsTriggers(String tableName) {
+        Name table = name(tableName);
+        Name insertTrigger = name(tableName.concat(FieldConstants.STATS_INSERT_TRIGGER.getValue()));
+        Name deleteTrigger = name(tableName.concat(FieldConstants.STATS_DELETE_TRIGGER.getValue()));
+        dslContext.execute(TemplateStatsQueries.STATS_FUNCTION);
+        dslContext.execute(TemplateStatsQueries.DROP_STATS_TRIGGER, insertTrigger, table);
+        dslContext.execute(TemplateStatsQueries.STATS_INSERT_TRIGGER, insertTrigger, table);
+        dslContext.execute(TemplateStatsQueries.DROP_STATS_TRIGGER, deleteTrigger, table);
+        dslContext.execute(TemplateStatsQueries.STATS_DELETE_TRIGGER, deleteTrigger, table);
+    }
+
+    /**
+     * Method creates trigger which counts statements changing {@link ResourceRecord} container table
+     * in {@code resource_table_versions}, so results computed from the whole table can be reused until
+     * the table is changed. The counter is split to shards chosen by transaction id, so concurrent
+     * writers seldom wait for the same row.
+     *
+     * @param tableName {@link ResourceTemplate} table name
+     */
+    public void createVersionTrigger(String tableName) {
+        Name table = name(tableName);
+        Name trigger = name(tableName.concat(FieldConstants.VERSION_TRIGGER.getValue()));
+        dslContext.execute(AggregationQueries.TABLE_VERSION_FUNCTION);
+        dslContext.execute(AggregationQueries.DROP_TABLE_VERSION_TRIGGER, trigger, table);
+        dslContext.execute(AggregationQueries.TABLE_VERSION_TRIGGER, trigger, table);
+    }
+
+    /**
+     * Method adds full-text search column to {@link ResourceRecord} container table. The column is
+     * filled by trigger from name, description and string parameters when they are written,
+     * and has GIN index. Rows written before the column was added are filled too. Another trigger
+     * copies the column to {@code resource_search} table, which is searched across all templates.
+     *
+     * @param tableName  {@link ResourceTemplate} table name
+     * @param parameters {@link ResourceParameter} list of the template
+     */
+    public void createSearchVector(String tableName, List<ResourceParameter> parameters) {
+        Name table = name(tableName);
+        Name searchVector = name(FieldConstants.SEARCH_VECTOR.getValue());
+        createSearchFunctions();
+        dslContext.execute(SearchQueries.SEARCH_VECTOR_COLUMN, table, searchVector);
+        createSearchTriggers(tableName, parameters);
+        createSearchIndexes(tableName);
+        dslContext.execute(SearchQueries.FILL_SEARCH_VECTOR, table, searchVector);
+        dslContext.execute(SearchQueries.FILL_RESOURCE_SEARCH, inline(tableName), table);
+    }
+
+    /**
+     * Method creates functions of triggers, which fill full-text search columns.
+     */
+    public void createSearchFunctions() {
+        dslContext.execute(SearchQueries.SEARCH_VECTOR_FUNCTION);
+        dslContext.execute(SearchQueries.RESOURCE_SEARCH_FUNCTION);
+    }
+
+    /**
+     * Method adds full-text search column, triggers and index to {@link ResourceRecord} container table,
+     * which misses them, e.g. published before records could be searched. Existing triggers are kept,
+     * so tables are not locked when nothing is missing. Rows are not filled, because a single statement
+     * would lock and rewrite the whole table; the caller fills them by chunks.
+     *
+     * @param tableName  {@link ResourceTemplate} table name
+     * @param parameters {@link ResourceParameter} list of the template
+     * @return true if the column or triggers were missing, so rows have to be filled
+     */
+    public boolean createMissingSearchVector(String tableName, List<ResourceParameter> parameters) {
+        Name searchVector = name(FieldConstants.SEARCH_VECTOR.getValue());
+        boolean missing = dslContext.fetchOne(SearchQueries.SEARCH_VECTOR_COLUMN_COUNT, inline(tableName),
+                inline(FieldConstants.SEARCH_VECTOR.getValue())).get(0, int.class) == 0;
+        if (missing) {
+            dslContext.execute(SearchQueries.SEARCH_VECTOR_COLUMN, name(tableName), searchVector);
+        }
+        String trigger = tableName.concat(FieldConstants.SEARCH_TRIGGER.getValue());
+        String globalTrigger = tableName.concat(FieldConstants.RESOURCE_SEARCH_TRIGGER.getValue());
+        for (String partition : findPartitions(tableName)) {
+            if (dslContext.fetchOne(SearchQueries.SEARCH_TRIGGER_COUNT, inline(partition), inline(trigger),
+                    inline(globalTrigger)).get(0, int.class) < 2) {
+                createSearchTriggers(tableName, partition, parameters);
+                missing = true;
+            }
+        }
+        createSearchIndexes(tableName);
+        return missing;
+    }
+
+    /**
+     * Method creates GIN indexes of full-text search column, which are missing, on every partition.
+     *
+     * @param tableName {@link ResourceTemplate} table name
+     */
+    private void createSearchIndexes(String tableName) {
+        for (String partition : findPartitions(tableName)) {
+            dslContext.execute(SearchQueries.SEARCH_INDEX,
+                    name(partition.concat(FieldConstants.SEARCH_INDEX.getValue())), name(partition),
+                    name(FieldConstants.SEARCH_VECTOR.getValue()));
+        }
+    }
+
+    /**
+     * Method creates again triggers, which fill full-text search column of {@link ResourceRecord}
+     * container table and copy it to {@code resource_search} table, so they cover current string
+     * parameters of the template. Rows are not filled again, so the table is not scanned. Triggers of
+     * partitions copy the column with the table name, so records are found by the template.
+     *
+     * @param tableName  {@link ResourceTemplate} table name
+     * @param parameters {@link ResourceParameter} list of the template
+     */
+    public void createSearchTriggers(String tableName, List<ResourceParameter> parameters) {
+        for (String partition : findPartitions(tableName)) {
+            createSearchTriggers(tableName, partition, parameters);
+        }
+    }
+
+    /**
+     * Method creates again search triggers of one table keeping rows of {@link ResourceRecord} container table.
+     *
+     * @param tableName  {@link ResourceTemplate} table name
+     * @param partition  name of the partition, or the table name if the table is not partitioned
+     * @param parameters {@link ResourceParameter} list of the template
+     */
+    private void createSearchTriggers(String tableName, String partition, List<ResourceParameter> parameters) {
+        Name trigger = name(tableName.concat(FieldConstants.SEARCH_TRIGGER.getValue()));
+        Name globalTrigger = name(tableName.concat(FieldConstants.RESOURCE_SEARCH_TRIGGER.getValue()));
+        List<QueryPart> columns = new ArrayList<>();
+        List<QueryPart> arguments = new ArrayList<>();
+        columns.add(name(FieldConstants.NAME.getValue()));
+        columns.add(name(FieldConstants.DESCRIPTION.getValue()));
+        columns.add(name(FieldConstants.SEARCH_VECTOR.getValue()));
+        for (String column : getSearchColumns(parameters)) {
+            columns.add(name(column));
+            arguments.add(inline(column));
+        }
+        Name table = name(partition);
+        dslContext.execute(SearchQueries.DROP_SEARCH_TRIGGER, trigger, table);
+        dslContext.execute(SearchQueries.SEARCH_TRIGGER, trigger, list(columns), table, list(arguments));
+        dslContext.execute(SearchQueries.DROP_SEARCH_TRIGGER, globalTrigger, table);
+        dslContext.execute(SearchQueries.RESOURCE_SEARCH_TRIGGER, globalTrigger, list(columns), table,
+                inline(tableName));
+    }
+
+    /**
+     * Method finds columns of string parameters, which are searched together with name and description.
+     *
+     * @param parameters {@link ResourceParameter} list of the template
+     * @return names of columns
+     */
+    private List<String> getSearchColumns(List<ResourceParameter> parameters) {
+        List<String> columns = new ArrayList<>();
+        if (parameters != null) {
+            for (ResourceParameter parameter : parameters) {
+                if (parameter.getParameterType().equals(ParameterType.POINT_STRING)) {
+                    columns.add(parameter.getColumnName());
+                } else if (parameter.getParameterType().equals(ParameterType.POINT_REFERENCE)) {
+                    columns.add(parameter.getColumnName().concat(FieldConstants.REFERENCE_NAME.getValue()));
+                }
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * Method adds version and update time columns to {@link ResourceRecord} container table
+     * created before the columns were introduced.
+     *
+     * @param tableName {@link ResourceTemplate} table name
+     */
+    public void addVersionColumns(String tableName) {
+        dslContext.alterTable(tableName)
+                .addColumnIfNotExists(FieldConstants.VERSION.getValue(),
+                        SQLDataType.BIGINT.nullable(false).defaultValue(inline(0L)))
+                .execute();
+        dslContext.alterTable(tableName)
+                .addColumnIfNotExists(FieldConstants.UPDATED_AT.getValue(),
+                        SQLDataType.TIMESTAMP.nullable(false).defaultValue(currentTimestamp()))
+                .execute();
     }
 
     /**
@@ -122,6 +403,24 @@ public class JooqDDL {
                         ParameterType.POINT_STRING.getSqlType().nullable(true))
                 .execute();
         addConstraint(resourceTemplate, parameter, resourceRelation);
+        createReferenceIndex(resourceTemplate.getTableName(), parameter.getColumnName());
+    }
+
+    /**
+     * Method creates index on reference column of {@link ResourceRecord} container table, so records
+     * which reference a record are found without scanning the table. Postgres does not index
+     * columns of foreign keys by itself.
+     *
+     * @param tableName  {@link ResourceTemplate} table name
+     * @param columnName column name of Point Reference parameter
+     */
+    public void createReferenceIndex(String tableName, String columnName) {
+        String referenceColumn = columnName.concat(FieldConstants.REFERENCE.getValue());
+        for (String partition : findPartitions(tableName)) {
+            dslContext.createIndexIfNotExists(partition + "_" + referenceColumn + FieldConstants.INDEX.getValue())
+                    .on(partition, referenceColumn)
+                    .execute();
+        }
     }
 
     /**
@@ -135,11 +434,210 @@ public class JooqDDL {
      */
     private void addConstraint(ResourceTemplate resourceTemplate,
                                ResourceParameter parameter, ResourceRelation resourceRelation) {
-        dslContext.alterTable(resourceTemplate.getTableName())
-                .add(constraint(parameter.getColumnName().concat(FieldConstants.FOREIGN_KEY.getValue()))
-                        .foreignKey(parameter.getColumnName().concat(FieldConstants.REFERENCE.getValue()))
-                        .references(resourceRelation.getRelatedResourceTemplate().getTableName()))
-                .execute();
+        for (String partition : findPartitions(resourceTemplate.getTableName())) {
+            dslContext.alterTable(partition)
+                    .add(constraint(parameter.getColumnName().concat(FieldConstants.FOREIGN_KEY.getValue()))
+                            .foreignKey(parameter.getColumnName().concat(FieldConstants.REFERENCE.getValue()))
+                            .references(resourceRelation.getRelatedResourceTemplate().getTableName()))
+                    .execute();
+        }
+    }
+
+    /**
+     * Method finds columns of {@link ResourceRecord} container table, which keep values of parameter.
+     *
+     * @param parameter {@link ResourceParameter}
+     * @return names of columns
+     */
+    public List<String> getParameterColumns(ResourceParameter parameter) {
+        String column = parameter.getColumnName();
+        switch (parameter.getParameterType()) {
+            case RANGE_INT:
+            case RANGE_DOUBLE:
+                return Arrays.asList(column.concat(FieldConstants.FROM.getValue()),
+                        column.concat(FieldConstants.TO.getValue()));
+            case POINT_REFERENCE:
+                return Arrays.asList(column.concat(FieldConstants.REFERENCE.getValue()),
+                        column.concat(FieldConstants.REFERENCE_NAME.getValue()));
+            case COORDINATES_STRING:
+                return Collections.singletonList(column.concat(FieldConstants.COORDINATE.getValue()));
+            default:
+                return Collections.singletonList(column);
+        }
+    }
+
+    /**
+     * Method finds columns of parameter, which must have value in every {@link ResourceRecord}.
+     *
+     * @param parameter {@link ResourceParameter}
+     * @return names of columns, empty for Point Reference parameter
+     */
+    public List<String> getRequiredParameterColumns(ResourceParameter parameter) {
+        if (parameter.getParameterType().equals(ParameterType.POINT_REFERENCE)) {
+            return Collections.emptyList();
+        }
+        return getParameterColumns(parameter);
+    }
+
+    /**
+     * Method limits time, which schema changes of current transaction wait for locks of tables,
+     * so they fail instead of blocking every query of a table queued behind them.
+     *
+     * @param lockTimeout time in milliseconds
+     */
+    public void setLockTimeout(int lockTimeout) {
+        dslContext.execute(MigrationQueries.LOCK_TIMEOUT, inline(String.valueOf(lockTimeout)));
+    }
+
+    /**
+     * Method adds columns of new parameter to {@link ResourceRecord} container table of published
+     * {@link ResourceTemplate}. Columns are added as nullable without default value, so the table is
+     * neither rewritten nor scanned, and get the default value afterwards, which is used for new records
+     * only. Foreign key of Point Reference parameter is not validated. Existing records are filled and
+     * columns are made not null by {@link #addNotNullChecks}, {@link #validateNotNullChecks}
+     * and {@link #setNotNull}.
+     *
+     * @param tableName    {@link ResourceTemplate} table name
+     * @param parameter    new {@link ResourceParameter}
+     * @param defaultValue value of required columns, converted to type of the parameter
+     */
+    @SuppressWarnings("unchecked")
+    public void addParameterColumns(String tableName, ResourceParameter parameter, Object defaultValue) {
+        if (parameter.getParameterType().equals(ParameterType.POINT_REFERENCE)) {
+            String referenceColumn = parameter.getColumnName().concat(FieldConstants.REFERENCE.getValue());
+            dslContext.alterTable(tableName)
+                    .addColumn(referenceColumn, parameter.getParameterType().getSqlType().nullable(true))
+                    .execute();
+            dslContext.alterTable(tableName)
+                    .addColumn(parameter.getColumnName().concat(FieldConstants.REFERENCE_NAME.getValue()),
+                            ParameterType.POINT_STRING.getSqlType().nullable(true))
+                    .execute();
+            for (String partition : findPartitions(tableName)) {
+                dslContext.execute(MigrationQueries.REFERENCE_CONSTRAINT, name(partition),
+                        name(parameter.getColumnName().concat(FieldConstants.FOREIGN_KEY.getValue())),
+                        name(referenceColumn),
+                        name(parameter.getResourceRelations().getRelatedResourceTemplate().getTableName()));
+            }
+            return;
+        }
+        DataType<Object> type = (DataType<Object>) parameter.getParameterType().getSqlType();
+        for (String column : getRequiredParameterColumns(parameter)) {
+            dslContext.alterTable(tableName)
+                    .addColumn(column, type.nullable(true))
+                    .execute();
+            dslContext.alterTable(tableName)
+                    .alterColumn(column)
+                    .defaultValue(inline(defaultValue, type))
+                    .execute();
+        }
+    }
+
+    /**
+     * Method adds not validated checks, which forbid null values in columns of {@link ResourceRecord}
+     * container table. Checks apply to written records at once, without scanning the table.
+     *
+     * @param tableName {@link ResourceTemplate} table name
+     * @param columns   names of columns
+     */
+    public void addNotNullChecks(String tableName, List<String> columns) {
+        for (String column : columns) {
+            Name check = name(column.concat(FieldConstants.NOT_NULL_CHECK.getValue()));
+            dslContext.execute(MigrationQueries.DROP_CONSTRAINT, name(tableName), check);
+            dslContext.execute(MigrationQueries.NOT_NULL_CHECK, name(tableName), check, name(column));
+        }
+    }
+
+    /**
+     * Method validates checks added by {@link #addNotNullChecks}. Validation scans the table,
+     * but does not block reading and writing of it.
+     *
+     * @param tableName {@link ResourceTemplate} table name
+     * @param columns   names of columns
+     */
+    public void validateNotNullChecks(String tableName, List<String> columns) {
+        for (String column : columns) {
+            dslContext.execute(MigrationQueries.VALIDATE_CONSTRAINT, name(tableName),
+                    name(column.concat(FieldConstants.NOT_NULL_CHECK.getValue())));
+        }
+    }
+
+    /**
+     * Method makes columns of {@link ResourceRecord} container table not null and removes their
+     * checks and default values. Postgres 12 and later use validated checks instead of scanning
+     * the table, earlier versions scan it while writing is blocked.
+     *
+     * @param tableName {@link ResourceTemplate} table name
+     * @param columns   names of columns
+     */
+    public void setNotNull(String tableName, List<String> columns) {
+        for (String column : columns) {
+            dslContext.alterTable(tableName).alterColumn(column).setNotNull().execute();
+            dslContext.execute(MigrationQueries.DROP_CONSTRAINT, name(tableName),
+                    name(column.concat(FieldConstants.NOT_NULL_CHECK.getValue())));
+            dslContext.execute(MigrationQueries.DROP_DEFAULT, name(tableName), name(column));
+        }
+    }
+
+    /**
+     * Method validates foreign key of Point Reference parameter added by {@link #addParameterColumns}
+     * and creates index of its column without blocking writing of {@link ResourceRecord} container table.
+     * It must not be called in transaction.
+     *
+     * @param tableName  {@link ResourceTemplate} table name
+     * @param columnName column name of Point Reference parameter
+     */
+    public void completeReference(String tableName, String columnName) {
+        String referenceColumn = columnName.concat(FieldConstants.REFERENCE.getValue());
+        for (String partition : findPartitions(tableName)) {
+            dslContext.execute(MigrationQueries.VALIDATE_CONSTRAINT, name(partition),
+                    name(columnName.concat(FieldConstants.FOREIGN_KEY.getValue())));
+            dslContext.execute(MigrationQueries.REFERENCE_INDEX,
+                    name(partition + "_" + referenceColumn + FieldConstants.INDEX.getValue()),
+                    name(partition), name(referenceColumn));
+        }
+    }
+
+    /**
+     * Method renames columns of parameter of {@link ResourceRecord} container table, together with
+     * foreign key and index of Point Reference parameter. Renaming changes the catalog only.
+     *
+     * @param tableName     {@link ResourceTemplate} table name
+     * @param parameter     {@link ResourceParameter} with previous column name
+     * @param newColumnName new column name of the parameter
+     */
+    public void renameParameterColumns(String tableName, ResourceParameter parameter, String newColumnName) {
+        ResourceParameter renamed = new ResourceParameter();
+        renamed.setColumnName(newColumnName);
+        renamed.setParameterType(parameter.getParameterType());
+        List<String> columns = getParameterColumns(parameter);
+        List<String> newColumns = getParameterColumns(renamed);
+        for (int i = 0; i < columns.size(); i++) {
+            dslContext.alterTable(tableName).renameColumn(columns.get(i)).to(newColumns.get(i)).execute();
+        }
+        if (parameter.getParameterType().equals(ParameterType.POINT_REFERENCE)) {
+            for (String partition : findPartitions(tableName)) {
+                dslContext.alterTable(partition)
+                        .renameConstraint(parameter.getColumnName().concat(FieldConstants.FOREIGN_KEY.getValue()))
+                        .to(newColumnName.concat(FieldConstants.FOREIGN_KEY.getValue()))
+                        .execute();
+                dslContext.alterIndexIfExists(partition + "_" + columns.get(0) + FieldConstants.INDEX.getValue())
+                        .renameTo(partition + "_" + newColumns.get(0) + FieldConstants.INDEX.getValue())
+                        .execute();
+            }
+        }
+    }
+
+    /**
+     * Method drops columns of parameter from {@link ResourceRecord} container table. Dropping changes
+     * the catalog only, space of the values is reused when records are written again.
+     *
+     * @param tableName {@link ResourceTemplate} table name
+     * @param parameter {@link ResourceParameter}
+     */
+    public void dropParameterColumns(String tableName, ResourceParameter parameter) {
+        for (String column : getParameterColumns(parameter)) {
+            dslContext.alterTable(tableName).dropColumnIfExists(column).execute();
+        }
     }
 
     /**
@@ -178,5 +676,8 @@ public class JooqDDL {
     public void dropResourceContainerTable(ResourceTemplate resourceTemplate) {
         dslContext.dropTable(resourceTemplate.getTableName())
                 .execute();
+        dslContext.execute(SearchQueries.DELETE_RESOURCE_SEARCH, inline(resourceTemplate.getTableName()));
+        dslContext.execute(TemplateStatsQueries.DELETE_STATS, inline(resourceTemplate.getTableName()));
+        dslContext.execute(TemplateStatsQueries.DELETE_RECONCILED_VERSION, inline(resourceTemplate.getTableName()));
     }
 }
@@ -1,14 +1,20 @@
 package com.softserve.rms.repository.implementation;
 
+import com.softserve.rms.constants.AggregationQueries;
 import com.softserve.rms.constants.ErrorMessage;
 import com.softserve.rms.constants.FieldConstants;
+import com.softserve.rms.constants.PartitionQueries;
+import com.softserve.rms.constants.SearchQueries;
+import com.softserve.rms.dto.VersionDto;
 import com.softserve.rms.entities.ResourceRecord;
 import com.softserve.rms.entities.ResourceTemplate;
+import com.softserve.rms.entities.User;
 import com.softserve.rms.exceptions.NotDeletedException;
 import com.softserve.rms.exceptions.NotFoundException;
 import com.softserve.rms.repository.ResourceRecordRepository;
 import com.softserve.rms.service.ResourceTemplateService;
 import com.softserve.rms.service.UserService;
+import com.softserve.rms.util.ResourceRecordColumns;
 import org.jooq.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
@@ -16,8 +22,13 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
 
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
 
 import static org.jooq.impl.DSL.*;
 
@@ -31,6 +42,7 @@ public class ResourceRecordRepositoryImpl implements ResourceRecordRepository {
     private DSLContext dslContext;
     private ResourceTemplateService resourceTemplateService;
     private UserService userService;
+    private final Map<String, ResourceRecordColumns> columns = new ConcurrentHashMap<>();
 
     /**
      * Constructor with parameters
@@ -72,21 +84,82 @@ public class ResourceRecordRepositoryImpl implements ResourceRecordRepository {
      */
     @Transactional
     @Override
-    public void update(String tableName, Long id, ResourceRecord resourceRecord) {
+    public boolean update(String tableName, Long id, Long version, ResourceRecord resourceRecord) {
         UpdateQuery<Record> query = dslContext.updateQuery(table(tableName));
-        query.addValue(field(FieldConstants.NAME.getValue()), resourceRecord.getName());
-        query.addValue(field(FieldConstants.DESCRIPTION.getValue()), resourceRecord.getDescription());
-        query.addValue(field(FieldConstants.PHOTOS_NAMES.getValue()),resourceRecord.getPhotosNames());
-        query.addValue(field(FieldConstants. DOCUMENTS_NAMES.getValue()),resourceRecord.getDocumentNames());
-        Map<String, Object> parameters = resourceRecord.getParameters();
-        for (Map.Entry<String, Object> entry : parameters.entrySet()) {
-            if (entry.getValue() != null) {
-                query.addValue(field(entry.getKey()), entry.getValue());
+        if (resourceRecord.getName() != null) {
+            query.addValue(field(FieldConstants.NAME.getValue()), resourceRecord.getName());
+        }
+        if (resourceRecord.getDescription() != null) {
+            query.addValue(field(FieldConstants.DESCRIPTION.getValue()), resourceRecord.getDescription());
+        }
+        if (resourceRecord.getParameters() != null) {
+            for (Map.Entry<String, Object> entry : resourceRecord.getParameters().entrySet()) {
+                if (entry.getValue() != null) {
+                    query.addValue(field(entry.getKey()), entry.getValue());
+                }
             }
         }
+        addNextVersion(query);
+        query.addConditions(idEquals(id));
+        if (version != null) {
+            query.addConditions(field(FieldConstants.VERSION.getValue()).eq(version));
+        }
+        return query.execute() == 1;
+    }
 
-        query.addConditions(field(FieldConstants.ID.getValue()).eq(id));
-        query.execute();
+    /**
+     * {@inheritDoc}
+     */
+    @Transactional
+    @Override
+    public boolean appendFileName(String tableName, Long id, FieldConstants column, String fileName) {
+        Field<String> files = field(column.getValue(), String.class);
+        UpdateQuery<Record> query = dslContext.updateQuery(table(tableName));
+        query.addValue(files, coalesce(files, inline("")).concat(val(fileName + ',')));
+        addNextVersion(query);
+        query.addConditions(idEquals(id));
+        return query.execute() == 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Transactional
+    @Override
+    public boolean removeFileNames(String tableName, Long id, FieldConstants column, Collection<String> fileNames) {
+        Field<String> files = field(column.getValue(), String.class);
+        // names are matched with surrounding commas, so a name is never removed from the middle of another one
+        Field<String> remaining = inline(",").concat(files);
+        for (String fileName : fileNames) {
+            remaining = replace(remaining, val(',' + fileName + ','), inline(","));
+        }
+        UpdateQuery<Record> query = dslContext.updateQuery(table(tableName));
+        query.addValue(files, nullif(substring(remaining, inline(2)), inline("")));
+        addNextVersion(query);
+        query.addConditions(idEquals(id));
+        return query.execute() == 1;
+    }
+
+    /**
+     * Method compares id of records with the id. Remainder of id is compared too, so tables partitioned
+     * by hash of id read partition of the record only. The remainder follows from the id, so it does not
+     * change results of other tables.
+     *
+     * @param id of {@link ResourceRecord}
+     * @return {@link Condition}
+     */
+    private Condition idEquals(Long id) {
+        Condition condition = field(FieldConstants.ID.getValue()).eq(id);
+        if (id == null) {
+            return condition;
+        }
+        return condition.and(PartitionQueries.HASH_CONDITION, inline(id % PartitionQueries.HASH_PARTITIONS));
+    }
+
+    private void addNextVersion(UpdateQuery<Record> query) {
+        query.addValue(field(FieldConstants.VERSION.getValue(), Long.class),
+                field(FieldConstants.VERSION.getValue(), Long.class).plus(1));
+        query.addValue(field(FieldConstants.UPDATED_AT.getValue(), Timestamp.class), currentTimestamp());
     }
 
     /**
@@ -107,6 +180,247 @@ public class ResourceRecordRepositoryImpl implements ResourceRecordRepository {
         return new PageImpl<>(resourceRecords, PageRequest.of(page, pageSize), totalItems);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public Page<ResourceRecord> search(String tableName, String query, Integer page, Integer pageSize) {
+        Field<Object> searchVector = field(FieldConstants.SEARCH_VECTOR.getValue());
+        Condition matches = condition(SearchQueries.SEARCH_CONDITION, searchVector, val(query));
+        List<Record> records = dslContext
+                .selectFrom(tableName)
+                .where(matches)
+                .orderBy(field(SearchQueries.SEARCH_RANK, Float.class, searchVector, val(query)).desc(),
+                        field(FieldConstants.ID.getValue()))
+                .limit(pageSize)
+                .offset(page * pageSize)
+                .fetch();
+        long totalItems = page == 0 && records.size() < pageSize ? records.size() : dslContext.selectCount()
+                .from(tableName)
+                .where(matches)
+                .fetchOne(0, long.class);
+        return new PageImpl<>(convertRecordsToResourceList(records), PageRequest.of(page, pageSize), totalItems);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public long count(String tableName) {
+        return dslContext.selectCount()
+                .from(tableName)
+                .fetchOne(0, long.class);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public long count(String tableName, Condition condition) {
+        return dslContext.selectCount()
+                .from(tableName)
+                .where(condition)
+                .fetchOne(0, long.class);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public long findMaxId(String tableName) {
+        Long maxId = dslContext.select(max(field(FieldConstants.ID.getValue(), Long.class)))
+                .from(tableName)
+                .fetchOne(0, Long.class);
+        return maxId == null ? 0 : maxId;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public List<ResourceRecord> findAll(String tableName, Condition condition, long offset, int limit) {
+        return convertRecordsToResourceList(dslContext.selectFrom(tableName)
+                .where(condition)
+                .orderBy(field(FieldConstants.ID.getValue()))
+                .limit(limit)
+                .offset(offset)
+                .fetch());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public List<Map<String, Object>> aggregate(String tableName, List<Field<?>> groupBy, List<Field<?>> aggregates,
+                                               Condition condition, int limit) {
+        List<Field<?>> fields = new ArrayList<>(groupBy);
+        fields.addAll(aggregates);
+        return dslContext.select(fields)
+                .from(tableName)
+                .where(condition)
+                .groupBy(groupBy)
+                .orderBy(groupBy)
+                .limit(limit)
+                .fetchMaps();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public long findTableVersion(String tableName) {
+        return dslContext.fetchOne(AggregationQueries.TABLE_VERSION, val(tableName)).get(0, long.class);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Transactional
+    @Override
+    public List<Long> updateChunk(String tableName, Condition condition, Map<String, Object> values,
+                                  long afterId, int chunkSize, boolean nextVersion) {
+        Field<Long> id = field(FieldConstants.ID.getValue(), Long.class);
+        UpdateQuery<Record> query = dslContext.updateQuery(table(tableName));
+        for (Map.Entry<String, Object> entry : values.entrySet()) {
+            query.addValue(field(entry.getKey()), entry.getValue());
+        }
+        if (nextVersion) {
+            addNextVersion(query);
+        }
+        // condition is repeated, so rows changed by concurrent transaction are checked again
+        query.addConditions(condition, id.in(select(id)
+                .from(table(tableName))
+                .where(condition.and(id.gt(afterId)))
+                .orderBy(id)
+                .limit(chunkSize)));
+        query.setReturning(id);
+        query.execute();
+        return query.getReturnedRecords().getValues(id);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Transactional
+    @Override
+    public List<ResourceRecord> deleteChunk(String tableName, Condition condition, int chunkSize) {
+        Field<Long> id = field(FieldConstants.ID.getValue(), Long.class);
+        Field<String> photos = field(FieldConstants.PHOTOS_NAMES.getValue(), String.class);
+        Field<String> documents = field(FieldConstants.DOCUMENTS_NAMES.getValue(), String.class);
+        List<ResourceRecord> deleted = new ArrayList<>();
+        for (Record record : dslContext.deleteFrom(table(tableName))
+                .where(condition, id.in(select(id)
+                        .from(table(tableName))
+                        .where(condition)
+                        .orderBy(id)
+                        .limit(chunkSize)))
+                .returning(id, photos, documents)
+                .fetch()) {
+            deleted.add(ResourceRecord.builder()
+                    .id(record.get(id))
+                    .photosNames(record.get(photos))
+                    .documentNames(record.get(documents))
+                    .build());
+        }
+        return deleted;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public void findAll(String tableName, Integer page, Integer pageSize,
+                        BiConsumer<ResourceRecordColumns, Cursor<Record>> consumer) {
+        try (Cursor<Record> cursor = dslContext
+                .selectFrom(tableName)
+                .orderBy(field(FieldConstants.ID.getValue()))
+                .limit(pageSize)
+                .offset(page * pageSize)
+                .fetchLazy()) {
+            consumer.accept(getColumns(tableName, cursor.fields()), cursor);
+        }
+    }
+
+    /**
+     * Method returns cached column layout of the table. Layout is created again when columns
+     * of the table have changed, e.g. after the template was published again.
+     *
+     * @param tableName {@link ResourceTemplate} table name
+     * @param fields    returned by the query
+     * @return {@link ResourceRecordColumns}
+     */
+    private ResourceRecordColumns getColumns(String tableName, Field<?>[] fields) {
+        ResourceRecordColumns cached = columns.get(tableName);
+        if (cached != null && cached.matches(fields)) {
+            return cached;
+        }
+        ResourceRecordColumns created = ResourceRecordColumns.of(fields);
+        columns.put(tableName, created);
+        return created;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public Optional<VersionDto> findVersion(String tableName, Long id) {
+        Record3<Long, Timestamp, Boolean> record = dslContext
+                .select(field(FieldConstants.VERSION.getValue(), Long.class),
+                        field(FieldConstants.UPDATED_AT.getValue(), Timestamp.class),
+                        hasFiles())
+                .from(tableName)
+                .where(idEquals(id))
+                .fetchOne();
+        if (record == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new VersionDto(id + "." + record.value1(), record.value2().getTime(), record.value3()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public VersionDto findPageVersion(String tableName, Integer page, Integer pageSize) {
+        StringBuilder digest = new StringBuilder()
+                .append(count(tableName)).append('|')
+                .append(page).append('|')
+                .append(pageSize);
+        long lastModified = 0;
+        boolean withFiles = false;
+        for (Record4<Long, Long, Timestamp, Boolean> record : dslContext
+                .select(field(FieldConstants.ID.getValue(), Long.class),
+                        field(FieldConstants.VERSION.getValue(), Long.class),
+                        field(FieldConstants.UPDATED_AT.getValue(), Timestamp.class),
+                        hasFiles())
+                .from(tableName)
+                .orderBy(field(FieldConstants.ID.getValue()))
+                .limit(pageSize)
+                .offset(page * pageSize)
+                .fetch()) {
+            digest.append('|').append(record.value1()).append(':').append(record.value2());
+            lastModified = Math.max(lastModified, record.value3().getTime());
+            withFiles |= record.value4();
+        }
+        String version = DigestUtils.md5DigestAsHex(digest.toString().getBytes(StandardCharsets.UTF_8));
+        return new VersionDto(version, lastModified == 0 ? null : lastModified, withFiles);
+    }
+
+    private Field<Boolean> hasFiles() {
+        return field(field(FieldConstants.PHOTOS_NAMES.getValue()).isNotNull()
+                .or(field(FieldConstants.DOCUMENTS_NAMES.getValue()).isNotNull()));
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -116,13 +430,28 @@ public class ResourceRecordRepositoryImpl implements ResourceRecordRepository {
     @Override
     public Optional<ResourceRecord> findById(String tableName, Long id)
             throws NotFoundException {
-        Record record = dslContext.selectFrom(tableName).where(field(FieldConstants.ID.getValue()).eq(id)).fetchOne();
+        Record record = dslContext.selectFrom(tableName).where(idEquals(id)).fetchOne();
         if (record == null) {
             throw new NotFoundException(ErrorMessage.CAN_NOT_FIND_A_RESOURCE_BY_ID.getMessage() + id);
         }
         return Optional.of(convertRecordToResource(record));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public List<ResourceRecord> findAllById(String tableName, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return convertRecordsToResourceList(dslContext.selectFrom(tableName)
+                .where(field(FieldConstants.ID.getValue(), Long.class).in(ids))
+                .orderBy(field(FieldConstants.ID.getValue()))
+                .fetch());
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -132,21 +461,26 @@ public class ResourceRecordRepositoryImpl implements ResourceRecordRepository {
     @Override
     public void delete(String tableName, Long id) throws NotFoundException, NotDeletedException {
         dslContext.delete(table(tableName))
-                .where(field(FieldConstants.ID.getValue()).eq(id))
+                .where(idEquals(id))
                 .execute();
     }
 
     /**
-     * Method converts records from DB to ResourceRecord class.
+     * Method converts records from DB to ResourceRecord class. Owners of all records are read with one query.
      *
      * @param records list of {@link Record}
      * @return list of {@link ResourceRecord}
      * @author Andrii Bren
      */
     private List<ResourceRecord> convertRecordsToResourceList(List<Record> records) {
+        Set<Long> userIds = new HashSet<>();
+        for (Record record : records) {
+            userIds.add(getUserId(record));
+        }
+        Map<Long, User> users = userIds.isEmpty() ? Collections.emptyMap() : userService.getAllById(userIds);
         List<ResourceRecord> resourceRecords = new ArrayList<>();
         for (Record record : records) {
-            ResourceRecord resourceRecord = convertRecordToResource(record);
+            ResourceRecord resourceRecord = convertRecordToResource(record, users.get(getUserId(record)));
             resourceRecords.add(resourceRecord);
         }
         return resourceRecords;
@@ -159,13 +493,20 @@ public class ResourceRecordRepositoryImpl implements ResourceRecordRepository {
      * @return instance of {@link ResourceRecord}
      * @author Andrii Bren
      */
-    private ResourceRecord convertRecordToResource(Record record) {
-        Long userId = (Long) record.getValue(field(FieldConstants.USER_ID.getValue()).getName());
+    ResourceRecord convertRecordToResource(Record record) {
+        return convertRecordToResource(record, userService.getById(getUserId(record)));
+    }
+
+    private Long getUserId(Record record) {
+        return (Long) record.getValue(field(FieldConstants.USER_ID.getValue()).getName());
+    }
+
+    private ResourceRecord convertRecordToResource(Record record, User user) {
         return ResourceRecord.builder()
                 .id((Long) record.getValue(field(FieldConstants.ID.getValue()).getName()))
                 .name((String) record.getValue(field(FieldConstants.NAME.getValue()).getName()))
                 .description((String) record.getValue(field(FieldConstants.DESCRIPTION.getValue()).getName()))
-                .user(userService.getById(userId))
+                .user(user)
                 .photosNames((String) record.getValue(field(FieldConstants.PHOTOS_NAMES.getValue()).getName()))
                 .documentNames(((String) record.getValue(field(FieldConstants.DOCUMENTS_NAMES.getValue()).getName())))
                 .parameters(getParameters(record))
@@ -179,7 +520,7 @@ public class ResourceRecordRepositoryImpl implements ResourceRecordRepository {
      * @return map of dynamic resource parameters
      * @author Andrii Bren
      */
-    private Map<String, Object> getParameters(Record record) {
+    Map<String, Object> getParameters(Record record) {
         Map<String, Object> parameters = new HashMap<>();
         for (int i = 0; i < record.size(); i++) {
             if (record.field(i).getName().endsWith("_coordinate")) {
@@ -194,6 +535,10 @@ public class ResourceRecordRepositoryImpl implements ResourceRecordRepository {
         parameters.remove(FieldConstants.USER_ID.getValue());
         parameters.remove(FieldConstants.PHOTOS_NAMES.getValue());
         parameters.remove(FieldConstants.DOCUMENTS_NAMES.getValue());
+        parameters.remove(FieldConstants.VERSION.getValue());
+        parameters.remove(FieldConstants.UPDATED_AT.getValue());
+        parameters.remove(FieldConstants.CREATED_AT.getValue());
+        parameters.remove(FieldConstants.SEARCH_VECTOR.getValue());
 
         return parameters;
     }
@@ -206,7 +551,7 @@ public class ResourceRecordRepositoryImpl implements ResourceRecordRepository {
         return Arrays.asList(name.split(";"));
     }
 
-    private List<Map<String, Double>> getAllCoordinates(String coordinateRecord) {
+    List<Map<String, Double>> getAllCoordinates(String coordinateRecord) {
         List<Map<String, Double>> coordinates = new ArrayList<>();
         getCoordinate(coordinateRecord).forEach(element -> {
             Map<String, Double> coordinate = new LinkedHashMap<>();
@@ -0,0 +1,86 @@
+package com.softserve.rms.repository.implementation;
+
+import com.softserve.rms.constants.FieldConstants;
+import com.softserve.rms.constants.SearchQueries;
+import com.softserve.rms.dto.search.ResourceSearchDTO;
+import com.softserve.rms.repository.ResourceSearchRepository;
+import org.jooq.Condition;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Table;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.jooq.impl.DSL.*;
+
+/**
+ * Implementation of {@link ResourceSearchRepository}. Records of all container tables are copied
+ * to {@code resource_search} table by triggers created in {@link JooqDDL#createSearchVector},
+ * so one index is searched instead of every container table.
+ */
+@Repository
+public class ResourceSearchRepositoryImpl implements ResourceSearchRepository {
+    private static final String RESOURCE_SEARCH_TABLE = "resource_search";
+
+    private DSLContext dslContext;
+
+    /**
+     * Constructor with parameters
+     */
+    @Autowired
+    public ResourceSearchRepositoryImpl(DSLContext dslContext) {
+        this.dslContext = dslContext;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public Page<ResourceSearchDTO> search(String query, Integer page, Integer pageSize) {
+        Table<?> resources = table(RESOURCE_SEARCH_TABLE).as("r");
+        Table<?> templates = table(FieldConstants.RESOURCE_TEMPLATES_TABLE.getValue()).as("t");
+        Field<Long> templateId = field("t.id", Long.class);
+        Field<String> templateName = field("t.name", String.class);
+        Field<String> tableName = field("r.table_name", String.class);
+        Field<Long> recordId = field("r.record_id", Long.class);
+        Field<String> name = field("r.name", String.class);
+        Field<String> description = field("r.description", String.class);
+        Field<Object> searchVector = field("r.search_vector");
+        Condition condition = condition(SearchQueries.SEARCH_CONDITION, searchVector, val(query))
+                .and(field("t.is_published", Boolean.class).isTrue());
+        Field<Float> rank = field(SearchQueries.SEARCH_RANK, Float.class, searchVector, val(query)).as("rank");
+        Table<?> found = dslContext.select(templateId.as("template_id"), templateName.as("template_name"),
+                tableName, recordId, name, description, rank)
+                .from(resources)
+                .join(templates).on(field("t.table_name", String.class).eq(tableName))
+                .where(condition)
+                .orderBy(rank.desc(), tableName, recordId)
+                .limit(pageSize)
+                .offset(page * pageSize)
+                .asTable("f");
+        // headlines are built only for the page, they are much slower than ranking
+        Field<String> text = concat(coalesce(field("f.name", String.class), inline("")), inline(" "),
+                coalesce(field("f.description", String.class), inline("")));
+        List<ResourceSearchDTO> results = dslContext.select(field("f.template_id", Long.class),
+                field("f.template_name", String.class), field("f.table_name", String.class),
+                field("f.record_id", Long.class), field("f.name", String.class),
+                field(SearchQueries.SEARCH_HEADLINE, String.class, text, val(query)))
+                .from(found)
+                .orderBy(field("f.rank").desc(), field("f.table_name"), field("f.record_id"))
+                .fetch(record -> new ResourceSearchDTO(record.value1(), record.value2(), record.value3(),
+                        record.value4(), record.value5(), record.value6()));
+        long totalItems = page == 0 && results.size() < pageSize ? results.size() : dslContext.selectCount()
+                .from(resources)
+                .join(templates).on(field("t.table_name", String.class).eq(tableName))
+                .where(condition)
+                .fetchOne(0, long.class);
+        return new PageImpl<>(results, PageRequest.of(page, pageSize), totalItems);
+    }
+}
@@ -0,0 +1,115 @@
+package com.softserve.rms.repository.implementation;
+
+import com.softserve.rms.constants.FieldConstants;
+import com.softserve.rms.constants.SearchQueries;
+import com.softserve.rms.repository.ResourceTemplateSearchRepository;
+import com.softserve.rms.util.AclUtil;
+import org.jooq.Condition;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.SortField;
+import org.jooq.Table;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.acls.model.Sid;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.StringJoiner;
+
+import static org.jooq.impl.DSL.*;
+
+/**
+ * Implementation of {@link ResourceTemplateSearchRepository}. Words of templates are indexed by
+ * {@link SearchQueries#TEMPLATE_SEARCH_INDEX}, read permissions are checked in the same query,
+ * so only one page of visible templates is read. Prefix matches are ordered by name, because
+ * short prefixes match most of templates and ranking all of them is too slow while typing.
+ */
+@Repository
+public class ResourceTemplateSearchRepositoryImpl implements ResourceTemplateSearchRepository {
+    private DSLContext dslContext;
+
+    /**
+     * Constructor with parameters
+     */
+    @Autowired
+    public ResourceTemplateSearchRepositoryImpl(DSLContext dslContext) {
+        this.dslContext = dslContext;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public Page<Long> search(String query, boolean prefix, List<Sid> sids, Integer page, Integer pageSize) {
+        Table<?> templates = table(FieldConstants.RESOURCE_TEMPLATES_TABLE.getValue()).as("t");
+        Field<Long> id = field("t.id", Long.class);
+        Condition condition = AclUtil.canRead(id, sids);
+        SortField<?> order = field(FieldConstants.NAME.getValue()).asc();
+        String tsQuery = toTsQuery(query, prefix);
+        if (tsQuery != null) {
+            condition = condition.and(SearchQueries.TEMPLATE_SEARCH_CONDITION, val(tsQuery));
+            if (!prefix) {
+                order = field(SearchQueries.TEMPLATE_SEARCH_RANK, Float.class, val(tsQuery)).desc();
+            }
+        }
+        List<Long> ids = dslContext.select(id)
+                .from(templates)
+                .where(condition)
+                .orderBy(order, id)
+                .limit(pageSize)
+                .offset(page * pageSize)
+                .fetch(id);
+        long totalItems = page == 0 && ids.size() < pageSize ? ids.size() : dslContext.selectCount()
+                .from(templates)
+                .where(condition)
+                .fetchOne(0, long.class);
+        return new PageImpl<>(ids, PageRequest.of(page, pageSize), totalItems);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public Set<Long> findReadable(Collection<Long> ids, List<Sid> sids) {
+        if (ids.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Field<Long> id = field("t.id", Long.class);
+        return dslContext.select(id)
+                .from(table(FieldConstants.RESOURCE_TEMPLATES_TABLE.getValue()).as("t"))
+                .where(id.in(ids))
+                .and(field("t.is_published", Boolean.class).isTrue())
+                .and(AclUtil.canRead(id, sids))
+                .fetchSet(id);
+    }
+
+    /**
+     * Method converts words of the query to text search query, which is met when all words
+     * are found. Only letters and digits of the query are kept, so it is always a valid query.
+     *
+     * @param query  words to search
+     * @param prefix whether words match beginning of words
+     * @return text search query, null if there are no words
+     */
+    private String toTsQuery(String query, boolean prefix) {
+        if (query == null) {
+            return null;
+        }
+        StringJoiner tsQuery = new StringJoiner(" & ");
+        for (String word : query.toLowerCase().split("[^\\p{L}\\p{N}]+")) {
+            if (!word.isEmpty()) {
+                tsQuery.add(prefix ? "'" + word + "':*" : "'" + word + "'");
+            }
+        }
+        return tsQuery.length() == 0 ? null : tsQuery.toString();
+    }
+}
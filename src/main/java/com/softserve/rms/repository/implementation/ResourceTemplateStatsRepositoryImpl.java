@@ -0,0 +1,102 @@
+package com.softserve.rms.repository.implementation;
+
+import com.softserve.rms.constants.AggregationQueries;
+import com.softserve.rms.constants.FieldConstants;
+import com.softserve.rms.constants.TemplateStatsQueries;
+import com.softserve.rms.repository.ResourceTemplateStatsRepository;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Table;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.DSL.sum;
+import static org.jooq.impl.DSL.table;
+import static org.jooq.impl.DSL.val;
+
+/**
+ * Implementation of {@link ResourceTemplateStatsRepository}. Numbers of records are changed by
+ * triggers created in {@link JooqDDL#createStatsTriggers} and corrected by {@link #reconcile}.
+ */
+@Repository
+public class ResourceTemplateStatsRepositoryImpl implements ResourceTemplateStatsRepository {
+    private static final Table<?> STATS = table("resource_template_stats");
+    private static final Field<String> TABLE_NAME = field("table_name", String.class);
+    private static final Field<Long> RECORD_COUNT = field("record_count", Long.class);
+    private static final Table<?> STATS_VERSIONS = table("resource_template_stats_versions");
+    private static final Field<Long> VERSION = field("version", Long.class);
+
+    private final DSLContext dslContext;
+
+    /**
+     * Constructor with parameters
+     */
+    @Autowired
+    public ResourceTemplateStatsRepositoryImpl(DSLContext dslContext) {
+        this.dslContext = dslContext;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public Map<String, Long> countRecords(Collection<String> tableNames) {
+        Field<Long> recordCount = sum(RECORD_COUNT).cast(Long.class).as(RECORD_COUNT.getName());
+        return dslContext.select(TABLE_NAME, recordCount)
+                .from(STATS)
+                .where(TABLE_NAME.in(tableNames))
+                .groupBy(TABLE_NAME)
+                .fetchMap(TABLE_NAME, recordCount);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Transactional
+    @Override
+    public void reconcile(String tableName, long version) {
+        dslContext.execute(TemplateStatsQueries.LOCK_STATS, val(tableName));
+        dslContext.execute(TemplateStatsQueries.RECONCILE_STATS, val(tableName), name(tableName));
+        dslContext.execute(TemplateStatsQueries.SAVE_RECONCILED_VERSION, val(tableName), val(version));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public long findTableVersion(String tableName) {
+        return dslContext.fetchOne(AggregationQueries.TABLE_VERSION, val(tableName)).get(0, long.class);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public Map<String, Long> findReconciledVersions() {
+        return dslContext.select(TABLE_NAME, VERSION)
+                .from(STATS_VERSIONS)
+                .fetchMap(TABLE_NAME, VERSION);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public List<String> findPublishedTableNames() {
+        return dslContext.select(TABLE_NAME)
+                .from(table(FieldConstants.RESOURCE_TEMPLATES_TABLE.getValue()))
+                .where(field("is_published", Boolean.class).isTrue())
+                .fetch(TABLE_NAME);
+    }
+}
@@ -4,6 +4,7 @@ import com.softserve.rms.security.TokenManagementService;
 import com.softserve.rms.security.UserPrincipalDetailsService;
 import com.softserve.rms.security.filter.JwtAuthorizationFilter;
 import com.softserve.rms.security.oauth.*;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -45,7 +46,7 @@ public class WebSecurityConfig extends WebSecurityConfigurerAdapter {
     private OAuth2AuthenticationSuccessHandler oAuth2AuthenticationSuccessHandler;
     private OAuth2AuthenticationFailureHandler oAuth2AuthenticationFailureHandler;
     private HttpCookieOAuth2AuthorizationRequestRepository httpCookieOAuth2AuthorizationRequestRepository;
-
+    private MeterRegistry meterRegistry;
 
     /**
      * constructor
@@ -59,7 +60,8 @@ public class WebSecurityConfig extends WebSecurityConfigurerAdapter {
                              OAuth2AuthenticationFailureHandler oAuth2AuthenticationFailureHandler,
                              HttpCookieOAuth2AuthorizationRequestRepository httpCookieOAuth2AuthorizationRequestRepository,
                              JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint,
-                             UserPrincipalDetailsService userPrincipalDetailsService) {
+                             UserPrincipalDetailsService userPrincipalDetailsService,
+                             MeterRegistry meterRegistry) {
         this.tokenManagementService = tokenManagementService;
         this.customOAuth2UserService = customOAuth2UserService;
         this.unauthorizedHandler = jwtAuthenticationEntryPoint;
@@ -67,6 +69,7 @@ public class WebSecurityConfig extends WebSecurityConfigurerAdapter {
         this.oAuth2AuthenticationSuccessHandler = oAuth2AuthenticationSuccessHandler;
         this.oAuth2AuthenticationFailureHandler = oAuth2AuthenticationFailureHandler;
         this.httpCookieOAuth2AuthorizationRequestRepository = httpCookieOAuth2AuthorizationRequestRepository;
+        this.meterRegistry = meterRegistry;
     }
 
     private static final String[] AUTH_WHITELIST = {
@@ -108,6 +111,8 @@ public class WebSecurityConfig extends WebSecurityConfigurerAdapter {
                 .authorizeRequests()
                 .antMatchers("/admin/**").hasRole("ADMIN")
                 .antMatchers("/permission/**").hasRole("MANAGER")
+                .antMatchers("/actuator/health").permitAll()
+                .antMatchers("/actuator/**").hasRole("ADMIN")
                 .antMatchers(AUTH_WHITELIST)
                 .permitAll()
                 .anyRequest()
@@ -127,7 +132,7 @@ public class WebSecurityConfig extends WebSecurityConfigurerAdapter {
                 .successHandler(oAuth2AuthenticationSuccessHandler)
                 .failureHandler(oAuth2AuthenticationFailureHandler);
         http
-                .addFilterBefore(new JwtAuthorizationFilter(tokenManagementService), UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(new JwtAuthorizationFilter(tokenManagementService, meterRegistry), UsernamePasswordAuthenticationFilter.class);
 
 
     }
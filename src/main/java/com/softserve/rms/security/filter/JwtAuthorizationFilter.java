@@ -3,6 +3,8 @@ package com.softserve.rms.security.filter;
 import com.softserve.rms.exceptions.Message;
 import com.softserve.rms.security.TokenManagementService;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -27,16 +29,20 @@ import java.io.IOException;
 public class JwtAuthorizationFilter extends OncePerRequestFilter implements Message {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(JwtAuthorizationFilter.class);
+    static final String AUTHORIZATION_TIMER = "rms.jwt.authorization";
     private TokenManagementService tokenManagementService;
+    private MeterRegistry meterRegistry;
 
     /**
      * constructor
      *
      * @param tokenManagementService {@link TokenManagementService}
+     * @param meterRegistry          {@link MeterRegistry}
      */
     @Autowired
-    public JwtAuthorizationFilter(TokenManagementService tokenManagementService){
+    public JwtAuthorizationFilter(TokenManagementService tokenManagementService, MeterRegistry meterRegistry){
         this.tokenManagementService = tokenManagementService;
+        this.meterRegistry = meterRegistry;
     }
 
     /**
@@ -50,25 +56,33 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter implements Mess
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
 
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "anonymous";
         String accessToken = tokenManagementService.resolveAccessToken(request);
 
         if (accessToken != null) {
+            result = "rejected";
             try {
                 if (tokenManagementService.validateToken(accessToken)) {
                     Authentication authentication =
                             tokenManagementService.getAuthentication(accessToken);
                     LOGGER.info("User successfully authenticate - {}", authentication.getPrincipal());
                     SecurityContextHolder.getContext().setAuthentication(authentication);
+                    result = "authenticated";
                 }
             } catch (ExpiredJwtException e) {
                 LOGGER.info("Token has expired: " + accessToken);
-
+                result = "expired";
             }
             catch (Exception e) {
                 LOGGER.info("JWT Authentication failed");
+                result = "failed";
             }
 
         }
+        sample.stop(Timer.builder(AUTHORIZATION_TIMER)
+                .tag("result", result)
+                .register(meterRegistry));
         filterChain.doFilter(request, response);
     }
 }
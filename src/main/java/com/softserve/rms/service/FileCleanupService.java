@@ -0,0 +1,22 @@
+package com.softserve.rms.service;
+
+import java.util.Collection;
+
+public interface FileCleanupService {
+
+    /**
+     * Method schedules deletion of files of deleted records from the storage. Files are saved
+     * before they are deleted, so they are not lost when the queue is full or the application stops.
+     * Derivatives of photos are deleted together with photos.
+     *
+     * @param photos    names of photos
+     * @param documents names of documents
+     */
+    void deleteFiles(Collection<String> photos, Collection<String> documents);
+
+    /**
+     * Method deletes all saved files, which have not been deleted yet. Files which can not be
+     * deleted are kept for the next run.
+     */
+    void deletePendingFiles();
+}
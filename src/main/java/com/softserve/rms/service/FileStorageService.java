@@ -1,8 +1,11 @@
 package com.softserve.rms.service;
 
+import com.softserve.rms.dto.file.PresignedUrlDto;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
+
 @Service
 public interface FileStorageService {
 
@@ -11,14 +14,76 @@ public interface FileStorageService {
      *
      * @param multipartFile file for saving.
      * @return url of the saved file.
+     * @throws com.softserve.rms.exceptions.NotSavedException if the file can not be stored.
      */
     String uploadFile(MultipartFile multipartFile);
 
     /**
-     * Method for deleting a file.
+     * Method for saving a file under provided name.
+     *
+     * @param fileName    name of the stored file.
+     * @param content     of the file.
+     * @param contentType of the file.
+     */
+    void uploadFile(String fileName, byte[] content, String contentType);
+
+    /**
+     * Method for reading a stored file.
+     *
+     * @param fileName of the stored file.
+     * @return content of the file, which must be closed by the caller.
+     */
+    InputStream downloadFile(String fileName);
+
+    /**
+     * Method for deleting a file. In content-addressed mode the stored file is removed
+     * only when the last reference to it disappears.
      *
      * @param fileName for deleting.
      */
     void deleteFile(String fileName);
 
+    /**
+     * Method checks whether a content-addressed file is still referenced.
+     *
+     * @param fileName of the stored file
+     * @return true if file has references left
+     */
+    boolean isFileReferenced(String fileName);
+
+    /**
+     * Method generates a short-lived url, which allows a client to upload a file
+     * directly to the storage with a PUT request. Generated file name is the prefix
+     * followed by a random UUID.
+     *
+     * @param prefix      of the generated file name
+     * @param contentType of the file which will be uploaded
+     * @return {@link PresignedUrlDto} with generated file name and upload url
+     */
+    PresignedUrlDto generatePresignedUploadUrl(String prefix, String contentType);
+
+    /**
+     * Method generates a short-lived url for reading a stored file.
+     *
+     * @param fileName of the stored file
+     * @return download url
+     */
+    String generatePresignedDownloadUrl(String fileName);
+
+    /**
+     * Method returns number of the current period of download urls. Period changes twice during
+     * lifetime of a download url, so a response cached for one period contains urls which are still valid.
+     *
+     * @return number of the period
+     */
+    long getPresignedUrlPeriod();
+
+    /**
+     * Method checks whether a file with provided name is present in the storage.
+     *
+     * @param fileName of the stored file
+     * @return true if file exists
+     */
+    boolean isFileExist(String fileName);
+
 }
@@ -0,0 +1,41 @@
+package com.softserve.rms.service;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface ImageProcessingService {
+
+    /**
+     * Method schedules generation of configured derivatives (thumbnail, medium, ...)
+     * for the stored image. Generated derivatives are stored alongside the original
+     * and names of them are saved.
+     *
+     * @param fileName of the stored original image
+     */
+    void generateDerivatives(String fileName);
+
+    /**
+     * Method returns storage names of all configured derivatives of the image. Derivatives,
+     * which are not generated yet or can not be generated, are replaced with the original.
+     *
+     * @param fileName of the stored original image
+     * @return map with derivative name key and derivative file name value
+     */
+    Map<String, String> getDerivativeFileNames(String fileName);
+
+    /**
+     * Method returns storage names of all configured derivatives of the images with single query.
+     * Derivatives, which are not generated yet or can not be generated, are replaced with the original.
+     *
+     * @param fileNames of the stored original images
+     * @return map with original file name key and map of derivative name and derivative file name value
+     */
+    Map<String, Map<String, String>> getDerivativeFileNames(Collection<String> fileNames);
+
+    /**
+     * Method deletes all derivatives of the image from the storage.
+     *
+     * @param fileName of the stored original image
+     */
+    void deleteDerivatives(String fileName);
+}
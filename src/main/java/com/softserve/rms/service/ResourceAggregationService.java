@@ -0,0 +1,23 @@
+package com.softserve.rms.service;
+
+import com.softserve.rms.dto.resourceRecord.ResourceRecordAggregationDTO;
+import com.softserve.rms.dto.resourceRecord.ResourceRecordAggregationResultDTO;
+import com.softserve.rms.entities.ResourceRecord;
+import com.softserve.rms.entities.ResourceTemplate;
+import com.softserve.rms.exceptions.BadRequestException;
+import com.softserve.rms.exceptions.resourseTemplate.ResourceTemplateIsNotPublishedException;
+
+public interface ResourceAggregationService {
+
+    /**
+     * Method computes aggregates of {@link ResourceRecord} of published {@link ResourceTemplate},
+     * grouped by provided columns. Result is reused until the template or records of the template change.
+     *
+     * @param tableName   {@link ResourceTemplate} table name
+     * @param aggregation {@link ResourceRecordAggregationDTO}
+     * @return {@link ResourceRecordAggregationResultDTO}
+     * @throws BadRequestException                     if aggregation is not valid for the template
+     * @throws ResourceTemplateIsNotPublishedException if the template is not published
+     */
+    ResourceRecordAggregationResultDTO aggregate(String tableName, ResourceRecordAggregationDTO aggregation);
+}
@@ -0,0 +1,103 @@
+package com.softserve.rms.service;
+
+import com.softserve.rms.dto.resourceRecord.ResourceBackfillDTO;
+import com.softserve.rms.dto.resourceRecord.ResourceBackfillSaveDTO;
+import com.softserve.rms.entities.ResourceBackfill;
+import com.softserve.rms.entities.ResourceRecord;
+import com.softserve.rms.entities.ResourceTemplate;
+import com.softserve.rms.exceptions.BadRequestException;
+import com.softserve.rms.exceptions.NotFoundException;
+import com.softserve.rms.exceptions.resourseTemplate.ResourceTemplateIsNotPublishedException;
+import org.springframework.data.domain.Page;
+
+public interface ResourceBackfillService {
+
+    /**
+     * Method validates transformation of all {@link ResourceRecord} of container table and starts
+     * it in background after current transaction is committed.
+     *
+     * @param tableName               {@link ResourceTemplate} table name
+     * @param resourceBackfillSaveDTO {@link ResourceBackfillSaveDTO}
+     * @return started {@link ResourceBackfillDTO}
+     * @throws NotFoundException                      if the template is not found
+     * @throws ResourceTemplateIsNotPublishedException if the template is not published
+     * @throws BadRequestException                    if transformation, column or argument is not valid
+     */
+    ResourceBackfillDTO start(String tableName, ResourceBackfillSaveDTO resourceBackfillSaveDTO);
+
+    /**
+     * Method validates standalone {@link ResourceBackfill} started by the application itself, e.g. at
+     * startup, and starts it in background after current transaction is committed. Access to the
+     * template is not checked.
+     *
+     * @param tableName      {@link ResourceTemplate} table name
+     * @param transformation {@link ResourceBackfill.Transformation}
+     * @return started {@link ResourceBackfill}
+     * @throws NotFoundException                      if the template is not found
+     * @throws ResourceTemplateIsNotPublishedException if the template is not published
+     * @throws BadRequestException                    if transformation is not valid
+     */
+    ResourceBackfill startWithoutAccessCheck(String tableName, ResourceBackfill.Transformation transformation);
+
+    /**
+     * Method validates and saves {@link ResourceBackfill}, which is run by the caller and is not
+     * resumed at startup. Access to the template is checked by the caller.
+     *
+     * @param tableName      {@link ResourceTemplate} table name
+     * @param transformation {@link ResourceBackfill.Transformation}
+     * @param columnName     column name of parameter, which the transformation applies to
+     * @param argument       argument of the transformation
+     * @return saved {@link ResourceBackfill}
+     * @throws NotFoundException                      if the template is not found
+     * @throws ResourceTemplateIsNotPublishedException if the template is not published
+     * @throws BadRequestException                    if transformation, column or argument is not valid
+     */
+    ResourceBackfill create(String tableName, ResourceBackfill.Transformation transformation, String columnName,
+                            String argument);
+
+    /**
+     * Method runs {@link ResourceBackfill} in current thread from the last processed record, chunk
+     * by chunk, until every record is processed, the backfill fails or the thread is interrupted.
+     *
+     * @param backfillId {@link ResourceBackfill} id
+     * @return {@link ResourceBackfill} with status RUNNING if the thread is interrupted
+     * @throws NotFoundException if the backfill is not found
+     */
+    ResourceBackfill run(Long backfillId);
+
+    /**
+     * Method prepares {@link ResourceBackfill} to be run again from the first record, covering records
+     * added since it was created.
+     *
+     * @param backfillId {@link ResourceBackfill} id
+     * @return {@link ResourceBackfill}
+     * @throws NotFoundException if the backfill is not found
+     */
+    ResourceBackfill rewind(Long backfillId);
+
+    /**
+     * Method finds {@link ResourceBackfill} of container table by id.
+     *
+     * @param tableName  {@link ResourceTemplate} table name
+     * @param backfillId {@link ResourceBackfill} id
+     * @return {@link ResourceBackfillDTO}
+     * @throws NotFoundException if the backfill is not found
+     */
+    ResourceBackfillDTO findById(String tableName, Long backfillId);
+
+    /**
+     * Method finds {@link ResourceBackfill} of container table, latest first.
+     *
+     * @param tableName {@link ResourceTemplate} table name
+     * @param page      page number
+     * @param pageSize  page size
+     * @return page of {@link ResourceBackfillDTO}
+     */
+    Page<ResourceBackfillDTO> findAllByTableName(String tableName, Integer page, Integer pageSize);
+
+    /**
+     * Method continues standalone backfills interrupted by restart of the application. It runs before
+     * other listeners of application start, so backfills started by them are not started twice.
+     */
+    void resumeBackfills();
+}
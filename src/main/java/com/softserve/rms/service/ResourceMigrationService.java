@@ -0,0 +1,83 @@
+package com.softserve.rms.service;
+
+import com.softserve.rms.dto.template.ResourceMigrationDTO;
+import com.softserve.rms.entities.ResourceMigration;
+import com.softserve.rms.entities.ResourceParameter;
+import com.softserve.rms.entities.ResourceRecord;
+import com.softserve.rms.entities.ResourceTemplate;
+import com.softserve.rms.exceptions.BadRequestException;
+import com.softserve.rms.exceptions.NotFoundException;
+import com.softserve.rms.exceptions.resourceParameter.ResourceParameterCanNotBeModified;
+import org.springframework.data.domain.Page;
+
+public interface ResourceMigrationService {
+
+    /**
+     * Method verifies if container table of published {@link ResourceTemplate} can be changed.
+     *
+     * @param resourceTemplate published {@link ResourceTemplate}
+     * @throws ResourceParameterCanNotBeModified if migration of the template is running
+     */
+    void checkIfTemplateCanBeMigrated(ResourceTemplate resourceTemplate);
+
+    /**
+     * Method adds columns of new {@link ResourceParameter} to container table of published
+     * {@link ResourceTemplate} in current transaction. Existing {@link ResourceRecord} get the
+     * default value in background after the transaction is committed, then the columns are made not null.
+     *
+     * @param resourceTemplate  published {@link ResourceTemplate}
+     * @param resourceParameter saved {@link ResourceParameter}
+     * @param defaultValue      value of the parameter of existing records
+     * @throws ResourceParameterCanNotBeModified if default value is not provided for required parameter
+     * @throws BadRequestException               if default value is not valid for the parameter
+     * @throws ResourceParameterCanNotBeModified if the parameter references to template with partitioned
+     *                                           container table
+     */
+    void addParameter(ResourceTemplate resourceTemplate, ResourceParameter resourceParameter, String defaultValue);
+
+    /**
+     * Method renames columns of {@link ResourceParameter} of container table of published
+     * {@link ResourceTemplate} in current transaction.
+     *
+     * @param resourceTemplate   published {@link ResourceTemplate}
+     * @param resourceParameter  {@link ResourceParameter} with new column name
+     * @param previousColumnName previous column name of the parameter
+     */
+    void renameParameter(ResourceTemplate resourceTemplate, ResourceParameter resourceParameter,
+                         String previousColumnName);
+
+    /**
+     * Method drops columns of {@link ResourceParameter} from container table of published
+     * {@link ResourceTemplate} in current transaction.
+     *
+     * @param resourceTemplate  published {@link ResourceTemplate}
+     * @param resourceParameter {@link ResourceParameter} to be deleted
+     */
+    void dropParameter(ResourceTemplate resourceTemplate, ResourceParameter resourceParameter);
+
+    /**
+     * Method finds {@link ResourceMigration} of {@link ResourceTemplate} by id.
+     *
+     * @param templateId  {@link ResourceTemplate} id
+     * @param migrationId {@link ResourceMigration} id
+     * @return {@link ResourceMigrationDTO}
+     * @throws NotFoundException if the template or migration is not found
+     */
+    ResourceMigrationDTO findById(Long templateId, Long migrationId);
+
+    /**
+     * Method finds {@link ResourceMigration} of {@link ResourceTemplate}, latest first.
+     *
+     * @param templateId {@link ResourceTemplate} id
+     * @param page       page number
+     * @param pageSize   page size
+     * @return page of {@link ResourceMigrationDTO}
+     * @throws NotFoundException if the template is not found
+     */
+    Page<ResourceMigrationDTO> findAllByTemplateId(Long templateId, Integer page, Integer pageSize);
+
+    /**
+     * Method continues migrations interrupted by restart of the application.
+     */
+    void resumeMigrations();
+}
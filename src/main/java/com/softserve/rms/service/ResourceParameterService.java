@@ -21,7 +21,8 @@ public interface ResourceParameterService {
      * @param templateId       {@link ResourceTemplate} id
      * @param parameterSaveDTO {@link ResourceParameterSaveDTO}
      * @return instance of {@link ResourceParameterDTO}
-     * @throws ResourceParameterCanNotBeModified if the resource template is published
+     * @throws ResourceParameterCanNotBeModified if the resource template is published and its migration is
+     *                                           running or default value is not provided
      * @author Halyna Yatseniuk
      */
     ResourceParameterDTO checkIfParameterCanBeSaved(Long templateId, ResourceParameterSaveDTO parameterSaveDTO);
@@ -43,7 +44,8 @@ public interface ResourceParameterService {
      * @param templateId       {@link ResourceTemplate} id
      * @param parameterId      {@link ResourceParameter} id
      * @param parameterSaveDTO {@link ResourceParameterSaveDTO}
-     * @throws ResourceParameterCanNotBeModified if the resource template is published
+     * @throws ResourceParameterCanNotBeModified if the resource template is published and its migration is
+     *                                           running or type of the parameter is changed
      * @author Halyna Yatseniuk
      */
     ResourceParameterDTO checkIfParameterCanBeUpdated(Long templateId, Long parameterId, ResourceParameterSaveDTO parameterSaveDTO);
@@ -63,7 +65,7 @@ public interface ResourceParameterService {
      * @param templateId  {@link ResourceTemplate} id
      * @param parameterId {@link ResourceParameter} id
      * @throws NotDeletedException               if the resource parameter with provided id is not deleted
-     * @throws ResourceParameterCanNotBeModified if the resource template is published
+     * @throws ResourceParameterCanNotBeModified if the resource template is published and its migration is running
      * @author Halyna Yatseniuk
      */
     void checkIfParameterCanBeDeleted(Long templateId, Long parameterId);
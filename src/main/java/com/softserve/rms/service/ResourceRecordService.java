@@ -1,13 +1,22 @@
 package com.softserve.rms.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.softserve.rms.dto.VersionDto;
+import com.softserve.rms.dto.file.PresignedUrlDto;
+import com.softserve.rms.dto.resourceRecord.ResourceRecordBulkResultDTO;
+import com.softserve.rms.dto.resourceRecord.ResourceRecordBulkUpdateDTO;
 import com.softserve.rms.dto.resourceRecord.ResourceRecordDTO;
+import com.softserve.rms.dto.resourceRecord.ResourceRecordFilterDTO;
 import com.softserve.rms.dto.resourceRecord.ResourceRecordSaveDTO;
 import com.softserve.rms.entities.ResourceRecord;
 import com.softserve.rms.entities.ResourceTemplate;
+import com.softserve.rms.exceptions.BadRequestException;
 import com.softserve.rms.exceptions.NotFoundException;
+import com.softserve.rms.exceptions.VersionConflictException;
 import org.springframework.data.domain.Page;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.util.List;
 
 public interface ResourceRecordService {
@@ -30,11 +39,36 @@ public interface ResourceRecordService {
      *
      * @param tableName {@link ResourceTemplate} tableName
      * @param id {@link ResourceRecordDTO} id
+     * @param depth number of levels of {@code POINT_REFERENCE} parameters expanded with referenced
+     *              records, limited by {@code reference.maxDepth}
      * @return {@link ResourceRecordDTO}
      * @throws NotFoundException if the resource with provided id or name is not found
      * @author Andrii Bren
      */
-    ResourceRecordDTO findByIdDTO(String tableName, Long id);
+    ResourceRecordDTO findByIdDTO(String tableName, Long id, Integer depth);
+
+    /**
+     * Method finds version of dynamic {@link ResourceRecordDTO} in a table specified by the reсorder.
+     * Version of record with files also changes with period of download urls.
+     *
+     * @param tableName {@link ResourceTemplate} tableName
+     * @param id        {@link ResourceRecordDTO} id
+     * @return {@link VersionDto}
+     * @throws NotFoundException if the resource with provided id or name is not found
+     */
+    VersionDto findVersionDTO(String tableName, Long id);
+
+    /**
+     * Method finds version of the page of dynamic {@link ResourceRecordDTO} in a table specified
+     * by the reсorder. Version of page with files also changes with period of download urls.
+     *
+     * @param tableName {@link ResourceTemplate} tableName
+     * @param page      page number starting from 1
+     * @param pageSize  size of the page
+     * @return {@link VersionDto}
+     * @throws NotFoundException if the resource template with provided name is not found
+     */
+    VersionDto findPageVersionDTO(String tableName, Integer page, Integer pageSize);
 
     /**
      * Method finds dynamic {@link ResourceRecord} by provided id in a table specified
@@ -60,16 +94,85 @@ public interface ResourceRecordService {
     Page<ResourceRecordDTO> findAll(String tableName, Integer page, Integer pageSize);
 
     /**
-     * Method updates dynamic {@link ResourceRecordDTO} in a table specified
-     * by the reсorder.
+     * Method finds page of dynamic {@link ResourceRecordDTO} in a table specified by the reсorder,
+     * which name, description or string parameters contain all words of the query. Records are
+     * ordered by relevance, matches in name rank higher than in description and parameters.
+     *
+     * @param tableName {@link ResourceTemplate} tableName
+     * @param query     words to search
+     * @param page      page number starting from 1
+     * @param pageSize  size of the page
+     * @param depth     number of levels of references expanded with referenced records
+     * @return page of {@link ResourceRecordDTO}
+     * @throws NotFoundException if the resource template with provided name is not found
+     * @throws BadRequestException if the query is empty
+     */
+    Page<ResourceRecordDTO> search(String tableName, String query, Integer page, Integer pageSize, Integer depth);
+
+    /**
+     * Method writes page of dynamic {@link ResourceRecordDTO} in a table specified by the reсorder
+     * directly to json generator. Rows are written as they are read, without creating
+     * {@link ResourceRecord} and {@link ResourceRecordDTO}. Nothing is written when the table
+     * can not be read. Columnar page sends names of values once in {@code columns}
+     * and every record as array of values in {@code rows}.
+     *
+     * @param tableName {@link ResourceTemplate} tableName
+     * @param page      page number starting from 1
+     * @param pageSize  size of the page
+     * @param depth     number of levels of references expanded with referenced records, references
+     *                  of the page are read before the page is written
+     * @param columnar  whether records are written as arrays of values
+     * @param generator {@link JsonGenerator} the page is written to
+     * @throws IOException if the page can not be written
+     * @throws NotFoundException if the resource template with provided name is not found
+     */
+    void writeAll(String tableName, Integer page, Integer pageSize, Integer depth, boolean columnar,
+                  JsonGenerator generator) throws IOException;
+
+    /**
+     * Method updates provided values of dynamic {@link ResourceRecordDTO} in a table specified
+     * by the reсorder. The record is not read before update. When version is provided, the record
+     * is updated only if it has not been changed since the version was read.
      *
      * @param tableName {@link ResourceTemplate} tableName
      * @param id        {@link ResourceRecord} id
+     * @param version   ETag of the record returned by {@link #findVersionDTO}, may be null
      * @param resourceRecordSaveDTO instance of {@link ResourceRecordSaveDTO}
      * @throws NotFoundException if the resource with provided id or name is not found
+     * @throws VersionConflictException if the resource has been changed since the version was read
+     * @throws BadRequestException if the version is not a version of the resource
      * @author Andrii Bren
      */
-    void update(String tableName, Long id, ResourceRecordSaveDTO resourceRecordSaveDTO);
+    void update(String tableName, Long id, String version, ResourceRecordSaveDTO resourceRecordSaveDTO);
+
+    /**
+     * Method updates values of all dynamic {@link ResourceRecordDTO} which match the filter.
+     * Records are updated by chunks ordered by id, every chunk in its own transaction,
+     * so rows are not locked until all records are updated.
+     *
+     * @param tableName                   {@link ResourceTemplate} tableName
+     * @param resourceRecordBulkUpdateDTO {@link ResourceRecordBulkUpdateDTO} with filter and values
+     * @param dryRun                      whether records are only counted
+     * @return {@link ResourceRecordBulkResultDTO} with number of updated or matching records
+     * @throws NotFoundException if the resource template with provided name is not found
+     * @throws BadRequestException if filter or values are not valid for the template
+     */
+    ResourceRecordBulkResultDTO updateAll(String tableName, ResourceRecordBulkUpdateDTO resourceRecordBulkUpdateDTO,
+                                          boolean dryRun);
+
+    /**
+     * Method deletes all dynamic {@link ResourceRecordDTO} which match the filter by chunks,
+     * every chunk in its own transaction. Files of deleted records are deleted in background.
+     *
+     * @param tableName               {@link ResourceTemplate} tableName
+     * @param resourceRecordFilterDTO {@link ResourceRecordFilterDTO}
+     * @param dryRun                  whether records are only counted
+     * @return {@link ResourceRecordBulkResultDTO} with number of deleted or matching records
+     * @throws NotFoundException if the resource template with provided name is not found
+     * @throws BadRequestException if filter is not valid for the template
+     */
+    ResourceRecordBulkResultDTO deleteAll(String tableName, ResourceRecordFilterDTO resourceRecordFilterDTO,
+                                          boolean dryRun);
 
     /**
      * Method deletes dynamic {@link ResourceRecordDTO} by id.
@@ -138,4 +241,38 @@ public interface ResourceRecordService {
      * @author Mariia Shchur
      */
     void deleteDocument(String tableName, Long id, String document);
+
+    /**
+     * Method generates a presigned url, which allows to upload a file for {@link ResourceRecord}
+     * directly to the storage. Name of the file is bound to the resource.
+     *
+     * @param tableName   {@link ResourceTemplate} tableName
+     * @param id          {@link ResourceRecord} id
+     * @param contentType of the file which will be uploaded
+     * @return {@link PresignedUrlDto}
+     * @throws NotFoundException if the resource with provided id is not found
+     */
+    PresignedUrlDto generateUploadUrl(String tableName, Long id, String contentType);
+
+    /**
+     * Method registers photo, which was uploaded by a presigned url, on {@link ResourceRecord}.
+     *
+     * @param tableName {@link ResourceTemplate} tableName
+     * @param id        {@link ResourceRecord} id
+     * @param fileName  of uploaded photo
+     * @throws NotFoundException   if the resource or uploaded file is not found
+     * @throws BadRequestException if upload url of the file was not issued for the resource
+     */
+    void completePhotoUpload(String tableName, Long id, String fileName);
+
+    /**
+     * Method registers document, which was uploaded by a presigned url, on {@link ResourceRecord}.
+     *
+     * @param tableName {@link ResourceTemplate} tableName
+     * @param id        {@link ResourceRecord} id
+     * @param fileName  of uploaded document
+     * @throws NotFoundException   if the resource or uploaded file is not found
+     * @throws BadRequestException if upload url of the file was not issued for the resource
+     */
+    void completeDocumentUpload(String tableName, Long id, String fileName);
 }
@@ -0,0 +1,26 @@
+package com.softserve.rms.service;
+
+import com.softserve.rms.dto.resourceRecord.ResourceRecordReferenceDTO;
+import com.softserve.rms.entities.ResourceRecord;
+import com.softserve.rms.entities.ResourceTemplate;
+import com.softserve.rms.exceptions.NotFoundException;
+import com.softserve.rms.exceptions.resourseTemplate.ResourceTemplateIsNotPublishedException;
+import org.springframework.data.domain.Page;
+
+public interface ResourceReferenceService {
+
+    /**
+     * Method finds {@link ResourceRecord} of published {@link ResourceTemplate} which reference
+     * the record with Point Reference parameters. Records are ordered by table name,
+     * column name and id.
+     *
+     * @param tableName {@link ResourceTemplate} table name of the referenced record
+     * @param id        id of the referenced record
+     * @param page      page number starting from 1
+     * @param pageSize  size of the page
+     * @return page of {@link ResourceRecordReferenceDTO}
+     * @throws NotFoundException                      if the record is not found
+     * @throws ResourceTemplateIsNotPublishedException if the template is not published
+     */
+    Page<ResourceRecordReferenceDTO> findReferencing(String tableName, Long id, Integer page, Integer pageSize);
+}
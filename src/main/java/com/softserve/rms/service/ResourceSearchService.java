@@ -0,0 +1,25 @@
+package com.softserve.rms.service;
+
+import com.softserve.rms.dto.search.ResourceSearchDTO;
+import com.softserve.rms.entities.ResourceRecord;
+import com.softserve.rms.entities.ResourceTemplate;
+import com.softserve.rms.exceptions.BadRequestException;
+import org.springframework.data.domain.Page;
+import org.springframework.security.access.AccessDeniedException;
+
+public interface ResourceSearchService {
+
+    /**
+     * Method finds {@link ResourceRecord} of all published {@link ResourceTemplate}, which name,
+     * description or string parameters contain all words of the query. The most relevant records
+     * are returned first. Records are read only by managers, the same as in requests of records.
+     *
+     * @param query    words to search
+     * @param page     page number starting from 1
+     * @param pageSize size of the page
+     * @return page of {@link ResourceSearchDTO}
+     * @throws BadRequestException if the query is empty
+     * @throws AccessDeniedException if the user is not a manager
+     */
+    Page<ResourceSearchDTO> search(String query, Integer page, Integer pageSize);
+}
@@ -2,11 +2,13 @@ package com.softserve.rms.service;
 
 import com.softserve.rms.dto.PermissionDto;
 import com.softserve.rms.dto.PrincipalPermissionDto;
+import com.softserve.rms.dto.VersionDto;
 import com.softserve.rms.dto.security.ChangeOwnerDto;
 import com.softserve.rms.dto.template.ResourceTemplateSaveDTO;
 import com.softserve.rms.dto.template.ResourceTemplateDTO;
 import com.softserve.rms.entities.ResourceTemplate;
 import com.softserve.rms.entities.User;
+import com.softserve.rms.exceptions.BadRequestException;
 import com.softserve.rms.exceptions.NotDeletedException;
 import com.softserve.rms.exceptions.NotFoundException;
 import com.softserve.rms.exceptions.NotUniqueNameException;
@@ -79,13 +81,18 @@ public interface ResourceTemplateService {
     void checkIfTemplateCanBeDeleted(Long id);
 
     /**
-     * Method finds all {@link ResourceTemplate} by name or description.
+     * Method finds page of {@link ResourceTemplate} which name or description contain all words
+     * of searched word, the most relevant first. Only templates readable by the user are found.
      *
      * @param searchedWord request parameter to search resource templates
-     * @return list of {@link ResourceTemplateDTO}
+     * @param prefix       whether words match beginning of words, used for autocomplete
+     * @param page         page number starting from 1
+     * @param pageSize     size of the page
+     * @return page of {@link ResourceTemplateDTO}
      * @author Halyna Yatseniuk
      */
-    Page<ResourceTemplateDTO> searchByNameOrDescriptionContaining(String searchedWord, Integer page ,Integer pageSize);
+    Page<ResourceTemplateDTO> searchByNameOrDescriptionContaining(String searchedWord, boolean prefix,
+                                                                  Integer page, Integer pageSize);
 
     /**
      * Method finds  {@link ResourceTemplate} by provided id.
@@ -107,15 +114,58 @@ public interface ResourceTemplateService {
 
     ResourceTemplate findByTableName(String name);
 
+    /**
+     * Method finds {@link ResourceTemplate} by table name for background jobs, which have no
+     * authenticated user. Access has to be checked by the request starting the job.
+     *
+     * @param name table name of {@link ResourceTemplate}
+     * @return {@link ResourceTemplate}
+     * @throws NotFoundException if resource template is not found
+     */
+    ResourceTemplate findByTableNameWithoutAccessCheck(String name);
+
     ResourceTemplateDTO findByTableNameDTO(String name);
 
+    /**
+     * Method finds version of {@link ResourceTemplate} by provided id. Version changes when
+     * the template or its parameters are changed.
+     *
+     * @param id of {@link ResourceTemplateDTO}
+     * @return {@link VersionDto}
+     * @throws NotFoundException if the resource template with provided id is not found
+     */
+    VersionDto findVersionById(Long id);
+
+    /**
+     * Method finds version of {@link ResourceTemplateDTO} by provided id. Besides changes of the template,
+     * version of published template changes when its records are inserted or deleted, because
+     * the DTO contains number of records.
+     *
+     * @param id of {@link ResourceTemplateDTO}
+     * @return {@link VersionDto}
+     * @throws NotFoundException if the resource template with provided id is not found
+     */
+    VersionDto findDTOVersionById(Long id);
+
+    /**
+     * Method finds version of {@link ResourceTemplateDTO} by provided table name. Besides changes of
+     * the template, version of published template changes when its records are inserted or deleted.
+     *
+     * @param name table name of {@link ResourceTemplate}
+     * @return {@link VersionDto}
+     * @throws NotFoundException if the resource template with provided table name is not found
+     */
+    VersionDto findDTOVersionByTableName(String name);
+
     /**
      * Method verifies which action must be handled - publish or cancel publish resource template -
-     * by provided boolean value in a map body.
+     * by provided boolean value in a map body. Container table of published template is partitioned,
+     * if the body contains partitioning options, e.g. {@code "partitioning": {"strategy": "HASH"}}.
      *
      * @param id   of {@link ResourceTemplateDTO}
      * @param body map containing String key and Object value
-     * @throws NotFoundException if the resource template with provided id is not found
+     * @throws NotFoundException   if the resource template with provided id is not found
+     * @throws BadRequestException if partitioning options are not valid for the template
      * @author Halyna Yatseniuk
      */
     void selectPublishOrCancelPublishAction(Long id, Map<String, Object> body);
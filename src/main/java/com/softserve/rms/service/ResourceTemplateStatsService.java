@@ -0,0 +1,14 @@
+package com.softserve.rms.service;
+
+import com.softserve.rms.entities.ResourceRecord;
+import com.softserve.rms.entities.ResourceTemplate;
+
+public interface ResourceTemplateStatsService {
+
+    /**
+     * Method counts {@link ResourceRecord} of published {@link ResourceTemplate} again and corrects
+     * numbers kept in statistics of templates. Tables, which did not change since previous
+     * reconciliation, are skipped.
+     */
+    void reconcile();
+}
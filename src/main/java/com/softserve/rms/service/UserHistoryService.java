@@ -1,41 +1,70 @@
 package com.softserve.rms.service;
 
 import com.softserve.rms.entities.User;
+import org.springframework.data.domain.Page;
 
-import java.util.List;
+import java.time.LocalDate;
 import java.util.Map;
+import java.util.function.Consumer;
 
 public interface UserHistoryService {
     /**
-     * Method that show all {@link User} history.
+     * Method that show page of {@link User} history with changes of every revision
+     * compared to the previous one.
      *
-     * @param id
-     * @return list of all user's history
+     * @param id       of the user
+     * @param from     first day of the history in UTC, {@code null} for no lower bound
+     * @param to       last day of the history in UTC, {@code null} for no upper bound
+     * @param page     number of the page
+     * @param pageSize size of the page
+     * @return page of user's history
      * @author Mariia Shchur
      */
-    List<Map<String, Object>> getUserHistory(Long id);
+    Page<Map<String, Object>> getUserHistory(Long id, LocalDate from, LocalDate to, Integer page, Integer pageSize);
 
     /**
-     * Method that returns all deleted accounts
+     * Method that passes the whole {@link User} history to consumer row by row
+     * without loading it into memory.
      *
-     * @return list of all deleted accounts
+     * @param id       of the user
+     * @param from     first day of the history in UTC, {@code null} for no lower bound
+     * @param to       last day of the history in UTC, {@code null} for no upper bound
+     * @param consumer of history rows
+     */
+    void exportUserHistory(Long id, LocalDate from, LocalDate to, Consumer<Map<String, Object>> consumer);
+
+    /**
+     * Method that returns page of deleted accounts
+     *
+     * @param from     first day of the history in UTC, {@code null} for no lower bound
+     * @param to       last day of the history in UTC, {@code null} for no upper bound
+     * @param page     number of the page
+     * @param pageSize size of the page
+     * @return page of deleted accounts
      * @author Mariia Shchur
      */
-    List<Map<String, Object>> getDeletedAccounts();
+    Page<Map<String, Object>> getDeletedAccounts(LocalDate from, LocalDate to, Integer page, Integer pageSize);
 
     /**
-     * Method that returns all ever created accounts(inactive,active and deleted)
+     * Method that returns page of all ever created accounts(inactive,active and deleted)
      *
-     * @return list of all accounts
+     * @param from     first day of the history in UTC, {@code null} for no lower bound
+     * @param to       last day of the history in UTC, {@code null} for no upper bound
+     * @param page     number of the page
+     * @param pageSize size of the page
+     * @return page of all accounts
      * @author Mariia Shchur
      */
-    List<Map<String, Object>> getAllAccounts();
+    Page<Map<String, Object>> getAllAccounts(LocalDate from, LocalDate to, Integer page, Integer pageSize);
 
     /**
-     * Method that returns all users history by accurate data
+     * Method that returns page of all users history by accurate data
      *
-     * @return list of all accounts
+     * @param date     day of the history in UTC
+     * @param page     number of the page
+     * @param pageSize size of the page
+     * @return page of all accounts
      * @author Mariia Shchur
      */
-    List<Map<String, Object>> getAllByData(String date);
+    Page<Map<String, Object>> getAllByData(LocalDate date, Integer page, Integer pageSize);
 }
@@ -19,7 +19,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.security.Principal;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 @Service
 public interface UserService {
@@ -117,6 +119,14 @@ public interface UserService {
      */
     User getById(long id);
 
+    /**
+     * Method that allow you to get {@link User} map by IDs with one query.
+     *
+     * @param ids collection of {@link User} IDs
+     * @return map of {@link User} by ID
+     */
+    Map<Long, User> getAllById(Collection<Long> ids);
+
     /**
      * Method that allow you to get {@link User} by email.
      *
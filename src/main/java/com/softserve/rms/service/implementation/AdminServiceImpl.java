@@ -3,12 +3,12 @@ package com.softserve.rms.service.implementation;
 import com.softserve.rms.dto.UserDto;
 import com.softserve.rms.dto.UserDtoRole;
 import com.softserve.rms.entities.User;
+import com.softserve.rms.mapper.UserMapper;
 import com.softserve.rms.repository.AdminRepository;
 import com.softserve.rms.service.AdminService;
 import org.hibernate.envers.AuditReader;
 import org.hibernate.envers.AuditReaderFactory;
 import org.hibernate.envers.query.AuditQuery;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -29,11 +29,11 @@ import static com.softserve.rms.util.PaginationUtil.validatePageSize;
 @Service
 public class AdminServiceImpl implements AdminService {
     private final AdminRepository adminRepository;
-    private ModelMapper modelMapper;
+    private final UserMapper userMapper;
    @Autowired
-    public AdminServiceImpl(AdminRepository adminRepository) {
-        modelMapper = new ModelMapper();
+    public AdminServiceImpl(AdminRepository adminRepository, UserMapper userMapper) {
         this.adminRepository = adminRepository;
+        this.userMapper = userMapper;
     }
     /**
      * Method returns list of all users
@@ -45,7 +45,7 @@ public class AdminServiceImpl implements AdminService {
     public Page<UserDto> findAll(Integer page, Integer pageSize) {
         Pageable pageable = PageRequest.of(validatePage(page), validatePageSize(pageSize));
         Page<User> users = adminRepository.findAll(pageable);
-        return users.map(user -> modelMapper.map(user, UserDto.class));
+        return users.map(userMapper::toDto);
     }
 
     /**
@@ -58,7 +58,7 @@ public class AdminServiceImpl implements AdminService {
     public Page<UserDto> findUsersByStatus(boolean status, Integer page, Integer pageSize) {
         Pageable pageable = PageRequest.of(validatePage(page), validatePageSize(pageSize));
         Page<User> users = adminRepository.getAllByEnabled(status, pageable);
-        return users.map(user -> modelMapper.map(user, UserDto.class));
+        return users.map(userMapper::toDto);
     }
 
     /**
@@ -80,7 +80,7 @@ public class AdminServiceImpl implements AdminService {
      */
     @Override
     public void create(UserDto entity) {
-        adminRepository.save(modelMapper.map(entity, User.class));
+        adminRepository.save(userMapper.toEntity(entity));
     }
 
     /**
@@ -91,7 +91,7 @@ public class AdminServiceImpl implements AdminService {
      */
     @Override
     public void update(UserDto entity) {
-        adminRepository.save(modelMapper.map(entity, User.class));
+        adminRepository.save(userMapper.toEntity(entity));
     }
 
     /**
@@ -0,0 +1,110 @@
+package com.softserve.rms.service.implementation;
+
+import com.softserve.rms.entities.PendingFileDeletion;
+import com.softserve.rms.repository.PendingFileDeletionRepository;
+import com.softserve.rms.service.FileCleanupService;
+import com.softserve.rms.service.ImageProcessingService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Implementation of {@link FileCleanupService}. Files are saved as {@link PendingFileDeletion} and deleted
+ * on a bounded worker pool, so requests deleting many records do not wait for the storage. Files left
+ * by a full queue, failed deletions or restart are deleted by the scheduled run.
+ */
+@Service
+public class FileCleanupServiceImpl implements FileCleanupService {
+    private static final Logger LOG = LoggerFactory.getLogger(FileCleanupServiceImpl.class);
+    private FileStorageServiceImpl fileStorageService;
+    private ImageProcessingService imageProcessingService;
+    private PendingFileDeletionRepository pendingFileDeletionRepository;
+    private TransactionTemplate transactionTemplate;
+    private Executor fileCleanupExecutor;
+
+    /**
+     * Constructor with parameters
+     */
+    @Autowired
+    public FileCleanupServiceImpl(FileStorageServiceImpl fileStorageService,
+                                  ImageProcessingService imageProcessingService,
+                                  PendingFileDeletionRepository pendingFileDeletionRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  @Qualifier("fileCleanupExecutor") Executor fileCleanupExecutor) {
+        this.fileStorageService = fileStorageService;
+        this.imageProcessingService = imageProcessingService;
+        this.pendingFileDeletionRepository = pendingFileDeletionRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.fileCleanupExecutor = fileCleanupExecutor;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void deleteFiles(Collection<String> photos, Collection<String> documents) {
+        if (photos.isEmpty() && documents.isEmpty()) {
+            return;
+        }
+        List<PendingFileDeletion> pendingFileDeletions = new ArrayList<>();
+        photos.forEach(photo -> pendingFileDeletions.add(new PendingFileDeletion(null, photo, true)));
+        documents.forEach(document -> pendingFileDeletions.add(new PendingFileDeletion(null, document, false)));
+        pendingFileDeletionRepository.saveAll(pendingFileDeletions);
+        try {
+            fileCleanupExecutor.execute(this::deletePendingFiles);
+        } catch (RejectedExecutionException e) {
+            LOG.info("File cleanup queue is full, files are deleted by the next scheduled run");
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Each file is locked and deleted in its own transaction, so a failed deletion rolls back
+     * its reference count and is retried by the next run.
+     */
+    @Scheduled(initialDelayString = "${fileCleanup.delayMs}", fixedDelayString = "${fileCleanup.delayMs}")
+    @Override
+    public void deletePendingFiles() {
+        List<PendingFileDeletion> batch = pendingFileDeletionRepository.findFirst100ByIdGreaterThanOrderById(0L);
+        while (!batch.isEmpty()) {
+            for (PendingFileDeletion pendingFileDeletion : batch) {
+                deletePendingFile(pendingFileDeletion.getId());
+            }
+            batch = pendingFileDeletionRepository.findFirst100ByIdGreaterThanOrderById(
+                    batch.get(batch.size() - 1).getId());
+        }
+    }
+
+    /**
+     * Method deletes file of {@link PendingFileDeletion} and removes it, failure is logged and
+     * does not stop deletion of other files.
+     *
+     * @param id of {@link PendingFileDeletion}
+     */
+    private void deletePendingFile(Long id) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> pendingFileDeletionRepository.findLockedById(id)
+                    .ifPresent(pendingFileDeletion -> {
+                        fileStorageService.deleteFile(pendingFileDeletion.getFileName());
+                        if (pendingFileDeletion.getPhoto()) {
+                            imageProcessingService.deleteDerivatives(pendingFileDeletion.getFileName());
+                        }
+                        pendingFileDeletionRepository.delete(pendingFileDeletion);
+                    }));
+        } catch (RuntimeException e) {
+            LOG.error("Can not delete file of pending deletion: " + id, e);
+        }
+    }
+}
@@ -1,14 +1,23 @@
 package com.softserve.rms.service.implementation;
 
+import com.amazonaws.HttpMethod;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
 import com.amazonaws.regions.Regions;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
-import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.softserve.rms.constants.ErrorMessage;
+import com.softserve.rms.dto.file.PresignedUrlDto;
+import com.softserve.rms.exceptions.NotSavedException;
+import com.softserve.rms.repository.FileReferenceRepository;
 import com.softserve.rms.service.FileStorageService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -16,18 +25,33 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import javax.annotation.PostConstruct;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
 import java.util.UUID;
 
 @Service
 public class FileStorageServiceImpl implements FileStorageService {
+    private static final String HASH_ALGORITHM = "SHA-256";
+    static final String UPLOAD_TIMER = "rms.upload";
+    static final String UPLOAD_SIZE = "rms.upload.size";
     private AmazonS3 s3client;
+    private FileReferenceRepository fileReferenceRepository;
+    private MeterRegistry meterRegistry;
     private String bucketName;
     private String accessKey;
     private String secretAccessKey;
-    private String endpointUrl;
+    private Long expireTimePresignedUrl;
+    private boolean contentAddressedStorage;
 
     /**
      * Constructor with parameters
@@ -39,11 +63,17 @@ public class FileStorageServiceImpl implements FileStorageService {
             @Value("${BUCKET_NAME}") String bucketName,
             @Value("${ACCESS_KEY}") String accessKey,
             @Value("${SECRET_ACCESS_KEY}") String secretAccessKey,
-            @Value("${ENDPOINT_URL}") String endpointUrl) {
+            @Value("${expireTimePresignedUrl}") Long expireTimePresignedUrl,
+            @Value("${contentAddressedStorage}") boolean contentAddressedStorage,
+            FileReferenceRepository fileReferenceRepository,
+            MeterRegistry meterRegistry) {
         this.bucketName = bucketName;
         this.accessKey = accessKey;
         this.secretAccessKey = secretAccessKey;
-        this.endpointUrl = endpointUrl;
+        this.expireTimePresignedUrl = expireTimePresignedUrl;
+        this.contentAddressedStorage = contentAddressedStorage;
+        this.fileReferenceRepository = fileReferenceRepository;
+        this.meterRegistry = meterRegistry;
     }
 
     /**
@@ -81,8 +111,7 @@ public class FileStorageServiceImpl implements FileStorageService {
      * @author Mariia Shchur
      */
     private void uploadFileTos3bucket(String fileName, File file) {
-        s3client.putObject(new PutObjectRequest(bucketName, fileName, file)
-                .withCannedAcl(CannedAccessControlList.PublicRead));
+        s3client.putObject(new PutObjectRequest(bucketName, fileName, file));
     }
 
     /**
@@ -104,17 +133,104 @@ public class FileStorageServiceImpl implements FileStorageService {
     @Transactional
     public String uploadFile(MultipartFile multipartFile) {
         String fileName = "";
+        Timer.Sample sample = Timer.start(meterRegistry);
         try {
+            if (contentAddressedStorage) {
+                return uploadContentAddressedFile(multipartFile);
+            }
             File file = convertMultiPartToFile(multipartFile);
             fileName = generateFileName();
             uploadFileTos3bucket(fileName, file);
             file.delete();
         } catch (Exception e) {
-            e.printStackTrace();
+            // rolls back reference count of content which is not stored
+            throw new NotSavedException(ErrorMessage.FILE_CAN_NOT_BE_UPLOADED.getMessage()
+                    + multipartFile.getOriginalFilename());
+        } finally {
+            recordUpload(sample, "file", multipartFile.getSize());
         }
         return fileName;
     }
 
+    /**
+     * Method that stores file under SHA-256 hash of its content, calculated while the
+     * stream is copied. File is uploaded to s3 bucket only once, every next upload of
+     * the same content just increments its reference count. Reference is counted only
+     * after the content is stored, concurrent first uploads put the same object twice.
+     *
+     * @param multipartFile
+     * @return hash of the file content used as file name
+     */
+    private String uploadContentAddressedFile(MultipartFile multipartFile) throws IOException, NoSuchAlgorithmException {
+        MessageDigest digest = MessageDigest.getInstance(HASH_ALGORITHM);
+        File file = File.createTempFile("upload", null);
+        try {
+            try (InputStream inputStream = new DigestInputStream(multipartFile.getInputStream(), digest)) {
+                Files.copy(inputStream, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+            String fileName = String.format("%064x", new BigInteger(1, digest.digest()));
+            boolean isStored = fileReferenceRepository.existsById(fileName);
+            if (!isStored) {
+                uploadFileTos3bucket(fileName, file);
+            }
+            fileReferenceRepository.incrementReferenceCount(fileName);
+            boolean isFirstReference = fileReferenceRepository.findById(fileName)
+                    .map(reference -> reference.getReferenceCount() == 1)
+                    .orElse(true);
+            if (isStored && isFirstReference) {
+                // the last reference was deleted with the content after it was checked
+                uploadFileTos3bucket(fileName, file);
+            }
+            return fileName;
+        } finally {
+            file.delete();
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void uploadFile(String fileName, byte[] content, String contentType) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(content.length);
+        metadata.setContentType(contentType);
+        try {
+            s3client.putObject(new PutObjectRequest(bucketName, fileName, new ByteArrayInputStream(content), metadata));
+        } finally {
+            recordUpload(sample, "generated", content.length);
+        }
+    }
+
+    /**
+     * Method that records latency and size of uploaded file to percentile histograms
+     *
+     * @param sample started when upload began
+     * @param source {@code file} for user uploads, {@code generated} for files produced by the application
+     * @param bytes  size of the file
+     */
+    private void recordUpload(Timer.Sample sample, String source, long bytes) {
+        sample.stop(Timer.builder(UPLOAD_TIMER)
+                .tag("source", source)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+        DistributionSummary.builder(UPLOAD_SIZE)
+                .tag("source", source)
+                .baseUnit("bytes")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(bytes);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public InputStream downloadFile(String fileName) {
+        return s3client.getObject(bucketName, fileName).getObjectContent();
+    }
+
     /**
      * {@inheritDoc }
      *
@@ -123,6 +239,68 @@ public class FileStorageServiceImpl implements FileStorageService {
     @Override
     @Transactional
     public void deleteFile(String fileName) {
+        if (contentAddressedStorage && fileReferenceRepository.decrementReferenceCount(fileName) > 0
+                && fileReferenceRepository.deleteUnreferenced(fileName) == 0) {
+            return;
+        }
         s3client.deleteObject(bucketName, fileName);
     }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public boolean isFileReferenced(String fileName) {
+        return contentAddressedStorage && fileReferenceRepository.existsById(fileName);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public PresignedUrlDto generatePresignedUploadUrl(String prefix, String contentType) {
+        String fileName = prefix + generateFileName();
+        Date expiration = generateExpirationDate();
+        GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucketName, fileName)
+                .withMethod(HttpMethod.PUT)
+                .withExpiration(expiration);
+        if (contentType != null) {
+            request.setContentType(contentType);
+        }
+        return new PresignedUrlDto(fileName, s3client.generatePresignedUrl(request).toString(), expiration);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public String generatePresignedDownloadUrl(String fileName) {
+        return s3client.generatePresignedUrl(bucketName, fileName, generateExpirationDate(), HttpMethod.GET)
+                .toString();
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public long getPresignedUrlPeriod() {
+        return System.currentTimeMillis() / Math.max(expireTimePresignedUrl / 2, 1);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public boolean isFileExist(String fileName) {
+        return s3client.doesObjectExist(bucketName, fileName);
+    }
+
+    /**
+     * Method that calculates expiration date of presigned url
+     *
+     * @return Date
+     */
+    private Date generateExpirationDate() {
+        return new Date(System.currentTimeMillis() + expireTimePresignedUrl);
+    }
 }
@@ -13,13 +13,14 @@ import com.softserve.rms.exceptions.NotFoundException;
 import com.softserve.rms.exceptions.NotUniqueMemberException;
 import com.softserve.rms.exceptions.NotUniqueNameException;
 import com.softserve.rms.exceptions.PermissionException;
+import com.softserve.rms.mapper.GroupMapper;
+import com.softserve.rms.mapper.UserMapper;
 import com.softserve.rms.repository.GroupMemberRepository;
 import com.softserve.rms.repository.GroupRepository;
 import com.softserve.rms.repository.UserRepository;
 import com.softserve.rms.service.GroupService;
 import com.softserve.rms.service.PermissionManagerService;
 import com.softserve.rms.util.PaginationUtil;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Page;
@@ -50,38 +51,41 @@ public class GroupServiceImpl  implements GroupService {
     private GroupRepository groupRepository;
     private GroupMemberRepository groupMemberRepository;
     private PermissionManagerService permissionManagerService;
-    private ModelMapper modelMapper;
+    private GroupMapper groupMapper;
+    private UserMapper userMapper;
     private final String writePermission = "write";
 
     @Autowired
     public GroupServiceImpl(UserRepository userRepository, GroupRepository groupRepository,
                             GroupMemberRepository groupMemberRepository,
-                            PermissionManagerService permissionManagerService, ModelMapper modelMapper) {
+                            PermissionManagerService permissionManagerService, GroupMapper groupMapper,
+                            UserMapper userMapper) {
         this.userRepository = userRepository;
         this.groupRepository = groupRepository;
         this.groupMemberRepository = groupMemberRepository;
         this.permissionManagerService = permissionManagerService;
-        this.modelMapper = modelMapper;
+        this.groupMapper = groupMapper;
+        this.userMapper = userMapper;
     }
 
     @Override
     public Page<GroupDto> getAll(Integer page, Integer pageSize) {
         Pageable pageable = PageRequest.of(validatePage(page), validatePageSize(pageSize), Sort.Direction.DESC, "id");
         return groupRepository.findAll(pageable)
-                .map(group -> modelMapper.map(group, GroupDto.class));
+                .map(groupMapper::toDto);
     }
 
     @Override
     public Page<MemberDto> getAllMembers(Long groupId, Integer page, Integer pageSize) {
         Pageable pageable = PageRequest.of(validatePage(page), validatePageSize(pageSize));
         Page<User> users = groupRepository.findAllMembers(groupId, pageable);
-        return users.map(user -> modelMapper.map(user, MemberDto.class));
+        return users.map(userMapper::toMemberDto);
     }
 
     @Override
     public GroupDto getByName(String name) throws NotFoundException {
-        return modelMapper.map(groupRepository.findByName(name)
-                .orElseThrow(() -> new NotFoundException(ErrorMessage.GROUP_DO_NOT_EXISTS.getMessage())), GroupDto.class);
+        return groupMapper.toDto(groupRepository.findByName(name)
+                .orElseThrow(() -> new NotFoundException(ErrorMessage.GROUP_DO_NOT_EXISTS.getMessage())));
     }
 
     @Transactional
@@ -91,7 +95,7 @@ public class GroupServiceImpl  implements GroupService {
             throw new RuntimeException(ErrorMessage.CANNOT_ADD_EMPTY_NAME.getMessage());
         }
         verifyIfGroupNameIsUnique(groupSaveDto.getName());
-        Group newGroup = groupRepository.save(modelMapper.map(groupSaveDto, Group.class));
+        Group newGroup = groupRepository.save(groupMapper.toEntity(groupSaveDto));
         Principal principal = SecurityContextHolder.getContext().getAuthentication();
         String mail = principal.getName();
         User user = userRepository.findUserByEmail(mail).orElseThrow(
@@ -99,7 +103,7 @@ public class GroupServiceImpl  implements GroupService {
         );
         permissionManagerService.addPermission(new PermissionDto(newGroup.getId(), user.getEmail(), "write", true),
                 principal, Group.class);
-        return modelMapper.map(newGroup, GroupDto.class);
+        return groupMapper.toDto(newGroup);
     }
 
     @Override
@@ -145,7 +149,7 @@ public class GroupServiceImpl  implements GroupService {
             group.setDescription(groupSaveDto.getDescription());
         }
         groupRepository.save(group);
-        return modelMapper.map(group, GroupDto.class);
+        return groupMapper.toDto(group);
     }
 
     @Transactional
@@ -0,0 +1,248 @@
+package com.softserve.rms.service.implementation;
+
+import com.softserve.rms.entities.ImageDerivatives;
+import com.softserve.rms.repository.ImageDerivativesRepository;
+import com.softserve.rms.service.ImageProcessingService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Implementation of {@link ImageProcessingService}, which resizes images with {@link ImageIO}
+ * on a bounded worker pool. Images are decoded subsampled toward the largest derivative and only
+ * up to configured number of pixels. Names of generated derivatives are saved in {@link ImageDerivatives},
+ * so only stored files are advertised.
+ */
+@Service
+public class ImageProcessingServiceImpl implements ImageProcessingService {
+    private static final Logger LOG = LoggerFactory.getLogger(ImageProcessingServiceImpl.class);
+    private static final String DERIVATIVE_FORMAT = "jpg";
+    private static final String DERIVATIVE_CONTENT_TYPE = "image/jpeg";
+    private FileStorageServiceImpl fileStorageService;
+    private ImageDerivativesRepository imageDerivativesRepository;
+    private Executor imageProcessingExecutor;
+    private Map<String, Integer> derivatives;
+    private int largestDerivativeSize;
+    private long maxPixels;
+
+    /**
+     * Constructor with parameters
+     *
+     * @param imageDerivatives comma separated list of derivatives in format name:maxSize
+     * @param maxPixels        number of pixels of the biggest image which is decoded
+     */
+    @Autowired
+    public ImageProcessingServiceImpl(FileStorageServiceImpl fileStorageService,
+                                      ImageDerivativesRepository imageDerivativesRepository,
+                                      @Qualifier("imageProcessingExecutor") Executor imageProcessingExecutor,
+                                      @Value("${imageDerivatives}") String imageDerivatives,
+                                      @Value("${imageProcessing.maxPixels}") long maxPixels) {
+        this.fileStorageService = fileStorageService;
+        this.imageDerivativesRepository = imageDerivativesRepository;
+        this.imageProcessingExecutor = imageProcessingExecutor;
+        this.derivatives = parseDerivatives(imageDerivatives);
+        this.largestDerivativeSize = Collections.max(derivatives.values());
+        this.maxPixels = maxPixels;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void generateDerivatives(String fileName) {
+        try {
+            imageProcessingExecutor.execute(() -> processImage(fileName));
+        } catch (RejectedExecutionException e) {
+            LOG.warn("Image processing queue is full, derivatives are not generated for: " + fileName);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, String> getDerivativeFileNames(String fileName) {
+        return getDerivativeFileNames(Collections.singleton(fileName)).get(fileName);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, Map<String, String>> getDerivativeFileNames(Collection<String> fileNames) {
+        Map<String, Set<String>> generated = new HashMap<>();
+        if (!fileNames.isEmpty()) {
+            for (ImageDerivatives imageDerivatives : imageDerivativesRepository.findAllById(new HashSet<>(fileNames))) {
+                generated.put(imageDerivatives.getFileName(),
+                        new HashSet<>(Arrays.asList(imageDerivatives.getDerivativeNames().split(","))));
+            }
+        }
+        Map<String, Map<String, String>> result = new LinkedHashMap<>();
+        for (String fileName : fileNames) {
+            Set<String> generatedNames = generated.getOrDefault(fileName, Collections.emptySet());
+            Map<String, String> derivativeFileNames = new LinkedHashMap<>();
+            derivatives.keySet().forEach(name -> derivativeFileNames.put(name,
+                    generatedNames.contains(name) ? getDerivativeFileName(fileName, name) : fileName));
+            result.put(fileName, derivativeFileNames);
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void deleteDerivatives(String fileName) {
+        if (fileStorageService.isFileReferenced(fileName)) {
+            return;
+        }
+        imageDerivativesRepository.findById(fileName).ifPresent(imageDerivativesRepository::delete);
+        derivatives.keySet().forEach(name -> fileStorageService.deleteFile(getDerivativeFileName(fileName, name)));
+    }
+
+    /**
+     * Method reads original image from the storage, stores all configured derivatives and saves
+     * names of stored ones. Files which are not images and too big images are skipped.
+     *
+     * @param fileName of the stored original image
+     */
+    private void processImage(String fileName) {
+        BufferedImage original;
+        try (InputStream inputStream = fileStorageService.downloadFile(fileName)) {
+            original = readImage(fileName, inputStream);
+        } catch (IOException | RuntimeException e) {
+            LOG.error("Can not read image: " + fileName, e);
+            return;
+        }
+        if (original == null) {
+            return;
+        }
+        List<String> generated = new ArrayList<>();
+        for (Map.Entry<String, Integer> derivative : derivatives.entrySet()) {
+            try {
+                fileStorageService.uploadFile(getDerivativeFileName(fileName, derivative.getKey()),
+                        encode(resize(original, derivative.getValue())), DERIVATIVE_CONTENT_TYPE);
+                generated.add(derivative.getKey());
+            } catch (IOException | RuntimeException e) {
+                LOG.error("Can not generate " + derivative.getKey() + " derivative for image: " + fileName, e);
+            }
+        }
+        if (!generated.isEmpty()) {
+            try {
+                imageDerivativesRepository.save(new ImageDerivatives(fileName, String.join(",", generated)));
+            } catch (RuntimeException e) {
+                LOG.error("Can not save derivatives of image: " + fileName, e);
+            }
+        }
+    }
+
+    /**
+     * Method reads size of the image before decoding it. Image is decoded only if it has no more
+     * than {@code maxPixels} pixels, and every n-th pixel is read, so the longest side is still
+     * not smaller than the largest derivative.
+     *
+     * @param fileName    of the stored original image
+     * @param inputStream content of the image
+     * @return decoded image, null if the file is not an image or the image is too big
+     */
+    private BufferedImage readImage(String fileName, InputStream inputStream) throws IOException {
+        try (ImageInputStream imageInputStream = ImageIO.createImageInputStream(inputStream)) {
+            Iterator<ImageReader> readers = imageInputStream == null ? Collections.emptyIterator()
+                    : ImageIO.getImageReaders(imageInputStream);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInputStream, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    LOG.warn("Image " + fileName + " of " + width + "x" + height
+                            + " is too big, derivatives are not generated");
+                    return null;
+                }
+                int subsampling = Math.max(1, Math.max(width, height) / largestDerivativeSize);
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Method scales image down, so that its longest side is not bigger than provided size.
+     *
+     * @param original image
+     * @param maxSize  of the longest side
+     * @return scaled image
+     */
+    private BufferedImage resize(BufferedImage original, int maxSize) {
+        double scale = Math.min(1.0, (double) maxSize / Math.max(original.getWidth(), original.getHeight()));
+        int width = Math.max(1, (int) Math.round(original.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(original.getHeight() * scale));
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(original, 0, 0, width, height, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+
+    /**
+     * Method encodes image into derivative format.
+     *
+     * @param image to encode
+     * @return encoded bytes
+     */
+    private byte[] encode(BufferedImage image) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, DERIVATIVE_FORMAT, outputStream);
+        return outputStream.toByteArray();
+    }
+
+    private String getDerivativeFileName(String fileName, String derivativeName) {
+        return fileName + '_' + derivativeName;
+    }
+
+    private Map<String, Integer> parseDerivatives(String imageDerivatives) {
+        Map<String, Integer> result = new LinkedHashMap<>();
+        for (String derivative : imageDerivatives.split(",")) {
+            String[] nameAndSize = derivative.trim().split(":");
+            result.put(nameAndSize[0], Integer.parseInt(nameAndSize[1]));
+        }
+        return result;
+    }
+}
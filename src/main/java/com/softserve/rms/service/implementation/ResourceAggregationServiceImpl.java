@@ -0,0 +1,81 @@
+package com.softserve.rms.service.implementation;
+
+import com.softserve.rms.constants.ErrorMessage;
+import com.softserve.rms.dto.resourceRecord.ResourceRecordAggregationDTO;
+import com.softserve.rms.dto.resourceRecord.ResourceRecordAggregationResultDTO;
+import com.softserve.rms.entities.ResourceTemplate;
+import com.softserve.rms.exceptions.resourseTemplate.ResourceTemplateIsNotPublishedException;
+import com.softserve.rms.repository.ResourceRecordRepository;
+import com.softserve.rms.service.ResourceAggregationService;
+import com.softserve.rms.service.ResourceTemplateService;
+import com.softserve.rms.util.ResourceRecordAggregation;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class ResourceAggregationServiceImpl implements ResourceAggregationService {
+    private final ResourceRecordRepository resourceRecordRepository;
+    private final ResourceTemplateService resourceTemplateService;
+    private final int maxGroups;
+    private final Map<List<Object>, ResourceRecordAggregationResultDTO> results;
+
+    /**
+     * Constructor with parameters
+     *
+     * @param maxGroups maximum number of groups returned by one aggregation
+     * @param cacheSize maximum number of results kept for reuse
+     */
+    @Autowired
+    public ResourceAggregationServiceImpl(ResourceRecordRepository resourceRecordRepository,
+                                          ResourceTemplateService resourceTemplateService,
+                                          @Value("${aggregation.maxGroups}") int maxGroups,
+                                          @Value("${aggregation.cacheSize}") int cacheSize) {
+        this.resourceRecordRepository = resourceRecordRepository;
+        this.resourceTemplateService = resourceTemplateService;
+        this.maxGroups = maxGroups;
+        this.results = Collections.synchronizedMap(
+                new LinkedHashMap<List<Object>, ResourceRecordAggregationResultDTO>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<List<Object>, ResourceRecordAggregationResultDTO> eldest) {
+                        return size() > cacheSize;
+                    }
+                });
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Results are kept by version of the template and version of container table, which is
+     * changed by trigger with every statement writing the table, so a kept result is never older
+     * than the table.
+     */
+    @Override
+    public ResourceRecordAggregationResultDTO aggregate(String tableName, ResourceRecordAggregationDTO aggregation) {
+        ResourceTemplate resourceTemplate = resourceTemplateService.findByTableName(tableName);
+        if (!resourceTemplate.getIsPublished()) {
+            throw new ResourceTemplateIsNotPublishedException(
+                    ErrorMessage.RESOURCE_TEMPLATE_IS_NOT_PUBLISHED.getMessage() + tableName);
+        }
+        ResourceRecordAggregation compiled = ResourceRecordAggregation.of(resourceTemplate, aggregation);
+        List<Object> key = Arrays.asList(tableName, resourceTemplate.getVersion(),
+                resourceRecordRepository.findTableVersion(tableName), aggregation);
+        ResourceRecordAggregationResultDTO result = results.get(key);
+        if (result == null) {
+            List<Map<String, Object>> rows = resourceRecordRepository.aggregate(tableName, compiled.getGroupBy(),
+                    compiled.getAggregates(), compiled.getCondition(), maxGroups + 1);
+            boolean truncated = rows.size() > maxGroups;
+            result = new ResourceRecordAggregationResultDTO(
+                    truncated ? new ArrayList<>(rows.subList(0, maxGroups)) : rows, truncated);
+            results.put(key, result);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,423 @@
+package com.softserve.rms.service.implementation;
+
+import com.softserve.rms.constants.ErrorMessage;
+import com.softserve.rms.constants.FieldConstants;
+import com.softserve.rms.dto.resourceRecord.ResourceBackfillDTO;
+import com.softserve.rms.dto.resourceRecord.ResourceBackfillSaveDTO;
+import com.softserve.rms.entities.ParameterType;
+import com.softserve.rms.entities.ResourceBackfill;
+import com.softserve.rms.entities.ResourceParameter;
+import com.softserve.rms.entities.ResourceTemplate;
+import com.softserve.rms.exceptions.BadRequestException;
+import com.softserve.rms.exceptions.NotFoundException;
+import com.softserve.rms.exceptions.resourseTemplate.ResourceTemplateIsNotPublishedException;
+import com.softserve.rms.repository.ResourceBackfillRepository;
+import com.softserve.rms.repository.ResourceRecordRepository;
+import com.softserve.rms.repository.implementation.JooqDDL;
+import com.softserve.rms.service.ResourceBackfillService;
+import com.softserve.rms.service.ResourceTemplateService;
+import com.softserve.rms.util.ResourceRecordFilter;
+import org.jooq.Condition;
+import org.jooq.Field;
+import org.jooq.Table;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static com.softserve.rms.util.PaginationUtil.validatePage;
+import static com.softserve.rms.util.PaginationUtil.validatePageSize;
+import static org.jooq.impl.DSL.coalesce;
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.DSL.or;
+import static org.jooq.impl.DSL.select;
+import static org.jooq.impl.DSL.table;
+import static org.jooq.impl.DSL.trueCondition;
+import static org.jooq.impl.DSL.val;
+
+/**
+ * Implementation of {@link ResourceBackfillService}. Records are walked by chunks ordered by id
+ * with {@link ResourceRecordRepository#updateChunk}, each chunk in its own transaction, and id of
+ * the last processed record is saved after every chunk. Transformations only change records,
+ * which are not transformed yet, so the chunk repeated after restart changes nothing. Records changed
+ * concurrently are skipped by the chunk, so walking stops only at a chunk without changed records.
+ */
+@Service
+public class ResourceBackfillServiceImpl implements ResourceBackfillService {
+    private static final Logger LOG = LoggerFactory.getLogger(ResourceBackfillServiceImpl.class);
+    private static final int MAX_ERROR_LENGTH = 1000;
+    private static final String REFERENCED = "referenced";
+    private final ResourceBackfillRepository resourceBackfillRepository;
+    private final ResourceRecordRepository resourceRecordRepository;
+    private final ResourceTemplateService resourceTemplateService;
+    private final JooqDDL jooqDDL;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor backfillExecutor;
+    private final int chunkSize;
+    private final long chunkDelay;
+
+    /**
+     * Constructor with parameters
+     *
+     * @param chunkSize  maximum number of records changed by one statement
+     * @param chunkDelay time in milliseconds between chunks, which leaves the database to other queries
+     */
+    @Autowired
+    public ResourceBackfillServiceImpl(ResourceBackfillRepository resourceBackfillRepository,
+                                       ResourceRecordRepository resourceRecordRepository,
+                                       ResourceTemplateService resourceTemplateService, JooqDDL jooqDDL,
+                                       PlatformTransactionManager transactionManager,
+                                       @Qualifier("backfillExecutor") Executor backfillExecutor,
+                                       @Value("${backfill.chunkSize}") int chunkSize,
+                                       @Value("${backfill.chunkDelayMs}") long chunkDelay) {
+        this.resourceBackfillRepository = resourceBackfillRepository;
+        this.resourceRecordRepository = resourceRecordRepository;
+        this.resourceTemplateService = resourceTemplateService;
+        this.jooqDDL = jooqDDL;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.backfillExecutor = backfillExecutor;
+        this.chunkSize = chunkSize;
+        this.chunkDelay = chunkDelay;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResourceBackfillDTO start(String tableName, ResourceBackfillSaveDTO resourceBackfillSaveDTO) {
+        // checks access of current user, chunks are run by executor threads without authentication
+        resourceTemplateService.findByTableName(tableName);
+        ResourceBackfill resourceBackfill = create(tableName, resourceBackfillSaveDTO.getTransformation(),
+                resourceBackfillSaveDTO.getColumnName(), resourceBackfillSaveDTO.getArgument(), true);
+        startAfterCommit(resourceBackfill.getId());
+        return convertToDTO(resourceBackfill);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResourceBackfill startWithoutAccessCheck(String tableName, ResourceBackfill.Transformation transformation) {
+        ResourceBackfill resourceBackfill = create(tableName, transformation, null, null, true);
+        startAfterCommit(resourceBackfill.getId());
+        return resourceBackfill;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResourceBackfill create(String tableName, ResourceBackfill.Transformation transformation,
+                                   String columnName, String argument) {
+        return create(tableName, transformation, columnName, argument, false);
+    }
+
+    /**
+     * Method validates and saves {@link ResourceBackfill}. Records added after it is created are not
+     * processed, since they are written with current defaults and triggers.
+     */
+    private ResourceBackfill create(String tableName, ResourceBackfill.Transformation transformation,
+                                    String columnName, String argument, boolean standalone) {
+        if (transformation == null) {
+            throw new BadRequestException(ErrorMessage.RESOURCE_BACKFILL_TRANSFORMATION_IS_EMPTY.getMessage());
+        }
+        ResourceBackfill resourceBackfill = new ResourceBackfill();
+        resourceBackfill.setTableName(tableName);
+        resourceBackfill.setTransformation(transformation);
+        resourceBackfill.setColumnName(columnName);
+        resourceBackfill.setArgument(argument);
+        resourceBackfill.setStandalone(standalone);
+        resourceBackfill.setStatus(ResourceBackfill.Status.RUNNING);
+        resourceBackfill.setLastId(0L);
+        resourceBackfill.setProcessedRecords(0L);
+        transactionTemplate.executeWithoutResult(status -> toChunkUpdate(resourceBackfill));
+        resourceBackfill.setMaxId(resourceRecordRepository.findMaxId(tableName));
+        return resourceBackfillRepository.save(resourceBackfill);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResourceBackfill run(Long backfillId) {
+        ResourceBackfill resourceBackfill = findEntityById(backfillId);
+        if (resourceBackfill.getStatus() != ResourceBackfill.Status.RUNNING) {
+            return resourceBackfill;
+        }
+        String tableName = resourceBackfill.getTableName();
+        try {
+            ChunkUpdate update = transactionTemplate.execute(status -> toChunkUpdate(resourceBackfill));
+            Condition condition = update.condition.and(field(FieldConstants.ID.getValue(), Long.class)
+                    .le(resourceBackfill.getMaxId()));
+            List<Long> ids;
+            do {
+                ids = resourceRecordRepository.updateChunk(tableName, condition, update.values,
+                        resourceBackfill.getLastId(), chunkSize, update.nextVersion);
+                for (Long id : ids) {
+                    resourceBackfill.setLastId(Math.max(resourceBackfill.getLastId(), id));
+                }
+                if (!ids.isEmpty()) {
+                    resourceBackfill.setProcessedRecords(resourceBackfill.getProcessedRecords() + ids.size());
+                    resourceBackfillRepository.save(resourceBackfill);
+                    if (!pause()) {
+                        LOG.info("Backfill " + backfillId + " of table " + tableName + " is interrupted");
+                        return resourceBackfill;
+                    }
+                }
+            } while (!ids.isEmpty());
+            resourceBackfill.setLastId(resourceBackfill.getMaxId());
+            resourceBackfill.setStatus(ResourceBackfill.Status.COMPLETED);
+        } catch (RuntimeException e) {
+            LOG.error("Backfill " + backfillId + " of table " + tableName + " failed", e);
+            resourceBackfill.setStatus(ResourceBackfill.Status.FAILED);
+            String error = String.valueOf(e.getMessage());
+            resourceBackfill.setError(error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+        }
+        return resourceBackfillRepository.save(resourceBackfill);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResourceBackfill rewind(Long backfillId) {
+        ResourceBackfill resourceBackfill = findEntityById(backfillId);
+        resourceBackfill.setStatus(ResourceBackfill.Status.RUNNING);
+        resourceBackfill.setLastId(0L);
+        resourceBackfill.setMaxId(resourceRecordRepository.findMaxId(resourceBackfill.getTableName()));
+        resourceBackfill.setError(null);
+        return resourceBackfillRepository.save(resourceBackfill);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResourceBackfillDTO findById(String tableName, Long backfillId) {
+        return resourceBackfillRepository.findByIdAndTableName(backfillId, tableName)
+                .map(this::convertToDTO)
+                .orElseThrow(() -> new NotFoundException(
+                        ErrorMessage.RESOURCE_BACKFILL_CAN_NOT_BE_FOUND_BY_ID.getMessage() + backfillId));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Page<ResourceBackfillDTO> findAllByTableName(String tableName, Integer page, Integer pageSize) {
+        return resourceBackfillRepository.findAllByTableNameOrderByIdDesc(tableName,
+                PageRequest.of(validatePage(page), validatePageSize(pageSize)))
+                .map(this::convertToDTO);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @Override
+    public void resumeBackfills() {
+        for (ResourceBackfill resourceBackfill : resourceBackfillRepository
+                .findAllByStatusAndStandaloneTrueOrderById(ResourceBackfill.Status.RUNNING)) {
+            start(resourceBackfill.getId());
+        }
+    }
+
+    private ResourceBackfill findEntityById(Long backfillId) {
+        return resourceBackfillRepository.findById(backfillId)
+                .orElseThrow(() -> new NotFoundException(
+                        ErrorMessage.RESOURCE_BACKFILL_CAN_NOT_BE_FOUND_BY_ID.getMessage() + backfillId));
+    }
+
+    /**
+     * Method starts backfill when current transaction is committed, so the backfill is saved.
+     *
+     * @param backfillId {@link ResourceBackfill} id
+     */
+    private void startAfterCommit(Long backfillId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            start(backfillId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void afterCommit() {
+                start(backfillId);
+            }
+        });
+    }
+
+    private void start(Long backfillId) {
+        try {
+            backfillExecutor.execute(() -> run(backfillId));
+        } catch (RejectedExecutionException e) {
+            LOG.warn("Backfill queue is full, backfill is continued after restart: " + backfillId);
+        }
+    }
+
+    /**
+     * Method waits between chunks.
+     *
+     * @return false if the thread is interrupted
+     */
+    private boolean pause() {
+        if (chunkDelay <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(chunkDelay);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Method compiles transformation of {@link ResourceBackfill} to values of chunk update and condition
+     * of records, which are not transformed yet. Template is read in transaction, because its parameters
+     * are loaded lazily and backfills run outside of request threads. Access is not checked here,
+     * since executor threads have no authenticated user.
+     *
+     * @param resourceBackfill {@link ResourceBackfill}
+     * @return {@link ChunkUpdate}
+     * @throws ResourceTemplateIsNotPublishedException if the template is not published
+     * @throws BadRequestException                    if column or argument is not valid for the transformation
+     */
+    private ChunkUpdate toChunkUpdate(ResourceBackfill resourceBackfill) {
+        String tableName = resourceBackfill.getTableName();
+        ResourceTemplate resourceTemplate = resourceTemplateService.findByTableNameWithoutAccessCheck(tableName);
+        if (!resourceTemplate.getIsPublished()) {
+            throw new ResourceTemplateIsNotPublishedException(
+                    ErrorMessage.RESOURCE_TEMPLATE_IS_NOT_PUBLISHED.getMessage() + tableName);
+        }
+        switch (resourceBackfill.getTransformation()) {
+            case DEFAULT_VALUE:
+                return toDefaultValueUpdate(resourceTemplate, resourceBackfill);
+            case REFERENCE_NAME:
+                return toReferenceNameUpdate(resourceTemplate, resourceBackfill);
+            default:
+                // search triggers compute search vector when name is written, clients read the same record
+                return new ChunkUpdate(trueCondition(), Collections.singletonMap(FieldConstants.NAME.getValue(),
+                        field(name(FieldConstants.NAME.getValue()))), false);
+        }
+    }
+
+    /**
+     * Method sets the argument to columns of parameter, which are null.
+     */
+    private ChunkUpdate toDefaultValueUpdate(ResourceTemplate resourceTemplate, ResourceBackfill resourceBackfill) {
+        ResourceParameter resourceParameter = findParameter(resourceTemplate, resourceBackfill.getColumnName());
+        List<String> columns = jooqDDL.getRequiredParameterColumns(resourceParameter);
+        if (columns.isEmpty()) {
+            throw new BadRequestException(
+                    ErrorMessage.RESOURCE_COLUMN_IS_NOT_VALID.getMessage() + resourceBackfill.getColumnName());
+        }
+        if (resourceBackfill.getArgument() == null) {
+            throw new BadRequestException(
+                    ErrorMessage.RESOURCE_COLUMN_VALUE_IS_NOT_VALID.getMessage() + resourceBackfill.getColumnName());
+        }
+        Map<String, Object> arguments = new LinkedHashMap<>();
+        for (String column : columns) {
+            arguments.put(column, resourceBackfill.getArgument());
+        }
+        Map<String, Object> values = new LinkedHashMap<>();
+        List<Condition> conditions = new ArrayList<>();
+        for (Map.Entry<String, Object> value : ResourceRecordFilter.of(resourceTemplate).toValues(arguments).entrySet()) {
+            Field<Object> column = field(name(value.getKey()));
+            values.put(value.getKey(), coalesce(column, val(value.getValue())));
+            conditions.add(column.isNull());
+        }
+        return new ChunkUpdate(or(conditions), values);
+    }
+
+    /**
+     * Method sets name of referenced record to reference name column of Point Reference parameter,
+     * where it differs.
+     */
+    private ChunkUpdate toReferenceNameUpdate(ResourceTemplate resourceTemplate, ResourceBackfill resourceBackfill) {
+        ResourceParameter resourceParameter = findParameter(resourceTemplate, resourceBackfill.getColumnName());
+        if (resourceParameter.getParameterType() != ParameterType.POINT_REFERENCE
+                || resourceParameter.getResourceRelations() == null) {
+            throw new BadRequestException(
+                    ErrorMessage.RESOURCE_COLUMN_IS_NOT_VALID.getMessage() + resourceBackfill.getColumnName());
+        }
+        String tableName = resourceTemplate.getTableName();
+        String referenceColumn = resourceParameter.getColumnName().concat(FieldConstants.REFERENCE.getValue());
+        String referenceNameColumn = resourceParameter.getColumnName()
+                .concat(FieldConstants.REFERENCE_NAME.getValue());
+        // referenced table is aliased, since a template can reference itself
+        Table<?> referenced = table(name(resourceParameter.getResourceRelations().getRelatedResourceTemplate()
+                .getTableName())).as(REFERENCED);
+        Field<Object> referencedName = select(field(name(REFERENCED, FieldConstants.NAME.getValue())))
+                .from(referenced)
+                .where(field(name(REFERENCED, FieldConstants.ID.getValue()))
+                        .eq(field(name(tableName, referenceColumn))))
+                .asField();
+        Condition condition = field(name(tableName, referenceColumn)).isNotNull()
+                .and(field(name(tableName, referenceNameColumn)).isDistinctFrom(referencedName));
+        return new ChunkUpdate(condition, Collections.singletonMap(referenceNameColumn, referencedName));
+    }
+
+    private ResourceParameter findParameter(ResourceTemplate resourceTemplate, String columnName) {
+        if (resourceTemplate.getResourceParameters() != null) {
+            for (ResourceParameter resourceParameter : resourceTemplate.getResourceParameters()) {
+                if (resourceParameter.getColumnName().equals(columnName)) {
+                    return resourceParameter;
+                }
+            }
+        }
+        throw new BadRequestException(ErrorMessage.RESOURCE_COLUMN_IS_NOT_VALID.getMessage() + columnName);
+    }
+
+    private ResourceBackfillDTO convertToDTO(ResourceBackfill resourceBackfill) {
+        int progress = resourceBackfill.getStatus() == ResourceBackfill.Status.COMPLETED
+                || resourceBackfill.getMaxId() == 0 ? 100
+                : (int) (resourceBackfill.getLastId() * 100 / resourceBackfill.getMaxId());
+        return new ResourceBackfillDTO(resourceBackfill.getId(), resourceBackfill.getTransformation(),
+                resourceBackfill.getColumnName(), resourceBackfill.getStatus(),
+                resourceBackfill.getProcessedRecords(), resourceBackfill.getLastId(), resourceBackfill.getMaxId(),
+                progress, resourceBackfill.getError(), resourceBackfill.getCreatedAt(),
+                resourceBackfill.getUpdatedAt());
+    }
+
+    /**
+     * Values and condition of records of chunk update.
+     */
+    private static final class ChunkUpdate {
+        private final Condition condition;
+        private final Map<String, Object> values;
+        private final boolean nextVersion;
+
+        private ChunkUpdate(Condition condition, Map<String, Object> values) {
+            this(condition, values, true);
+        }
+
+        private ChunkUpdate(Condition condition, Map<String, Object> values, boolean nextVersion) {
+            this.condition = condition;
+            this.values = values;
+            this.nextVersion = nextVersion;
+        }
+    }
+}
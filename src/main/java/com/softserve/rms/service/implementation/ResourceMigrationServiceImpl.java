@@ -0,0 +1,353 @@
+package com.softserve.rms.service.implementation;
+
+import com.softserve.rms.constants.ErrorMessage;
+import com.softserve.rms.dto.template.ResourceMigrationDTO;
+import com.softserve.rms.entities.ParameterType;
+import com.softserve.rms.entities.ResourceBackfill;
+import com.softserve.rms.entities.ResourceMigration;
+import com.softserve.rms.entities.ResourceParameter;
+import com.softserve.rms.entities.ResourceTemplate;
+import com.softserve.rms.exceptions.BadRequestException;
+import com.softserve.rms.exceptions.NotFoundException;
+import com.softserve.rms.exceptions.resourceParameter.ResourceParameterCanNotBeModified;
+import com.softserve.rms.repository.ResourceMigrationRepository;
+import com.softserve.rms.repository.implementation.JooqDDL;
+import com.softserve.rms.service.ResourceBackfillService;
+import com.softserve.rms.service.ResourceMigrationService;
+import com.softserve.rms.service.ResourceTemplateService;
+import org.jooq.exception.DataTypeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static com.softserve.rms.util.PaginationUtil.validatePage;
+import static com.softserve.rms.util.PaginationUtil.validatePageSize;
+
+/**
+ * Implementation of {@link ResourceMigrationService}. Schema changes, which only change the catalog,
+ * are made in the transaction changing parameters. Existing records of new parameter are filled
+ * in background by {@link ResourceBackfillService}, so writers are never blocked for long.
+ */
+@Service
+public class ResourceMigrationServiceImpl implements ResourceMigrationService {
+    private static final Logger LOG = LoggerFactory.getLogger(ResourceMigrationServiceImpl.class);
+    private static final int MAX_ERROR_LENGTH = 1000;
+    private final ResourceMigrationRepository resourceMigrationRepository;
+    private final ResourceBackfillService resourceBackfillService;
+    private final ResourceTemplateService resourceTemplateService;
+    private final JooqDDL jooqDDL;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor migrationExecutor;
+    private final int lockTimeout;
+
+    /**
+     * Constructor with parameters
+     *
+     * @param lockTimeout time in milliseconds, which schema changes wait for locks of container table
+     */
+    @Autowired
+    public ResourceMigrationServiceImpl(ResourceMigrationRepository resourceMigrationRepository,
+                                        ResourceBackfillService resourceBackfillService,
+                                        ResourceTemplateService resourceTemplateService, JooqDDL jooqDDL,
+                                        PlatformTransactionManager transactionManager,
+                                        @Qualifier("migrationExecutor") Executor migrationExecutor,
+                                        @Value("${migration.lockTimeoutMs}") int lockTimeout) {
+        this.resourceMigrationRepository = resourceMigrationRepository;
+        this.resourceBackfillService = resourceBackfillService;
+        this.resourceTemplateService = resourceTemplateService;
+        this.jooqDDL = jooqDDL;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.migrationExecutor = migrationExecutor;
+        this.lockTimeout = lockTimeout;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void checkIfTemplateCanBeMigrated(ResourceTemplate resourceTemplate) {
+        if (resourceMigrationRepository.existsByTableNameAndStatus(resourceTemplate.getTableName(),
+                ResourceMigration.Status.RUNNING)) {
+            throw new ResourceParameterCanNotBeModified(
+                    ErrorMessage.RESOURCE_TEMPLATE_MIGRATION_IS_RUNNING.getMessage() + resourceTemplate.getTableName());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addParameter(ResourceTemplate resourceTemplate, ResourceParameter resourceParameter,
+                             String defaultValue) {
+        if (resourceParameter.getParameterType() == ParameterType.POINT_REFERENCE && resourceParameter
+                .getResourceRelations().getRelatedResourceTemplate().getPartitionStrategy() != null) {
+            throw new ResourceParameterCanNotBeModified(
+                    ErrorMessage.RESOURCE_TEMPLATE_REFERENCES_PARTITIONED_TEMPLATE.getMessage() + resourceParameter
+                            .getResourceRelations().getRelatedResourceTemplate().getTableName());
+        }
+        Object value = convertDefaultValue(resourceParameter, defaultValue);
+        String tableName = resourceTemplate.getTableName();
+        jooqDDL.setLockTimeout(lockTimeout);
+        jooqDDL.addParameterColumns(tableName, resourceParameter, value);
+        List<ResourceParameter> parameters = withoutParameter(resourceTemplate, resourceParameter);
+        parameters.add(resourceParameter);
+        jooqDDL.createSearchTriggers(tableName, parameters);
+        ResourceMigration resourceMigration = resourceMigrationRepository.save(createMigration(resourceTemplate,
+                resourceParameter, ResourceMigration.Operation.ADD, ResourceMigration.Status.RUNNING, defaultValue));
+        startAfterCommit(resourceMigration.getId());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void renameParameter(ResourceTemplate resourceTemplate, ResourceParameter resourceParameter,
+                                String previousColumnName) {
+        ResourceParameter previous = new ResourceParameter();
+        previous.setColumnName(previousColumnName);
+        previous.setParameterType(resourceParameter.getParameterType());
+        jooqDDL.setLockTimeout(lockTimeout);
+        jooqDDL.renameParameterColumns(resourceTemplate.getTableName(), previous, resourceParameter.getColumnName());
+        List<ResourceParameter> parameters = withoutParameter(resourceTemplate, resourceParameter);
+        parameters.add(resourceParameter);
+        jooqDDL.createSearchTriggers(resourceTemplate.getTableName(), parameters);
+        resourceMigrationRepository.save(createMigration(resourceTemplate, resourceParameter,
+                ResourceMigration.Operation.RENAME, ResourceMigration.Status.COMPLETED, null));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Search triggers are created without the parameter first, because they depend on its columns.
+     */
+    @Override
+    public void dropParameter(ResourceTemplate resourceTemplate, ResourceParameter resourceParameter) {
+        jooqDDL.setLockTimeout(lockTimeout);
+        jooqDDL.createSearchTriggers(resourceTemplate.getTableName(),
+                withoutParameter(resourceTemplate, resourceParameter));
+        jooqDDL.dropParameterColumns(resourceTemplate.getTableName(), resourceParameter);
+        resourceMigrationRepository.save(createMigration(resourceTemplate, resourceParameter,
+                ResourceMigration.Operation.DROP, ResourceMigration.Status.COMPLETED, null));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResourceMigrationDTO findById(Long templateId, Long migrationId) {
+        return resourceMigrationRepository
+                .findByIdAndResourceTemplateId(migrationId, resourceTemplateService.findEntityById(templateId).getId())
+                .map(this::convertToDTO)
+                .orElseThrow(() -> new NotFoundException(
+                        ErrorMessage.RESOURCE_MIGRATION_CAN_NOT_BE_FOUND_BY_ID.getMessage() + migrationId));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Page<ResourceMigrationDTO> findAllByTemplateId(Long templateId, Integer page, Integer pageSize) {
+        return resourceMigrationRepository.findAllByResourceTemplateIdOrderByIdDesc(
+                resourceTemplateService.findEntityById(templateId).getId(),
+                PageRequest.of(validatePage(page), validatePageSize(pageSize)))
+                .map(this::convertToDTO);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Interrupted migrations continue filling records from the last filled one.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Override
+    public void resumeMigrations() {
+        for (ResourceMigration resourceMigration : resourceMigrationRepository
+                .findAllByStatusOrderById(ResourceMigration.Status.RUNNING)) {
+            start(resourceMigration.getId());
+        }
+    }
+
+    /**
+     * Method starts migration when current transaction is committed, so the migration sees new columns.
+     *
+     * @param migrationId {@link ResourceMigration} id
+     */
+    private void startAfterCommit(Long migrationId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            start(migrationId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void afterCommit() {
+                start(migrationId);
+            }
+        });
+    }
+
+    private void start(Long migrationId) {
+        try {
+            migrationExecutor.execute(() -> migrate(migrationId));
+        } catch (RejectedExecutionException e) {
+            LOG.warn("Migration queue is full, migration is continued after restart: " + migrationId);
+        }
+    }
+
+    /**
+     * Method fills columns of new parameter in existing records and makes them not null. Records
+     * written with null value while records are filled are filled again after writing null is forbidden.
+     * Migration stays running when the backfill is interrupted, so it is continued after restart.
+     *
+     * @param migrationId {@link ResourceMigration} id
+     */
+    void migrate(Long migrationId) {
+        ResourceMigration resourceMigration = resourceMigrationRepository.findById(migrationId).orElse(null);
+        if (resourceMigration == null || resourceMigration.getStatus() != ResourceMigration.Status.RUNNING) {
+            return;
+        }
+        String tableName = resourceMigration.getTableName();
+        try {
+            ResourceParameter resourceParameter = new ResourceParameter();
+            resourceParameter.setColumnName(resourceMigration.getColumnName());
+            resourceParameter.setParameterType(resourceMigration.getParameterType());
+            List<String> columns = jooqDDL.getRequiredParameterColumns(resourceParameter);
+            if (!columns.isEmpty()) {
+                ResourceBackfill resourceBackfill = fill(resourceMigration, false);
+                if (resourceBackfill.getStatus() == ResourceBackfill.Status.COMPLETED) {
+                    alter(() -> jooqDDL.addNotNullChecks(tableName, columns));
+                    resourceBackfill = fill(resourceMigration, true);
+                }
+                if (resourceBackfill.getStatus() == ResourceBackfill.Status.RUNNING) {
+                    return;
+                }
+                if (resourceBackfill.getStatus() == ResourceBackfill.Status.FAILED) {
+                    throw new IllegalStateException(resourceBackfill.getError());
+                }
+                jooqDDL.validateNotNullChecks(tableName, columns);
+                alter(() -> jooqDDL.setNotNull(tableName, columns));
+            } else {
+                jooqDDL.completeReference(tableName, resourceMigration.getColumnName());
+            }
+            resourceMigration.setStatus(ResourceMigration.Status.COMPLETED);
+        } catch (RuntimeException e) {
+            LOG.error("Migration " + migrationId + " of table " + tableName + " failed", e);
+            resourceMigration.setStatus(ResourceMigration.Status.FAILED);
+            String error = String.valueOf(e.getMessage());
+            resourceMigration.setError(error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+        }
+        resourceMigrationRepository.save(resourceMigration);
+    }
+
+    /**
+     * Method runs backfill, which sets default value to columns of new parameter, which are null.
+     *
+     * @param resourceMigration running {@link ResourceMigration}
+     * @param again             whether records are filled again from the first one
+     * @return {@link ResourceBackfill} after it is run
+     */
+    private ResourceBackfill fill(ResourceMigration resourceMigration, boolean again) {
+        if (resourceMigration.getBackfillId() == null) {
+            resourceMigration.setBackfillId(resourceBackfillService.create(resourceMigration.getTableName(),
+                    ResourceBackfill.Transformation.DEFAULT_VALUE, resourceMigration.getColumnName(),
+                    resourceMigration.getDefaultValue()).getId());
+            resourceMigrationRepository.save(resourceMigration);
+        } else if (again) {
+            resourceBackfillService.rewind(resourceMigration.getBackfillId());
+        }
+        return resourceBackfillService.run(resourceMigration.getBackfillId());
+    }
+
+    /**
+     * Method changes schema in its own transaction, which waits for locks limited time.
+     *
+     * @param change schema change
+     */
+    private void alter(Runnable change) {
+        transactionTemplate.executeWithoutResult(status -> {
+            jooqDDL.setLockTimeout(lockTimeout);
+            change.run();
+        });
+    }
+
+    /**
+     * Method converts default value to type of {@link ResourceParameter}.
+     *
+     * @param resourceParameter {@link ResourceParameter}
+     * @param defaultValue      default value
+     * @return converted value, null for Point Reference parameter
+     * @throws ResourceParameterCanNotBeModified if default value is not provided for required parameter
+     * @throws BadRequestException               if default value does not match pattern or type of the parameter
+     */
+    private Object convertDefaultValue(ResourceParameter resourceParameter, String defaultValue) {
+        if (resourceParameter.getParameterType() == ParameterType.POINT_REFERENCE) {
+            return null;
+        }
+        if (defaultValue == null) {
+            throw new ResourceParameterCanNotBeModified(
+                    ErrorMessage.RESOURCE_PARAMETER_DEFAULT_VALUE_IS_REQUIRED.getMessage());
+        }
+        Object value = null;
+        if (resourceParameter.getPattern() == null || defaultValue.matches(resourceParameter.getPattern())) {
+            try {
+                value = resourceParameter.getParameterType().getSqlType().convert(defaultValue);
+            } catch (DataTypeException | IllegalArgumentException e) {
+                value = null;
+            }
+        }
+        if (value == null) {
+            throw new BadRequestException(ErrorMessage.RESOURCE_PARAMETER_DEFAULT_VALUE_IS_NOT_VALID.getMessage()
+                    + resourceParameter.getName());
+        }
+        return value;
+    }
+
+    private List<ResourceParameter> withoutParameter(ResourceTemplate resourceTemplate,
+                                                     ResourceParameter resourceParameter) {
+        List<ResourceParameter> parameters = new ArrayList<>();
+        if (resourceTemplate.getResourceParameters() != null) {
+            for (ResourceParameter parameter : resourceTemplate.getResourceParameters()) {
+                if (!parameter.getId().equals(resourceParameter.getId())) {
+                    parameters.add(parameter);
+                }
+            }
+        }
+        return parameters;
+    }
+
+    private ResourceMigration createMigration(ResourceTemplate resourceTemplate, ResourceParameter resourceParameter,
+                                              ResourceMigration.Operation operation, ResourceMigration.Status status,
+                                              String defaultValue) {
+        ResourceMigration resourceMigration = new ResourceMigration();
+        resourceMigration.setResourceTemplateId(resourceTemplate.getId());
+        resourceMigration.setTableName(resourceTemplate.getTableName());
+        resourceMigration.setColumnName(resourceParameter.getColumnName());
+        resourceMigration.setParameterType(resourceParameter.getParameterType());
+        resourceMigration.setOperation(operation);
+        resourceMigration.setStatus(status);
+        resourceMigration.setDefaultValue(defaultValue);
+        return resourceMigration;
+    }
+
+    private ResourceMigrationDTO convertToDTO(ResourceMigration resourceMigration) {
+        return new ResourceMigrationDTO(resourceMigration.getId(), resourceMigration.getColumnName(),
+                resourceMigration.getOperation(), resourceMigration.getStatus(),
+                resourceMigration.getBackfillId(), resourceMigration.getError(),
+                resourceMigration.getCreatedAt(), resourceMigration.getUpdatedAt());
+    }
+}
@@ -15,14 +15,15 @@ import com.softserve.rms.exceptions.NotFoundException;
 import com.softserve.rms.exceptions.NotUniqueNameException;
 import com.softserve.rms.exceptions.resourceParameter.ResourceParameterCanNotBeModified;
 import com.softserve.rms.exceptions.resourseTemplate.ResourceTemplateIsNotPublishedException;
+import com.softserve.rms.mapper.ResourceParameterMapper;
 import com.softserve.rms.repository.ResourceParameterRepository;
 import com.softserve.rms.repository.ResourceRelationRepository;
+import com.softserve.rms.service.ResourceMigrationService;
 import com.softserve.rms.service.ResourceParameterService;
 import com.softserve.rms.service.ResourceTemplateService;
 import com.softserve.rms.util.RangeIntegerPatternGenerator;
 import com.softserve.rms.util.Validator;
 import org.jooq.DSLContext;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.data.domain.Page;
@@ -31,6 +32,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static com.softserve.rms.util.PaginationUtil.validatePage;
@@ -48,8 +50,9 @@ public class ResourceParameterServiceImpl implements ResourceParameterService {
     private final ResourceParameterRepository resourceParameterRepository;
     private final ResourceRelationRepository resourceRelationRepository;
     private final ResourceTemplateService resourceTemplateService;
+    private final ResourceMigrationService resourceMigrationService;
     private Validator validator = new Validator();
-    private ModelMapper modelMapper = new ModelMapper();
+    private ResourceParameterMapper resourceParameterMapper;
     private RangeIntegerPatternGenerator patternGenerator = new RangeIntegerPatternGenerator();
     private DSLContext dslContext;
 
@@ -61,15 +64,21 @@ public class ResourceParameterServiceImpl implements ResourceParameterService {
     @Autowired
     public ResourceParameterServiceImpl(ResourceParameterRepository resourceParameterRepository,
                                         ResourceTemplateService resourceTemplateService,
-                                        ResourceRelationRepository resourceRelationRepository, DSLContext dslContext) {
+                                        ResourceRelationRepository resourceRelationRepository, DSLContext dslContext,
+                                        ResourceParameterMapper resourceParameterMapper,
+                                        ResourceMigrationService resourceMigrationService) {
         this.resourceParameterRepository = resourceParameterRepository;
         this.resourceTemplateService = resourceTemplateService;
         this.resourceRelationRepository = resourceRelationRepository;
         this.dslContext = dslContext;
+        this.resourceParameterMapper = resourceParameterMapper;
+        this.resourceMigrationService = resourceMigrationService;
     }
 
     /**
      * {@inheritDoc}
+     * <p>
+     * Columns of parameter of published template are added to its container table.
      *
      * @author Halyna Yatseniuk
      */
@@ -77,10 +86,16 @@ public class ResourceParameterServiceImpl implements ResourceParameterService {
     @Transactional
     public ResourceParameterDTO checkIfParameterCanBeSaved(Long id, ResourceParameterSaveDTO parameterDTO)
             throws NotFoundException, NotUniqueNameException {
-        if (resourceTemplateService.findEntityById(id).getIsPublished().equals(false)) {
+        ResourceTemplate resourceTemplate = resourceTemplateService.findEntityById(id);
+        touch(resourceTemplate);
+        if (resourceTemplate.getIsPublished().equals(false)) {
             return save(id, parameterDTO);
-        } else throw new ResourceParameterCanNotBeModified(
-                ErrorMessage.PARAMETER_CAN_NOT_BE_ADDED.getMessage());
+        }
+        resourceMigrationService.checkIfTemplateCanBeMigrated(resourceTemplate);
+        ResourceParameterDTO resourceParameterDTO = save(id, parameterDTO);
+        resourceMigrationService.addParameter(resourceTemplate, findById(resourceParameterDTO.getId()),
+                parameterDTO.getDefaultValue());
+        return resourceParameterDTO;
     }
 
     /**
@@ -114,7 +129,7 @@ public class ResourceParameterServiceImpl implements ResourceParameterService {
             resourceParameter.setResourceRelations(saveParameterRelation(resourceParameter.getId(),
                     parameterDTO.getRelatedResourceTemplateId()));
         }
-        return modelMapper.map(resourceParameter, ResourceParameterDTO.class);
+        return resourceParameterMapper.toDto(resourceParameter);
     }
 
     /**
@@ -136,6 +151,8 @@ public class ResourceParameterServiceImpl implements ResourceParameterService {
 
     /**
      * {@inheritDoc}
+     * <p>
+     * Parameter of published template can be renamed only, its columns are renamed together with it.
      *
      * @author Halyna Yatseniuk
      */
@@ -143,11 +160,39 @@ public class ResourceParameterServiceImpl implements ResourceParameterService {
     @Transactional
     public ResourceParameterDTO checkIfParameterCanBeUpdated(Long templateId, Long parameterId, ResourceParameterSaveDTO parameterSaveDTO)
             throws NotFoundException, NotUniqueNameException, ResourceParameterCanNotBeModified {
-        if (resourceTemplateService.findEntityById(templateId).getIsPublished().equals(false)) {
-            ResourceParameter resourceParameter = findById(parameterId);
+        ResourceTemplate resourceTemplate = resourceTemplateService.findEntityById(templateId);
+        touch(resourceTemplate);
+        ResourceParameter resourceParameter = findById(parameterId);
+        if (resourceTemplate.getIsPublished().equals(false)) {
             return updateById(templateId, resourceParameter, parameterSaveDTO);
-        } else throw new ResourceParameterCanNotBeModified(
-                ErrorMessage.RESOURCE_PARAMETER_CAN_NOT_BE_UPDATED.getMessage());
+        }
+        verifyIfParameterTypeIsNotChanged(resourceParameter, parameterSaveDTO);
+        resourceMigrationService.checkIfTemplateCanBeMigrated(resourceTemplate);
+        String previousColumnName = resourceParameter.getColumnName();
+        ResourceParameterDTO resourceParameterDTO = updateById(templateId, resourceParameter, parameterSaveDTO);
+        if (!previousColumnName.equals(resourceParameter.getColumnName())) {
+            resourceMigrationService.renameParameter(resourceTemplate, resourceParameter, previousColumnName);
+        }
+        return resourceParameterDTO;
+    }
+
+    /**
+     * Method verifies if type and related template of {@link ResourceParameter} of published
+     * template are not changed, since values of existing records can not be converted.
+     *
+     * @param resourceParameter {@link ResourceParameter}
+     * @param parameterDTO      {@link ResourceParameterSaveDTO}
+     * @throws ResourceParameterCanNotBeModified if type or related template is changed
+     */
+    private void verifyIfParameterTypeIsNotChanged(ResourceParameter resourceParameter,
+                                                   ResourceParameterSaveDTO parameterDTO) {
+        Long relatedTemplateId = resourceParameter.getResourceRelations() == null ? null
+                : resourceParameter.getResourceRelations().getRelatedResourceTemplate().getId();
+        if (resourceParameter.getParameterType() != parameterDTO.getParameterType()
+                || (relatedTemplateId != null && !relatedTemplateId.equals(parameterDTO.getRelatedResourceTemplateId()))) {
+            throw new ResourceParameterCanNotBeModified(
+                    ErrorMessage.RESOURCE_PARAMETER_TYPE_CAN_NOT_BE_CHANGED.getMessage());
+        }
     }
 
     /**
@@ -172,7 +217,7 @@ public class ResourceParameterServiceImpl implements ResourceParameterService {
         }
         resourceParameterRepository.save(resourceParameter);
         verifyParameterRelation(resourceParameter, parameterDTO);
-        return modelMapper.map(resourceParameter, ResourceParameterDTO.class);
+        return resourceParameterMapper.toDto(resourceParameter);
     }
 
     /**
@@ -304,8 +349,7 @@ public class ResourceParameterServiceImpl implements ResourceParameterService {
      */
     @Override
     public ResourceParameterDTO findByIdDTO(Long id, Long parameterId) throws NotFoundException {
-        return modelMapper.map(findById(parameterId),
-                ResourceParameterDTO.class);
+        return resourceParameterMapper.toDto(findById(parameterId));
     }
 
     /**
@@ -320,11 +364,13 @@ public class ResourceParameterServiceImpl implements ResourceParameterService {
         Page<ResourceParameter> parameterList = resourceParameterRepository
                 .findAllByResourceTemplateId(
                         resourceTemplateService.findEntityById(id).getId(), pageable);
-        return parameterList.map(param -> modelMapper.map(param, ResourceParameterDTO.class));
+        return parameterList.map(resourceParameterMapper::toDto);
     }
 
     /**
      * {@inheritDoc}
+     * <p>
+     * Columns of parameter of published template are dropped from its container table.
      *
      * @author Halyna Yatseniuk
      */
@@ -332,10 +378,23 @@ public class ResourceParameterServiceImpl implements ResourceParameterService {
     @Transactional
     public void checkIfParameterCanBeDeleted(Long templateId, Long parameterId) throws ResourceParameterCanNotBeModified,
             NotDeletedException {
-        if (resourceTemplateService.findEntityById(templateId).getIsPublished().equals(false)) {
-            deleteById(parameterId);
-        } else throw new ResourceParameterCanNotBeModified(
-                ErrorMessage.RESOURCE_PARAMETER_CAN_NOT_BE_DELETED.getMessage());
+        ResourceTemplate resourceTemplate = resourceTemplateService.findEntityById(templateId);
+        touch(resourceTemplate);
+        if (resourceTemplate.getIsPublished().equals(true)) {
+            resourceMigrationService.checkIfTemplateCanBeMigrated(resourceTemplate);
+            resourceMigrationService.dropParameter(resourceTemplate, findById(parameterId));
+        }
+        deleteById(parameterId);
+    }
+
+    /**
+     * Method marks {@link ResourceTemplate} as modified, so its version is incremented when
+     * the transaction changing its parameters is committed.
+     *
+     * @param resourceTemplate {@link ResourceTemplate} of changed parameters
+     */
+    private void touch(ResourceTemplate resourceTemplate) {
+        resourceTemplate.setUpdatedAt(LocalDateTime.now());
     }
 
     /**
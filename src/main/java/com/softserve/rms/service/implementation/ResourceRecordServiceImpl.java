@@ -1,30 +1,65 @@
 package com.softserve.rms.service.implementation;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
 import com.softserve.rms.constants.ErrorMessage;
+import com.softserve.rms.constants.FieldConstants;
+import com.softserve.rms.dto.VersionDto;
+import com.softserve.rms.dto.file.PresignedUrlDto;
+import com.softserve.rms.dto.resourceRecord.ResourceRecordBulkResultDTO;
+import com.softserve.rms.dto.resourceRecord.ResourceRecordBulkUpdateDTO;
 import com.softserve.rms.dto.resourceRecord.ResourceRecordDTO;
+import com.softserve.rms.dto.resourceRecord.ResourceRecordFilterDTO;
 import com.softserve.rms.dto.resourceRecord.ResourceRecordSaveDTO;
+import com.softserve.rms.entities.ParameterType;
+import com.softserve.rms.entities.ResourceParameter;
 import com.softserve.rms.entities.ResourceRecord;
 import com.softserve.rms.entities.ResourceTemplate;
 import com.softserve.rms.entities.User;
+import com.softserve.rms.exceptions.BadRequestException;
 import com.softserve.rms.exceptions.NotFoundException;
+import com.softserve.rms.exceptions.VersionConflictException;
 import com.softserve.rms.exceptions.resourseTemplate.ResourceTemplateIsNotPublishedException;
+import com.softserve.rms.mapper.ResourceRecordMapper;
 import com.softserve.rms.repository.ResourceRecordRepository;
+import com.softserve.rms.service.FileCleanupService;
+import com.softserve.rms.service.ImageProcessingService;
 import com.softserve.rms.service.ResourceRecordService;
 import com.softserve.rms.service.ResourceTemplateService;
 import com.softserve.rms.service.UserService;
-import org.modelmapper.ModelMapper;
+import com.softserve.rms.util.ResourceRecordColumns;
+import com.softserve.rms.util.ResourceRecordFilter;
+import org.jooq.Condition;
+import org.jooq.Record;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
 import java.security.Principal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -38,25 +73,51 @@ import static com.softserve.rms.util.PaginationUtil.validatePageSize;
  */
 @Service
 public class ResourceRecordServiceImpl implements ResourceRecordService {
+    private static final int WRITE_BATCH_SIZE = 100;
+    private static final String UPLOAD_KEY_SEPARATOR = "_";
+    private static final Pattern UPLOAD_NONCE = Pattern.compile("[0-9a-f]{8}(-[0-9a-f]{4}){3}-[0-9a-f]{12}");
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString NAME = new SerializedString("name");
+    private static final SerializedString DESCRIPTION = new SerializedString("description");
+    private static final SerializedString USER_ID = new SerializedString("userId");
+    private static final SerializedString PHOTOS = new SerializedString("photos");
+    private static final SerializedString DOCUMENT = new SerializedString("document");
+    private static final SerializedString PARAMETERS = new SerializedString("parameters");
+    private static final SerializedString PHOTO_DERIVATIVES = new SerializedString("photoDerivatives");
+    private static final SerializedString LATITUDE = new SerializedString(FieldConstants.LATITUDE.getValue());
+    private static final SerializedString LONGITUDE = new SerializedString(FieldConstants.LONGITUDE.getValue());
+
     private ResourceRecordRepository resourceRecordRepository;
     private ResourceTemplateService resourceTemplateService;
     private UserService userService;
     private FileStorageServiceImpl fileStorageService;
-    private ModelMapper modelMapper = new ModelMapper();
-    private String endpointUrl;
+    private ImageProcessingService imageProcessingService;
+    private ResourceRecordMapper resourceRecordMapper;
+    private FileCleanupService fileCleanupService;
+    private int bulkChunkSize;
+    private int maxReferenceDepth;
 
     /**
      * Constructor with parameters
      *
+     * @param bulkChunkSize     maximum number of records changed by one statement of bulk operation
+     * @param maxReferenceDepth maximum number of levels of references expanded on read
      * @author Andrii Bren
      */
     @Autowired
-    public ResourceRecordServiceImpl(ResourceRecordRepository resourceRecordRepository, ResourceTemplateService resourceTemplateService, UserService userService, FileStorageServiceImpl fileStorageService, @Value("${ENDPOINT_URL}") String endpointUrl) {
+    public ResourceRecordServiceImpl(ResourceRecordRepository resourceRecordRepository, ResourceTemplateService resourceTemplateService, UserService userService, FileStorageServiceImpl fileStorageService, ImageProcessingService imageProcessingService, ResourceRecordMapper resourceRecordMapper,
+                                     FileCleanupService fileCleanupService,
+                                     @Value("${bulk.chunkSize}") int bulkChunkSize,
+                                     @Value("${reference.maxDepth}") int maxReferenceDepth) {
         this.resourceRecordRepository = resourceRecordRepository;
         this.resourceTemplateService = resourceTemplateService;
         this.fileStorageService = fileStorageService;
+        this.imageProcessingService = imageProcessingService;
         this.userService = userService;
-        this.endpointUrl = endpointUrl;
+        this.resourceRecordMapper = resourceRecordMapper;
+        this.fileCleanupService = fileCleanupService;
+        this.bulkChunkSize = bulkChunkSize;
+        this.maxReferenceDepth = maxReferenceDepth;
     }
 
     /**
@@ -84,15 +145,55 @@ public class ResourceRecordServiceImpl implements ResourceRecordService {
      * @author Andrii Bren
      */
     @Override
-    public ResourceRecordDTO findByIdDTO(String tableName, Long id) throws NotFoundException {
+    public ResourceRecordDTO findByIdDTO(String tableName, Long id, Integer depth) throws NotFoundException {
         ResourceRecord resourceRecord = findById(tableName, id);
-        if (resourceRecord.getPhotosNames() != null) {
-            resourceRecord.setPhotosNames(generateUrlForFiles(resourceRecord.getPhotosNames()));
+        ResourceRecordDTO resourceRecordDTO = convertToDTO(resourceRecord,
+                findDerivativeFileNames(Stream.of(resourceRecord.getPhotosNames())));
+        int validDepth = validateDepth(depth);
+        if (validDepth > 0) {
+            expandReferences(findPublishedResourceTemplate(tableName),
+                    Collections.singletonList(resourceRecordDTO.getParameters()), validDepth);
         }
-        if (resourceRecord.getDocumentNames() != null) {
-            resourceRecord.setDocumentNames((generateUrlForFiles(resourceRecord.getDocumentNames())));
+        return resourceRecordDTO;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public VersionDto findVersionDTO(String tableName, Long id) {
+        ResourceTemplate resourceTemplate = findPublishedResourceTemplate(tableName);
+        return withTemplateVersion(resourceTemplate, resourceRecordRepository.findVersion(tableName, id)
+                .orElseThrow(() -> new NotFoundException(
+                        ErrorMessage.CAN_NOT_FIND_A_RESOURCE_TABLE.getMessage() + id)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public VersionDto findPageVersionDTO(String tableName, Integer page, Integer pageSize) {
+        ResourceTemplate resourceTemplate = findPublishedResourceTemplate(tableName);
+        return withTemplateVersion(resourceTemplate, resourceRecordRepository.findPageVersion(tableName,
+                validatePage(page), validatePageSize(pageSize)));
+    }
+
+    /**
+     * Method prepends version of {@link ResourceTemplate} to version of records, because ids and
+     * versions of rows start again when the table is published again. Period of download urls is
+     * appended to version of records with files, so cached responses do not keep expired urls.
+     *
+     * @param resourceTemplate {@link ResourceTemplate} of the records
+     * @param versionDto       {@link VersionDto} of the records
+     * @return {@link VersionDto}
+     */
+    private VersionDto withTemplateVersion(ResourceTemplate resourceTemplate, VersionDto versionDto) {
+        String version = resourceTemplate.getVersion() + "." + versionDto.getVersion();
+        if (Boolean.TRUE.equals(versionDto.getWithFiles())) {
+            version += "-" + fileStorageService.getPresignedUrlPeriod();
         }
-        return modelMapper.map(resourceRecord, ResourceRecordDTO.class);
+        versionDto.setVersion(version);
+        return versionDto;
     }
 
     /**
@@ -117,19 +218,458 @@ public class ResourceRecordServiceImpl implements ResourceRecordService {
         checkIfResourceTemplateIsPublished(tableName);
         Integer validPage = validatePage(page);
         Integer validPageSize = validatePageSize(pageSize);
-        Page<ResourceRecord> resourceRecords = resourceRecordRepository.findAll(tableName, validPage, validPageSize);
-        resourceRecords.forEach(resource -> {
-            if (resource.getPhotosNames() != null) {
-                resource.setPhotosNames(generateUrlForFiles(resource.getPhotosNames()));
+        return convertToDTO(resourceRecordRepository.findAll(tableName, validPage, validPageSize));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Page<ResourceRecordDTO> search(String tableName, String query, Integer page, Integer pageSize,
+                                          Integer depth) {
+        ResourceTemplate resourceTemplate = findPublishedResourceTemplate(tableName);
+        if (query == null || query.trim().isEmpty()) {
+            throw new BadRequestException(ErrorMessage.SEARCH_QUERY_IS_EMPTY.getMessage());
+        }
+        Page<ResourceRecordDTO> resourceRecordDTOs = convertToDTO(resourceRecordRepository.search(tableName,
+                query.trim(), validatePage(page), validatePageSize(pageSize)));
+        expandReferences(resourceTemplate, resourceRecordDTOs.getContent().stream()
+                .map(ResourceRecordDTO::getParameters)
+                .collect(Collectors.toList()), validateDepth(depth));
+        return resourceRecordDTOs;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeAll(String tableName, Integer page, Integer pageSize, Integer depth, boolean columnar,
+                         JsonGenerator generator) throws IOException {
+        ResourceTemplate resourceTemplate = findPublishedResourceTemplate(tableName);
+        int validPage = validatePage(page);
+        int validPageSize = validatePageSize(pageSize);
+        int validDepth = validateDepth(depth);
+        long totalItems = resourceRecordRepository.count(tableName);
+        AtomicInteger written = new AtomicInteger();
+        generator.writeStartObject();
+        try {
+            resourceRecordRepository.findAll(tableName, validPage, validPageSize, (columns, records) -> {
+                List<String> referenceColumns = validDepth > 0
+                        ? getReferenceColumns(resourceTemplate, columns) : Collections.emptyList();
+                List<Record> pageRecords = null;
+                Iterator<Map<String, Object>> references = null;
+                if (!referenceColumns.isEmpty()) {
+                    pageRecords = records.fetch();
+                    List<Map<String, Object>> pageReferences = readReferences(columns, pageRecords, referenceColumns);
+                    expandReferences(resourceTemplate, pageReferences, validDepth);
+                    references = pageReferences.iterator();
+                }
+                try {
+                    if (columnar) {
+                        writeColumnNames(columns, referenceColumns, generator);
+                    }
+                    generator.writeArrayFieldStart(columnar ? "rows" : "content");
+                    List<Record> rows = pageRecords != null ? pageRecords : records.fetchNext(WRITE_BATCH_SIZE);
+                    while (!rows.isEmpty()) {
+                        Map<String, Map<String, String>> derivativeFileNames = findDerivativeFileNames(rows.stream()
+                                .map(record -> (String) getValue(record, columns.getPhotosIndex())));
+                        for (Record record : rows) {
+                            writeRecord(columns, record, referenceColumns, references != null ? references.next() : null,
+                                    derivativeFileNames, columnar, generator);
+                            written.incrementAndGet();
+                        }
+                        rows = pageRecords != null ? Collections.emptyList() : records.fetchNext(WRITE_BATCH_SIZE);
+                    }
+                    generator.writeEndArray();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        int totalPages = (int) ((totalItems + validPageSize - 1) / validPageSize);
+        generator.writeNumberField("totalElements", totalItems);
+        generator.writeNumberField("totalPages", totalPages);
+        generator.writeNumberField("number", validPage);
+        generator.writeNumberField("size", validPageSize);
+        generator.writeNumberField("numberOfElements", written.get());
+        generator.writeBooleanField("first", validPage == 0);
+        generator.writeBooleanField("last", validPage + 1 >= totalPages);
+        generator.writeBooleanField("empty", written.get() == 0);
+        generator.writeEndObject();
+    }
+
+    /**
+     * Method converts page of {@link ResourceRecord} to {@link ResourceRecordDTO} reading derivatives
+     * of all photos of the page at once.
+     *
+     * @param resourceRecords page of {@link ResourceRecord}
+     * @return page of {@link ResourceRecordDTO}
+     */
+    private Page<ResourceRecordDTO> convertToDTO(Page<ResourceRecord> resourceRecords) {
+        Map<String, Map<String, String>> derivativeFileNames = findDerivativeFileNames(resourceRecords.getContent()
+                .stream().map(ResourceRecord::getPhotosNames));
+        return resourceRecords.map(resourceRecord -> convertToDTO(resourceRecord, derivativeFileNames));
+    }
+
+    /**
+     * Method converts {@link ResourceRecord} to {@link ResourceRecordDTO} replacing file names
+     * with download urls of files and photo derivatives.
+     *
+     * @param resourceRecord      {@link ResourceRecord}
+     * @param derivativeFileNames derivatives of photos of the record
+     * @return {@link ResourceRecordDTO}
+     */
+    private ResourceRecordDTO convertToDTO(ResourceRecord resourceRecord,
+                                           Map<String, Map<String, String>> derivativeFileNames) {
+        Map<String, String> photoDerivatives = null;
+        if (resourceRecord.getPhotosNames() != null) {
+            photoDerivatives = generateUrlForDerivatives(resourceRecord.getPhotosNames(), derivativeFileNames);
+            resourceRecord.setPhotosNames(generateUrlForFiles(resourceRecord.getPhotosNames()));
+        }
+        if (resourceRecord.getDocumentNames() != null) {
+            resourceRecord.setDocumentNames((generateUrlForFiles(resourceRecord.getDocumentNames())));
+        }
+        ResourceRecordDTO resourceRecordDTO = resourceRecordMapper.toDto(resourceRecord);
+        resourceRecordDTO.setPhotoDerivatives(photoDerivatives);
+        return resourceRecordDTO;
+    }
+
+    private int validateDepth(Integer depth) {
+        return depth == null || depth < 0 ? 0 : Math.min(depth, maxReferenceDepth);
+    }
+
+    /**
+     * Method expands {@code POINT_REFERENCE} parameters of records with referenced records under
+     * name of the parameter column, and replaces copied name of referenced record with its current
+     * name. Referenced records are read with one query per referenced table on every level.
+     * References to templates, which the user can not read or which are not published, are not expanded.
+     *
+     * @param resourceTemplate {@link ResourceTemplate} of the records
+     * @param parameters       parameters of the records, which are changed
+     * @param depth            number of levels of references to expand
+     */
+    private void expandReferences(ResourceTemplate resourceTemplate, List<Map<String, Object>> parameters,
+                                  int depth) {
+        if (depth <= 0 || parameters.isEmpty() || resourceTemplate.getResourceParameters() == null) {
+            return;
+        }
+        Map<String, List<String>> referenceColumns = new LinkedHashMap<>();
+        for (ResourceParameter parameter : resourceTemplate.getResourceParameters()) {
+            if (parameter.getParameterType() == ParameterType.POINT_REFERENCE
+                    && parameter.getResourceRelations() != null) {
+                String referencedTable = parameter.getResourceRelations().getRelatedResourceTemplate().getTableName();
+                referenceColumns.computeIfAbsent(referencedTable, key -> new ArrayList<>())
+                        .add(parameter.getColumnName());
+            }
+        }
+        for (Map.Entry<String, List<String>> entry : referenceColumns.entrySet()) {
+            Set<Long> ids = new LinkedHashSet<>();
+            for (Map<String, Object> recordParameters : parameters) {
+                for (String column : entry.getValue()) {
+                    Object id = recordParameters.get(column + FieldConstants.REFERENCE.getValue());
+                    if (id instanceof Number) {
+                        ids.add(((Number) id).longValue());
+                    }
+                }
+            }
+            ResourceTemplate referencedTemplate = findReadableResourceTemplate(entry.getKey());
+            if (ids.isEmpty() || referencedTemplate == null) {
+                continue;
+            }
+            Map<Long, ResourceRecordDTO> referencedRecords = new LinkedHashMap<>();
+            List<ResourceRecord> resourceRecords = resourceRecordRepository.findAllById(entry.getKey(), ids);
+            Map<String, Map<String, String>> derivativeFileNames = findDerivativeFileNames(resourceRecords.stream()
+                    .map(ResourceRecord::getPhotosNames));
+            for (ResourceRecord resourceRecord : resourceRecords) {
+                referencedRecords.put(resourceRecord.getId(), convertToDTO(resourceRecord, derivativeFileNames));
+            }
+            for (Map<String, Object> recordParameters : parameters) {
+                for (String column : entry.getValue()) {
+                    Object id = recordParameters.get(column + FieldConstants.REFERENCE.getValue());
+                    ResourceRecordDTO referencedRecord = id instanceof Number
+                            ? referencedRecords.get(((Number) id).longValue()) : null;
+                    if (referencedRecord != null) {
+                        recordParameters.put(column + FieldConstants.REFERENCE_NAME.getValue(), referencedRecord.getName());
+                        recordParameters.put(column, referencedRecord);
+                    }
+                }
+            }
+            expandReferences(referencedTemplate, referencedRecords.values().stream()
+                    .map(ResourceRecordDTO::getParameters)
+                    .collect(Collectors.toList()), depth - 1);
+        }
+    }
+
+    /**
+     * Method finds published {@link ResourceTemplate} of referenced records with the same access check
+     * as requests of the records themselves.
+     *
+     * @param tableName table name of referenced {@link ResourceTemplate}
+     * @return {@link ResourceTemplate}, null if the user can not read its records
+     */
+    private ResourceTemplate findReadableResourceTemplate(String tableName) {
+        try {
+            ResourceTemplate resourceTemplate = resourceTemplateService.findByTableName(tableName);
+            return resourceTemplate.getIsPublished() ? resourceTemplate : null;
+        } catch (AccessDeniedException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Method finds columns of {@code POINT_REFERENCE} parameters present in container table,
+     * which are written as expanded references.
+     *
+     * @param resourceTemplate {@link ResourceTemplate} of the table
+     * @param columns          layout of the table
+     * @return names of parameter columns
+     */
+    private List<String> getReferenceColumns(ResourceTemplate resourceTemplate, ResourceRecordColumns columns) {
+        Set<String> parameterNames = new HashSet<>();
+        for (int i = 0; i < columns.getParameterCount(); i++) {
+            parameterNames.add(columns.getParameterName(i).getValue());
+        }
+        List<String> referenceColumns = new ArrayList<>();
+        if (resourceTemplate.getResourceParameters() != null) {
+            for (ResourceParameter parameter : resourceTemplate.getResourceParameters()) {
+                if (parameter.getParameterType() == ParameterType.POINT_REFERENCE && parameterNames
+                        .contains(parameter.getColumnName() + FieldConstants.REFERENCE.getValue())) {
+                    referenceColumns.add(parameter.getColumnName());
+                }
+            }
+        }
+        return referenceColumns;
+    }
+
+    /**
+     * Method reads referenced ids of page rows, so references are expanded before rows are written.
+     *
+     * @param columns          layout of the table
+     * @param records          rows of the page
+     * @param referenceColumns names of references to expand
+     * @return referenced ids of every row
+     */
+    private List<Map<String, Object>> readReferences(ResourceRecordColumns columns, List<Record> records,
+                                                     List<String> referenceColumns) {
+        List<Map<String, Object>> references = new ArrayList<>();
+        Set<String> referenceIdColumns = referenceColumns.stream()
+                .map(column -> column + FieldConstants.REFERENCE.getValue())
+                .collect(Collectors.toSet());
+        for (Record record : records) {
+            Map<String, Object> recordReferences = new HashMap<>();
+            for (int i = 0; i < columns.getParameterCount(); i++) {
+                String name = columns.getParameterName(i).getValue();
+                if (referenceIdColumns.contains(name)) {
+                    recordReferences.put(name, record.get(columns.getParameterIndex(i)));
+                }
+            }
+            references.add(recordReferences);
+        }
+        return references;
+    }
+
+    /**
+     * Method writes names of values in rows of columnar page. Parameters follow static fields
+     * of {@link ResourceRecordDTO}, then expanded references, photo derivatives are the last value.
+     *
+     * @param columns          layout of the table
+     * @param referenceColumns names of expanded references
+     * @param generator        {@link JsonGenerator}
+     */
+    private void writeColumnNames(ResourceRecordColumns columns, List<String> referenceColumns,
+                                  JsonGenerator generator) throws IOException {
+        generator.writeArrayFieldStart("columns");
+        for (SerializableString name : new SerializableString[]{ID, NAME, DESCRIPTION, USER_ID, PHOTOS, DOCUMENT}) {
+            generator.writeString(name);
+        }
+        for (int i = 0; i < columns.getParameterCount(); i++) {
+            generator.writeString(columns.getParameterName(i));
+        }
+        for (String referenceColumn : referenceColumns) {
+            generator.writeString(referenceColumn);
+        }
+        generator.writeString(PHOTO_DERIVATIVES);
+        generator.writeEndArray();
+    }
+
+    /**
+     * Method writes container table row in the same shape as {@link ResourceRecordDTO},
+     * or as array of values when the page is columnar.
+     *
+     * @param columns          layout of the table
+     * @param record           row of the table
+     * @param referenceColumns names of expanded references
+     * @param references          expanded references and their current names, null if not expanded
+     * @param derivativeFileNames derivatives of photos of the row
+     * @param columnar            whether the row is written as array of values
+     * @param generator           {@link JsonGenerator}
+     */
+    private void writeRecord(ResourceRecordColumns columns, Record record, List<String> referenceColumns,
+                             Map<String, Object> references, Map<String, Map<String, String>> derivativeFileNames,
+                             boolean columnar, JsonGenerator generator) throws IOException {
+        if (columnar) {
+            generator.writeStartArray();
+        } else {
+            generator.writeStartObject();
+        }
+        writeColumn(generator, columnar ? null : ID, getValue(record, columns.getIdIndex()));
+        writeColumn(generator, columnar ? null : NAME, getValue(record, columns.getNameIndex()));
+        writeColumn(generator, columnar ? null : DESCRIPTION, getValue(record, columns.getDescriptionIndex()));
+        writeColumn(generator, columnar ? null : USER_ID, getValue(record, columns.getUserIdIndex()));
+        String photos = (String) getValue(record, columns.getPhotosIndex());
+        String documents = (String) getValue(record, columns.getDocumentsIndex());
+        writeColumn(generator, columnar ? null : PHOTOS, photos != null ? generateUrlForFiles(photos) : null);
+        writeColumn(generator, columnar ? null : DOCUMENT, documents != null ? generateUrlForFiles(documents) : null);
+        if (!columnar) {
+            generator.writeFieldName(PARAMETERS);
+            generator.writeStartObject();
+        }
+        for (int i = 0; i < columns.getParameterCount(); i++) {
+            if (!columnar) {
+                generator.writeFieldName(columns.getParameterName(i));
+            }
+            Object value = record.get(columns.getParameterIndex(i));
+            if (columns.isCoordinate(i)) {
+                writeCoordinates(generator, (String) value, columnar);
+            } else if (references != null && references.containsKey(columns.getParameterName(i).getValue())) {
+                writeValue(generator, references.get(columns.getParameterName(i).getValue()));
+            } else {
+                writeValue(generator, value);
+            }
+        }
+        for (String referenceColumn : referenceColumns) {
+            if (!columnar) {
+                generator.writeFieldName(referenceColumn);
+            }
+            writeValue(generator, references != null ? references.get(referenceColumn) : null);
+        }
+        if (!columnar) {
+            generator.writeEndObject();
+            generator.writeFieldName(PHOTO_DERIVATIVES);
+        }
+        if (photos != null) {
+            generator.writeStartObject();
+            for (Map.Entry<String, String> derivative : generateUrlForDerivatives(photos, derivativeFileNames)
+                    .entrySet()) {
+                generator.writeStringField(derivative.getKey(), derivative.getValue());
+            }
+            generator.writeEndObject();
+        } else {
+            generator.writeNull();
+        }
+        if (columnar) {
+            generator.writeEndArray();
+        } else {
+            generator.writeEndObject();
+        }
+    }
+
+    private void writeColumn(JsonGenerator generator, SerializableString name, Object value) throws IOException {
+        if (name != null) {
+            generator.writeFieldName(name);
+        }
+        writeValue(generator, value);
+    }
+
+    private Object getValue(Record record, int index) {
+        return index != ResourceRecordColumns.ABSENT ? record.get(index) : null;
+    }
+
+    /**
+     * Method writes column value. Types read from container tables are written directly,
+     * others are serialized by the codec of the generator.
+     *
+     * @param generator {@link JsonGenerator}
+     * @param value     of the column
+     */
+    private void writeValue(JsonGenerator generator, Object value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else if (value instanceof String) {
+            generator.writeString((String) value);
+        } else if (value instanceof Long) {
+            generator.writeNumber((Long) value);
+        } else if (value instanceof Integer) {
+            generator.writeNumber((Integer) value);
+        } else if (value instanceof Double) {
+            generator.writeNumber((Double) value);
+        } else if (value instanceof BigDecimal) {
+            generator.writeNumber((BigDecimal) value);
+        } else if (value instanceof Boolean) {
+            generator.writeBoolean((Boolean) value);
+        } else {
+            generator.writeObject(value);
+        }
+    }
+
+    /**
+     * Method writes coordinates stored as {@code lat,lng;lat,lng} as array of points
+     * without splitting the value. Points of columnar page are {@code [lat, lng]} arrays.
+     * A malformed value is written as the stored string.
+     *
+     * @param generator   {@link JsonGenerator}
+     * @param coordinates value of coordinate column
+     * @param columnar    whether points are written as arrays
+     */
+    private void writeCoordinates(JsonGenerator generator, String coordinates, boolean columnar) throws IOException {
+        if (coordinates == null) {
+            generator.writeNull();
+            return;
+        }
+        double[] points = parseCoordinates(coordinates);
+        if (points == null) {
+            generator.writeString(coordinates);
+            return;
+        }
+        generator.writeStartArray();
+        for (int i = 0; i < points.length; i += 2) {
+            if (columnar) {
+                generator.writeStartArray();
+                generator.writeNumber(points[i]);
+                generator.writeNumber(points[i + 1]);
+                generator.writeEndArray();
+            } else {
+                generator.writeStartObject();
+                generator.writeFieldName(LATITUDE);
+                generator.writeNumber(points[i]);
+                generator.writeFieldName(LONGITUDE);
+                generator.writeNumber(points[i + 1]);
+                generator.writeEndObject();
             }
-        });
-        resourceRecords.forEach(resource -> {
-            if (resource.getDocumentNames() != null) {
-                resource.setDocumentNames((generateUrlForFiles(resource.getDocumentNames())));
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * Method parses coordinates stored as {@code lat,lng;lat,lng} before anything is written,
+     * so a malformed value does not break an already committed response.
+     *
+     * @param coordinates value of coordinate column
+     * @return latitude and longitude of each point one after another, or null if the value is malformed
+     */
+    private double[] parseCoordinates(String coordinates) {
+        List<Double> points = new ArrayList<>();
+        int start = 0;
+        while (start < coordinates.length()) {
+            int end = coordinates.indexOf(';', start);
+            if (end < 0) {
+                end = coordinates.length();
+            }
+            int comma = coordinates.indexOf(',', start);
+            if (comma < 0 || comma >= end) {
+                return null;
             }
-        });
-        return resourceRecords
-                .map(resourceRecord -> modelMapper.map(resourceRecord, ResourceRecordDTO.class));
+            try {
+                points.add(Double.parseDouble(coordinates.substring(start, comma)));
+                points.add(Double.parseDouble(coordinates.substring(comma + 1, end)));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+            start = end + 1;
+        }
+        return points.stream().mapToDouble(Double::doubleValue).toArray();
     }
 
     /**
@@ -138,20 +678,148 @@ public class ResourceRecordServiceImpl implements ResourceRecordService {
      * @author Andrii Bren
      */
     @Override
-    public void update(String tableName, Long id, ResourceRecordSaveDTO resourceRecordSaveDTO)
+    public void update(String tableName, Long id, String version, ResourceRecordSaveDTO resourceRecordSaveDTO)
             throws NotFoundException {
-        checkIfResourceTemplateIsPublished(tableName);
-        ResourceRecord resourceRecord = findById(tableName, id);
-        if (resourceRecordSaveDTO.getName() != null) {
-            resourceRecord.setName(resourceRecordSaveDTO.getName());
+        ResourceTemplate resourceTemplate = findPublishedResourceTemplate(tableName);
+        ResourceRecord resourceRecord = ResourceRecord.builder()
+                .name(resourceRecordSaveDTO.getName())
+                .description(resourceRecordSaveDTO.getDescription())
+                .parameters(resourceRecordSaveDTO.getParameters())
+                .build();
+        if (!resourceRecordRepository.update(tableName, id, getExpectedVersion(resourceTemplate, id, version),
+                resourceRecord)) {
+            verifyIfRecordExists(tableName, id);
+            throw new VersionConflictException(ErrorMessage.RESOURCE_VERSION_CONFLICT.getMessage() + id);
+        }
+    }
+
+    /**
+     * Method reads version of the row from ETag built by {@link #withTemplateVersion}. ETag
+     * of the record from table which has been published again is a conflict.
+     *
+     * @param resourceTemplate {@link ResourceTemplate} of the record
+     * @param id               {@link ResourceRecord} id
+     * @param eTag             value of {@code If-Match} header, may be null or {@code *}
+     * @return version of the row, null if any version can be updated
+     * @throws BadRequestException if ETag is not an ETag of the record
+     * @throws VersionConflictException if ETag belongs to previous publication of the table
+     */
+    private Long getExpectedVersion(ResourceTemplate resourceTemplate, Long id, String eTag) {
+        if (eTag == null || eTag.trim().equals("*")) {
+            return null;
+        }
+        String value = eTag.trim();
+        if (value.startsWith("W/")) {
+            value = value.substring(2);
+        }
+        value = value.replace("\"", "");
+        int period = value.indexOf('-');
+        String[] parts = (period < 0 ? value : value.substring(0, period)).split("\\.");
+        if (parts.length != 3 || !parts[1].equals(String.valueOf(id))) {
+            throw new BadRequestException(ErrorMessage.RESOURCE_VERSION_IS_NOT_VALID.getMessage() + id);
+        }
+        if (!parts[0].equals(String.valueOf(resourceTemplate.getVersion()))) {
+            throw new VersionConflictException(ErrorMessage.RESOURCE_VERSION_CONFLICT.getMessage() + id);
+        }
+        try {
+            return Long.valueOf(parts[2]);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException(ErrorMessage.RESOURCE_VERSION_IS_NOT_VALID.getMessage() + id);
+        }
+    }
+
+    /**
+     * Method verifies that the record exists without reading its values.
+     *
+     * @param tableName {@link ResourceTemplate} tableName
+     * @param id        {@link ResourceRecord} id
+     * @throws NotFoundException if the resource with provided id is not found
+     */
+    private void verifyIfRecordExists(String tableName, Long id) {
+        if (!resourceRecordRepository.findVersion(tableName, id).isPresent()) {
+            throw new NotFoundException(ErrorMessage.CAN_NOT_FIND_A_RESOURCE_BY_ID.getMessage() + id);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResourceRecordBulkResultDTO updateAll(String tableName,
+                                                 ResourceRecordBulkUpdateDTO resourceRecordBulkUpdateDTO,
+                                                 boolean dryRun) {
+        ResourceRecordFilter filter = ResourceRecordFilter.of(findPublishedResourceTemplate(tableName));
+        Condition condition = filter.toCondition(resourceRecordBulkUpdateDTO.getFilter());
+        Map<String, Object> values = filter.toValues(resourceRecordBulkUpdateDTO.getParameters());
+        if (dryRun) {
+            return countMatching(tableName, condition);
         }
-        if (resourceRecordSaveDTO.getDescription() != null) {
-            resourceRecord.setDescription(resourceRecordSaveDTO.getDescription());
+        long updated = 0;
+        int chunks = 0;
+        long lastId = 0;
+        List<Long> ids;
+        do {
+            ids = resourceRecordRepository.updateChunk(tableName, condition, values, lastId, bulkChunkSize, true);
+            for (Long id : ids) {
+                lastId = Math.max(lastId, id);
+            }
+            if (!ids.isEmpty()) {
+                updated += ids.size();
+                chunks++;
+            }
+        } while (!ids.isEmpty());
+        return new ResourceRecordBulkResultDTO(updated, chunks, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResourceRecordBulkResultDTO deleteAll(String tableName, ResourceRecordFilterDTO resourceRecordFilterDTO,
+                                                 boolean dryRun) {
+        Condition condition = ResourceRecordFilter.of(findPublishedResourceTemplate(tableName))
+                .toCondition(resourceRecordFilterDTO.getFilter());
+        if (dryRun) {
+            return countMatching(tableName, condition);
         }
-        if (resourceRecordSaveDTO.getParameters() != null) {
-            resourceRecord.setParameters(resourceRecordSaveDTO.getParameters());
+        long deleted = 0;
+        int chunks = 0;
+        List<ResourceRecord> records;
+        do {
+            records = resourceRecordRepository.deleteChunk(tableName, condition, bulkChunkSize);
+            List<String> photos = new ArrayList<>();
+            List<String> documents = new ArrayList<>();
+            for (ResourceRecord record : records) {
+                addFileNames(photos, record.getPhotosNames());
+                addFileNames(documents, record.getDocumentNames());
+            }
+            if (!records.isEmpty()) {
+                fileCleanupService.deleteFiles(photos, documents);
+                deleted += records.size();
+                chunks++;
+            }
+        } while (!records.isEmpty());
+        return new ResourceRecordBulkResultDTO(deleted, chunks, false);
+    }
+
+    /**
+     * Method counts records which would be changed by bulk operation and statements it would execute.
+     *
+     * @param tableName {@link ResourceTemplate} tableName
+     * @param condition compiled filter of the records
+     * @return {@link ResourceRecordBulkResultDTO} of dry run
+     */
+    private ResourceRecordBulkResultDTO countMatching(String tableName, Condition condition) {
+        long count = resourceRecordRepository.count(tableName, condition);
+        return new ResourceRecordBulkResultDTO(count, (int) ((count + bulkChunkSize - 1) / bulkChunkSize), true);
+    }
+
+    private void addFileNames(List<String> fileNames, String allFiles) {
+        if (allFiles != null) {
+            Stream.of(allFiles.split(",")).
+                    filter(file -> !file.isEmpty()).
+                    forEach(fileNames::add);
         }
-        resourceRecordRepository.update(tableName, id, resourceRecord);
     }
 
     /**
@@ -164,7 +832,7 @@ public class ResourceRecordServiceImpl implements ResourceRecordService {
         checkIfResourceTemplateIsPublished(tableName);
         ResourceRecord resourceRecord = findById(tableName, id);
         if (resourceRecord.getPhotosNames() != null) {
-            deleteFileFromS3(resourceRecord.getPhotosNames());
+            deletePhotosFromS3(resourceRecord.getPhotosNames());
         }
         if (resourceRecord.getDocumentNames() != null) {
             deleteFileFromS3(resourceRecord.getDocumentNames());
@@ -173,11 +841,16 @@ public class ResourceRecordServiceImpl implements ResourceRecordService {
     }
 
     private void checkIfResourceTemplateIsPublished(String tableName) {
+        findPublishedResourceTemplate(tableName);
+    }
+
+    private ResourceTemplate findPublishedResourceTemplate(String tableName) {
         ResourceTemplate resourceTemplate = resourceTemplateService.findByTableName(tableName);
         if (!resourceTemplate.getIsPublished()) {
             throw new ResourceTemplateIsNotPublishedException(
                     ErrorMessage.RESOURCE_TEMPLATE_IS_NOT_PUBLISHED.getMessage() + tableName);
         }
+        return resourceTemplate;
     }
 
     /**
@@ -188,14 +861,11 @@ public class ResourceRecordServiceImpl implements ResourceRecordService {
     @Override
     public void changePhoto(MultipartFile files,
                             String tableName, Long id) {
-        ResourceRecord resourceRecord = findById(tableName, id);
+        checkIfResourceTemplateIsPublished(tableName);
+        verifyIfRecordExists(tableName, id);
         String photoName = fileStorageService.uploadFile(files);
-        if (resourceRecord.getPhotosNames() != null) {
-            resourceRecord.setPhotosNames(resourceRecord.getPhotosNames() + photoName + ',');
-        } else {
-            resourceRecord.setPhotosNames(photoName + ',');
-        }
-        resourceRecordRepository.update(tableName, id, resourceRecord);
+        appendFileName(tableName, id, FieldConstants.PHOTOS_NAMES, photoName);
+        imageProcessingService.generateDerivatives(photoName);
     }
 
     /**
@@ -206,14 +876,100 @@ public class ResourceRecordServiceImpl implements ResourceRecordService {
     @Override
     public void uploadDocument(MultipartFile files,
                             String tableName, Long id) {
-        ResourceRecord resourceRecord = findById(tableName, id);
+        checkIfResourceTemplateIsPublished(tableName);
+        verifyIfRecordExists(tableName, id);
         String documentName = fileStorageService.uploadFile(files);
-        if (resourceRecord.getDocumentNames() != null) {
-            resourceRecord.setDocumentNames((resourceRecord.getDocumentNames() + documentName + ','));
-        } else {
-            resourceRecord.setDocumentNames(documentName + ',');
+        appendFileName(tableName, id, FieldConstants.DOCUMENTS_NAMES, documentName);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public PresignedUrlDto generateUploadUrl(String tableName, Long id, String contentType) {
+        checkIfResourceTemplateIsPublished(tableName);
+        verifyIfRecordExists(tableName, id);
+        return fileStorageService.generatePresignedUploadUrl(getUploadKeyPrefix(tableName, id), contentType);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void completePhotoUpload(String tableName, Long id, String fileName) {
+        checkIfResourceTemplateIsPublished(tableName);
+        verifyIfFileIsUploaded(tableName, id, fileName);
+        appendFileName(tableName, id, FieldConstants.PHOTOS_NAMES, fileName);
+        imageProcessingService.generateDerivatives(fileName);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void completeDocumentUpload(String tableName, Long id, String fileName) {
+        checkIfResourceTemplateIsPublished(tableName);
+        verifyIfFileIsUploaded(tableName, id, fileName);
+        appendFileName(tableName, id, FieldConstants.DOCUMENTS_NAMES, fileName);
+    }
+
+    /**
+     * Method builds prefix of names of files uploaded by presigned urls for the record,
+     * so a file can be registered only on the record its upload url was issued for. Names contain
+     * no slash, so a single file can be deleted by its name in the request path.
+     *
+     * @param tableName {@link ResourceTemplate} tableName
+     * @param id        {@link ResourceRecord} id
+     * @return prefix of file names
+     */
+    private String getUploadKeyPrefix(String tableName, Long id) {
+        return tableName + UPLOAD_KEY_SEPARATOR + id + UPLOAD_KEY_SEPARATOR;
+    }
+
+    /**
+     * Method verifies if file has been uploaded to the storage by the client with url issued for the record.
+     *
+     * @param tableName {@link ResourceTemplate} tableName
+     * @param id        {@link ResourceRecord} id
+     * @param fileName  of uploaded file
+     * @throws BadRequestException if the file name was not generated for the record
+     * @throws NotFoundException   if there is no such file in the storage
+     */
+    private void verifyIfFileIsUploaded(String tableName, Long id, String fileName) {
+        String prefix = getUploadKeyPrefix(tableName, id);
+        if (!fileName.startsWith(prefix) || !UPLOAD_NONCE.matcher(fileName.substring(prefix.length())).matches()) {
+            throw new BadRequestException(ErrorMessage.FILE_IS_NOT_ISSUED_FOR_RESOURCE.getMessage() + fileName);
+        }
+        if (!fileStorageService.isFileExist(fileName)) {
+            throw new NotFoundException(ErrorMessage.FILE_IS_NOT_UPLOADED.getMessage() + fileName);
         }
-        resourceRecordRepository.update(tableName, id, resourceRecord);
+    }
+
+    /**
+     * Method appends file name to the comma separated list of files of the record.
+     *
+     * @param tableName {@link ResourceTemplate} tableName
+     * @param id        {@link ResourceRecord} id
+     * @param column    column with file names
+     * @param fileName  to append
+     * @throws NotFoundException if the resource with provided id is not found
+     */
+    private void appendFileName(String tableName, Long id, FieldConstants column, String fileName) {
+        if (!resourceRecordRepository.appendFileName(tableName, id, column, fileName)) {
+            throw new NotFoundException(ErrorMessage.CAN_NOT_FIND_A_RESOURCE_BY_ID.getMessage() + id);
+        }
+    }
+
+    /**
+     * Method removes file names from the comma separated list of files of the record.
+     *
+     * @param tableName {@link ResourceTemplate} tableName
+     * @param id        {@link ResourceRecord} id
+     * @param column    column with file names
+     * @param fileNames comma separated file names to remove
+     */
+    private void removeFileNames(String tableName, Long id, FieldConstants column, String fileNames) {
+        resourceRecordRepository.removeFileNames(tableName, id, column, Arrays.asList(fileNames.split(",")));
     }
 
     /**
@@ -224,9 +980,10 @@ public class ResourceRecordServiceImpl implements ResourceRecordService {
     @Override
     public void deleteAllPhotos(String tableName, Long id) {
         ResourceRecord resourceRecord = findById(tableName, id);
-        deleteFileFromS3(resourceRecord.getPhotosNames());
-        resourceRecord.setPhotosNames(null);
-        resourceRecordRepository.update(tableName, id, resourceRecord);
+        if (resourceRecord.getPhotosNames() != null) {
+            deletePhotosFromS3(resourceRecord.getPhotosNames());
+            removeFileNames(tableName, id, FieldConstants.PHOTOS_NAMES, resourceRecord.getPhotosNames());
+        }
     }
 
     /**
@@ -239,9 +996,11 @@ public class ResourceRecordServiceImpl implements ResourceRecordService {
         ResourceRecord resourceRecord = findById(tableName, id);
         Stream.of(resourceRecord.getPhotosNames().split(",")).
                 filter(p -> p.equals(photo)).
-                forEach(q -> fileStorageService.deleteFile(q));
-        resourceRecord.setPhotosNames(resourceRecord.getPhotosNames().replace((photo + ','), ""));
-        resourceRecordRepository.update(tableName, id, resourceRecord);
+                forEach(q -> {
+                    fileStorageService.deleteFile(q);
+                    imageProcessingService.deleteDerivatives(q);
+                });
+        removeFileNames(tableName, id, FieldConstants.PHOTOS_NAMES, photo);
     }
 
     /**
@@ -252,9 +1011,10 @@ public class ResourceRecordServiceImpl implements ResourceRecordService {
     @Override
     public void deleteAllDocuments(String tableName, Long id) {
         ResourceRecord resourceRecord = findById(tableName, id);
-        deleteFileFromS3(resourceRecord.getDocumentNames());
-        resourceRecord.setDocumentNames(null);
-        resourceRecordRepository.update(tableName, id, resourceRecord);
+        if (resourceRecord.getDocumentNames() != null) {
+            deleteFileFromS3(resourceRecord.getDocumentNames());
+            removeFileNames(tableName, id, FieldConstants.DOCUMENTS_NAMES, resourceRecord.getDocumentNames());
+        }
     }
 
     /**
@@ -268,8 +1028,7 @@ public class ResourceRecordServiceImpl implements ResourceRecordService {
         Stream.of(resourceRecord.getDocumentNames().split(",")).
                 filter(p -> p.equals(document)).
                 forEach(q -> fileStorageService.deleteFile(q));
-        resourceRecord.setDocumentNames(resourceRecord.getDocumentNames().replace((document + ','), ""));
-        resourceRecordRepository.update(tableName, id, resourceRecord);
+        removeFileNames(tableName, id, FieldConstants.DOCUMENTS_NAMES, document);
     }
 
     /**
@@ -283,18 +1042,64 @@ public class ResourceRecordServiceImpl implements ResourceRecordService {
                 forEach(file -> fileStorageService.deleteFile(file));
     }
 
+    /**
+     * Method that delete photos and their derivatives from S3 bucket
+     *
+     * @param allPhotos
+     */
+    private void deletePhotosFromS3(String allPhotos) {
+        Stream.of(allPhotos.split(",")).
+                forEach(photo -> {
+                    fileStorageService.deleteFile(photo);
+                    imageProcessingService.deleteDerivatives(photo);
+                });
+    }
+
 
     /**
-     * Method that generate full url for all photos
+     * Method that generate presigned download url for all photos
      *
      * @param allFiles
      * @author Mariia Shchur
      */
-    private String generateUrlForFiles(String allFiles) {
+    String generateUrlForFiles(String allFiles) {
         StringBuilder result = new StringBuilder();
         Stream.of(allFiles.split(",")).
-                forEach(file -> result.append(endpointUrl + file + ','));
+                forEach(file -> result.append(fileStorageService.generatePresignedDownloadUrl(file)).append(','));
         return (result.toString());
     }
 
+    /**
+     * Method finds derivatives of all photos of the records with single query.
+     *
+     * @param allPhotos comma separated photo names of the records, null if a record has no photos
+     * @return map with photo name key and map of derivative name and file name value
+     */
+    private Map<String, Map<String, String>> findDerivativeFileNames(Stream<String> allPhotos) {
+        Set<String> photos = allPhotos.filter(Objects::nonNull)
+                .flatMap(photo -> Stream.of(photo.split(",")))
+                .filter(photo -> !photo.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        return photos.isEmpty() ? Collections.emptyMap() : imageProcessingService.getDerivativeFileNames(photos);
+    }
+
+    /**
+     * Method that generate download urls of all photo derivatives grouped by derivative name
+     *
+     * @param allPhotos
+     * @param derivativeFileNames derivatives of the photos
+     * @return map with derivative name key and comma separated urls value
+     */
+    private Map<String, String> generateUrlForDerivatives(String allPhotos,
+                                                          Map<String, Map<String, String>> derivativeFileNames) {
+        Map<String, StringBuilder> derivatives = new LinkedHashMap<>();
+        Stream.of(allPhotos.split(",")).
+                filter(photo -> !photo.isEmpty()).
+                forEach(photo -> derivativeFileNames.getOrDefault(photo, Collections.emptyMap()).
+                        forEach((name, derivative) -> derivatives.computeIfAbsent(name, key -> new StringBuilder())
+                                .append(fileStorageService.generatePresignedDownloadUrl(derivative)).append(',')));
+        Map<String, String> result = new LinkedHashMap<>();
+        derivatives.forEach((name, urls) -> result.put(name, urls.toString()));
+        return result;
+    }
 }
@@ -0,0 +1,154 @@
+package com.softserve.rms.service.implementation;
+
+import com.softserve.rms.constants.ErrorMessage;
+import com.softserve.rms.constants.FieldConstants;
+import com.softserve.rms.dto.resourceRecord.ResourceRecordReferenceDTO;
+import com.softserve.rms.entities.ResourceParameter;
+import com.softserve.rms.entities.ResourceRecord;
+import com.softserve.rms.entities.ResourceRelation;
+import com.softserve.rms.entities.ResourceTemplate;
+import com.softserve.rms.exceptions.resourseTemplate.ResourceTemplateIsNotPublishedException;
+import com.softserve.rms.repository.ResourceRecordRepository;
+import com.softserve.rms.repository.ResourceTemplateSearchRepository;
+import com.softserve.rms.service.ResourceReferenceService;
+import com.softserve.rms.service.ResourceTemplateService;
+import com.softserve.rms.util.AclUtil;
+import org.jooq.Condition;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+import static com.softserve.rms.util.PaginationUtil.validatePage;
+import static com.softserve.rms.util.PaginationUtil.validatePageSize;
+import static org.jooq.impl.DSL.field;
+
+@Service
+public class ResourceReferenceServiceImpl implements ResourceReferenceService {
+    private final ResourceRecordRepository resourceRecordRepository;
+    private final ResourceTemplateService resourceTemplateService;
+    private final ResourceTemplateSearchRepository resourceTemplateSearchRepository;
+    private final Executor referenceLookupExecutor;
+
+    /**
+     * Constructor with parameters
+     */
+    @Autowired
+    public ResourceReferenceServiceImpl(ResourceRecordRepository resourceRecordRepository,
+                                        ResourceTemplateService resourceTemplateService,
+                                        ResourceTemplateSearchRepository resourceTemplateSearchRepository,
+                                        @Qualifier("referenceLookupExecutor") Executor referenceLookupExecutor) {
+        this.resourceRecordRepository = resourceRecordRepository;
+        this.resourceTemplateService = resourceTemplateService;
+        this.resourceTemplateSearchRepository = resourceTemplateSearchRepository;
+        this.referenceLookupExecutor = referenceLookupExecutor;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Matching records of every reference column are counted in parallel first, so only
+     * columns which rows fall on the requested page are read, again in parallel.
+     */
+    @Override
+    public Page<ResourceRecordReferenceDTO> findReferencing(String tableName, Long id, Integer page,
+                                                            Integer pageSize) {
+        ResourceTemplate resourceTemplate = resourceTemplateService.findByTableName(tableName);
+        if (!resourceTemplate.getIsPublished()) {
+            throw new ResourceTemplateIsNotPublishedException(
+                    ErrorMessage.RESOURCE_TEMPLATE_IS_NOT_PUBLISHED.getMessage() + tableName);
+        }
+        resourceRecordRepository.findById(tableName, id);
+        int validPage = validatePage(page);
+        int validPageSize = validatePageSize(pageSize);
+        List<ResourceParameter> referenceParameters = findReferenceParameters(resourceTemplate);
+        List<CompletableFuture<Long>> counts = referenceParameters.stream()
+                .map(parameter -> CompletableFuture.supplyAsync(() -> resourceRecordRepository.count(
+                        parameter.getResourceTemplate().getTableName(), referencesRecord(parameter, id)),
+                        referenceLookupExecutor))
+                .collect(Collectors.toList());
+        long offset = (long) validPage * validPageSize;
+        long totalItems = 0;
+        List<CompletableFuture<List<ResourceRecordReferenceDTO>>> slices = new ArrayList<>();
+        for (int i = 0; i < referenceParameters.size(); i++) {
+            ResourceParameter parameter = referenceParameters.get(i);
+            long count = join(counts.get(i));
+            long from = Math.max(offset - totalItems, 0);
+            long to = Math.min(offset + validPageSize - totalItems, count);
+            if (from < to) {
+                slices.add(CompletableFuture.supplyAsync(() -> resourceRecordRepository.findAll(
+                        parameter.getResourceTemplate().getTableName(), referencesRecord(parameter, id),
+                        from, (int) (to - from)).stream()
+                        .map(resourceRecord -> convertToDTO(parameter, resourceRecord))
+                        .collect(Collectors.toList()), referenceLookupExecutor));
+            }
+            totalItems += count;
+        }
+        List<ResourceRecordReferenceDTO> content = new ArrayList<>();
+        for (CompletableFuture<List<ResourceRecordReferenceDTO>> slice : slices) {
+            content.addAll(join(slice));
+        }
+        return new PageImpl<>(content, PageRequest.of(validPage, validPageSize), totalItems);
+    }
+
+    /**
+     * Method finds Point Reference parameters of published templates, which reference the template
+     * and which the user can read. Entities and permissions are read before lookups are started,
+     * because lookups run outside of the request thread.
+     *
+     * @param resourceTemplate referenced {@link ResourceTemplate}
+     * @return list of {@link ResourceParameter} ordered by table name and column name
+     */
+    private List<ResourceParameter> findReferenceParameters(ResourceTemplate resourceTemplate) {
+        List<ResourceParameter> referenceParameters = new ArrayList<>();
+        if (resourceTemplate.getResourceRelations() != null) {
+            for (ResourceRelation resourceRelation : resourceTemplate.getResourceRelations()) {
+                ResourceParameter parameter = resourceRelation.getResourceParameter();
+                if (parameter != null && Boolean.TRUE.equals(parameter.getResourceTemplate().getIsPublished())) {
+                    referenceParameters.add(parameter);
+                }
+            }
+        }
+        Set<Long> readable = resourceTemplateSearchRepository.findReadable(referenceParameters.stream()
+                .map(parameter -> parameter.getResourceTemplate().getId())
+                .collect(Collectors.toSet()), AclUtil.getReaderSids());
+        referenceParameters.removeIf(parameter -> !readable.contains(parameter.getResourceTemplate().getId()));
+        referenceParameters.sort(Comparator
+                .comparing((ResourceParameter parameter) -> parameter.getResourceTemplate().getTableName())
+                .thenComparing(ResourceParameter::getColumnName));
+        return referenceParameters;
+    }
+
+    private Condition referencesRecord(ResourceParameter parameter, Long id) {
+        return field(parameter.getColumnName() + FieldConstants.REFERENCE.getValue(), Long.class).eq(id);
+    }
+
+    private ResourceRecordReferenceDTO convertToDTO(ResourceParameter parameter, ResourceRecord resourceRecord) {
+        ResourceTemplate resourceTemplate = parameter.getResourceTemplate();
+        return new ResourceRecordReferenceDTO(resourceTemplate.getId(), resourceTemplate.getName(),
+                resourceTemplate.getTableName(), parameter.getColumnName(), resourceRecord.getId(),
+                resourceRecord.getName());
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
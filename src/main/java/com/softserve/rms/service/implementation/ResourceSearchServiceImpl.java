@@ -0,0 +1,41 @@
+package com.softserve.rms.service.implementation;
+
+import com.softserve.rms.constants.ErrorMessage;
+import com.softserve.rms.dto.search.ResourceSearchDTO;
+import com.softserve.rms.exceptions.BadRequestException;
+import com.softserve.rms.repository.ResourceSearchRepository;
+import com.softserve.rms.service.ResourceSearchService;
+import com.softserve.rms.util.AclUtil;
+import com.softserve.rms.util.PaginationUtil;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+
+@Service
+public class ResourceSearchServiceImpl implements ResourceSearchService {
+    private final ResourceSearchRepository resourceSearchRepository;
+
+    /**
+     * Constructor with parameters
+     */
+    @Autowired
+    public ResourceSearchServiceImpl(ResourceSearchRepository resourceSearchRepository) {
+        this.resourceSearchRepository = resourceSearchRepository;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Page<ResourceSearchDTO> search(String query, Integer page, Integer pageSize) {
+        if (query == null || query.trim().isEmpty()) {
+            throw new BadRequestException(ErrorMessage.SEARCH_QUERY_IS_EMPTY.getMessage());
+        }
+        if (!AclUtil.isManager()) {
+            throw new AccessDeniedException(ErrorMessage.RESOURCE_SEARCH_IS_NOT_ALLOWED.getMessage());
+        }
+        return resourceSearchRepository.search(query.trim(),
+                PaginationUtil.validatePage(page), PaginationUtil.validatePageSize(pageSize));
+    }
+}
@@ -4,38 +4,51 @@ import com.softserve.rms.constants.ErrorMessage;
 import com.softserve.rms.constants.FieldConstants;
 import com.softserve.rms.dto.PermissionDto;
 import com.softserve.rms.dto.PrincipalPermissionDto;
+import com.softserve.rms.dto.VersionDto;
 import com.softserve.rms.dto.security.ChangeOwnerDto;
 import com.softserve.rms.dto.template.ResourceTemplateDTO;
 import com.softserve.rms.dto.template.ResourceTemplateSaveDTO;
 import com.softserve.rms.entities.ParameterType;
+import com.softserve.rms.entities.ResourceParameter;
 import com.softserve.rms.entities.ResourceTemplate;
+import com.softserve.rms.exceptions.BadRequestException;
 import com.softserve.rms.exceptions.NotDeletedException;
 import com.softserve.rms.exceptions.NotFoundException;
 import com.softserve.rms.exceptions.NotUniqueNameException;
 import com.softserve.rms.exceptions.PermissionException;
 import com.softserve.rms.exceptions.resourseTemplate.*;
+import com.softserve.rms.mapper.ResourceTemplateMapper;
+import com.softserve.rms.repository.ResourceParameterRepository;
 import com.softserve.rms.repository.ResourceTemplateRepository;
+import com.softserve.rms.repository.ResourceTemplateSearchRepository;
+import com.softserve.rms.repository.ResourceTemplateStatsRepository;
 import com.softserve.rms.repository.implementation.JooqDDL;
 import com.softserve.rms.service.PermissionManagerService;
 import com.softserve.rms.service.ResourceTemplateService;
+import com.softserve.rms.util.AclUtil;
 import com.softserve.rms.util.Formatter;
 import com.softserve.rms.util.PaginationUtil;
+import com.softserve.rms.util.ResourceTablePartitioning;
 import com.softserve.rms.util.Validator;
 import org.jooq.DSLContext;
-import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.RequestParam;
 
 import java.security.Principal;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -47,10 +60,13 @@ import java.util.stream.Collectors;
 @Service
 public class ResourceTemplateServiceImpl implements ResourceTemplateService {
     private final ResourceTemplateRepository resourceTemplateRepository;
+    private final ResourceTemplateSearchRepository resourceTemplateSearchRepository;
+    private final ResourceTemplateStatsRepository resourceTemplateStatsRepository;
+    private final ResourceParameterRepository resourceParameterRepository;
     private UserServiceImpl userService;
     private PermissionManagerService permissionManagerService;
     private Validator validator = new Validator();
-    private ModelMapper modelMapper = new ModelMapper();
+    private ResourceTemplateMapper resourceTemplateMapper;
     private DSLContext dslContext;
     private JooqDDL jooqDDL;
     private Formatter formatter;
@@ -65,13 +81,21 @@ public class ResourceTemplateServiceImpl implements ResourceTemplateService {
     @Autowired
     public ResourceTemplateServiceImpl(ResourceTemplateRepository resourceTemplateRepository,
                                        UserServiceImpl userService, PermissionManagerService permissionManagerService,
-                                       DSLContext dslContext, JooqDDL jooqDDL, Formatter formatter) {
+                                       DSLContext dslContext, JooqDDL jooqDDL, Formatter formatter,
+                                       ResourceTemplateMapper resourceTemplateMapper,
+                                       ResourceTemplateSearchRepository resourceTemplateSearchRepository,
+                                       ResourceTemplateStatsRepository resourceTemplateStatsRepository,
+                                       ResourceParameterRepository resourceParameterRepository) {
         this.resourceTemplateRepository = resourceTemplateRepository;
+        this.resourceTemplateSearchRepository = resourceTemplateSearchRepository;
+        this.resourceTemplateStatsRepository = resourceTemplateStatsRepository;
+        this.resourceParameterRepository = resourceParameterRepository;
         this.userService = userService;
         this.permissionManagerService = permissionManagerService;
         this.dslContext = dslContext;
         this.jooqDDL = jooqDDL;
         this.formatter = formatter;
+        this.resourceTemplateMapper = resourceTemplateMapper;
     }
 
     /**
@@ -91,7 +115,7 @@ public class ResourceTemplateServiceImpl implements ResourceTemplateService {
         resourceTemplate.setIsPublished(false);
         Long resTempId = resourceTemplateRepository.saveAndFlush(resourceTemplate).getId();
         setAccessToTemplate(resTempId, principal);
-        return modelMapper.map(resourceTemplate, ResourceTemplateDTO.class);
+        return resourceTemplateMapper.toDto(resourceTemplate);
     }
 
     /**
@@ -113,7 +137,7 @@ public class ResourceTemplateServiceImpl implements ResourceTemplateService {
      */
     @Override
     public ResourceTemplateDTO findDTOById(Long id) throws NotFoundException {
-        return modelMapper.map(findEntityById(id), ResourceTemplateDTO.class);
+        return setRecordCount(toDto(findEntityById(id)));
     }
 
     /**
@@ -124,8 +148,7 @@ public class ResourceTemplateServiceImpl implements ResourceTemplateService {
     @Override
     public Page<ResourceTemplateDTO> getAll(Integer page, Integer pageSize) {
         List<ResourceTemplate> resourceTemplates = resourceTemplateRepository.findAll();
-        return PaginationUtil.buildPage(resourceTemplates, page, pageSize)
-                .map(resourceTemplate -> modelMapper.map(resourceTemplate, ResourceTemplateDTO.class));
+        return setRecordCounts(toDtos(PaginationUtil.buildPage(resourceTemplates, page, pageSize)));
     }
 
     /**
@@ -136,8 +159,7 @@ public class ResourceTemplateServiceImpl implements ResourceTemplateService {
     @Override
     public Page<ResourceTemplateDTO> findAllPublishedTemplates(Integer page, Integer pageSize) {
         List<ResourceTemplate> resourceTemplates = resourceTemplateRepository.findAllByIsPublishedIsTrue();
-        return PaginationUtil.buildPage(resourceTemplates, page, pageSize)
-                .map(resourceTemplate -> modelMapper.map(resourceTemplate, ResourceTemplateDTO.class));
+        return setRecordCounts(toDtos(PaginationUtil.buildPage(resourceTemplates, page, pageSize)));
     }
 
     /**
@@ -148,8 +170,7 @@ public class ResourceTemplateServiceImpl implements ResourceTemplateService {
     @Override
     public Page<ResourceTemplateDTO> getAllByUserId(Long id, Integer page, Integer pageSize) {
         List<ResourceTemplate> resourceTemplates = resourceTemplateRepository.findAllByUserId(id);
-        return PaginationUtil.buildPage(resourceTemplates, page, pageSize)
-                .map(resourceTemplate -> modelMapper.map(resourceTemplate, ResourceTemplateDTO.class));
+        return setRecordCounts(toDtos(PaginationUtil.buildPage(resourceTemplates, page, pageSize)));
     }
 
     /**
@@ -188,7 +209,7 @@ public class ResourceTemplateServiceImpl implements ResourceTemplateService {
             resourceTemplate.setDescription(body.get(FieldConstants.DESCRIPTION.getValue()).toString());
         }
         resourceTemplateRepository.save(resourceTemplate);
-        return modelMapper.map(resourceTemplate, ResourceTemplateDTO.class);
+        return resourceTemplateMapper.toDto(resourceTemplate);
     }
 
     /**
@@ -228,12 +249,20 @@ public class ResourceTemplateServiceImpl implements ResourceTemplateService {
      * @author Halyna Yatseniuk
      */
     @Override
-    public Page<ResourceTemplateDTO> searchByNameOrDescriptionContaining(String searchedWord, Integer page,
-                                                                         Integer pageSize) {
-        List<ResourceTemplate> resourceTemplates = resourceTemplateRepository.
-                findByNameContainsIgnoreCaseOrDescriptionContainsIgnoreCase(searchedWord, searchedWord);
-        return PaginationUtil.buildPage(resourceTemplates, page, pageSize)
-                .map(resourceTemplate -> modelMapper.map(resourceTemplate, ResourceTemplateDTO.class));
+    @Transactional(readOnly = true)
+    public Page<ResourceTemplateDTO> searchByNameOrDescriptionContaining(String searchedWord, boolean prefix,
+                                                                         Integer page, Integer pageSize) {
+        Page<Long> ids = resourceTemplateSearchRepository.search(searchedWord, prefix, AclUtil.getReaderSids(),
+                PaginationUtil.validatePage(page), PaginationUtil.validatePageSize(pageSize));
+        Map<Long, ResourceTemplate> resourceTemplates = resourceTemplateRepository.findAllById(ids.getContent())
+                .stream()
+                .collect(Collectors.toMap(ResourceTemplate::getId, resourceTemplate -> resourceTemplate));
+        List<ResourceTemplateDTO> resourceTemplateDTOs = toDtos(ids.getContent().stream()
+                .map(resourceTemplates::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList()));
+        setRecordCounts(resourceTemplateDTOs);
+        return new PageImpl<>(resourceTemplateDTOs, ids.getPageable(), ids.getTotalElements());
     }
 
     /**
@@ -245,7 +274,11 @@ public class ResourceTemplateServiceImpl implements ResourceTemplateService {
     @Transactional
     public void selectPublishOrCancelPublishAction(Long id, Map<String, Object> body) {
         ResourceTemplate resourceTemplate = findEntityById(id);
-        if (body.get(FieldConstants.IS_PUBLISHED.getValue()).equals(true)) {
+        Object partitioning = body.get(FieldConstants.PARTITIONING.getValue());
+        if (body.get(FieldConstants.IS_PUBLISHED.getValue()).equals(true) && partitioning != null) {
+            publishPartitionedResourceTemplate(resourceTemplate,
+                    ResourceTablePartitioning.of(partitioning));
+        } else if (body.get(FieldConstants.IS_PUBLISHED.getValue()).equals(true)) {
             publishResourceTemplate(resourceTemplate);
         } else {
             unPublishResourceTemplate(resourceTemplate);
@@ -265,10 +298,158 @@ public class ResourceTemplateServiceImpl implements ResourceTemplateService {
                 .orElseThrow(() -> new NotFoundException(ErrorMessage.CAN_NOT_FIND_A_RESOURCE_TABLE.getMessage() + name));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResourceTemplate findByTableNameWithoutAccessCheck(String name) {
+        return resourceTemplateRepository.findUnsecuredByTableName(name)
+                .orElseThrow(() -> new NotFoundException(ErrorMessage.CAN_NOT_FIND_A_RESOURCE_TABLE.getMessage() + name));
+    }
+
     @Override
     public ResourceTemplateDTO findByTableNameDTO(String name) {
-        return modelMapper
-                .map(findByTableName(name), ResourceTemplateDTO.class);
+        return setRecordCount(toDto(findByTableName(name)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public VersionDto findVersionById(Long id) {
+        return getVersion(findEntityById(id));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public VersionDto findDTOVersionById(Long id) {
+        return getDTOVersion(findEntityById(id));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public VersionDto findDTOVersionByTableName(String name) {
+        return getDTOVersion(findByTableName(name));
+    }
+
+    /**
+     * Method converts {@link ResourceTemplate} to {@link ResourceTemplateDTO} with parameters loaded
+     * by single query.
+     *
+     * @param resourceTemplate {@link ResourceTemplate}
+     * @return {@link ResourceTemplateDTO}
+     */
+    private ResourceTemplateDTO toDto(ResourceTemplate resourceTemplate) {
+        return toDtos(Collections.singletonList(resourceTemplate)).get(0);
+    }
+
+    /**
+     * Method converts page of {@link ResourceTemplate} to page of {@link ResourceTemplateDTO}.
+     *
+     * @param resourceTemplates page of {@link ResourceTemplate}
+     * @return page of {@link ResourceTemplateDTO}
+     */
+    private Page<ResourceTemplateDTO> toDtos(Page<ResourceTemplate> resourceTemplates) {
+        return new PageImpl<>(toDtos(resourceTemplates.getContent()), resourceTemplates.getPageable(),
+                resourceTemplates.getTotalElements());
+    }
+
+    /**
+     * Method converts list of {@link ResourceTemplate} to list of {@link ResourceTemplateDTO}. Parameters
+     * of all templates are loaded by single query together with their relations, so lazy parameters
+     * of templates are not loaded one by one.
+     *
+     * @param resourceTemplates list of {@link ResourceTemplate}
+     * @return list of {@link ResourceTemplateDTO}
+     */
+    private List<ResourceTemplateDTO> toDtos(List<ResourceTemplate> resourceTemplates) {
+        if (resourceTemplates.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<Long, List<ResourceParameter>> resourceParameters = resourceParameterRepository
+                .findAllWithRelationsByResourceTemplateIdIn(resourceTemplates.stream()
+                        .map(ResourceTemplate::getId)
+                        .collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.groupingBy(resourceParameter -> resourceParameter.getResourceTemplate().getId()));
+        return resourceTemplates.stream()
+                .map(resourceTemplate -> resourceTemplateMapper.toDto(resourceTemplate,
+                        resourceParameters.getOrDefault(resourceTemplate.getId(), Collections.emptyList())))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Method sets number of records to {@link ResourceTemplateDTO} of published template.
+     *
+     * @param resourceTemplateDTO {@link ResourceTemplateDTO}
+     * @return {@link ResourceTemplateDTO}
+     */
+    private ResourceTemplateDTO setRecordCount(ResourceTemplateDTO resourceTemplateDTO) {
+        setRecordCounts(Collections.singletonList(resourceTemplateDTO));
+        return resourceTemplateDTO;
+    }
+
+    /**
+     * Method sets numbers of records to page of {@link ResourceTemplateDTO}.
+     *
+     * @param resourceTemplateDTOs page of {@link ResourceTemplateDTO}
+     * @return page of {@link ResourceTemplateDTO}
+     */
+    private Page<ResourceTemplateDTO> setRecordCounts(Page<ResourceTemplateDTO> resourceTemplateDTOs) {
+        setRecordCounts(resourceTemplateDTOs.getContent());
+        return resourceTemplateDTOs;
+    }
+
+    /**
+     * Method sets numbers of records kept in statistics of templates to {@link ResourceTemplateDTO}
+     * of published templates by single query. Records of unpublished templates are not counted.
+     *
+     * @param resourceTemplateDTOs collection of {@link ResourceTemplateDTO}
+     */
+    private void setRecordCounts(Collection<ResourceTemplateDTO> resourceTemplateDTOs) {
+        List<ResourceTemplateDTO> publishedDTOs = resourceTemplateDTOs.stream()
+                .filter(resourceTemplateDTO -> Boolean.TRUE.equals(resourceTemplateDTO.getIsPublished()))
+                .collect(Collectors.toList());
+        if (publishedDTOs.isEmpty()) {
+            return;
+        }
+        Map<String, Long> recordCounts = resourceTemplateStatsRepository.countRecords(publishedDTOs.stream()
+                .map(ResourceTemplateDTO::getTableName)
+                .collect(Collectors.toList()));
+        publishedDTOs.forEach(resourceTemplateDTO -> resourceTemplateDTO.setRecordCount(
+                recordCounts.getOrDefault(resourceTemplateDTO.getTableName(), 0L)));
+    }
+
+    /**
+     * Method creates {@link VersionDto} of {@link ResourceTemplate}.
+     *
+     * @param resourceTemplate {@link ResourceTemplate}
+     * @return {@link VersionDto}
+     */
+    private VersionDto getVersion(ResourceTemplate resourceTemplate) {
+        Long lastModified = resourceTemplate.getUpdatedAt() == null ? null : resourceTemplate.getUpdatedAt()
+                .atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return new VersionDto(resourceTemplate.getId() + "." + resourceTemplate.getVersion(), lastModified, false);
+    }
+
+    /**
+     * Method creates {@link VersionDto} of {@link ResourceTemplateDTO}. Version of container table
+     * is appended for published template, so number of records is revalidated as well.
+     *
+     * @param resourceTemplate {@link ResourceTemplate}
+     * @return {@link VersionDto}
+     */
+    private VersionDto getDTOVersion(ResourceTemplate resourceTemplate) {
+        VersionDto version = getVersion(resourceTemplate);
+        if (Boolean.TRUE.equals(resourceTemplate.getIsPublished())) {
+            version.setVersion(version.getVersion() + "."
+                    + resourceTemplateStatsRepository.findTableVersion(resourceTemplate.getTableName()));
+        }
+        return version;
     }
 
     /**
@@ -283,6 +464,8 @@ public class ResourceTemplateServiceImpl implements ResourceTemplateService {
             throws ResourceTemplateIsPublishedException, ResourceTemplateParameterListIsEmpty {
         if (verifyIfResourceTemplateIsNotPublished(resourceTemplate) &&
                 verifyIfResourceTemplateHasParameters(resourceTemplate)) {
+            resourceTemplate.setPartitionStrategy(null);
+            resourceTemplate.setPartitionColumn(null);
             jooqDDL.createResourceContainerTable(resourceTemplate);
             resourceTemplate.setIsPublished(true);
             resourceTemplateRepository.save(resourceTemplate);
@@ -290,7 +473,29 @@ public class ResourceTemplateServiceImpl implements ResourceTemplateService {
     }
 
     /**
-     * Method cancels {@link ResourceTemplate} publish.
+     * Method makes {@link ResourceTemplate} be published with partitioned container table.
+     * Strategy and key column of partitions are kept in the template.
+     *
+     * @param resourceTemplate of {@link ResourceTemplateDTO}
+     * @param partitioning     {@link ResourceTablePartitioning} of container table
+     * @throws ResourceTemplateIsPublishedException if resource template has been published already
+     * @throws ResourceTemplateParameterListIsEmpty if resource template do not have attached parameters
+     * @throws BadRequestException                  if parameter references to template with partitioned table
+     */
+    private void publishPartitionedResourceTemplate(ResourceTemplate resourceTemplate,
+                                                    ResourceTablePartitioning partitioning) {
+        resourceTemplate.setPartitionStrategy(partitioning.getStrategy());
+        resourceTemplate.setPartitionColumn(partitioning.getColumn());
+        if (verifyIfResourceTemplateIsNotPublished(resourceTemplate) &&
+                verifyIfResourceTemplateHasParameters(resourceTemplate)) {
+            jooqDDL.createResourceContainerTable(resourceTemplate, partitioning);
+            resourceTemplate.setIsPublished(true);
+            resourceTemplateRepository.save(resourceTemplate);
+        }
+    }
+
+    /**
+     * Method cancels {@link ResourceTemplate} publish. Partitioning of dropped container table is cleared.
      *
      * @param resourceTemplate of {@link ResourceTemplateDTO}
      * @author Halyna Yatseniuk
@@ -300,6 +505,8 @@ public class ResourceTemplateServiceImpl implements ResourceTemplateService {
                 verifyIfResourceTableCanBeDropped(resourceTemplate)) {
             jooqDDL.dropResourceContainerTable(resourceTemplate);
             resourceTemplate.setIsPublished(false);
+            resourceTemplate.setPartitionStrategy(null);
+            resourceTemplate.setPartitionColumn(null);
             resourceTemplateRepository.save(resourceTemplate);
         }
     }
@@ -460,10 +667,32 @@ public class ResourceTemplateServiceImpl implements ResourceTemplateService {
                     (ErrorMessage.RESOURCE_TEMPLATE_DO_NOT_HAVE_ANY_PARAMETERS.getMessage());
         } else {
             verifyIfReferencedTemplateIsPublished(resourceTemplate);
+            verifyIfReferencedTemplateIsNotPartitioned(resourceTemplate);
         }
         return true;
     }
 
+    /**
+     * Method verifies if any parameter of {@link ResourceTemplate} references to template, which container
+     * table is partitioned. Postgres 10 can not create foreign keys, which reference partitioned tables.
+     *
+     * @param resourceTemplate {@link ResourceTemplate}
+     * @throws BadRequestException if parameter references to template with partitioned container table
+     */
+    private void verifyIfReferencedTemplateIsNotPartitioned(ResourceTemplate resourceTemplate) {
+        List<ResourceTemplate> list = resourceTemplate.getResourceParameters().stream()
+                .filter(parameter -> parameter.getParameterType().equals(ParameterType.POINT_REFERENCE))
+                .map(parameter -> parameter.getResourceRelations().getRelatedResourceTemplate())
+                .filter(relatedTemplate -> relatedTemplate.getPartitionStrategy() != null ||
+                        (resourceTemplate.getPartitionStrategy() != null &&
+                                Objects.equals(relatedTemplate.getId(), resourceTemplate.getId())))
+                .collect(Collectors.toList());
+        if (!list.isEmpty()) {
+            throw new BadRequestException(ErrorMessage.RESOURCE_TEMPLATE_REFERENCES_PARTITIONED_TEMPLATE.getMessage()
+                    + formatter.errorMessageFormatter(list));
+        }
+    }
+
     /**
      * Method verifies if any parameter of {@link ResourceTemplate} references to unpublished template.
      *
@@ -0,0 +1,58 @@
+package com.softserve.rms.service.implementation;
+
+import com.softserve.rms.repository.ResourceRecordRepository;
+import com.softserve.rms.repository.ResourceTemplateStatsRepository;
+import com.softserve.rms.service.ResourceTemplateStatsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+
+/**
+ * Implementation of {@link ResourceTemplateStatsService}. Numbers of records are kept up to date by
+ * triggers of container tables, so reconciliation only corrects drift and runs rarely.
+ */
+@Service
+public class ResourceTemplateStatsServiceImpl implements ResourceTemplateStatsService {
+    private static final Logger LOG = LoggerFactory.getLogger(ResourceTemplateStatsServiceImpl.class);
+    private final ResourceTemplateStatsRepository resourceTemplateStatsRepository;
+    private final ResourceRecordRepository resourceRecordRepository;
+
+    /**
+     * Constructor with parameters
+     */
+    @Autowired
+    public ResourceTemplateStatsServiceImpl(ResourceTemplateStatsRepository resourceTemplateStatsRepository,
+                                            ResourceRecordRepository resourceRecordRepository) {
+        this.resourceTemplateStatsRepository = resourceTemplateStatsRepository;
+        this.resourceRecordRepository = resourceRecordRepository;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Version of the table is read before it is counted, so records written during reconciliation
+     * change the version and the table is counted again next time. Reconciled versions are kept
+     * in the database, so tables are not counted again after restart.
+     */
+    @Scheduled(initialDelayString = "${templateStats.reconcileInitialDelayMs}",
+            fixedDelayString = "${templateStats.reconcileDelayMs}")
+    @Override
+    public void reconcile() {
+        Map<String, Long> reconciledVersions = resourceTemplateStatsRepository.findReconciledVersions();
+        for (String tableName : resourceTemplateStatsRepository.findPublishedTableNames()) {
+            try {
+                long version = resourceRecordRepository.findTableVersion(tableName);
+                if (!Long.valueOf(version).equals(reconciledVersions.get(tableName))) {
+                    resourceTemplateStatsRepository.reconcile(tableName, version);
+                }
+            } catch (DataAccessException e) {
+                LOG.warn("Statistics of table " + tableName + " are not reconciled", e);
+            }
+        }
+    }
+}
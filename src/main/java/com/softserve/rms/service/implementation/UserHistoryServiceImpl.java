@@ -1,14 +1,31 @@
 package com.softserve.rms.service.implementation;
 
 import com.softserve.rms.service.UserHistoryService;
+import com.softserve.rms.util.PaginationUtil;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.ColumnMapRowMapper;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import javax.sql.DataSource;
-import java.util.Iterator;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 @Service
 public class UserHistoryServiceImpl implements UserHistoryService {
@@ -24,160 +41,140 @@ public class UserHistoryServiceImpl implements UserHistoryService {
     public UserHistoryServiceImpl(DataSource dataSource) {
 
         jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.setFetchSize(FETCH_SIZE);
     }
 
-    private Object password = new Object();
-    private Object first_name = new Object();
-    private Object last_name = new Object();
-    private Object phone = new Object();
-    private Object email = new Object();
-    private Object reset_token = new Object();
-    private Boolean passwordChange = false;
-
     /**
-     * {@inheritDoc}
-     *
-     * @author Mariia Shchur
+     * Revisions of the user with every field compared to the previous revision by {@code LAG}.
+     * Range filter is applied outside of the window, so the first revision in range is still
+     * compared to the one before it.
      */
-    final static String USER_BY_ID = "select u.revtype,to_timestamp(r.revtstmp/ 1000)::timestamp,u.first_name, u.last_name, u.email, u.phone,u.password,\n" +
-            "u.reset_token from users_aud u ,revinfo r where  \n" +
-            "u.rev=r.rev and u.id = ?";
-
-    public List<Map<String, Object>> getUserHistory(Long id) {
-        List<Map<String, Object>> data = jdbcTemplate.queryForList(USER_BY_ID, id);
-        for (int i = 0; i < data.size(); i++) {
-            Iterator<Map.Entry<String, Object>> iterator = data.get(i).entrySet().iterator();
-            if (i == 0) {
-                while (iterator.hasNext()) {
-                    Map.Entry<String, Object> map = iterator.next();
-                    rememberDataWhenCreate(map);
-                    if(map.getKey().equals("password")|| map.getKey().equals("reset_token")){
-                        iterator.remove();
-                    }
-                }
-                continue;
-            }
-            while (iterator.hasNext()) {
-                Map.Entry<String, Object> map = iterator.next();
-                if (map.getKey().equals("revtype") && (map.getValue().equals(1))) {
-                    iterator.remove();
-                }
-                passwordMessage(iterator, map);
-                this.first_name = setMessage(iterator, map, "first_name", this.first_name);
-                this.last_name = setMessage(iterator, map, "last_name", this.last_name);
-                this.phone = setMessage(iterator, map, "phone", this.phone);
-                this.email = setMessage(iterator, map, "email", this.email);
-                resetTokenMessage(iterator, map);
-            }
-            passwordChange = false;
-        }
-        return data;
-    }
+    final static String USER_HISTORY = "select case h.revtype when 0 then 'Create account' when 2 then 'Delete account' end as revtype,\n" +
+            "to_timestamp(h.revtstmp / 1000) at time zone 'UTC' as to_timestamp,\n" +
+            "case when h.prev_rev is null then h.first_name when h.first_name is distinct from h.prev_first_name\n" +
+            "then 'first_name has been changed to ' || h.first_name end as first_name,\n" +
+            "case when h.prev_rev is null then h.last_name when h.last_name is distinct from h.prev_last_name\n" +
+            "then 'last_name has been changed to ' || h.last_name end as last_name,\n" +
+            "case when h.prev_rev is null then h.email when h.email is distinct from h.prev_email\n" +
+            "then 'email has been changed to ' || h.email end as email,\n" +
+            "case when h.prev_rev is null then h.phone when h.phone is distinct from h.prev_phone\n" +
+            "then 'phone has been changed to ' || h.phone end as phone,\n" +
+            "case when h.prev_rev is not null and h.password is distinct from h.prev_password\n" +
+            "then 'Password has been changed' end as password,\n" +
+            "case when h.prev_rev is not null and h.reset_token is distinct from h.prev_reset_token then\n" +
+            "case when h.password is distinct from h.prev_password then 'Password was reseted by link from email'\n" +
+            "else 'Link for password resenting was sent on email' end end as reset_token\n" +
+            "from (select u.rev, u.revtype, r.revtstmp, u.first_name, u.last_name, u.email, u.phone, u.password, u.reset_token,\n" +
+            "lag(u.rev) over w as prev_rev, lag(u.first_name) over w as prev_first_name,\n" +
+            "lag(u.last_name) over w as prev_last_name, lag(u.email) over w as prev_email,\n" +
+            "lag(u.phone) over w as prev_phone, lag(u.password) over w as prev_password,\n" +
+            "lag(u.reset_token) over w as prev_reset_token\n" +
+            "from users_aud u join revinfo r on u.rev = r.rev where u.id = ?\n" +
+            "window w as (order by u.rev)) h where true";
+    final static String USER_HISTORY_COUNT = "select count(*) from (select r.revtstmp from users_aud u\n" +
+            "join revinfo r on u.rev = r.rev where u.id = ?) h where true";
+    private static final String HISTORY_ORDER = " order by h.rev";
+    private static final String ACCOUNTS_ORDER = " order by r.revtstmp, u.rev, u.id";
+    private static final String PAGE = " limit ? offset ?";
+    private static final int FETCH_SIZE = 500;
 
     /**
-     * Method that compare user's password from history
-     * flow and set user's friendly message
+     * {@inheritDoc}
      *
-     * @param iterator
-     * @param map      list of history flow
      * @author Mariia Shchur
      */
-    private void passwordMessage(Iterator<Map.Entry<String, Object>> iterator,
-                                 Map.Entry<String, Object> map) {
-        if (map.getKey().equals("password")) {
-            if (!(map.getValue().equals(password))) {
-                password = (String) map.getValue();
-                map.setValue("Password has been changed");
-                passwordChange = true;
-            } else {
-                iterator.remove();
-            }
-        }
+    @Override
+    public Page<Map<String, Object>> getUserHistory(Long id, LocalDate from, LocalDate to, Integer page, Integer pageSize) {
+        List<Object> args = new ArrayList<>(Collections.singletonList(id));
+        String range = revisionRange("h.revtstmp", from, to, args);
+        return queryPage(USER_HISTORY + range, USER_HISTORY_COUNT + range, HISTORY_ORDER, args,
+                toPageable(page, pageSize), (rs, rowNum) -> toHistoryRow(rs));
     }
 
     /**
-     * Method that compare user's reset token from history
-     * flow and set user's friendly message
-     *
-     * @param iterator
-     * @param map      list of history flow
-     * @author Mariia Shchur
+     * {@inheritDoc}
      */
-    private void resetTokenMessage(Iterator<Map.Entry<String, Object>> iterator,
-                                   Map.Entry<String, Object> map) {
-        if (map.getKey().equals("reset_token")) {
-            if (map.getValue() != reset_token) {
-                reset_token = (String) map.getValue();
-                if (passwordChange) {
-                    map.setValue("Password was reseted by link from email");
-                } else map.setValue("Link for password resenting was sent on email");
-            } else {
-                iterator.remove();
-            }
-        }
+    @Override
+    @Transactional(readOnly = true)
+    public void exportUserHistory(Long id, LocalDate from, LocalDate to, Consumer<Map<String, Object>> consumer) {
+        List<Object> args = new ArrayList<>(Collections.singletonList(id));
+        String sql = USER_HISTORY + revisionRange("h.revtstmp", from, to, args) + HISTORY_ORDER;
+        jdbcTemplate.query(sql, args.toArray(), (RowCallbackHandler) rs -> consumer.accept(toHistoryRow(rs)));
     }
 
     /**
-     * Method that compare user's data from history
-     * flow and set user's friendly message when it's changed and
-     * delete row if data is unchanged
+     * Method that converts history row to map without unchanged columns
      *
-     * @param iterator
-     * @param map      list of history flow
-     * @param keyName
-     * @param value
-     * @author Mariia Shchur
+     * @param rs result set positioned on the row
+     * @return map of changed user's data
      */
-    private Object setMessage(Iterator<Map.Entry<String, Object>> iterator,
-                              Map.Entry<String, Object> map, String keyName, Object value) {
-        if (map.getKey().equals(String.format(keyName))) {
-            if (!(map.getValue().equals(value))) {
-                value = map.getValue();
-                map.setValue(String.format("%s has been changed to " + value, keyName));
-            } else {
-                iterator.remove();
+    private Map<String, Object> toHistoryRow(ResultSet rs) throws SQLException {
+        ResultSetMetaData metaData = rs.getMetaData();
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            Object value = rs.getObject(i);
+            if (value != null) {
+                row.put(metaData.getColumnLabel(i), value);
             }
         }
-        return value;
+        return row;
     }
 
     /**
-     * Method that remembers user's registration data
+     * Method that builds range condition on revision timestamp. Bounds are compared with the raw
+     * epoch milliseconds column, so the condition can use index on it. Days are taken in UTC,
+     * so bounds do not depend on time zone of the server.
      *
-     * @param map list of history flow
-     * @author Mariia Shchur
+     * @param column with revision timestamp
+     * @param from   first day, may be {@code null}
+     * @param to     last day, may be {@code null}
+     * @param args   query arguments to append bounds to
+     * @return condition to append to the query
      */
-    private void rememberDataWhenCreate(Map.Entry<String, Object> map) {
-        if (map.getKey().equals("revtype") && (map.getValue().equals(0))) {
-            map.setValue("Create account");
-        }
-        if (map.getKey().equals("password")) {
-            this.password = (String) map.getValue();
-        }
-        if (map.getKey().equals("email")) {
-            this.email = (String) map.getValue();
+    private String revisionRange(String column, LocalDate from, LocalDate to, List<Object> args) {
+        StringBuilder condition = new StringBuilder();
+        if (from != null) {
+            condition.append(" and ").append(column).append(" >= ?");
+            args.add(toEpochMilli(from));
         }
-        if (map.getKey().equals("phone")) {
-            this.phone = (String) map.getValue();
-        }
-        if (map.getKey().equals("first_name")) {
-            this.first_name = (String) map.getValue();
-        }
-        if (map.getKey().equals("last_name")) {
-            this.last_name = (String) map.getValue();
+        if (to != null) {
+            condition.append(" and ").append(column).append(" < ?");
+            args.add(toEpochMilli(to.plusDays(1)));
         }
+        return condition.toString();
+    }
+
+    private long toEpochMilli(LocalDate date) {
+        return date.atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
     }
 
     /**
-     * {@inheritDoc}
+     * Method that selects one page of rows. Total count is taken first, so the page query
+     * is skipped when requested page is out of range.
      *
-     * @author Mariia Shchur
+     * @param sql       query without ordering and limits
+     * @param countSql  query counting all rows
+     * @param orderBy   order of the rows
+     * @param args      query arguments
+     * @param pageable  requested page
+     * @param rowMapper mapper of the rows
+     * @return page of rows
      */
-    final static String DELETED_ACCOUNTS = "select to_timestamp(r.revtstmp/ 1000)::timestamp ,u.first_name,u.last_name, u.email, u.phone from users_aud u,\n" +
-            "revinfo r where u.revtype=2 and u.rev=r.rev";
+    private Page<Map<String, Object>> queryPage(String sql, String countSql, String orderBy, List<Object> args,
+                                                Pageable pageable, RowMapper<Map<String, Object>> rowMapper) {
+        Long total = jdbcTemplate.queryForObject(countSql, args.toArray(), Long.class);
+        if (total == null || total <= pageable.getOffset()) {
+            return new PageImpl<>(Collections.emptyList(), pageable, total == null ? 0 : total);
+        }
+        List<Object> pageArgs = new ArrayList<>(args);
+        pageArgs.add(pageable.getPageSize());
+        pageArgs.add(pageable.getOffset());
+        List<Map<String, Object>> data = jdbcTemplate.query(sql + orderBy + PAGE, pageArgs.toArray(), rowMapper);
+        return new PageImpl<>(data, pageable, total);
+    }
 
-    public List<Map<String, Object>> getDeletedAccounts() {
-        return jdbcTemplate.queryForList(DELETED_ACCOUNTS);
+    private Pageable toPageable(Integer page, Integer pageSize) {
+        return PageRequest.of(PaginationUtil.validatePage(page), PaginationUtil.validatePageSize(pageSize));
     }
 
     /**
@@ -185,35 +182,35 @@ public class UserHistoryServiceImpl implements UserHistoryService {
      *
      * @author Mariia Shchur
      */
-    final static String ALL_ACCOUNTS = "select u.revtype,u.first_name,u.last_name,u.email,u.enabled,u.phone, to_timestamp(r.revtstmp/ 1000)  from users_aud u ,revinfo r where  u.rev=r.rev ";
-
-    public List<Map<String, Object>> getAllAccounts() {
-        List<Map<String, Object>> q = jdbcTemplate.queryForList(ALL_ACCOUNTS);
-        return sortData(q);
+    final static String DELETED_ACCOUNTS = "select to_timestamp(r.revtstmp/ 1000) at time zone 'UTC' as to_timestamp,\n" +
+            "u.first_name,u.last_name, u.email, u.phone\n" +
+            "from users_aud u join revinfo r on u.rev=r.rev where u.revtype=2";
+    final static String DELETED_ACCOUNTS_COUNT = "select count(*) from users_aud u join revinfo r on u.rev=r.rev where u.revtype=2";
+
+    @Override
+    public Page<Map<String, Object>> getDeletedAccounts(LocalDate from, LocalDate to, Integer page, Integer pageSize) {
+        List<Object> args = new ArrayList<>();
+        String range = revisionRange("r.revtstmp", from, to, args);
+        return queryPage(DELETED_ACCOUNTS + range, DELETED_ACCOUNTS_COUNT + range, ACCOUNTS_ORDER, args,
+                toPageable(page, pageSize), new ColumnMapRowMapper());
     }
 
     /**
-     * Method that change revtype to Create account/Edit account/Delete account
+     * {@inheritDoc}
      *
-     * @param data list of all history flow
-     * @return sorted list of all history flow
      * @author Mariia Shchur
      */
-    private List<Map<String, Object>> sortData(List<Map<String, Object>> data) {
-        for (int i = 0; i < data.size(); i++) {
-            for (Map.Entry<String, Object> w : data.get(i).entrySet()) {
-                if (w.getKey().equals("revtype") && (w.getValue().equals(0))) {
-                    w.setValue("Create account");
-                }
-                if (w.getKey().equals("revtype") && (w.getValue().equals(1))) {
-                    w.setValue("Edit account");
-                }
-                if (w.getKey().equals("revtype") && (w.getValue().equals(2))) {
-                    w.setValue("Delete account");
-                }
-            }
-        }
-        return data;
+    final static String ALL_ACCOUNTS = "select case u.revtype when 0 then 'Create account' when 1 then 'Edit account'\n" +
+            "when 2 then 'Delete account' end as revtype,u.first_name,u.last_name,u.email,u.enabled,u.phone,\n" +
+            "to_timestamp(r.revtstmp/ 1000) from users_aud u join revinfo r on u.rev=r.rev where true";
+    final static String ALL_ACCOUNTS_COUNT = "select count(*) from users_aud u join revinfo r on u.rev=r.rev where true";
+
+    @Override
+    public Page<Map<String, Object>> getAllAccounts(LocalDate from, LocalDate to, Integer page, Integer pageSize) {
+        List<Object> args = new ArrayList<>();
+        String range = revisionRange("r.revtstmp", from, to, args);
+        return queryPage(ALL_ACCOUNTS + range, ALL_ACCOUNTS_COUNT + range, ACCOUNTS_ORDER, args,
+                toPageable(page, pageSize), new ColumnMapRowMapper());
     }
 
     /**
@@ -221,11 +218,17 @@ public class UserHistoryServiceImpl implements UserHistoryService {
      *
      * @author Mariia Shchur
      */
-    final static String FILTER_BY_DATE = "select u.revtype,u.reset_token ,to_timestamp(r.revtstmp/ 1000)::date , u.first_name,u.last_name,u.email,u.enabled,u.phone\n" +
-            "from users_aud u ,revinfo r where  u.rev=r.rev and to_timestamp(r.revtstmp/ 1000)::date=(?::date)";
-    public List<Map<String, Object>> getAllByData(String date) {
-        List<Map<String, Object>> q = jdbcTemplate.queryForList(FILTER_BY_DATE, date);
-        return sortData(q);
+    final static String FILTER_BY_DATE = "select case u.revtype when 0 then 'Create account' when 1 then 'Edit account'\n" +
+            "when 2 then 'Delete account' end as revtype,u.reset_token ,\n" +
+            "(to_timestamp(r.revtstmp/ 1000) at time zone 'UTC')::date as to_timestamp,\n" +
+            "u.first_name,u.last_name,u.email,u.enabled,u.phone from users_aud u join revinfo r on u.rev=r.rev where true";
+
+    @Override
+    public Page<Map<String, Object>> getAllByData(LocalDate date, Integer page, Integer pageSize) {
+        List<Object> args = new ArrayList<>();
+        String range = revisionRange("r.revtstmp", date, date, args);
+        return queryPage(FILTER_BY_DATE + range, ALL_ACCOUNTS_COUNT + range, ACCOUNTS_ORDER, args,
+                toPageable(page, pageSize), new ColumnMapRowMapper());
     }
 
 }
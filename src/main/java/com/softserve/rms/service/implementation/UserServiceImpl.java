@@ -26,12 +26,12 @@ import com.softserve.rms.exceptions.NotSavedException;
 import com.softserve.rms.exceptions.PermissionException;
 import com.softserve.rms.exceptions.user.WrongEmailException;
 import com.softserve.rms.exceptions.user.WrongPasswordException;
+import com.softserve.rms.mapper.UserMapper;
 import com.softserve.rms.repository.AdminRepository;
 import com.softserve.rms.repository.UserRepository;
+import com.softserve.rms.service.ImageProcessingService;
 import com.softserve.rms.service.UserService;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -44,9 +44,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 import java.security.Principal;
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 import javax.sql.DataSource;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.UUID;
 
@@ -63,10 +65,10 @@ public class UserServiceImpl implements UserService {
     private AdminRepository adminRepository;
     private PasswordEncoder passwordEncoder;
     private FileStorageServiceImpl fileStorageService;
-    private ModelMapper modelMapper = new ModelMapper();
+    private ImageProcessingService imageProcessingService;
+    private UserMapper userMapper;
     public final JavaMailSender javaMailSender;
     private final JdbcTemplate jdbcTemplate;
-    private String endpointUrl;
 
     /**
      * Constructor with parameters
@@ -78,16 +80,18 @@ public class UserServiceImpl implements UserService {
                            AdminRepository adminRepository,
                            PasswordEncoder passwordEncoder,
                            FileStorageServiceImpl fileStorageService,
+                           ImageProcessingService imageProcessingService,
                            JavaMailSender javaMailSender,
                            DataSource dataSource,
-                           @Value("${ENDPOINT_URL}") String endpointUrl) {
+                           UserMapper userMapper) {
         this.userRepository = userRepository;
         this.adminRepository = adminRepository;
         this.passwordEncoder = passwordEncoder;
         this.fileStorageService=fileStorageService;
+        this.imageProcessingService = imageProcessingService;
         this.javaMailSender = javaMailSender;
         jdbcTemplate = new JdbcTemplate(dataSource);
-        this.endpointUrl = endpointUrl;
+        this.userMapper = userMapper;
     }
 
     /**
@@ -100,10 +104,12 @@ public class UserServiceImpl implements UserService {
         User user = getUserByEmail(email);
         if(user.getImageUrl()!=null) {
             fileStorageService.deleteFile(user.getImageUrl());
+            imageProcessingService.deleteDerivatives(user.getImageUrl());
         }
         String photoName=fileStorageService.uploadFile(multipartFile);
         user.setImageUrl(photoName);
         userRepository.save(user);
+        imageProcessingService.generateDerivatives(photoName);
     }
 
     /**
@@ -115,6 +121,7 @@ public class UserServiceImpl implements UserService {
     public void deletePhoto(String email){
         User user = getUserByEmail(email);
         fileStorageService.deleteFile(user.getImageUrl());
+        imageProcessingService.deleteDerivatives(user.getImageUrl());
         user.setImageUrl(null);
         userRepository.save(user);
     }
@@ -127,7 +134,7 @@ public class UserServiceImpl implements UserService {
     @Override
     public void save(RegistrationDto registrationDto) {
         Role role = new Role(5L, "ROLE_GUEST");
-        User user = modelMapper.map(registrationDto, User.class);
+        User user = userMapper.toEntity(registrationDto);
         user.setRole(role);
         user.setEnabled(true);
         user.setPassword(passwordEncoder.encode(user.getPassword()));
@@ -150,6 +157,7 @@ public class UserServiceImpl implements UserService {
         try {
             if((user.getImageUrl()!=null)&&(user.getProvider()==null)){
                 fileStorageService.deleteFile(user.getImageUrl());
+                imageProcessingService.deleteDerivatives(user.getImageUrl());
             }
             userRepository.deleteByEmail(email);
         }
@@ -210,20 +218,36 @@ public class UserServiceImpl implements UserService {
      */
     public UserDto getUser(String email){
         User user = getUserByEmail(email);
-        UserDto userDto=modelMapper.map(user,UserDto.class);
+        UserDto userDto=userMapper.toDto(user);
         userDto.setImageUrl(getPhotoUrl(user.getImageUrl()));
+        if (user.getImageUrl() != null) {
+            userDto.setImageDerivatives(getDerivativeUrls(user.getImageUrl()));
+        }
         return userDto;
     }
 
     /**
-     * Method that return full url of file from s3
+     * Method that return presigned url of file from s3
      *
      * @param photoName a value of {@link String}
      * @return {@link String}
      * @author Mariia Shchur
      */
     private String getPhotoUrl(String photoName){
-        return endpointUrl+photoName;
+        return photoName != null ? fileStorageService.generatePresignedDownloadUrl(photoName) : null;
+    }
+
+    /**
+     * Method that return presigned urls of all photo derivatives
+     *
+     * @param photoName a value of {@link String}
+     * @return map with derivative name key and url value
+     */
+    private Map<String, String> getDerivativeUrls(String photoName) {
+        Map<String, String> derivativeUrls = new LinkedHashMap<>();
+        imageProcessingService.getDerivativeFileNames(photoName)
+                .forEach((name, derivative) -> derivativeUrls.put(name, getPhotoUrl(derivative)));
+        return derivativeUrls;
     }
 
 
@@ -251,6 +275,25 @@ public class UserServiceImpl implements UserService {
                 .orElseThrow(() -> new NotFoundException(String.format(USER_NOT_FOUND_EXCEPTION, id)));
     }
 
+    /**
+     * Method that allow you to get {@link User} map by IDs with one query.
+     *
+     * @param ids collection of {@link User} IDs
+     * @return map of {@link User} by ID
+     * @throws NotFoundException if one of users is not found
+     */
+    @Override
+    public Map<Long, User> getAllById(Collection<Long> ids) {
+        Map<Long, User> users = userRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(User::getId, user -> user));
+        for (Long id : ids) {
+            if (!users.containsKey(id)) {
+                throw new NotFoundException(String.format(USER_NOT_FOUND_EXCEPTION, id));
+            }
+        }
+        return users;
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -336,7 +379,7 @@ public class UserServiceImpl implements UserService {
     public Page<PermissionUserDto> getUsers(Integer page, Integer pageSize) {
         Pageable pageable = PageRequest.of(validatePage(page), validatePageSize(pageSize));
         Page<User> users = adminRepository.getAllByEnabled(true, pageable);
-        return users.map(user -> modelMapper.map(user, PermissionUserDto.class));
+        return users.map(userMapper::toPermissionUserDto);
     }
 
     /**
@@ -0,0 +1,84 @@
+package com.softserve.rms.util;
+
+import com.softserve.rms.entities.ResourceTemplate;
+import org.jooq.Condition;
+import org.jooq.Field;
+import org.springframework.security.acls.domain.BasePermission;
+import org.springframework.security.acls.domain.GrantedAuthoritySid;
+import org.springframework.security.acls.domain.PrincipalSid;
+import org.springframework.security.acls.domain.SidRetrievalStrategyImpl;
+import org.springframework.security.acls.model.Sid;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+
+import static org.jooq.impl.DSL.*;
+
+/**
+ * Read permission for {@link ResourceTemplate} as a jOOQ condition, so searches can check
+ * {@code hasPermission(template, 'read') or hasRole('MANAGER')} in the database and page
+ * only visible rows.
+ */
+public class AclUtil {
+    private static final String MANAGER_ROLE = "ROLE_MANAGER";
+
+    private AclUtil() {
+    }
+
+    /**
+     * Method checks whether the current user is a manager, the same rule as {@code hasRole('MANAGER')}.
+     *
+     * @return true if the user has manager role
+     */
+    public static boolean isManager() {
+        return SecurityContextHolder.getContext().getAuthentication().getAuthorities().stream()
+                .anyMatch(authority -> MANAGER_ROLE.equals(authority.getAuthority()));
+    }
+
+    /**
+     * Method finds {@link Sid} list of the current user, the same list is used by permission evaluator.
+     *
+     * @return {@link Sid} list, null if the user is a manager and can read all templates
+     */
+    public static List<Sid> getReaderSids() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return isManager() ? null : new SidRetrievalStrategyImpl().getSids(authentication);
+    }
+
+    /**
+     * Method builds condition which is met when one of sids has read permission for the template.
+     * Permissions are only granted, never denied, so any granting entry is enough.
+     *
+     * @param templateId field with id of {@link ResourceTemplate}
+     * @param sids       {@link Sid} list of the user, null to read all templates
+     * @return {@link Condition}
+     */
+    public static Condition canRead(Field<Long> templateId, List<Sid> sids) {
+        if (sids == null) {
+            return trueCondition();
+        }
+        Field<Boolean> principal = field("s.principal", Boolean.class);
+        Field<String> sid = field("s.sid", String.class);
+        Condition sidCondition = falseCondition();
+        for (Sid userSid : sids) {
+            if (userSid instanceof PrincipalSid) {
+                sidCondition = sidCondition.or(principal.isTrue()
+                        .and(sid.eq(((PrincipalSid) userSid).getPrincipal())));
+            } else if (userSid instanceof GrantedAuthoritySid) {
+                sidCondition = sidCondition.or(principal.isFalse()
+                        .and(sid.eq(((GrantedAuthoritySid) userSid).getGrantedAuthority())));
+            }
+        }
+        return exists(selectOne()
+                .from(table("acl_entry").as("e"))
+                .join(table("acl_object_identity").as("o")).on("o.id = e.acl_object_identity")
+                .join(table("acl_class").as("c")).on("c.id = o.object_id_class")
+                .join(table("acl_sid").as("s")).on("s.id = e.sid")
+                .where(field("c.class", String.class).eq(ResourceTemplate.class.getName()))
+                .and(field("o.object_id_identity", String.class).eq(templateId.cast(String.class)))
+                .and(field("e.mask", Integer.class).eq(BasePermission.READ.getMask()))
+                .and(field("e.granting", Boolean.class).isTrue())
+                .and(sidCondition));
+    }
+}
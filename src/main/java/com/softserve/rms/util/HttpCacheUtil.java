@@ -0,0 +1,51 @@
+package com.softserve.rms.util;
+
+import com.softserve.rms.dto.VersionDto;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Conditional reads of versioned responses. Responses may be stored only by the client and
+ * are revalidated with {@code If-None-Match} on every use, because they depend on permissions of the user.
+ */
+public class HttpCacheUtil {
+    public static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    private HttpCacheUtil() {
+    }
+
+    /**
+     * Method checks {@code If-None-Match} header against strong ETag built from the version
+     * and the variant of representation. ETag header is set on the response.
+     *
+     * @param webRequest {@link WebRequest} of the read
+     * @param version    {@link VersionDto} of the data
+     * @param variant    parts of the request which change representation, e.g. page number
+     * @return true if response has been set to 304 and the data should not be read
+     */
+    public static boolean checkNotModified(WebRequest webRequest, VersionDto version, Object... variant) {
+        StringBuilder eTag = new StringBuilder(version.getVersion());
+        for (Object part : variant) {
+            eTag.append('-').append(part);
+        }
+        return webRequest.checkNotModified(eTag.toString());
+    }
+
+    /**
+     * Method builds 200 response which has to be revalidated by the client. {@code Last-Modified}
+     * is informational only, revalidation uses ETag.
+     *
+     * @param version {@link VersionDto} of the data
+     * @param body    of the response
+     * @return {@link ResponseEntity}
+     */
+    public static <T> ResponseEntity<T> cachedResponse(VersionDto version, T body) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(HttpStatus.OK).cacheControl(CACHE_CONTROL);
+        if (version.getLastModified() != null) {
+            builder.lastModified(version.getLastModified());
+        }
+        return builder.body(body);
+    }
+}
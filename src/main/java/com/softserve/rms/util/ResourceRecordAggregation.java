@@ -0,0 +1,161 @@
+package com.softserve.rms.util;
+
+import com.softserve.rms.constants.AggregationQueries;
+import com.softserve.rms.constants.ErrorMessage;
+import com.softserve.rms.dto.resourceRecord.ResourceRecordAggregateDTO;
+import com.softserve.rms.dto.resourceRecord.ResourceRecordAggregationDTO;
+import com.softserve.rms.entities.ResourceTemplate;
+import com.softserve.rms.exceptions.BadRequestException;
+import org.jooq.Condition;
+import org.jooq.DataType;
+import org.jooq.Field;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.jooq.impl.DSL.array;
+import static org.jooq.impl.DSL.avg;
+import static org.jooq.impl.DSL.count;
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.inline;
+import static org.jooq.impl.DSL.max;
+import static org.jooq.impl.DSL.min;
+import static org.jooq.impl.DSL.percentileCont;
+import static org.jooq.impl.DSL.sum;
+import static org.jooq.impl.DSL.trueCondition;
+
+/**
+ * Group-by columns and aggregate functions over typed columns of resource container table.
+ * Columns are checked against columns of the template by {@link ResourceRecordFilter}, so they
+ * are never written to SQL as they are sent by the client.
+ */
+public final class ResourceRecordAggregation {
+    public static final int MAX_BUCKETS = 100;
+
+    private final List<Field<?>> groupBy = new ArrayList<>();
+    private final List<Field<?>> aggregates = new ArrayList<>();
+    private final Condition condition;
+
+    private ResourceRecordAggregation(ResourceRecordFilter filter, ResourceRecordAggregationDTO aggregation) {
+        if (aggregation.getAggregates() == null || aggregation.getAggregates().isEmpty()) {
+            throw new BadRequestException(ErrorMessage.RESOURCE_AGGREGATES_ARE_EMPTY.getMessage());
+        }
+        Set<String> names = new HashSet<>();
+        if (aggregation.getGroupBy() != null) {
+            for (String column : aggregation.getGroupBy()) {
+                checkName(names, column);
+                groupBy.add(field(column, filter.getColumnType(column)));
+            }
+        }
+        for (ResourceRecordAggregateDTO aggregate : aggregation.getAggregates()) {
+            aggregates.add(toField(filter, aggregate).as(checkName(names, getName(aggregate))));
+        }
+        condition = aggregation.getFilter() == null || aggregation.getFilter().isEmpty()
+                ? trueCondition() : filter.toCondition(aggregation.getFilter());
+    }
+
+    /**
+     * Method compiles aggregation of records of {@link ResourceTemplate}.
+     *
+     * @param resourceTemplate published {@link ResourceTemplate}
+     * @param aggregation      {@link ResourceRecordAggregationDTO}
+     * @return {@link ResourceRecordAggregation}
+     * @throws BadRequestException if there are no aggregates, column is not a column of the template,
+     *                             function can not be applied to the column or names of result columns repeat
+     */
+    public static ResourceRecordAggregation of(ResourceTemplate resourceTemplate,
+                                               ResourceRecordAggregationDTO aggregation) {
+        return new ResourceRecordAggregation(ResourceRecordFilter.of(resourceTemplate), aggregation);
+    }
+
+    public List<Field<?>> getGroupBy() {
+        return groupBy;
+    }
+
+    public List<Field<?>> getAggregates() {
+        return aggregates;
+    }
+
+    public Condition getCondition() {
+        return condition;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Field<?> toField(ResourceRecordFilter filter, ResourceRecordAggregateDTO aggregate) {
+        if (aggregate.getFunction() == null) {
+            throw new BadRequestException(ErrorMessage.RESOURCE_AGGREGATE_IS_NOT_VALID.getMessage()
+                    + aggregate.getColumn());
+        }
+        if (aggregate.getFunction() == ResourceRecordAggregateDTO.Function.COUNT && aggregate.getColumn() == null) {
+            return count();
+        }
+        DataType<?> type = filter.getColumnType(aggregate.getColumn());
+        Field<Object> column = field(aggregate.getColumn(), (DataType<Object>) type);
+        switch (aggregate.getFunction()) {
+            case COUNT:
+                return count(column);
+            case MIN:
+                return min(column);
+            case MAX:
+                return max(column);
+            default:
+                break;
+        }
+        if (!type.isNumeric()) {
+            throw new BadRequestException(ErrorMessage.RESOURCE_AGGREGATE_IS_NOT_VALID.getMessage()
+                    + aggregate.getColumn());
+        }
+        Field<? extends Number> number = (Field<? extends Number>) (Field<?>) column;
+        switch (aggregate.getFunction()) {
+            case SUM:
+                return sum(number);
+            case AVG:
+                return avg(number);
+            case PERCENTILE:
+                if (aggregate.getPercentile() == null || aggregate.getPercentile() < 0 || aggregate.getPercentile() > 1) {
+                    throw new BadRequestException(ErrorMessage.RESOURCE_AGGREGATE_IS_NOT_VALID.getMessage()
+                            + aggregate.getColumn());
+                }
+                return percentileCont(aggregate.getPercentile()).withinGroupOrderBy(number);
+            default:
+                return toHistogram(number, aggregate);
+        }
+    }
+
+    /**
+     * Method counts values of the column in equal buckets between bounds with single pass over the table.
+     * Bucket 0 counts values below lower bound, the last bucket counts values not below upper bound.
+     */
+    private Field<?> toHistogram(Field<? extends Number> column, ResourceRecordAggregateDTO aggregate) {
+        if (aggregate.getFrom() == null || aggregate.getTo() == null || aggregate.getFrom() >= aggregate.getTo()
+                || aggregate.getBuckets() == null || aggregate.getBuckets() < 1
+                || aggregate.getBuckets() > MAX_BUCKETS) {
+            throw new BadRequestException(ErrorMessage.RESOURCE_AGGREGATE_IS_NOT_VALID.getMessage()
+                    + aggregate.getColumn());
+        }
+        Field<Integer> bucket = field(AggregationQueries.WIDTH_BUCKET, Integer.class, column,
+                inline(aggregate.getFrom()), inline(aggregate.getTo()), inline(aggregate.getBuckets()));
+        List<Field<Integer>> counts = new ArrayList<>();
+        for (int i = 0; i <= aggregate.getBuckets() + 1; i++) {
+            counts.add(count().filterWhere(bucket.eq(inline(i))));
+        }
+        return array(counts);
+    }
+
+    private String getName(ResourceRecordAggregateDTO aggregate) {
+        if (aggregate.getAlias() != null && !aggregate.getAlias().trim().isEmpty()) {
+            return aggregate.getAlias().trim();
+        }
+        String function = aggregate.getFunction() == null ? "" : aggregate.getFunction().name().toLowerCase();
+        return aggregate.getColumn() == null ? function : function + "_" + aggregate.getColumn();
+    }
+
+    private String checkName(Set<String> names, String name) {
+        if (!names.add(name)) {
+            throw new BadRequestException(ErrorMessage.RESOURCE_AGGREGATE_NAME_IS_NOT_UNIQUE.getMessage() + name);
+        }
+        return name;
+    }
+}
@@ -0,0 +1,159 @@
+package com.softserve.rms.util;
+
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.softserve.rms.constants.FieldConstants;
+import org.jooq.Field;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Column layout of resource container table. It keeps positions of static columns and json names
+ * of parameter columns, so rows can be written without looking columns up by name. Version and
+ * search columns are not written.
+ */
+public final class ResourceRecordColumns {
+    public static final int ABSENT = -1;
+    private static final SerializedString COORDINATES = new SerializedString("coordinates");
+
+    private final String[] names;
+    private final int idIndex;
+    private final int nameIndex;
+    private final int descriptionIndex;
+    private final int userIdIndex;
+    private final int photosIndex;
+    private final int documentsIndex;
+    private final int[] parameterIndexes;
+    private final SerializableString[] parameterNames;
+    private final boolean[] coordinates;
+
+    private ResourceRecordColumns(String[] names) {
+        this.names = names;
+        int id = ABSENT;
+        int name = ABSENT;
+        int description = ABSENT;
+        int userId = ABSENT;
+        int photos = ABSENT;
+        int documents = ABSENT;
+        int lastCoordinate = ABSENT;
+        List<Integer> parameters = new ArrayList<>();
+        for (int i = 0; i < names.length; i++) {
+            String column = names[i];
+            if (column.equals(FieldConstants.ID.getValue())) {
+                id = i;
+            } else if (column.equals(FieldConstants.NAME.getValue())) {
+                name = i;
+            } else if (column.equals(FieldConstants.DESCRIPTION.getValue())) {
+                description = i;
+            } else if (column.equals(FieldConstants.USER_ID.getValue())) {
+                userId = i;
+            } else if (column.equals(FieldConstants.PHOTOS_NAMES.getValue())) {
+                photos = i;
+            } else if (column.equals(FieldConstants.DOCUMENTS_NAMES.getValue())) {
+                documents = i;
+            } else if (column.equals(FieldConstants.VERSION.getValue())
+                    || column.equals(FieldConstants.UPDATED_AT.getValue())
+                    || column.equals(FieldConstants.CREATED_AT.getValue())
+                    || column.equals(FieldConstants.SEARCH_VECTOR.getValue())) {
+                continue;
+            } else if (column.endsWith(FieldConstants.COORDINATE.getValue())) {
+                lastCoordinate = i;
+            } else {
+                parameters.add(i);
+            }
+        }
+        if (lastCoordinate != ABSENT) {
+            parameters.add(lastCoordinate);
+        }
+        this.idIndex = id;
+        this.nameIndex = name;
+        this.descriptionIndex = description;
+        this.userIdIndex = userId;
+        this.photosIndex = photos;
+        this.documentsIndex = documents;
+        this.parameterIndexes = new int[parameters.size()];
+        this.parameterNames = new SerializableString[parameters.size()];
+        this.coordinates = new boolean[parameters.size()];
+        for (int i = 0; i < parameterIndexes.length; i++) {
+            int index = parameters.get(i);
+            parameterIndexes[i] = index;
+            coordinates[i] = index == lastCoordinate;
+            parameterNames[i] = coordinates[i] ? COORDINATES : new SerializedString(names[index]);
+        }
+    }
+
+    /**
+     * Method creates layout of columns returned by query. Like parameters map of
+     * {@link com.softserve.rms.entities.ResourceRecord}, only the last coordinate column is kept
+     * and it is named {@code coordinates}.
+     *
+     * @param fields of the query
+     * @return {@link ResourceRecordColumns}
+     */
+    public static ResourceRecordColumns of(Field<?>[] fields) {
+        String[] names = new String[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            names[i] = fields[i].getName();
+        }
+        return new ResourceRecordColumns(names);
+    }
+
+    /**
+     * Method checks if layout describes columns returned by query.
+     *
+     * @param fields of the query
+     * @return true if columns have the same names and order
+     */
+    public boolean matches(Field<?>[] fields) {
+        if (fields.length != names.length) {
+            return false;
+        }
+        for (int i = 0; i < fields.length; i++) {
+            if (!names[i].equals(fields[i].getName())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int getIdIndex() {
+        return idIndex;
+    }
+
+    public int getNameIndex() {
+        return nameIndex;
+    }
+
+    public int getDescriptionIndex() {
+        return descriptionIndex;
+    }
+
+    public int getUserIdIndex() {
+        return userIdIndex;
+    }
+
+    public int getPhotosIndex() {
+        return photosIndex;
+    }
+
+    public int getDocumentsIndex() {
+        return documentsIndex;
+    }
+
+    public int getParameterCount() {
+        return parameterIndexes.length;
+    }
+
+    public int getParameterIndex(int parameter) {
+        return parameterIndexes[parameter];
+    }
+
+    public SerializableString getParameterName(int parameter) {
+        return parameterNames[parameter];
+    }
+
+    public boolean isCoordinate(int parameter) {
+        return coordinates[parameter];
+    }
+}
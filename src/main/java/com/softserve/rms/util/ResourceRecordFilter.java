@@ -0,0 +1,198 @@
+package com.softserve.rms.util;
+
+import com.softserve.rms.constants.ErrorMessage;
+import com.softserve.rms.constants.FieldConstants;
+import com.softserve.rms.dto.resourceRecord.ResourceRecordConditionDTO;
+import com.softserve.rms.entities.ParameterType;
+import com.softserve.rms.entities.ResourceParameter;
+import com.softserve.rms.entities.ResourceTemplate;
+import com.softserve.rms.exceptions.BadRequestException;
+import org.jooq.Condition;
+import org.jooq.DataType;
+import org.jooq.Field;
+import org.jooq.exception.DataTypeException;
+import org.jooq.impl.SQLDataType;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.jooq.impl.DSL.and;
+import static org.jooq.impl.DSL.field;
+
+/**
+ * Typed columns of resource container table, which can be used in filters and bulk updates.
+ * Column names and values sent by the client are checked against columns of the template
+ * before they are compiled to jOOQ conditions, so they are never written to SQL as they are.
+ */
+public final class ResourceRecordFilter {
+    private final Map<String, DataType<?>> filterColumns = new HashMap<>();
+    private final Map<String, DataType<?>> updateColumns = new HashMap<>();
+
+    private ResourceRecordFilter(List<ResourceParameter> parameters) {
+        filterColumns.put(FieldConstants.ID.getValue(), SQLDataType.BIGINT);
+        filterColumns.put(FieldConstants.USER_ID.getValue(), SQLDataType.BIGINT);
+        filterColumns.put(FieldConstants.UPDATED_AT.getValue(), SQLDataType.TIMESTAMP);
+        updateColumns.put(FieldConstants.NAME.getValue(), SQLDataType.VARCHAR);
+        updateColumns.put(FieldConstants.DESCRIPTION.getValue(), SQLDataType.VARCHAR);
+        if (parameters != null) {
+            for (ResourceParameter parameter : parameters) {
+                addParameterColumns(parameter);
+            }
+        }
+        filterColumns.putAll(updateColumns);
+    }
+
+    /**
+     * Method creates typed columns of container table of {@link ResourceTemplate}. Creation time can be
+     * filtered in tables partitioned by it, so conditions of it skip partitions out of their range.
+     *
+     * @param resourceTemplate published {@link ResourceTemplate}
+     * @return {@link ResourceRecordFilter}
+     */
+    public static ResourceRecordFilter of(ResourceTemplate resourceTemplate) {
+        ResourceRecordFilter filter = new ResourceRecordFilter(resourceTemplate.getResourceParameters());
+        if (FieldConstants.CREATED_AT.getValue().equals(resourceTemplate.getPartitionColumn())) {
+            filter.filterColumns.put(FieldConstants.CREATED_AT.getValue(), SQLDataType.TIMESTAMP);
+        }
+        return filter;
+    }
+
+    private void addParameterColumns(ResourceParameter parameter) {
+        String column = parameter.getColumnName();
+        ParameterType type = parameter.getParameterType();
+        if (type == ParameterType.RANGE_INT || type == ParameterType.RANGE_DOUBLE) {
+            updateColumns.put(column + FieldConstants.FROM.getValue(), type.getSqlType());
+            updateColumns.put(column + FieldConstants.TO.getValue(), type.getSqlType());
+        } else if (type == ParameterType.POINT_REFERENCE) {
+            updateColumns.put(column + FieldConstants.REFERENCE.getValue(), type.getSqlType());
+            updateColumns.put(column + FieldConstants.REFERENCE_NAME.getValue(), SQLDataType.VARCHAR);
+        } else if (type == ParameterType.COORDINATES_STRING) {
+            updateColumns.put(column + FieldConstants.COORDINATE.getValue(), type.getSqlType());
+        } else {
+            updateColumns.put(column, type.getSqlType());
+        }
+    }
+
+    /**
+     * Method compiles conditions to single condition, which is met when all of them are met.
+     *
+     * @param conditions list of {@link ResourceRecordConditionDTO}
+     * @return {@link Condition}
+     * @throws BadRequestException if there are no conditions, column is not a column of the
+     *                             template or value can not be converted to type of the column
+     */
+    public Condition toCondition(List<ResourceRecordConditionDTO> conditions) {
+        if (conditions == null || conditions.isEmpty()) {
+            throw new BadRequestException(ErrorMessage.RESOURCE_FILTER_IS_EMPTY.getMessage());
+        }
+        List<Condition> compiled = new ArrayList<>();
+        for (ResourceRecordConditionDTO condition : conditions) {
+            compiled.add(toCondition(condition));
+        }
+        return and(compiled);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Condition toCondition(ResourceRecordConditionDTO condition) {
+        DataType<Object> type = (DataType<Object>) getType(filterColumns, condition.getColumn());
+        Field<Object> field = field(condition.getColumn(), type);
+        if (condition.getOperator() == null) {
+            throw new BadRequestException(
+                    ErrorMessage.RESOURCE_COLUMN_VALUE_IS_NOT_VALID.getMessage() + condition.getColumn());
+        }
+        switch (condition.getOperator()) {
+            case IS_NULL:
+                return field.isNull();
+            case IS_NOT_NULL:
+                return field.isNotNull();
+            case IN:
+                if (!(condition.getValue() instanceof Collection)) {
+                    throw new BadRequestException(
+                            ErrorMessage.RESOURCE_COLUMN_VALUE_IS_NOT_VALID.getMessage() + condition.getColumn());
+                }
+                List<Object> values = new ArrayList<>();
+                for (Object value : (Collection<?>) condition.getValue()) {
+                    values.add(convert(condition.getColumn(), type, value));
+                }
+                return field.in(values);
+            case LIKE:
+                if (!type.isString()) {
+                    throw new BadRequestException(
+                            ErrorMessage.RESOURCE_COLUMN_VALUE_IS_NOT_VALID.getMessage() + condition.getColumn());
+                }
+                return field.like((String) convert(condition.getColumn(), type, condition.getValue()));
+            case NE:
+                return field.ne(convert(condition.getColumn(), type, condition.getValue()));
+            case LT:
+                return field.lt(convert(condition.getColumn(), type, condition.getValue()));
+            case LE:
+                return field.le(convert(condition.getColumn(), type, condition.getValue()));
+            case GT:
+                return field.gt(convert(condition.getColumn(), type, condition.getValue()));
+            case GE:
+                return field.ge(convert(condition.getColumn(), type, condition.getValue()));
+            default:
+                return field.eq(convert(condition.getColumn(), type, condition.getValue()));
+        }
+    }
+
+    /**
+     * Method converts values of bulk update to types of the columns. Name, description and
+     * parameter columns can be updated, null value clears the column.
+     *
+     * @param values map of column name and value
+     * @return map of column name and converted value
+     * @throws BadRequestException if there are no values, column can not be updated or value
+     *                             can not be converted to type of the column
+     */
+    public Map<String, Object> toValues(Map<String, Object> values) {
+        if (values == null || values.isEmpty()) {
+            throw new BadRequestException(ErrorMessage.RESOURCE_VALUES_ARE_EMPTY.getMessage());
+        }
+        Map<String, Object> converted = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> entry : values.entrySet()) {
+            DataType<?> type = getType(updateColumns, entry.getKey());
+            converted.put(entry.getKey(), entry.getValue() == null ? null
+                    : convert(entry.getKey(), type, entry.getValue()));
+        }
+        return converted;
+    }
+
+    /**
+     * Method finds type of column, which can be used in filters.
+     *
+     * @param column name of the column
+     * @return {@link DataType} of the column
+     * @throws BadRequestException if column is not a column of the template
+     */
+    public DataType<?> getColumnType(String column) {
+        return getType(filterColumns, column);
+    }
+
+    private DataType<?> getType(Map<String, DataType<?>> columns, String column) {
+        DataType<?> type = column != null ? columns.get(column) : null;
+        if (type == null) {
+            throw new BadRequestException(ErrorMessage.RESOURCE_COLUMN_IS_NOT_VALID.getMessage() + column);
+        }
+        return type;
+    }
+
+    private Object convert(String column, DataType<?> type, Object value) {
+        Object converted = null;
+        if (value != null && !(value instanceof Map) && !(value instanceof Collection)) {
+            try {
+                converted = type.convert(value);
+            } catch (DataTypeException | IllegalArgumentException e) {
+                converted = null;
+            }
+        }
+        if (converted == null) {
+            throw new BadRequestException(ErrorMessage.RESOURCE_COLUMN_VALUE_IS_NOT_VALID.getMessage() + column);
+        }
+        return converted;
+    }
+}
@@ -0,0 +1,81 @@
+package com.softserve.rms.util;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+/**
+ * Formats of record pages. Columnar formats send names of values once per page, Smile formats
+ * use binary encoding of Jackson.
+ */
+public enum ResourceRecordFormat {
+    JSON(MediaType.APPLICATION_JSON, false, false),
+    SMILE(new MediaType("application", "x-jackson-smile"), false, true),
+    COLUMNAR_JSON(new MediaType("application", "vnd.rms.columnar+json"), true, false),
+    COLUMNAR_SMILE(new MediaType("application", "vnd.rms.columnar+smile"), true, true);
+
+    public static final String JSON_VALUE = "application/json";
+    public static final String SMILE_VALUE = "application/x-jackson-smile";
+    public static final String COLUMNAR_JSON_VALUE = "application/vnd.rms.columnar+json";
+    public static final String COLUMNAR_SMILE_VALUE = "application/vnd.rms.columnar+smile";
+
+    private final MediaType mediaType;
+    private final boolean columnar;
+    private final boolean smile;
+
+    ResourceRecordFormat(MediaType mediaType, boolean columnar, boolean smile) {
+        this.mediaType = mediaType;
+        this.columnar = columnar;
+        this.smile = smile;
+    }
+
+    /**
+     * Method chooses format requested by {@code Accept} header. Media types are tried by quality
+     * and specificity, formats listed with {@code q=0} are not used. Json is used when header
+     * is missing or nothing matches.
+     *
+     * @param accept value of {@code Accept} header, may be null
+     * @return {@link ResourceRecordFormat}
+     */
+    public static ResourceRecordFormat negotiate(String accept) {
+        if (accept == null || accept.isEmpty()) {
+            return JSON;
+        }
+        List<MediaType> mediaTypes;
+        try {
+            mediaTypes = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return JSON;
+        }
+        MediaType.sortBySpecificityAndQuality(mediaTypes);
+        for (MediaType mediaType : mediaTypes) {
+            if (mediaType.getQualityValue() == 0) {
+                continue;
+            }
+            for (ResourceRecordFormat format : values()) {
+                if (mediaType.isCompatibleWith(format.mediaType) && !format.isRejected(mediaTypes)) {
+                    return format;
+                }
+            }
+        }
+        return JSON;
+    }
+
+    private boolean isRejected(List<MediaType> mediaTypes) {
+        return mediaTypes.stream().anyMatch(mediaType -> mediaType.getQualityValue() == 0
+                && mediaType.equalsTypeAndSubtype(this.mediaType));
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public boolean isColumnar() {
+        return columnar;
+    }
+
+    public boolean isSmile() {
+        return smile;
+    }
+}
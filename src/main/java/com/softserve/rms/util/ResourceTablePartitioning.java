@@ -0,0 +1,134 @@
+package com.softserve.rms.util;
+
+import com.softserve.rms.constants.ErrorMessage;
+import com.softserve.rms.constants.FieldConstants;
+import com.softserve.rms.constants.PartitionQueries;
+import com.softserve.rms.entities.PartitionStrategy;
+import com.softserve.rms.entities.ResourceTemplate;
+import com.softserve.rms.exceptions.BadRequestException;
+import org.jooq.DataType;
+import org.jooq.exception.DataTypeException;
+import org.jooq.impl.SQLDataType;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Partitioning of resource container table chosen when template is published. Tables are partitioned
+ * by hash of id, or by ranges of creation time, which bounds are sent by the client. Both keys never
+ * change, since Postgres 10 can not move updated rows to another partition.
+ * Options are checked before they are written to SQL.
+ */
+public final class ResourceTablePartitioning {
+    private final PartitionStrategy strategy;
+    private final String column;
+    private final List<Object> bounds;
+
+    private ResourceTablePartitioning(PartitionStrategy strategy, String column, List<Object> bounds) {
+        this.strategy = strategy;
+        this.column = column;
+        this.bounds = bounds;
+    }
+
+    /**
+     * Method reads partitioning options of {@link ResourceTemplate}, e.g.
+     * {@code {"strategy": "RANGE", "column": "created_at", "bounds": ["2020-01-01 00:00:00"]}}.
+     * Hash partitioning takes no column and bounds. Range partitions are created between ascending bounds,
+     * records below the first or above the last bound are kept in partitions without lower or upper bound.
+     *
+     * @param options map of strategy, column and bounds
+     * @return {@link ResourceTablePartitioning}
+     * @throws BadRequestException if strategy is unknown, range column is not creation time,
+     *                             or bounds are not ascending values of the column
+     */
+    public static ResourceTablePartitioning of(Object options) {
+        if (!(options instanceof Map)) {
+            throw invalid(FieldConstants.PARTITIONING.getValue());
+        }
+        Map<?, ?> partitioning = (Map<?, ?>) options;
+        PartitionStrategy strategy = getStrategy(partitioning.get(FieldConstants.STRATEGY.getValue()));
+        Object column = partitioning.get(FieldConstants.COLUMN.getValue());
+        Object bounds = partitioning.get(FieldConstants.BOUNDS.getValue());
+        if (strategy == PartitionStrategy.HASH) {
+            if (column != null && !FieldConstants.ID.getValue().equals(column)) {
+                throw invalid(FieldConstants.COLUMN.getValue());
+            }
+            if (bounds != null) {
+                throw invalid(FieldConstants.BOUNDS.getValue());
+            }
+            return new ResourceTablePartitioning(strategy, FieldConstants.ID.getValue(), Collections.emptyList());
+        }
+        if (!FieldConstants.CREATED_AT.getValue().equals(column)) {
+            throw invalid(FieldConstants.COLUMN.getValue());
+        }
+        return new ResourceTablePartitioning(strategy, (String) column, getBounds(SQLDataType.TIMESTAMP, bounds));
+    }
+
+    private static PartitionStrategy getStrategy(Object strategy) {
+        for (PartitionStrategy value : PartitionStrategy.values()) {
+            if (value.name().equals(strategy)) {
+                return value;
+            }
+        }
+        throw invalid(FieldConstants.STRATEGY.getValue());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Object> getBounds(DataType<?> type, Object bounds) {
+        if (!(bounds instanceof Collection) || ((Collection<?>) bounds).isEmpty()
+                || ((Collection<?>) bounds).size() > PartitionQueries.MAX_RANGE_BOUNDS) {
+            throw invalid(FieldConstants.BOUNDS.getValue());
+        }
+        List<Object> converted = new ArrayList<>();
+        Comparable<Object> previous = null;
+        for (Object bound : (Collection<?>) bounds) {
+            Comparable<Object> value = (Comparable<Object>) convert(type, bound);
+            if (previous != null && previous.compareTo(value) >= 0) {
+                throw invalid(FieldConstants.BOUNDS.getValue());
+            }
+            converted.add(value);
+            previous = value;
+        }
+        return converted;
+    }
+
+    private static Object convert(DataType<?> type, Object value) {
+        Object converted = null;
+        if (value != null && !(value instanceof Map) && !(value instanceof Collection)) {
+            try {
+                converted = type.convert(value);
+            } catch (DataTypeException | IllegalArgumentException e) {
+                converted = null;
+            }
+        }
+        if (!(converted instanceof Comparable)) {
+            throw invalid(FieldConstants.BOUNDS.getValue());
+        }
+        return converted;
+    }
+
+    private static BadRequestException invalid(String option) {
+        return new BadRequestException(ErrorMessage.RESOURCE_TEMPLATE_PARTITIONING_IS_NOT_VALID.getMessage() + option);
+    }
+
+    public PartitionStrategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * @return key column of partitions, {@code id} for hash partitioning
+     */
+    public String getColumn() {
+        return column;
+    }
+
+    /**
+     * @return ascending bounds of range partitions converted to type of the column, empty for hash partitioning
+     */
+    public List<Object> getBounds() {
+        return bounds;
+    }
+}
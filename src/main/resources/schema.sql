@@ -57,6 +57,41 @@ create table if not exists groups
     constraint unique_uk_6 unique (name)
 );
 
+create table if not exists resource_search
+(
+    table_name    varchar(255) not null,
+    record_id     bigint       not null,
+    name          varchar(255),
+    description   varchar(255),
+    search_vector tsvector,
+    constraint resource_search_pk primary key (table_name, record_id)
+);
+
+create index if not exists resource_search_idx on resource_search using gin (search_vector);
+
+create table if not exists resource_table_versions
+(
+    table_name varchar(255) not null,
+    shard      integer      not null,
+    version    bigint       not null,
+    constraint resource_table_versions_pk primary key (table_name, shard)
+);
+
+create table if not exists resource_template_stats
+(
+    table_name   varchar(255) not null,
+    user_id      bigint       not null,
+    record_count bigint       not null,
+    constraint resource_template_stats_pk primary key (table_name, user_id)
+);
+
+create table if not exists resource_template_stats_versions
+(
+    table_name varchar(255) not null,
+    version    bigint       not null,
+    constraint resource_template_stats_versions_pk primary key (table_name)
+);
+
 BEGIN;
 INSERT INTO public.roles (id, name)
 SELECT role.id, role.name
@@ -0,0 +1,42 @@
+package com.softserve.rms.config;
+
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockResult;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class AuditIndexConfigTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Test
+    public void createAuditIndexes() throws Exception {
+        List<String> statements = new ArrayList<>();
+        when(dataSource.getConnection()).thenReturn(new MockConnection(ctx -> {
+            statements.addAll(ctx.batch() ? Arrays.asList(ctx.batchSQL()) : Arrays.asList(ctx.sql()));
+            MockResult[] results = new MockResult[ctx.batch() ? ctx.batchSQL().length : 1];
+            Arrays.fill(results, new MockResult(0, null));
+            return results;
+        }));
+
+        new AuditIndexConfig(dataSource).createAuditIndexes();
+
+        assertEquals(Arrays.asList(
+                "create index if not exists revinfo_revtstmp_idx on revinfo (revtstmp)",
+                "create index if not exists users_aud_rev_idx on users_aud (rev)",
+                "create index if not exists users_aud_id_rev_idx on users_aud (id, rev)",
+                "create index if not exists users_aud_revtype_idx on users_aud (revtype)"), statements);
+    }
+}
@@ -0,0 +1,70 @@
+package com.softserve.rms.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record1;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultConfiguration;
+import org.jooq.impl.DefaultExecuteListenerProvider;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockResult;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class JooqConfigTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private DSLContext dslContext;
+
+    @Before
+    public void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        DSLContext mockContext = DSL.using(SQLDialect.POSTGRES);
+        Field<Long> id = DSL.field("id", Long.class);
+        Result<Record1<Long>> result = mockContext.newResult(id);
+        result.add(mockContext.newRecord(id).values(1L));
+        result.add(mockContext.newRecord(id).values(2L));
+        MockConnection connection = new MockConnection(ctx -> new MockResult[]{
+                ctx.sql().startsWith("select") ? new MockResult(result.size(), result) : new MockResult(3, null)});
+        dslContext = DSL.using(new DefaultConfiguration()
+                .set(connection)
+                .set(SQLDialect.POSTGRES)
+                .set(new DefaultExecuteListenerProvider(new JooqConfig.QueryMetricsListener(meterRegistry))));
+    }
+
+    @Test
+    public void queryMetricsListenerRecordsReadQuery() {
+        dslContext.select(DSL.field("id")).from(DSL.table(DSL.name("public", "cars"))).fetch();
+
+        assertEquals(1L, meterRegistry.get(JooqConfig.QueryMetricsListener.QUERY_TIMER)
+                .tag("table", "cars").tag("type", "read").timer().count());
+        assertEquals(2.0, meterRegistry.get(JooqConfig.QueryMetricsListener.QUERY_ROWS)
+                .tag("table", "cars").summary().totalAmount(), 0.0);
+    }
+
+    @Test
+    public void queryMetricsListenerRecordsWriteQuery() {
+        dslContext.update(DSL.table(DSL.name("cars"))).set(DSL.field("name"), "car").execute();
+
+        assertEquals(1L, meterRegistry.get(JooqConfig.QueryMetricsListener.QUERY_TIMER)
+                .tag("table", "cars").tag("type", "write").timer().count());
+        assertEquals(3.0, meterRegistry.get(JooqConfig.QueryMetricsListener.QUERY_ROWS)
+                .tag("table", "cars").summary().totalAmount(), 0.0);
+    }
+
+    @Test
+    public void resolveTableSuccess() {
+        assertEquals("resource_templates", JooqConfig.QueryMetricsListener
+                .resolveTable("select \"id\" from \"public\".\"resource_templates\" where id = ?"));
+        assertEquals("cars", JooqConfig.QueryMetricsListener
+                .resolveTable("insert into cars (name) values (?)"));
+        assertEquals("cars", JooqConfig.QueryMetricsListener
+                .resolveTable("create table if not exists \"cars\" (id bigserial)"));
+        assertEquals("unknown", JooqConfig.QueryMetricsListener.resolveTable("select 1"));
+    }
+}
@@ -0,0 +1,50 @@
+package com.softserve.rms.config;
+
+import com.softserve.rms.service.implementation.FileStorageServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class MethodMetricsAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private FileStorageServiceImpl fileStorageService;
+
+    @Before
+    public void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new FileStorageServiceImpl("bucket", "key",
+                "secret", 1000L, false, null, meterRegistry));
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new MethodMetricsAspect(meterRegistry));
+        fileStorageService = proxyFactory.getProxy();
+    }
+
+    @Test
+    public void timeMethodRecordsSuccess() {
+        fileStorageService.isFileReferenced("file");
+
+        assertEquals(1L, meterRegistry.get(MethodMetricsAspect.METHOD_TIMER)
+                .tag("class", "FileStorageServiceImpl")
+                .tag("method", "isFileReferenced")
+                .tag("exception", "none")
+                .timer().count());
+    }
+
+    @Test
+    public void timeMethodRecordsException() {
+        try {
+            fileStorageService.isFileExist("file");
+            fail();
+        } catch (NullPointerException e) {
+            assertEquals(1L, meterRegistry.get(MethodMetricsAspect.METHOD_TIMER)
+                    .tag("method", "isFileExist")
+                    .tag("exception", "NullPointerException")
+                    .timer().count());
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.softserve.rms.config;
+
+import com.softserve.rms.dto.SlowStatementDto;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SqlProfilerTest {
+
+    private SqlProfiler sqlProfiler;
+
+    @Before
+    public void init() {
+        sqlProfiler = new SqlProfiler(2, 1000, 2);
+    }
+
+    @Test
+    public void getSlowStatementsOrderedByMaxTime() {
+        sqlProfiler.recordStatement("select * from users where id = ?", 1_000_000);
+        sqlProfiler.recordStatement("select * from users where id = ?", 3_000_000);
+        sqlProfiler.recordStatement("select * from cars", 5_000_000);
+        sqlProfiler.recordStatement("select * from groups", 2_000_000);
+        sqlProfiler.recordStatement("select * from permissions", SqlProfiler.NOT_TIMED);
+
+        List<SlowStatementDto> slowStatements = sqlProfiler.getSlowStatements();
+
+        assertEquals(2, slowStatements.size());
+        assertEquals(new SlowStatementDto("select * from cars", 1L, 5.0, 5.0, 5.0), slowStatements.get(0));
+        assertEquals(new SlowStatementDto("select * from users where id = ?", 2L, 4.0, 3.0, 2.0),
+                slowStatements.get(1));
+    }
+
+    @Test
+    public void resetClearsSlowStatements() {
+        sqlProfiler.recordStatement("select * from cars", 5_000_000);
+
+        sqlProfiler.reset();
+
+        assertTrue(sqlProfiler.getSlowStatements().isEmpty());
+    }
+
+    @Test
+    public void endRequestOverBudgetSuccess() {
+        sqlProfiler.endRequest();
+        sqlProfiler.startRequest("GET /resource-template");
+        sqlProfiler.recordStatement("select * from users where id = ?", SqlProfiler.NOT_TIMED);
+        sqlProfiler.recordStatement("select * from users where id = ?", SqlProfiler.NOT_TIMED);
+        sqlProfiler.recordStatement("select * from users where id = ?", SqlProfiler.NOT_TIMED);
+        sqlProfiler.endRequest();
+
+        assertTrue(sqlProfiler.getSlowStatements().isEmpty());
+    }
+}
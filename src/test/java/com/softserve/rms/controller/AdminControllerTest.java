@@ -0,0 +1,94 @@
+package com.softserve.rms.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.softserve.rms.config.SqlProfiler;
+import com.softserve.rms.service.AdminService;
+import com.softserve.rms.service.UserHistoryService;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDate;
+import java.util.Collections;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@RunWith(MockitoJUnitRunner.class)
+public class AdminControllerTest {
+
+    @Mock
+    private AdminService adminService;
+
+    @Mock
+    private UserHistoryService userHistoryService;
+
+    @Mock
+    private SqlProfiler sqlProfiler;
+
+    private MockMvc mockMvc;
+
+    @Before
+    public void init() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new AdminController(adminService, userHistoryService,
+                new ObjectMapper(), sqlProfiler)).build();
+    }
+
+    @Test
+    public void getUserHistoryPassesRange() throws Exception {
+        when(userHistoryService.getUserHistory(7L, LocalDate.of(2020, 3, 2), LocalDate.of(2020, 3, 3), 2, 10))
+                .thenReturn(new PageImpl<>(Collections.emptyList()));
+
+        mockMvc.perform(get("/user/7/history?from=2020-03-02&to=2020-03-03&page=2&pageSize=10"))
+                .andExpect(status().isOk());
+
+        verify(userHistoryService).getUserHistory(7L, LocalDate.of(2020, 3, 2), LocalDate.of(2020, 3, 3), 2, 10);
+    }
+
+    @Test
+    public void getAllDeletedAccountsWithoutRange() throws Exception {
+        when(userHistoryService.getDeletedAccounts(null, null, 1, 20))
+                .thenReturn(new PageImpl<>(Collections.emptyList()));
+
+        mockMvc.perform(get("/deleted_accounts")).andExpect(status().isOk());
+
+        verify(userHistoryService).getDeletedAccounts(null, null, 1, 20);
+    }
+
+    @Test
+    public void getAllAccountsWithLowerBound() throws Exception {
+        when(userHistoryService.getAllAccounts(LocalDate.of(2020, 3, 2), null, 1, 20))
+                .thenReturn(new PageImpl<>(Collections.emptyList()));
+
+        mockMvc.perform(get("/all_accounts?from=2020-03-02")).andExpect(status().isOk());
+
+        verify(userHistoryService).getAllAccounts(LocalDate.of(2020, 3, 2), null, 1, 20);
+    }
+
+    @Test
+    public void getAllByDatePassesDay() throws Exception {
+        when(userHistoryService.getAllByData(LocalDate.of(2020, 3, 2), 1, 20))
+                .thenReturn(new PageImpl<>(Collections.emptyList()));
+
+        mockMvc.perform(get("/by_date?date=2020-03-02")).andExpect(status().isOk());
+
+        verify(userHistoryService).getAllByData(LocalDate.of(2020, 3, 2), 1, 20);
+    }
+
+    @Test
+    public void getAllByDateWithInvalidDate() throws Exception {
+        mockMvc.perform(get("/by_date?date=02.03.2020")).andExpect(status().isBadRequest());
+
+        verify(userHistoryService, never()).getAllByData(any(), anyInt(), anyInt());
+    }
+}
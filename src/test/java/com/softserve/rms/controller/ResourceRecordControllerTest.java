@@ -0,0 +1,61 @@
+package com.softserve.rms.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.softserve.rms.service.ResourceAggregationService;
+import com.softserve.rms.service.ResourceBackfillService;
+import com.softserve.rms.service.ResourceRecordService;
+import com.softserve.rms.service.ResourceReferenceService;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ResourceRecordControllerTest {
+    private static final String PHOTO_NAME = "trees_7_0a1b2c3d-4e5f-4a7b-8c9d-0e1f2a3b4c5d";
+    private static final String DOCUMENT_NAME = "trees_7_9f8e7d6c-5b4a-4392-8170-6f5e4d3c2b1a";
+
+    @Mock
+    private ResourceRecordService resourceRecordService;
+
+    @Mock
+    private ResourceReferenceService resourceReferenceService;
+
+    @Mock
+    private ResourceAggregationService resourceAggregationService;
+
+    @Mock
+    private ResourceBackfillService resourceBackfillService;
+
+    private MockMvc mockMvc;
+
+    @Before
+    public void init() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new ResourceRecordController(resourceRecordService,
+                resourceReferenceService, resourceAggregationService, resourceBackfillService,
+                new ObjectMapper())).build();
+    }
+
+    @Test
+    public void deletePhotoUploadedByPresignedUrl() throws Exception {
+        mockMvc.perform(delete("/resource-template/resource/trees/7/deletePhoto/" + PHOTO_NAME))
+                .andExpect(status().isOk());
+
+        verify(resourceRecordService).deletePhoto("trees", 7L, PHOTO_NAME);
+    }
+
+    @Test
+    public void deleteDocumentUploadedByPresignedUrl() throws Exception {
+        mockMvc.perform(delete("/resource-template/resource/trees/7/deleteDocument/" + DOCUMENT_NAME))
+                .andExpect(status().isOk());
+
+        verify(resourceRecordService).deleteDocument("trees", 7L, DOCUMENT_NAME);
+    }
+}
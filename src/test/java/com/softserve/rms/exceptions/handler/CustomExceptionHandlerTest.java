@@ -0,0 +1,25 @@
+package com.softserve.rms.exceptions.handler;
+
+import com.softserve.rms.entities.ResourceTemplate;
+import org.junit.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+
+public class CustomExceptionHandlerTest {
+
+    private final CustomExceptionHandler customExceptionHandler = new CustomExceptionHandler();
+
+    @Test
+    public void handleObjectOptimisticLockingFailureException() {
+        ResponseEntity<Object> response = customExceptionHandler.handleObjectOptimisticLockingFailureException(
+                new ObjectOptimisticLockingFailureException(ResourceTemplate.class, 5L));
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertEquals(Collections.singletonMap("message", "Entity has been changed concurrently: ResourceTemplate 5"),
+                response.getBody());
+    }
+}
@@ -0,0 +1,72 @@
+package com.softserve.rms.mapper;
+
+import com.softserve.rms.dto.resourceParameter.ResourceParameterDTO;
+import com.softserve.rms.dto.template.ResourceTemplateDTO;
+import com.softserve.rms.entities.ParameterType;
+import com.softserve.rms.entities.ResourceParameter;
+import com.softserve.rms.entities.ResourceRelation;
+import com.softserve.rms.entities.ResourceTemplate;
+import com.softserve.rms.entities.User;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+public class ResourceTemplateMapperTest {
+
+    private ResourceTemplateMapper resourceTemplateMapper = new ResourceTemplateMapper(new ResourceParameterMapper());
+
+    @Test
+    public void toDtoSuccess() {
+        User user = new User();
+        user.setId(7L);
+        ResourceTemplate relatedTemplate = new ResourceTemplate(9L, "Owners", "owners", null, true, user,
+                Collections.emptyList(), null, 0L, null, null, null);
+        ResourceTemplate resourceTemplate = new ResourceTemplate(3L, "Cars", "cars", "desc", true, user,
+                null, null, 0L, null, null, null);
+        ResourceParameter weight = new ResourceParameter(11L, "Weight", "weight", ParameterType.POINT_INT,
+                "pattern", resourceTemplate, null);
+        ResourceParameter owner = new ResourceParameter(12L, "Owner", "owner", ParameterType.POINT_REFERENCE,
+                null, resourceTemplate, null);
+        owner.setResourceRelations(new ResourceRelation(1L, owner, relatedTemplate));
+        resourceTemplate.setResourceParameters(Arrays.asList(weight, owner));
+
+        ResourceTemplateDTO expected = new ResourceTemplateDTO(3L, "Cars", "cars", "desc", true, 7L, Arrays.asList(
+                new ResourceParameterDTO(11L, "Weight", "weight", ParameterType.POINT_INT, "pattern", 3L,
+                        null, null, null),
+                new ResourceParameterDTO(12L, "Owner", "owner", ParameterType.POINT_REFERENCE, null, 3L,
+                        "Owners", "owners", 9L)), null);
+
+        assertEquals(expected, resourceTemplateMapper.toDto(resourceTemplate));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void toDtoWithLoadedParameters() {
+        List<ResourceParameter> lazyParameters = mock(List.class);
+        ResourceTemplate resourceTemplate = new ResourceTemplate(3L, "Cars", "cars", null, false, null,
+                lazyParameters, null, 0L, null, null, null);
+        ResourceParameter weight = new ResourceParameter(11L, "Weight", "weight", ParameterType.POINT_INT,
+                null, resourceTemplate, null);
+
+        assertEquals(new ResourceTemplateDTO(3L, "Cars", "cars", null, false, null, Collections.singletonList(
+                new ResourceParameterDTO(11L, "Weight", "weight", ParameterType.POINT_INT, null, 3L,
+                        null, null, null)), null),
+                resourceTemplateMapper.toDto(resourceTemplate, Collections.singletonList(weight)));
+        verifyZeroInteractions(lazyParameters);
+    }
+
+    @Test
+    public void toDtoWithoutUserAndParameters() {
+        ResourceTemplate resourceTemplate = new ResourceTemplate(3L, "Cars", "cars", null, false, null,
+                null, null, 0L, null, null, null);
+
+        assertEquals(new ResourceTemplateDTO(3L, "Cars", "cars", null, false, null, null, null),
+                resourceTemplateMapper.toDto(resourceTemplate));
+    }
+}
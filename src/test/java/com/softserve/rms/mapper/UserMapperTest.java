@@ -0,0 +1,44 @@
+package com.softserve.rms.mapper;
+
+import com.softserve.rms.dto.UserDto;
+import com.softserve.rms.dto.user.RegistrationDto;
+import com.softserve.rms.entities.Role;
+import com.softserve.rms.entities.User;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+
+public class UserMapperTest {
+
+    private UserMapper userMapper = new UserMapper();
+    private Role role = new Role(2L, "ROLE_MANAGER");
+
+    @Test
+    public void toDtoSuccess() {
+        User user = new User(1L, "name", "lastname", "email@gmail.com", "phone", "password", true, role,
+                "image", "google", "1234", null, null, Collections.emptyList());
+
+        assertEquals(new UserDto(1L, "image", "name", "lastname", "email@gmail.com", "phone", "password",
+                true, role, null), userMapper.toDto(user));
+    }
+
+    @Test
+    public void toEntityFromUserDtoSuccess() {
+        UserDto userDto = new UserDto(1L, "image", "name", "lastname", "email@gmail.com", "phone", "password",
+                true, role, null);
+
+        assertEquals(new User(1L, "name", "lastname", "email@gmail.com", "phone", "password", true, role,
+                "image", null, null, null, null, Collections.emptyList()), userMapper.toEntity(userDto));
+    }
+
+    @Test
+    public void toEntityFromRegistrationDtoSuccess() {
+        RegistrationDto registrationDto = new RegistrationDto("name", "lastname", "email@gmail.com", "phone",
+                "password");
+
+        assertEquals(new User(null, "name", "lastname", "email@gmail.com", "phone", "password", false, null,
+                null, null, null, null, null, Collections.emptyList()), userMapper.toEntity(registrationDto));
+    }
+}
@@ -1,6 +1,7 @@
 package com.softserve.rms.security.filter;
 
 import com.softserve.rms.security.TokenManagementService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -41,7 +42,7 @@ public class JwtAuthorizationFilterTest {
         @Before
         public void setUp() {
             MockitoAnnotations.initMocks(this);
-            jwtAuthorizationFilter = new JwtAuthorizationFilter(tokenManagementService);
+            jwtAuthorizationFilter = new JwtAuthorizationFilter(tokenManagementService, new SimpleMeterRegistry());
         }
 
         @Test
@@ -9,11 +9,13 @@ import com.google.common.collect.ImmutableList;
 import com.softserve.rms.dto.UserDto;;
 import com.softserve.rms.entities.Role;
 import com.softserve.rms.entities.User;
+import com.softserve.rms.mapper.UserMapper;
 import com.softserve.rms.repository.AdminRepository;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.powermock.modules.junit4.PowerMockRunner;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -29,11 +31,13 @@ import java.util.Optional;
 public class AdminServiceTest {
     @Mock
     AdminRepository adminRepository;
+    @Spy
+    UserMapper userMapper = new UserMapper();
     @InjectMocks
     AdminServiceImpl service;
     Role role =new Role(1L,"admin");
     User user = new User(1L, "name", "lastname", "email@gmail.com", "phone", "password", false,role ,"image","google","1234", null,null, Collections.emptyList());
-    UserDto userDto = new UserDto(1L, "image","name", "lastname", "email@gmail.com", "phone", "password", false,role );
+    UserDto userDto = new UserDto(1L, "image","name", "lastname", "email@gmail.com", "phone", "password", false,role, null);
 
     @Test
     public void testFindAllMethodIsCall() {
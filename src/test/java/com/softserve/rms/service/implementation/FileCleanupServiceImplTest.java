@@ -0,0 +1,93 @@
+package com.softserve.rms.service.implementation;
+
+import com.softserve.rms.entities.PendingFileDeletion;
+import com.softserve.rms.repository.PendingFileDeletionRepository;
+import com.softserve.rms.service.ImageProcessingService;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class FileCleanupServiceImplTest {
+
+    @Mock
+    private FileStorageServiceImpl fileStorageService;
+
+    @Mock
+    private ImageProcessingService imageProcessingService;
+
+    @Mock
+    private PendingFileDeletionRepository pendingFileDeletionRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PendingFileDeletion photo;
+    private PendingFileDeletion document;
+
+    @Before
+    public void init() {
+        photo = new PendingFileDeletion(1L, "photo", true);
+        document = new PendingFileDeletion(2L, "document", false);
+    }
+
+    @Test
+    public void deleteFilesSavesFilesWhenQueueIsFull() {
+        FileCleanupServiceImpl fileCleanupService = new FileCleanupServiceImpl(fileStorageService,
+                imageProcessingService, pendingFileDeletionRepository, transactionManager, task -> {
+            throw new RejectedExecutionException("queue is full");
+        });
+
+        fileCleanupService.deleteFiles(Collections.singletonList("photo"), Collections.singletonList("document"));
+
+        verify(pendingFileDeletionRepository).saveAll(Arrays.asList(new PendingFileDeletion(null, "photo", true),
+                new PendingFileDeletion(null, "document", false)));
+        verify(fileStorageService, never()).deleteFile(anyString());
+    }
+
+    @Test
+    public void deletePendingFilesKeepsFailedFile() {
+        FileCleanupServiceImpl fileCleanupService = new FileCleanupServiceImpl(fileStorageService,
+                imageProcessingService, pendingFileDeletionRepository, transactionManager, Runnable::run);
+        when(pendingFileDeletionRepository.findFirst100ByIdGreaterThanOrderById(0L))
+                .thenReturn(Arrays.asList(photo, document));
+        when(pendingFileDeletionRepository.findFirst100ByIdGreaterThanOrderById(2L))
+                .thenReturn(Collections.emptyList());
+        when(pendingFileDeletionRepository.findLockedById(1L)).thenReturn(Optional.of(photo));
+        when(pendingFileDeletionRepository.findLockedById(2L)).thenReturn(Optional.of(document));
+        doThrow(new RuntimeException("Slow Down")).when(fileStorageService).deleteFile("photo");
+
+        fileCleanupService.deletePendingFiles();
+
+        verify(pendingFileDeletionRepository, never()).delete(photo);
+        verify(imageProcessingService, never()).deleteDerivatives("photo");
+        verify(fileStorageService).deleteFile("document");
+        verify(pendingFileDeletionRepository).delete(document);
+    }
+
+    @Test
+    public void deletePendingFilesSkipsProcessedFile() {
+        FileCleanupServiceImpl fileCleanupService = new FileCleanupServiceImpl(fileStorageService,
+                imageProcessingService, pendingFileDeletionRepository, transactionManager, Runnable::run);
+        when(pendingFileDeletionRepository.findFirst100ByIdGreaterThanOrderById(0L))
+                .thenReturn(Collections.singletonList(photo));
+        when(pendingFileDeletionRepository.findFirst100ByIdGreaterThanOrderById(1L))
+                .thenReturn(Collections.emptyList());
+        when(pendingFileDeletionRepository.findLockedById(1L)).thenReturn(Optional.empty());
+
+        fileCleanupService.deletePendingFiles();
+
+        verify(fileStorageService, never()).deleteFile(anyString());
+    }
+}
@@ -0,0 +1,187 @@
+package com.softserve.rms.service.implementation;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.softserve.rms.constants.ErrorMessage;
+import com.softserve.rms.dto.file.PresignedUrlDto;
+import com.softserve.rms.entities.FileReference;
+import com.softserve.rms.exceptions.NotSavedException;
+import com.softserve.rms.repository.FileReferenceRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.powermock.reflect.Whitebox;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.net.URL;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class FileStorageServiceImplTest {
+    private static final String CONTENT_HASH = "b94d27b9934d3e08a52e52d7da7dabfac484efe37a5380ee9088f7ace2efcde9";
+
+    @Mock
+    private AmazonS3 s3client;
+
+    @Mock
+    private FileReferenceRepository fileReferenceRepository;
+
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private FileStorageServiceImpl fileStorageService;
+
+    @Before
+    public void init() {
+        fileStorageService = new FileStorageServiceImpl("bucket", "key", "secret", 1000L,
+                true, fileReferenceRepository, meterRegistry);
+        Whitebox.setInternalState(fileStorageService, "s3client", s3client);
+    }
+
+    @Test
+    public void uploadFileStoresNewContent() {
+        when(fileReferenceRepository.existsById(CONTENT_HASH)).thenReturn(false);
+        when(fileReferenceRepository.findById(CONTENT_HASH)).thenReturn(Optional.of(new FileReference(CONTENT_HASH, 1L)));
+
+        assertEquals(CONTENT_HASH, fileStorageService.uploadFile(
+                new MockMultipartFile("file", "hello world".getBytes())));
+        InOrder inOrder = inOrder(s3client, fileReferenceRepository);
+        inOrder.verify(s3client).putObject(any(PutObjectRequest.class));
+        inOrder.verify(fileReferenceRepository).incrementReferenceCount(CONTENT_HASH);
+    }
+
+    @Test
+    public void uploadFileSkipsDuplicateContent() {
+        when(fileReferenceRepository.existsById(CONTENT_HASH)).thenReturn(true);
+        when(fileReferenceRepository.findById(CONTENT_HASH)).thenReturn(Optional.of(new FileReference(CONTENT_HASH, 2L)));
+
+        assertEquals(CONTENT_HASH, fileStorageService.uploadFile(
+                new MockMultipartFile("file", "hello world".getBytes())));
+        verify(fileReferenceRepository).incrementReferenceCount(CONTENT_HASH);
+        verify(s3client, never()).putObject(any(PutObjectRequest.class));
+    }
+
+    @Test
+    public void uploadFileStoresContentDeletedAfterCheck() {
+        when(fileReferenceRepository.existsById(CONTENT_HASH)).thenReturn(true);
+        when(fileReferenceRepository.findById(CONTENT_HASH)).thenReturn(Optional.of(new FileReference(CONTENT_HASH, 1L)));
+
+        fileStorageService.uploadFile(new MockMultipartFile("file", "hello world".getBytes()));
+
+        verify(s3client).putObject(any(PutObjectRequest.class));
+    }
+
+    @Test
+    public void uploadFileFailedDoesNotCountReference() {
+        when(fileReferenceRepository.existsById(CONTENT_HASH)).thenReturn(false);
+        when(s3client.putObject(any(PutObjectRequest.class))).thenThrow(new AmazonServiceException("Slow Down"));
+
+        try {
+            fileStorageService.uploadFile(new MockMultipartFile("file", "photo.jpg", null, "hello world".getBytes()));
+            fail();
+        } catch (NotSavedException e) {
+            assertEquals(ErrorMessage.FILE_CAN_NOT_BE_UPLOADED.getMessage() + "photo.jpg", e.getMessage());
+        }
+        verify(fileReferenceRepository, never()).incrementReferenceCount(anyString());
+    }
+
+    @Test
+    public void uploadFileConcurrentlyStoresSameContent() throws Exception {
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        when(fileReferenceRepository.existsById(CONTENT_HASH)).thenAnswer(invocation -> {
+            barrier.await(5, TimeUnit.SECONDS);
+            return false;
+        });
+        when(fileReferenceRepository.findById(CONTENT_HASH)).thenReturn(Optional.of(new FileReference(CONTENT_HASH, 2L)));
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Callable<String> upload = () -> fileStorageService.uploadFile(
+                    new MockMultipartFile("file", "hello world".getBytes()));
+            Future<String> first = executor.submit(upload);
+            Future<String> second = executor.submit(upload);
+            assertEquals(CONTENT_HASH, first.get(5, TimeUnit.SECONDS));
+            assertEquals(CONTENT_HASH, second.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(s3client, times(2)).putObject(any(PutObjectRequest.class));
+        verify(fileReferenceRepository, times(2)).incrementReferenceCount(CONTENT_HASH);
+    }
+
+    @Test
+    public void uploadFileRecordsMetrics() {
+        fileStorageService.uploadFile("photo_thumbnail", "hello world".getBytes(), "image/jpeg");
+
+        assertEquals(1L, meterRegistry.get(FileStorageServiceImpl.UPLOAD_TIMER).tag("source", "generated")
+                .timer().count());
+        assertEquals(11.0, meterRegistry.get(FileStorageServiceImpl.UPLOAD_SIZE).tag("source", "generated")
+                .summary().totalAmount(), 0.0);
+    }
+
+    @Test
+    public void generatePresignedUploadUrlPrefixesFileName() throws Exception {
+        when(s3client.generatePresignedUrl(any(GeneratePresignedUrlRequest.class)))
+                .thenReturn(new URL("https://bucket.s3.amazonaws.com/upload"));
+
+        PresignedUrlDto presignedUrlDto = fileStorageService.generatePresignedUploadUrl("table/1/", "image/png");
+
+        assertTrue(presignedUrlDto.getFileName().matches("table/1/[0-9a-f-]{36}"));
+        assertEquals("https://bucket.s3.amazonaws.com/upload", presignedUrlDto.getUrl());
+        ArgumentCaptor<GeneratePresignedUrlRequest> request = ArgumentCaptor.forClass(GeneratePresignedUrlRequest.class);
+        verify(s3client).generatePresignedUrl(request.capture());
+        assertEquals(presignedUrlDto.getFileName(), request.getValue().getKey());
+        assertEquals("image/png", request.getValue().getContentType());
+    }
+
+    @Test
+    public void deleteFileKeepsReferencedContent() {
+        when(fileReferenceRepository.decrementReferenceCount(CONTENT_HASH)).thenReturn(1);
+        when(fileReferenceRepository.deleteUnreferenced(CONTENT_HASH)).thenReturn(0);
+
+        fileStorageService.deleteFile(CONTENT_HASH);
+
+        verify(s3client, never()).deleteObject("bucket", CONTENT_HASH);
+    }
+
+    @Test
+    public void deleteFileRemovesLastReference() {
+        when(fileReferenceRepository.decrementReferenceCount(CONTENT_HASH)).thenReturn(1);
+        when(fileReferenceRepository.deleteUnreferenced(CONTENT_HASH)).thenReturn(1);
+
+        fileStorageService.deleteFile(CONTENT_HASH);
+
+        verify(s3client).deleteObject("bucket", CONTENT_HASH);
+    }
+
+    @Test
+    public void deleteFileRemovesNotCountedFile() {
+        when(fileReferenceRepository.decrementReferenceCount("uuid")).thenReturn(0);
+
+        fileStorageService.deleteFile("uuid");
+
+        verify(s3client).deleteObject("bucket", "uuid");
+    }
+}
@@ -13,6 +13,8 @@ import com.softserve.rms.exceptions.NotFoundException;
 import com.softserve.rms.exceptions.NotUniqueMemberException;
 import com.softserve.rms.exceptions.NotUniqueNameException;
 import com.softserve.rms.exceptions.PermissionException;
+import com.softserve.rms.mapper.GroupMapper;
+import com.softserve.rms.mapper.UserMapper;
 import com.softserve.rms.repository.GroupMemberRepository;
 import com.softserve.rms.repository.GroupRepository;
 import com.softserve.rms.repository.UserRepository;
@@ -22,7 +24,6 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.modelmapper.ModelMapper;
 import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
@@ -59,7 +60,9 @@ public class GroupServiceImplTest {
     @Mock
     private PermissionManagerService permissionManagerService;
     @Mock
-    private ModelMapper modelMapper;
+    private GroupMapper groupMapper;
+    @Mock
+    private UserMapper userMapper;
     @Mock
     private Authentication authentication;
     @Mock
@@ -88,7 +91,7 @@ public class GroupServiceImplTest {
     @Before
     public void init() {
         groupService = PowerMockito.spy(new GroupServiceImpl(userRepository, groupRepository,
-                groupMemberRepository, permissionManagerService, modelMapper));
+                groupMemberRepository, permissionManagerService, groupMapper, userMapper));
         page = PowerMockito.mock(Page.class);
     }
 
@@ -104,7 +107,7 @@ public class GroupServiceImplTest {
     @Test
     public void getByNameOk() {
         doReturn(Optional.of(group)).when(groupRepository).findByName(anyString());
-        doReturn(groupDto).when(modelMapper).map(any(Group.class), any(Class.class));
+        doReturn(groupDto).when(groupMapper).toDto(any(Group.class));
         GroupDto actual = groupService.getByName("");
         assertEquals(actual, groupDto);
     }
@@ -119,14 +122,14 @@ public class GroupServiceImplTest {
     public void createGroupOk() throws Exception {
         String email = "mail";
         doNothing().when(groupService, verifyIfGroupNameIsUnique, anyString());
-        doReturn(group).when(modelMapper).map(any(GroupSaveDto.class), any(Class.class));
+        doReturn(group).when(groupMapper).toEntity(any(GroupSaveDto.class));
         doReturn(group).when(groupRepository).save(any(Group.class));
         SecurityContextHolder.setContext(securityContext);
         when(SecurityContextHolder.getContext().getAuthentication()).thenReturn(authentication);
         doReturn(email).when(authentication).getName();
         doReturn(Optional.of(user)).when(userRepository).findUserByEmail(anyString());
         doNothing().when(permissionManagerService).addPermission(any(PermissionDto.class), any(Principal.class), any(Class.class));
-        doReturn(groupDto).when(modelMapper).map(any(Group.class), any(Class.class));
+        doReturn(groupDto).when(groupMapper).toDto(any(Group.class));
         GroupDto actual = groupService.createGroup(groupSaveDto);
         assertEquals(actual, groupDto);
     }
@@ -135,7 +138,7 @@ public class GroupServiceImplTest {
     public void createGroupUserNotExist() throws Exception {
         String email = "mail";
         doNothing().when(groupService, verifyIfGroupNameIsUnique, anyString());
-        doReturn(group).when(modelMapper).map(any(GroupSaveDto.class), any(Class.class));
+        doReturn(group).when(groupMapper).toEntity(any(GroupSaveDto.class));
         doReturn(group).when(groupRepository).save(any(Group.class));
         SecurityContextHolder.setContext(securityContext);
         when(SecurityContextHolder.getContext().getAuthentication()).thenReturn(authentication);
@@ -240,7 +243,7 @@ public class GroupServiceImplTest {
         doReturn(Optional.of(user)).when(userRepository).findUserByEmail(anyString());
         doNothing().when(groupRepository).updateAclSid(anyString(), anyString());
         doReturn(group).when(groupRepository).save(any(Group.class));
-        doReturn(groupDto).when(modelMapper).map(any(Group.class), any(Class.class));
+        doReturn(groupDto).when(groupMapper).toDto(any(Group.class));
         GroupDto actual = groupService.update("group", groupSaveDto);
         assertEquals(actual, groupDto);
     }
@@ -0,0 +1,153 @@
+package com.softserve.rms.service.implementation;
+
+import com.softserve.rms.entities.ImageDerivatives;
+import com.softserve.rms.repository.ImageDerivativesRepository;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ImageProcessingServiceImplTest {
+
+    @Mock
+    private FileStorageServiceImpl fileStorageService;
+
+    @Mock
+    private ImageDerivativesRepository imageDerivativesRepository;
+
+    private ImageProcessingServiceImpl imageProcessingService;
+
+    @Before
+    public void init() {
+        imageProcessingService = new ImageProcessingServiceImpl(fileStorageService, imageDerivativesRepository, Runnable::run,
+                "thumbnail:150,medium:600", 4_000_000);
+    }
+
+    @Test
+    public void generateDerivativesSuccess() throws IOException {
+        ByteArrayOutputStream image = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(800, 400, BufferedImage.TYPE_INT_RGB), "png", image);
+        when(fileStorageService.downloadFile("photo")).thenReturn(new ByteArrayInputStream(image.toByteArray()));
+
+        imageProcessingService.generateDerivatives("photo");
+
+        verify(fileStorageService).uploadFile(eq("photo_thumbnail"), any(byte[].class), eq("image/jpeg"));
+        verify(fileStorageService).uploadFile(eq("photo_medium"), any(byte[].class), eq("image/jpeg"));
+        verify(imageDerivativesRepository).save(new ImageDerivatives("photo", "thumbnail,medium"));
+    }
+
+    @Test
+    public void generateDerivativesSavesOnlyStored() throws IOException {
+        ByteArrayOutputStream image = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(800, 400, BufferedImage.TYPE_INT_RGB), "png", image);
+        when(fileStorageService.downloadFile("photo")).thenReturn(new ByteArrayInputStream(image.toByteArray()));
+        doThrow(new RuntimeException("Slow Down")).when(fileStorageService)
+                .uploadFile(eq("photo_medium"), any(byte[].class), anyString());
+
+        imageProcessingService.generateDerivatives("photo");
+
+        verify(imageDerivativesRepository).save(new ImageDerivatives("photo", "thumbnail"));
+    }
+
+    @Test
+    public void generateDerivativesOfSubsampledImage() throws IOException {
+        ByteArrayOutputStream image = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(2500, 1250, BufferedImage.TYPE_INT_RGB), "png", image);
+        when(fileStorageService.downloadFile("photo")).thenReturn(new ByteArrayInputStream(image.toByteArray()));
+        ArgumentCaptor<byte[]> medium = ArgumentCaptor.forClass(byte[].class);
+
+        imageProcessingService.generateDerivatives("photo");
+
+        verify(fileStorageService).uploadFile(eq("photo_medium"), medium.capture(), eq("image/jpeg"));
+        BufferedImage derivative = ImageIO.read(new ByteArrayInputStream(medium.getValue()));
+        assertEquals(600, derivative.getWidth());
+        assertEquals(300, derivative.getHeight());
+    }
+
+    @Test
+    public void generateDerivativesSkipsTooBigImage() throws IOException {
+        ByteArrayOutputStream image = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(2500, 2000, BufferedImage.TYPE_BYTE_BINARY), "png", image);
+        when(fileStorageService.downloadFile("photo")).thenReturn(new ByteArrayInputStream(image.toByteArray()));
+
+        imageProcessingService.generateDerivatives("photo");
+
+        verify(fileStorageService, never()).uploadFile(anyString(), any(byte[].class), anyString());
+        verify(imageDerivativesRepository, never()).save(any(ImageDerivatives.class));
+    }
+
+    @Test
+    public void generateDerivativesSkipsNotImage() {
+        when(fileStorageService.downloadFile("document")).thenReturn(new ByteArrayInputStream("text".getBytes()));
+
+        imageProcessingService.generateDerivatives("document");
+
+        verify(fileStorageService, never()).uploadFile(anyString(), any(byte[].class), anyString());
+        verify(imageDerivativesRepository, never()).save(any(ImageDerivatives.class));
+    }
+
+    @Test
+    public void getDerivativeFileNamesSuccess() {
+        when(imageDerivativesRepository.findAllById(Collections.singleton("photo")))
+                .thenReturn(Collections.singletonList(new ImageDerivatives("photo", "thumbnail,medium")));
+        Map<String, String> expected = new LinkedHashMap<>();
+        expected.put("thumbnail", "photo_thumbnail");
+        expected.put("medium", "photo_medium");
+
+        assertEquals(expected, imageProcessingService.getDerivativeFileNames("photo"));
+    }
+
+    @Test
+    public void getDerivativeFileNamesFallsBackToOriginal() {
+        when(imageDerivativesRepository.findAllById(new HashSet<>(Arrays.asList("photo", "new"))))
+                .thenReturn(Collections.singletonList(new ImageDerivatives("photo", "thumbnail")));
+        Map<String, String> photo = new LinkedHashMap<>();
+        photo.put("thumbnail", "photo_thumbnail");
+        photo.put("medium", "photo");
+        Map<String, String> notGenerated = new LinkedHashMap<>();
+        notGenerated.put("thumbnail", "new");
+        notGenerated.put("medium", "new");
+
+        Map<String, Map<String, String>> result = imageProcessingService.getDerivativeFileNames(
+                Arrays.asList("photo", "new"));
+
+        assertEquals(photo, result.get("photo"));
+        assertEquals(notGenerated, result.get("new"));
+    }
+
+    @Test
+    public void deleteDerivativesSuccess() {
+        ImageDerivatives imageDerivatives = new ImageDerivatives("photo", "thumbnail,medium");
+        when(imageDerivativesRepository.findById("photo")).thenReturn(Optional.of(imageDerivatives));
+
+        imageProcessingService.deleteDerivatives("photo");
+
+        verify(fileStorageService).deleteFile("photo_thumbnail");
+        verify(fileStorageService).deleteFile("photo_medium");
+        verify(imageDerivativesRepository).delete(imageDerivatives);
+    }
+}
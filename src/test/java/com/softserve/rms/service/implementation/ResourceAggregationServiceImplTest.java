@@ -0,0 +1,77 @@
+package com.softserve.rms.service.implementation;
+
+import com.softserve.rms.dto.resourceRecord.ResourceRecordAggregateDTO;
+import com.softserve.rms.dto.resourceRecord.ResourceRecordAggregationDTO;
+import com.softserve.rms.dto.resourceRecord.ResourceRecordAggregationResultDTO;
+import com.softserve.rms.entities.ParameterType;
+import com.softserve.rms.entities.ResourceParameter;
+import com.softserve.rms.entities.ResourceTemplate;
+import com.softserve.rms.exceptions.resourseTemplate.ResourceTemplateIsNotPublishedException;
+import com.softserve.rms.repository.ResourceRecordRepository;
+import com.softserve.rms.service.ResourceTemplateService;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ResourceAggregationServiceImplTest {
+
+    private ResourceAggregationServiceImpl resourceAggregationService;
+
+    @Mock
+    private ResourceRecordRepository resourceRecordRepository;
+
+    @Mock
+    private ResourceTemplateService resourceTemplateService;
+
+    private ResourceTemplate template = new ResourceTemplate(1L, "Trees", "trees", null, true, null,
+            Collections.singletonList(new ResourceParameter(1L, "Weight", "weight", ParameterType.POINT_INT,
+                    null, null, null)), Collections.emptyList(), 3L, null, null, null);
+
+    private ResourceRecordAggregationDTO aggregation = new ResourceRecordAggregationDTO(
+            Collections.singletonList("weight"), Collections.singletonList(new ResourceRecordAggregateDTO(
+            ResourceRecordAggregateDTO.Function.COUNT, null, null, null, null, null, null)), null);
+
+    private List<Map<String, Object>> rows = Arrays.asList(
+            Collections.singletonMap("weight", 1), Collections.singletonMap("weight", 2),
+            Collections.singletonMap("weight", 3));
+
+    @Before
+    public void init() {
+        resourceAggregationService = new ResourceAggregationServiceImpl(resourceRecordRepository,
+                resourceTemplateService, 2, 10);
+        when(resourceTemplateService.findByTableName("trees")).thenReturn(template);
+    }
+
+    @Test
+    public void aggregateReusesResultOfSameTableVersion() {
+        when(resourceRecordRepository.findTableVersion("trees")).thenReturn(7L, 7L, 8L);
+        when(resourceRecordRepository.aggregate(eq("trees"), anyList(), anyList(), any(), eq(3))).thenReturn(rows);
+
+        ResourceRecordAggregationResultDTO first = resourceAggregationService.aggregate("trees", aggregation);
+        ResourceRecordAggregationResultDTO second = resourceAggregationService.aggregate("trees", aggregation);
+        resourceAggregationService.aggregate("trees", aggregation);
+
+        assertSame(first, second);
+        assertTrue(first.isTruncated());
+        assertEquals(rows.subList(0, 2), first.getRows());
+        verify(resourceRecordRepository, times(2)).aggregate(eq("trees"), anyList(), anyList(), any(), eq(3));
+    }
+
+    @Test(expected = ResourceTemplateIsNotPublishedException.class)
+    public void aggregateOfNotPublishedTemplate() {
+        template.setIsPublished(false);
+        resourceAggregationService.aggregate("trees", aggregation);
+    }
+}
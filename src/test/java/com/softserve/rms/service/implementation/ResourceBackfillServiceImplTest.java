@@ -0,0 +1,229 @@
+package com.softserve.rms.service.implementation;
+
+import com.softserve.rms.dto.resourceRecord.ResourceBackfillDTO;
+import com.softserve.rms.dto.resourceRecord.ResourceBackfillSaveDTO;
+import com.softserve.rms.entities.ParameterType;
+import com.softserve.rms.entities.ResourceBackfill;
+import com.softserve.rms.entities.ResourceParameter;
+import com.softserve.rms.entities.ResourceTemplate;
+import com.softserve.rms.exceptions.BadRequestException;
+import com.softserve.rms.exceptions.NotFoundException;
+import com.softserve.rms.repository.ResourceBackfillRepository;
+import com.softserve.rms.repository.ResourceRecordRepository;
+import com.softserve.rms.repository.implementation.JooqDDL;
+import com.softserve.rms.service.ResourceTemplateService;
+import org.jooq.Condition;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ResourceBackfillServiceImplTest {
+
+    private ResourceBackfillServiceImpl resourceBackfillService;
+
+    @Mock
+    private ResourceBackfillRepository resourceBackfillRepository;
+
+    @Mock
+    private ResourceRecordRepository resourceRecordRepository;
+
+    @Mock
+    private ResourceTemplateService resourceTemplateService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ResourceTemplate resourceTemplate;
+    private ResourceBackfill resourceBackfill;
+
+    @Before
+    public void init() {
+        resourceBackfillService = new ResourceBackfillServiceImpl(resourceBackfillRepository,
+                resourceRecordRepository, resourceTemplateService, new JooqDDL(null), transactionManager,
+                Runnable::run, 2, 0);
+        ResourceParameter resourceParameter = new ResourceParameter();
+        resourceParameter.setId(3L);
+        resourceParameter.setName("Weight");
+        resourceParameter.setColumnName("weight");
+        resourceParameter.setParameterType(ParameterType.POINT_INT);
+        resourceTemplate = new ResourceTemplate();
+        resourceTemplate.setId(1L);
+        resourceTemplate.setTableName("trees");
+        resourceTemplate.setIsPublished(true);
+        resourceTemplate.setResourceParameters(Collections.singletonList(resourceParameter));
+        resourceBackfill = new ResourceBackfill();
+        resourceBackfill.setId(9L);
+        resourceBackfill.setTableName("trees");
+        resourceBackfill.setTransformation(ResourceBackfill.Transformation.DEFAULT_VALUE);
+        resourceBackfill.setColumnName("weight");
+        resourceBackfill.setArgument("5");
+        resourceBackfill.setStandalone(true);
+        resourceBackfill.setStatus(ResourceBackfill.Status.RUNNING);
+        resourceBackfill.setLastId(0L);
+        resourceBackfill.setMaxId(10L);
+        resourceBackfill.setProcessedRecords(0L);
+    }
+
+    @Test(expected = BadRequestException.class)
+    public void startWithoutTransformation() {
+        resourceBackfillService.start("trees", new ResourceBackfillSaveDTO(null, "weight", "5"));
+    }
+
+    @Test(expected = BadRequestException.class)
+    public void startWithInvalidArgument() {
+        when(resourceTemplateService.findByTableNameWithoutAccessCheck("trees")).thenReturn(resourceTemplate);
+        resourceBackfillService.start("trees",
+                new ResourceBackfillSaveDTO(ResourceBackfill.Transformation.DEFAULT_VALUE, "weight", "heavy"));
+    }
+
+    @Test(expected = BadRequestException.class)
+    public void startReferenceNameOfNotReferenceParameter() {
+        when(resourceTemplateService.findByTableNameWithoutAccessCheck("trees")).thenReturn(resourceTemplate);
+        resourceBackfillService.start("trees",
+                new ResourceBackfillSaveDTO(ResourceBackfill.Transformation.REFERENCE_NAME, "weight", null));
+    }
+
+    @Test
+    public void startRunsBackfill() {
+        when(resourceTemplateService.findByTableNameWithoutAccessCheck("trees")).thenReturn(resourceTemplate);
+        when(resourceRecordRepository.findMaxId("trees")).thenReturn(10L);
+        when(resourceBackfillRepository.save(any(ResourceBackfill.class))).thenAnswer(invocation -> {
+            ResourceBackfill saved = invocation.getArgument(0);
+            saved.setId(9L);
+            return saved;
+        });
+        when(resourceBackfillRepository.findById(9L)).thenReturn(Optional.of(resourceBackfill));
+        when(resourceRecordRepository.updateChunk(eq("trees"), any(Condition.class), anyMap(), anyLong(), eq(2),
+                anyBoolean()))
+                .thenReturn(Collections.emptyList());
+        ResourceBackfillDTO resourceBackfillDTO = resourceBackfillService.start("trees",
+                new ResourceBackfillSaveDTO(ResourceBackfill.Transformation.SEARCH_VECTOR, null, null));
+        assertEquals(Long.valueOf(9), resourceBackfillDTO.getId());
+        assertEquals(Integer.valueOf(0), resourceBackfillDTO.getProgress());
+        assertEquals(ResourceBackfill.Status.COMPLETED, resourceBackfill.getStatus());
+    }
+
+    @Test
+    public void runContinuesFromLastId() {
+        resourceBackfill.setLastId(4L);
+        resourceBackfill.setProcessedRecords(2L);
+        when(resourceBackfillRepository.findById(9L)).thenReturn(Optional.of(resourceBackfill));
+        when(resourceTemplateService.findByTableNameWithoutAccessCheck("trees")).thenReturn(resourceTemplate);
+        when(resourceRecordRepository.updateChunk(eq("trees"), any(Condition.class), anyMap(), eq(4L), eq(2), eq(true)))
+                .thenReturn(Arrays.asList(5L, 7L));
+        when(resourceRecordRepository.updateChunk(eq("trees"), any(Condition.class), anyMap(), eq(7L), eq(2), eq(true)))
+                .thenReturn(Collections.singletonList(8L));
+        when(resourceRecordRepository.updateChunk(eq("trees"), any(Condition.class), anyMap(), eq(8L), eq(2), eq(true)))
+                .thenReturn(Collections.singletonList(9L));
+        when(resourceBackfillRepository.save(resourceBackfill)).thenReturn(resourceBackfill);
+        resourceBackfillService.run(9L);
+        assertEquals(ResourceBackfill.Status.COMPLETED, resourceBackfill.getStatus());
+        assertEquals(Long.valueOf(6), resourceBackfill.getProcessedRecords());
+        assertEquals(Long.valueOf(10), resourceBackfill.getLastId());
+        verify(resourceRecordRepository).updateChunk(eq("trees"), any(Condition.class), anyMap(), eq(9L), eq(2),
+                eq(true));
+        verify(resourceBackfillRepository, times(4)).save(resourceBackfill);
+    }
+
+    @Test
+    public void runSearchVectorKeepsVersion() {
+        resourceBackfill.setTransformation(ResourceBackfill.Transformation.SEARCH_VECTOR);
+        resourceBackfill.setColumnName(null);
+        resourceBackfill.setArgument(null);
+        when(resourceBackfillRepository.findById(9L)).thenReturn(Optional.of(resourceBackfill));
+        when(resourceTemplateService.findByTableNameWithoutAccessCheck("trees")).thenReturn(resourceTemplate);
+        when(resourceRecordRepository.updateChunk(eq("trees"), any(Condition.class), anyMap(), eq(0L), eq(2),
+                eq(false)))
+                .thenReturn(Collections.singletonList(3L));
+        when(resourceBackfillRepository.save(resourceBackfill)).thenReturn(resourceBackfill);
+        resourceBackfillService.run(9L);
+        assertEquals(ResourceBackfill.Status.COMPLETED, resourceBackfill.getStatus());
+        verify(resourceRecordRepository, never()).updateChunk(anyString(), any(Condition.class), anyMap(), anyLong(),
+                anyInt(), eq(true));
+    }
+
+    @Test
+    public void runWithoutAuthentication() {
+        SecurityContextHolder.clearContext();
+        lenient().when(resourceTemplateService.findByTableName("trees"))
+                .thenThrow(new AuthenticationCredentialsNotFoundException("no authentication"));
+        when(resourceBackfillRepository.findById(9L)).thenReturn(Optional.of(resourceBackfill));
+        when(resourceTemplateService.findByTableNameWithoutAccessCheck("trees")).thenReturn(resourceTemplate);
+        when(resourceRecordRepository.updateChunk(eq("trees"), any(Condition.class), anyMap(), eq(0L), eq(2), eq(true)))
+                .thenReturn(Collections.singletonList(3L));
+        when(resourceBackfillRepository.save(resourceBackfill)).thenReturn(resourceBackfill);
+        resourceBackfillService.run(9L);
+        assertEquals(ResourceBackfill.Status.COMPLETED, resourceBackfill.getStatus());
+        assertNull(resourceBackfill.getError());
+        verify(resourceTemplateService, never()).findByTableName(anyString());
+    }
+
+    @Test
+    public void startChecksAccess() {
+        when(resourceTemplateService.findByTableName("trees"))
+                .thenThrow(new AuthenticationCredentialsNotFoundException("no authentication"));
+        try {
+            resourceBackfillService.start("trees",
+                    new ResourceBackfillSaveDTO(ResourceBackfill.Transformation.SEARCH_VECTOR, null, null));
+            fail();
+        } catch (AuthenticationCredentialsNotFoundException e) {
+            verify(resourceBackfillRepository, never()).save(any(ResourceBackfill.class));
+        }
+    }
+
+    @Test
+    public void startWithoutAccessCheckRunsStandaloneBackfill() {
+        SecurityContextHolder.clearContext();
+        when(resourceTemplateService.findByTableNameWithoutAccessCheck("trees")).thenReturn(resourceTemplate);
+        when(resourceRecordRepository.findMaxId("trees")).thenReturn(10L);
+        when(resourceBackfillRepository.save(any(ResourceBackfill.class))).thenAnswer(invocation -> {
+            ResourceBackfill saved = invocation.getArgument(0);
+            saved.setId(9L);
+            return saved;
+        });
+        when(resourceBackfillRepository.findById(9L)).thenReturn(Optional.of(resourceBackfill));
+        when(resourceRecordRepository.updateChunk(eq("trees"), any(Condition.class), anyMap(), anyLong(), eq(2),
+                anyBoolean()))
+                .thenReturn(Collections.emptyList());
+        ResourceBackfill started = resourceBackfillService.startWithoutAccessCheck("trees",
+                ResourceBackfill.Transformation.SEARCH_VECTOR);
+        assertTrue(started.getStandalone());
+        assertEquals(ResourceBackfill.Transformation.SEARCH_VECTOR, started.getTransformation());
+        assertEquals(ResourceBackfill.Status.COMPLETED, resourceBackfill.getStatus());
+        verify(resourceTemplateService, never()).findByTableName(anyString());
+    }
+
+    @Test
+    public void runFailed() {
+        when(resourceBackfillRepository.findById(9L)).thenReturn(Optional.of(resourceBackfill));
+        when(resourceTemplateService.findByTableNameWithoutAccessCheck("trees")).thenReturn(resourceTemplate);
+        when(resourceRecordRepository.updateChunk(eq("trees"), any(Condition.class), anyMap(), eq(0L), eq(2), eq(true)))
+                .thenThrow(new DataAccessResourceFailureException("statement timeout"));
+        when(resourceBackfillRepository.save(resourceBackfill)).thenReturn(resourceBackfill);
+        resourceBackfillService.run(9L);
+        assertEquals(ResourceBackfill.Status.FAILED, resourceBackfill.getStatus());
+        assertEquals("statement timeout", resourceBackfill.getError());
+        assertEquals(Long.valueOf(0), resourceBackfill.getLastId());
+    }
+
+    @Test(expected = NotFoundException.class)
+    public void findByIdNotFound() {
+        when(resourceBackfillRepository.findByIdAndTableName(9L, "trees")).thenReturn(Optional.empty());
+        resourceBackfillService.findById("trees", 9L);
+    }
+}
@@ -0,0 +1,159 @@
+package com.softserve.rms.service.implementation;
+
+import com.softserve.rms.entities.ParameterType;
+import com.softserve.rms.entities.ResourceBackfill;
+import com.softserve.rms.entities.ResourceMigration;
+import com.softserve.rms.entities.ResourceParameter;
+import com.softserve.rms.entities.ResourceTemplate;
+import com.softserve.rms.exceptions.BadRequestException;
+import com.softserve.rms.exceptions.NotFoundException;
+import com.softserve.rms.exceptions.resourceParameter.ResourceParameterCanNotBeModified;
+import com.softserve.rms.repository.ResourceMigrationRepository;
+import com.softserve.rms.repository.implementation.JooqDDL;
+import com.softserve.rms.service.ResourceBackfillService;
+import com.softserve.rms.service.ResourceTemplateService;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ResourceMigrationServiceImplTest {
+
+    private ResourceMigrationServiceImpl resourceMigrationService;
+
+    @Mock
+    private ResourceMigrationRepository resourceMigrationRepository;
+
+    @Mock
+    private ResourceBackfillService resourceBackfillService;
+
+    @Mock
+    private ResourceTemplateService resourceTemplateService;
+
+    @Mock
+    private JooqDDL jooqDDL;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ResourceTemplate resourceTemplate;
+    private ResourceParameter resourceParameter;
+    private ResourceMigration resourceMigration;
+    private List<String> columns = Collections.singletonList("weight");
+
+    @Before
+    public void init() {
+        resourceMigrationService = new ResourceMigrationServiceImpl(resourceMigrationRepository,
+                resourceBackfillService, resourceTemplateService, jooqDDL, transactionManager, Runnable::run, 5000);
+        resourceTemplate = new ResourceTemplate();
+        resourceTemplate.setId(1L);
+        resourceTemplate.setTableName("trees");
+        resourceTemplate.setResourceParameters(Collections.emptyList());
+        resourceParameter = new ResourceParameter();
+        resourceParameter.setId(3L);
+        resourceParameter.setName("Weight");
+        resourceParameter.setColumnName("weight");
+        resourceParameter.setParameterType(ParameterType.POINT_INT);
+        resourceMigration = new ResourceMigration();
+        resourceMigration.setId(7L);
+        resourceMigration.setTableName("trees");
+        resourceMigration.setColumnName("weight");
+        resourceMigration.setParameterType(ParameterType.POINT_INT);
+        resourceMigration.setOperation(ResourceMigration.Operation.ADD);
+        resourceMigration.setStatus(ResourceMigration.Status.RUNNING);
+        resourceMigration.setDefaultValue("5");
+    }
+
+    @Test(expected = ResourceParameterCanNotBeModified.class)
+    public void addParameterWithoutDefaultValue() {
+        resourceMigrationService.addParameter(resourceTemplate, resourceParameter, null);
+    }
+
+    @Test(expected = BadRequestException.class)
+    public void addParameterWithInvalidDefaultValue() {
+        resourceMigrationService.addParameter(resourceTemplate, resourceParameter, "heavy");
+    }
+
+    @Test(expected = ResourceParameterCanNotBeModified.class)
+    public void checkIfTemplateCanBeMigratedWhileMigrationIsRunning() {
+        when(resourceMigrationRepository.existsByTableNameAndStatus("trees", ResourceMigration.Status.RUNNING))
+                .thenReturn(true);
+        resourceMigrationService.checkIfTemplateCanBeMigrated(resourceTemplate);
+    }
+
+    @Test
+    public void addParameterFillsRecordsAndSetsNotNull() {
+        when(resourceMigrationRepository.save(any(ResourceMigration.class))).thenReturn(resourceMigration);
+        when(resourceMigrationRepository.findById(7L)).thenReturn(Optional.of(resourceMigration));
+        when(jooqDDL.getRequiredParameterColumns(any(ResourceParameter.class))).thenReturn(columns);
+        when(resourceBackfillService.create("trees", ResourceBackfill.Transformation.DEFAULT_VALUE, "weight", "5"))
+                .thenReturn(backfill(ResourceBackfill.Status.RUNNING));
+        when(resourceBackfillService.run(9L)).thenReturn(backfill(ResourceBackfill.Status.COMPLETED));
+        resourceMigrationService.addParameter(resourceTemplate, resourceParameter, "5");
+        InOrder inOrder = inOrder(jooqDDL, resourceBackfillService);
+        inOrder.verify(jooqDDL).addParameterColumns("trees", resourceParameter, 5);
+        inOrder.verify(resourceBackfillService).run(9L);
+        inOrder.verify(jooqDDL).addNotNullChecks("trees", columns);
+        inOrder.verify(resourceBackfillService).rewind(9L);
+        inOrder.verify(resourceBackfillService).run(9L);
+        inOrder.verify(jooqDDL).validateNotNullChecks("trees", columns);
+        inOrder.verify(jooqDDL).setNotNull("trees", columns);
+        assertEquals(ResourceMigration.Status.COMPLETED, resourceMigration.getStatus());
+        assertEquals(Long.valueOf(9), resourceMigration.getBackfillId());
+    }
+
+    @Test
+    public void migrateInterruptedStaysRunning() {
+        resourceMigration.setBackfillId(9L);
+        when(resourceMigrationRepository.findById(7L)).thenReturn(Optional.of(resourceMigration));
+        when(jooqDDL.getRequiredParameterColumns(any(ResourceParameter.class))).thenReturn(columns);
+        when(resourceBackfillService.run(9L)).thenReturn(backfill(ResourceBackfill.Status.RUNNING));
+        resourceMigrationService.migrate(7L);
+        verify(jooqDDL, never()).addNotNullChecks(anyString(), anyList());
+        verify(resourceBackfillService, never()).create(anyString(), any(), anyString(), anyString());
+        verify(resourceMigrationRepository, never()).save(any(ResourceMigration.class));
+        assertEquals(ResourceMigration.Status.RUNNING, resourceMigration.getStatus());
+    }
+
+    @Test
+    public void migrateFailed() {
+        resourceMigration.setBackfillId(9L);
+        when(resourceMigrationRepository.findById(7L)).thenReturn(Optional.of(resourceMigration));
+        when(jooqDDL.getRequiredParameterColumns(any(ResourceParameter.class))).thenReturn(columns);
+        when(resourceBackfillService.run(9L)).thenReturn(backfill(ResourceBackfill.Status.COMPLETED));
+        doThrow(new DataAccessResourceFailureException("lock timeout"))
+                .when(jooqDDL).addNotNullChecks("trees", columns);
+        resourceMigrationService.migrate(7L);
+        verify(jooqDDL, never()).setNotNull(anyString(), anyList());
+        assertEquals(ResourceMigration.Status.FAILED, resourceMigration.getStatus());
+        assertEquals("lock timeout", resourceMigration.getError());
+        verify(resourceMigrationRepository).save(resourceMigration);
+    }
+
+    @Test(expected = NotFoundException.class)
+    public void findByIdNotFound() {
+        when(resourceTemplateService.findEntityById(1L)).thenReturn(resourceTemplate);
+        when(resourceMigrationRepository.findByIdAndResourceTemplateId(7L, 1L)).thenReturn(Optional.empty());
+        resourceMigrationService.findById(1L, 7L);
+    }
+
+    private ResourceBackfill backfill(ResourceBackfill.Status status) {
+        ResourceBackfill resourceBackfill = new ResourceBackfill();
+        resourceBackfill.setId(9L);
+        resourceBackfill.setStatus(status);
+        return resourceBackfill;
+    }
+}
@@ -11,8 +11,10 @@ import com.softserve.rms.exceptions.NotFoundException;
 import com.softserve.rms.exceptions.NotUniqueNameException;
 import com.softserve.rms.exceptions.resourceParameter.ResourceParameterCanNotBeModified;
 import com.softserve.rms.exceptions.resourseTemplate.ResourceTemplateIsNotPublishedException;
+import com.softserve.rms.mapper.ResourceParameterMapper;
 import com.softserve.rms.repository.ResourceParameterRepository;
 import com.softserve.rms.repository.ResourceRelationRepository;
+import com.softserve.rms.service.ResourceMigrationService;
 import com.softserve.rms.service.ResourceTemplateService;
 import com.softserve.rms.util.Validator;
 import org.jooq.DSLContext;
@@ -22,7 +24,6 @@ import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
-import org.modelmapper.ModelMapper;
 import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
@@ -63,13 +64,16 @@ public class ResourceParameterServiceImplTest {
     @Mock
     private DSLContext dslContext;
 
-    private ResourceTemplate resourceTemplate = new ResourceTemplate(1L, "template", "resource_template", "some description", false, null, null, null);
+    @Mock
+    private ResourceMigrationService resourceMigrationService;
+
+    private ResourceTemplate resourceTemplate = new ResourceTemplate(1L, "template", "resource_template", "some description", false, null, null, null, 0L, null, null, null);
     private ResourceParameter resourceParameter = new ResourceParameter(1L, "resourceParameter", "resource_parameter", ParameterType.POINT_INT, "regex", resourceTemplate, null);
     private ResourceParameter resourceParameterUpdate = new ResourceParameter(1L, "resourceParameterUpdate", "resource_parameter_update", ParameterType.POINT_INT, "regex", resourceTemplate, null);
     private ResourceParameterDTO resourceParameterDTO = new ResourceParameterDTO(1L, "resourceParameter", "resource_parameter", ParameterType.POINT_INT, "regex", 1L, null, null, null);
     private ResourceParameterDTO resourceParameterDTOUpdate = new ResourceParameterDTO(1L, "resourceParameterUpdate", "resource_parameter_update", ParameterType.POINT_INT, "regex", 1L, null, null, null);
-    private ResourceParameterSaveDTO resourceParameterSaveDTO = new ResourceParameterSaveDTO("resourceParameter", ParameterType.POINT_INT, "regex", null);
-    private ResourceParameterSaveDTO resourceParameterSaveDTOUpdate = new ResourceParameterSaveDTO("resourceParameterUpdate", ParameterType.POINT_INT, "regex", null);
+    private ResourceParameterSaveDTO resourceParameterSaveDTO = new ResourceParameterSaveDTO("resourceParameter", ParameterType.POINT_INT, "regex", null, null);
+    private ResourceParameterSaveDTO resourceParameterSaveDTOUpdate = new ResourceParameterSaveDTO("resourceParameterUpdate", ParameterType.POINT_INT, "regex", null, null);
     private ResourceRelation resourceRelation = new ResourceRelation(1L, resourceParameter, resourceTemplate);
     private List<ResourceParameterDTO> parameterDTOS = Arrays.asList(
             new ResourceParameterDTO(1L, "firstParameter", "first_parameter", ParameterType.POINT_INT, null, 1L, null, null, null),
@@ -84,7 +88,8 @@ public class ResourceParameterServiceImplTest {
     @Before
     public void initializeMock() {
         resourceParameterService = PowerMockito.spy(new ResourceParameterServiceImpl(resourceParameterRepository,
-                resourceTemplateService, resourceRelationRepository, dslContext));
+                resourceTemplateService, resourceRelationRepository, dslContext, new ResourceParameterMapper(),
+                resourceMigrationService));
     }
 
     @Test
@@ -127,9 +132,22 @@ public class ResourceParameterServiceImplTest {
     public void checkIfParameterCanBeAddedFailed() {
         resourceTemplate.setIsPublished(true);
         when(resourceTemplateService.findEntityById(anyLong())).thenReturn(resourceTemplate);
+        doThrow(ResourceParameterCanNotBeModified.class).when(resourceMigrationService)
+                .checkIfTemplateCanBeMigrated(resourceTemplate);
         resourceParameterService.checkIfParameterCanBeSaved(resourceTemplate.getId(), resourceParameterSaveDTO);
     }
 
+    @Test
+    public void checkIfParameterCanBeAddedToPublishedTemplate() throws Exception {
+        resourceTemplate.setIsPublished(true);
+        resourceParameterSaveDTO.setDefaultValue("5");
+        when(resourceTemplateService.findEntityById(anyLong())).thenReturn(resourceTemplate);
+        PowerMockito.doReturn(resourceParameterDTO).when(resourceParameterService, "save", anyLong(), any(ResourceParameterSaveDTO.class));
+        doReturn(resourceParameter).when(resourceParameterService).findById(1L);
+        assertEquals(resourceParameterDTO, resourceParameterService.checkIfParameterCanBeSaved(resourceTemplate.getId(), resourceParameterSaveDTO));
+        verify(resourceMigrationService).addParameter(resourceTemplate, resourceParameter, "5");
+    }
+
     @Test
     public void saveResourceParameterSuccess() throws Exception {
         PowerMockito.doReturn("resourceParameter").when(resourceParameterService, "verifyIfParameterNameIsUniquePerResourceTemplate", anyString(), anyLong());
@@ -173,10 +191,26 @@ public class ResourceParameterServiceImplTest {
     @Test(expected = ResourceParameterCanNotBeModified.class)
     public void checkIfParameterCanBeUpdatedFailed() {
         resourceTemplate.setIsPublished(true);
+        resourceParameterSaveDTOUpdate.setParameterType(ParameterType.POINT_STRING);
         when(resourceTemplateService.findEntityById(anyLong())).thenReturn(resourceTemplate);
+        doReturn(resourceParameter).when(resourceParameterService).findById(anyLong());
         resourceParameterService.checkIfParameterCanBeUpdated(resourceTemplate.getId(), resourceParameter.getId(), resourceParameterSaveDTOUpdate);
     }
 
+    @Test
+    public void checkIfParameterCanBeRenamedInPublishedTemplate() throws Exception {
+        resourceTemplate.setIsPublished(true);
+        when(resourceTemplateService.findEntityById(anyLong())).thenReturn(resourceTemplate);
+        doReturn(resourceParameter).when(resourceParameterService).findById(anyLong());
+        String previousColumnName = resourceParameter.getColumnName();
+        PowerMockito.doAnswer(invocation -> {
+            resourceParameter.setColumnName("renamed_column");
+            return resourceParameterDTOUpdate;
+        }).when(resourceParameterService, "updateById", anyLong(), any(ResourceParameter.class), any(ResourceParameterSaveDTO.class));
+        assertEquals(resourceParameterDTOUpdate, resourceParameterService.checkIfParameterCanBeUpdated(resourceTemplate.getId(), resourceParameter.getId(), resourceParameterSaveDTOUpdate));
+        verify(resourceMigrationService).renameParameter(resourceTemplate, resourceParameter, previousColumnName);
+    }
+
     @Test
     public void updateById() throws Exception {
         PowerMockito.doNothing().when(resourceParameterService, "updateParameterNameAndColumnName", anyLong(), any(ResourceParameter.class), any(ResourceParameterSaveDTO.class));
@@ -219,16 +253,29 @@ public class ResourceParameterServiceImplTest {
         when(resourceTemplateService.findEntityById(any(Long.class))).thenReturn(resourceTemplate);
         resourceParameterService.checkIfParameterCanBeDeleted(resourceTemplate.getId(), resourceParameter.getId());
         verify(resourceParameterRepository, times(1)).deleteById(anyLong());
+        assertNotNull(resourceTemplate.getUpdatedAt());
     }
 
     @Test(expected = ResourceParameterCanNotBeModified.class)
     public void testIfParameterCanBeDeletedFalse() {
         when(resourceTemplateService.findEntityById(any(Long.class))).thenReturn(resourceTemplate);
         resourceTemplate.setIsPublished(true);
+        doThrow(ResourceParameterCanNotBeModified.class).when(resourceMigrationService)
+                .checkIfTemplateCanBeMigrated(resourceTemplate);
         resourceParameterService.checkIfParameterCanBeDeleted(resourceTemplate.getId(), resourceParameter.getId());
         verify(resourceParameterRepository, times(0)).deleteById(anyLong());
     }
 
+    @Test
+    public void testIfParameterCanBeDeletedFromPublishedTemplate() {
+        when(resourceTemplateService.findEntityById(any(Long.class))).thenReturn(resourceTemplate);
+        resourceTemplate.setIsPublished(true);
+        doReturn(resourceParameter).when(resourceParameterService).findById(anyLong());
+        resourceParameterService.checkIfParameterCanBeDeleted(resourceTemplate.getId(), resourceParameter.getId());
+        verify(resourceMigrationService).dropParameter(resourceTemplate, resourceParameter);
+        verify(resourceParameterRepository, times(1)).deleteById(resourceParameter.getId());
+    }
+
     @Test
     public void deleteResourceParameterSuccess() {
         resourceParameterRepository.deleteById(anyLong());
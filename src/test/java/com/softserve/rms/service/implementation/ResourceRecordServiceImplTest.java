@@ -1,19 +1,43 @@
 package com.softserve.rms.service.implementation;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.softserve.rms.constants.ErrorMessage;
+import com.softserve.rms.constants.FieldConstants;
+import com.softserve.rms.dto.VersionDto;
+import com.softserve.rms.dto.file.PresignedUrlDto;
+import com.softserve.rms.dto.resourceRecord.ResourceRecordBulkResultDTO;
+import com.softserve.rms.dto.resourceRecord.ResourceRecordBulkUpdateDTO;
+import com.softserve.rms.dto.resourceRecord.ResourceRecordConditionDTO;
 import com.softserve.rms.dto.resourceRecord.ResourceRecordDTO;
+import com.softserve.rms.dto.resourceRecord.ResourceRecordFilterDTO;
 import com.softserve.rms.dto.resourceRecord.ResourceRecordSaveDTO;
 import com.softserve.rms.entities.*;
+import com.softserve.rms.exceptions.BadRequestException;
 import com.softserve.rms.exceptions.NotDeletedException;
 import com.softserve.rms.exceptions.NotFoundException;
+import com.softserve.rms.exceptions.VersionConflictException;
 import com.softserve.rms.exceptions.resourseTemplate.ResourceTemplateIsNotPublishedException;
+import com.softserve.rms.mapper.ResourceRecordMapper;
 import com.softserve.rms.repository.ResourceRecordRepository;
+import com.softserve.rms.service.FileCleanupService;
+import com.softserve.rms.service.ImageProcessingService;
 import com.softserve.rms.service.ResourceTemplateService;
 import com.softserve.rms.service.UserService;
+import com.softserve.rms.util.ResourceRecordColumns;
+import org.jooq.Cursor;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockResult;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.powermock.api.mockito.PowerMockito;
@@ -21,12 +45,15 @@ import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 import org.powermock.reflect.Whitebox;
 import org.springframework.data.domain.Page;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.data.domain.PageImpl;
 
+import java.io.StringWriter;
 import java.util.*;
+import java.util.function.BiConsumer;
 
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
@@ -36,10 +63,13 @@ import static org.powermock.api.mockito.PowerMockito.verifyPrivate;
 @RunWith(PowerMockRunner.class)
 @PrepareForTest(ResourceRecordServiceImpl.class)
 public class ResourceRecordServiceImplTest {
+    private static final String PHOTO_NAME = "test_name_1_0a1b2c3d-4e5f-4a7b-8c9d-0e1f2a3b4c5d";
+    private static final String DOCUMENT_NAME = "test_name_1_9f8e7d6c-5b4a-4392-8170-6f5e4d3c2b1a";
 
-    @InjectMocks
     private ResourceRecordServiceImpl resourceRecordService;
 
+    private ObjectMapper objectMapper = new ObjectMapper();
+
     @Mock
     private ResourceRecordRepository resourceRecordRepository;
 
@@ -58,9 +88,15 @@ public class ResourceRecordServiceImplTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private ImageProcessingService imageProcessingService;
+
+    @Mock
+    private FileCleanupService fileCleanupService;
+
     private User user = new User(1L, "testName", "testSurname", "testEmail", "any", "any", false, null,"imageUrl","google","2344555", Collections.emptyList(), null, Collections.emptyList());
 
-    private ResourceTemplate resourceTemplate = new ResourceTemplate(1L, "testName", "test_name", null, true, user, Collections.emptyList(), Collections.emptyList());
+    private ResourceTemplate resourceTemplate = new ResourceTemplate(1L, "testName", "test_name", null, true, user, Collections.emptyList(), Collections.emptyList(), 0L, null, null, null);
     private HashMap<String, Object> firstDynamicParameters = new HashMap<String, Object>() {{
         put("first_parameter", 111);
         put("second_parameter", 999);
@@ -71,7 +107,7 @@ public class ResourceRecordServiceImplTest {
     }};
     private ResourceRecord resourceRecord = new ResourceRecord(1L, "Test", "Some description", user,"", "",firstDynamicParameters);
     private ResourceRecord secondResourceRecord = new ResourceRecord(null, "Test", "Some description",  user,null, null,firstDynamicParameters);
-    private ResourceRecordDTO resourceRecordDTO = new ResourceRecordDTO(1L, "Test", "Some description",  user.getId(), "","",firstDynamicParameters);
+    private ResourceRecordDTO resourceRecordDTO = new ResourceRecordDTO(1L, "Test", "Some description",  user.getId(), "","",firstDynamicParameters, Collections.emptyMap());
 
     private ResourceRecordSaveDTO resourceRecordSaveDTO = new ResourceRecordSaveDTO("Test", "Some description",  firstDynamicParameters);
     private ResourceRecordSaveDTO resourceRecordUpdateDTO = new ResourceRecordSaveDTO("TestUpdate", "Some description update", secondDynamicParameters);
@@ -79,13 +115,19 @@ public class ResourceRecordServiceImplTest {
             new ResourceRecord(1L, "TestName1", "Some description", user,"", "",firstDynamicParameters),
             new ResourceRecord(2L, "TestName2", "Some description2",user, "","",secondDynamicParameters));
     private List<ResourceRecordDTO> resourceRecordDTOS = Arrays.asList(
-            new ResourceRecordDTO(1L, "TestName1", "Some description",  user.getId(), "","",firstDynamicParameters),
-            new ResourceRecordDTO(2L, "TestName2", "Some description2", user.getId(), "","",secondDynamicParameters));
+            new ResourceRecordDTO(1L, "TestName1", "Some description",  user.getId(), "","",firstDynamicParameters, Collections.emptyMap()),
+            new ResourceRecordDTO(2L, "TestName2", "Some description2", user.getId(), "","",secondDynamicParameters, Collections.emptyMap()));
+
+    private ResourceTemplate templateWithParameters = new ResourceTemplate(1L, "testName", "test_name", null, true, user,
+            Collections.singletonList(new ResourceParameter(1L, "Weight", "weight", ParameterType.POINT_INT, null, null, null)),
+            Collections.emptyList(), 0L, null, null, null);
+    private List<ResourceRecordConditionDTO> weightFilter = Collections.singletonList(
+            new ResourceRecordConditionDTO("weight", ResourceRecordConditionDTO.Operator.GT, 100));
 
     @Before
     public void initializeMock() {
         resourceRecordService = PowerMockito.spy(new ResourceRecordServiceImpl(resourceRecordRepository,
-                resourceTemplateService, userService,fileStorageService,null));
+                resourceTemplateService, userService,fileStorageService, imageProcessingService, new ResourceRecordMapper(), fileCleanupService, 2, 2));
     }
 
     @Test
@@ -121,14 +163,111 @@ public class ResourceRecordServiceImplTest {
     public void getResourceRecordByIdDTOSuccess() throws Exception {
         doReturn(resourceRecord).when(resourceRecordService).findById(anyString(), anyLong());
         PowerMockito.doReturn("").when(resourceRecordService, "generateUrlForFiles", Mockito.anyString());
-        assertEquals(resourceRecordDTO, resourceRecordService.findByIdDTO(resourceTemplate.getTableName(), resourceRecord.getId()));
+        assertEquals(resourceRecordDTO, resourceRecordService.findByIdDTO(resourceTemplate.getTableName(), resourceRecord.getId(), 0));
     }
 
     @Test(expected = NotFoundException.class)
     public void getResourceRecordDTOByIdFailed() {
         doThrow(new NotFoundException(ErrorMessage.CAN_NOT_FIND_A_RESOURCE_TABLE.getMessage()))
-                .when(resourceRecordService).findByIdDTO(anyString(), anyLong());
-        resourceRecordService.findByIdDTO(anyString(), anyLong());
+                .when(resourceRecordService).findByIdDTO(anyString(), anyLong(), anyInt());
+        resourceRecordService.findByIdDTO(anyString(), anyLong(), anyInt());
+    }
+
+    @Test
+    public void findByIdDTOExpandsReferences() {
+        ResourceTemplate countries = new ResourceTemplate(4L, "countries", "countries", null, true, user,
+                Collections.emptyList(), Collections.emptyList(), 0L, null, null, null);
+        ResourceTemplate cities = referenceTemplate("cities", "country", countries);
+        ResourceTemplate owners = referenceTemplate("owners", "city", cities);
+        when(resourceTemplateService.findByTableName("trees")).thenReturn(referenceTemplate("trees", "owner", owners));
+        when(resourceTemplateService.findByTableName("owners")).thenReturn(owners);
+        when(resourceTemplateService.findByTableName("cities")).thenReturn(cities);
+        doReturn(referenceRecord(1L, "Oak", "owner", 5L)).when(resourceRecordService).findById("trees", 1L);
+        when(resourceRecordRepository.findAllById("owners", Collections.singleton(5L)))
+                .thenReturn(Collections.singletonList(referenceRecord(5L, "Ann", "city", 7L)));
+        when(resourceRecordRepository.findAllById("cities", Collections.singleton(7L)))
+                .thenReturn(Collections.singletonList(referenceRecord(7L, "Lviv", "country", 9L)));
+
+        ResourceRecordDTO result = resourceRecordService.findByIdDTO("trees", 1L, 5);
+
+        assertEquals("Ann", result.getParameters().get("owner_ref_name"));
+        ResourceRecordDTO owner = (ResourceRecordDTO) result.getParameters().get("owner");
+        assertEquals(Long.valueOf(5L), owner.getId());
+        assertEquals("Lviv", owner.getParameters().get("city_ref_name"));
+        ResourceRecordDTO city = (ResourceRecordDTO) owner.getParameters().get("city");
+        assertEquals("Lviv", city.getName());
+        assertFalse(city.getParameters().containsKey("country"));
+        verify(resourceRecordRepository, never()).findAllById(eq("countries"), any());
+    }
+
+    @Test
+    public void findByIdDTODoesNotExpandUnreadableReferences() {
+        ResourceTemplate countries = new ResourceTemplate(4L, "countries", "countries", null, false, user,
+                Collections.emptyList(), Collections.emptyList(), 0L, null, null, null);
+        ResourceTemplate cities = referenceTemplate("cities", "country", countries);
+        ResourceTemplate owners = referenceTemplate("owners", "city", cities);
+        ResourceTemplate trees = new ResourceTemplate(null, "trees", "trees", null, true, user, Arrays.asList(
+                referenceTemplate("trees", "owner", owners).getResourceParameters().get(0),
+                referenceTemplate("trees", "country", countries).getResourceParameters().get(0)),
+                Collections.emptyList(), 0L, null, null, null);
+        when(resourceTemplateService.findByTableName("trees")).thenReturn(trees);
+        when(resourceTemplateService.findByTableName("owners")).thenThrow(new AccessDeniedException("Access is denied"));
+        when(resourceTemplateService.findByTableName("countries")).thenReturn(countries);
+        ResourceRecord tree = referenceRecord(1L, "Oak", "owner", 5L);
+        tree.getParameters().put("country_ref", 9L);
+        tree.getParameters().put("country_ref_name", "Ukraine");
+        doReturn(tree).when(resourceRecordService).findById("trees", 1L);
+
+        ResourceRecordDTO result = resourceRecordService.findByIdDTO("trees", 1L, 2);
+
+        assertEquals("stale", result.getParameters().get("owner_ref_name"));
+        assertFalse(result.getParameters().containsKey("owner"));
+        assertEquals("Ukraine", result.getParameters().get("country_ref_name"));
+        assertFalse(result.getParameters().containsKey("country"));
+        verify(resourceRecordRepository, never()).findAllById(anyString(), any());
+    }
+
+    @Test
+    public void findByIdDTOWithoutExpand() {
+        doReturn(referenceRecord(1L, "Oak", "owner", 5L)).when(resourceRecordService).findById("trees", 1L);
+        ResourceRecordDTO result = resourceRecordService.findByIdDTO("trees", 1L, 0);
+        assertEquals("stale", result.getParameters().get("owner_ref_name"));
+        verify(resourceRecordRepository, never()).findAllById(anyString(), any());
+        verify(resourceTemplateService, never()).findByTableName("trees");
+    }
+
+    @Test
+    public void findByIdDTOAdvertisesStoredDerivatives() {
+        ResourceRecord tree = referenceRecord(1L, "Oak", "owner", 5L);
+        tree.setPhotosNames("first,second,");
+        doReturn(tree).when(resourceRecordService).findById("trees", 1L);
+        Map<String, Map<String, String>> derivatives = new HashMap<>();
+        derivatives.put("first", Collections.singletonMap("thumbnail", "first_thumbnail"));
+        derivatives.put("second", Collections.singletonMap("thumbnail", "second"));
+        when(imageProcessingService.getDerivativeFileNames(new LinkedHashSet<>(Arrays.asList("first", "second"))))
+                .thenReturn(derivatives);
+        when(fileStorageService.generatePresignedDownloadUrl(anyString()))
+                .thenAnswer(invocation -> "url/" + invocation.getArgument(0));
+
+        ResourceRecordDTO result = resourceRecordService.findByIdDTO("trees", 1L, 0);
+
+        assertEquals(Collections.singletonMap("thumbnail", "url/first_thumbnail,url/second,"),
+                result.getPhotoDerivatives());
+        verify(imageProcessingService, never()).getDerivativeFileNames(anyString());
+    }
+
+    private ResourceTemplate referenceTemplate(String tableName, String column, ResourceTemplate related) {
+        ResourceParameter parameter = new ResourceParameter(null, column, column, ParameterType.POINT_REFERENCE,
+                null, null, new ResourceRelation(null, null, related));
+        return new ResourceTemplate(null, tableName, tableName, null, true, user,
+                Collections.singletonList(parameter), Collections.emptyList(), 0L, null, null, null);
+    }
+
+    private ResourceRecord referenceRecord(Long id, String name, String column, Long referenceId) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put(column + "_ref", referenceId);
+        parameters.put(column + "_ref_name", "stale");
+        return new ResourceRecord(id, name, null, user, null, null, parameters);
     }
 
     @Test
@@ -167,11 +306,122 @@ public class ResourceRecordServiceImplTest {
     }
 
     @Test
-    public void updateResourceRecordSuccess() throws Exception {
-        PowerMockito.doNothing().when(resourceRecordService, "checkIfResourceTemplateIsPublished", Mockito.anyString());
-        when(resourceRecordRepository.findById(anyString(), anyLong())).thenReturn(Optional.of(resourceRecord));
-        resourceRecordService.update(resourceTemplate.getTableName(), resourceRecord.getId(), resourceRecordUpdateDTO);
-        verify(resourceRecordRepository, times(1)).update(resourceTemplate.getTableName(), resourceRecord.getId(), resourceRecord);
+    public void updateResourceRecordSuccess() {
+        when(resourceTemplateService.findByTableName(anyString())).thenReturn(resourceTemplate);
+        ResourceRecord changes = ResourceRecord.builder().name("TestUpdate").description("Some description update")
+                .parameters(secondDynamicParameters).build();
+        when(resourceRecordRepository.update("test_name", 1L, null, changes)).thenReturn(true);
+        resourceRecordService.update(resourceTemplate.getTableName(), resourceRecord.getId(), null, resourceRecordUpdateDTO);
+        verify(resourceRecordRepository, never()).findById(anyString(), anyLong());
+    }
+
+    @Test
+    public void updateResourceRecordWithVersion() {
+        when(resourceTemplateService.findByTableName(anyString())).thenReturn(resourceTemplate);
+        when(resourceRecordRepository.update(eq("test_name"), eq(1L), eq(3L), any(ResourceRecord.class))).thenReturn(true);
+        resourceRecordService.update("test_name", 1L, "\"0.1.3-42\"", resourceRecordUpdateDTO);
+        verify(resourceRecordRepository).update(eq("test_name"), eq(1L), eq(3L), any(ResourceRecord.class));
+    }
+
+    @Test(expected = VersionConflictException.class)
+    public void updateResourceRecordConflict() {
+        when(resourceTemplateService.findByTableName(anyString())).thenReturn(resourceTemplate);
+        when(resourceRecordRepository.update(eq("test_name"), eq(1L), eq(3L), any(ResourceRecord.class))).thenReturn(false);
+        when(resourceRecordRepository.findVersion("test_name", 1L)).thenReturn(Optional.of(new VersionDto("1.4", 1L, false)));
+        resourceRecordService.update("test_name", 1L, "\"0.1.3\"", resourceRecordUpdateDTO);
+    }
+
+    @Test(expected = NotFoundException.class)
+    public void updateResourceRecordNotFound() {
+        when(resourceTemplateService.findByTableName(anyString())).thenReturn(resourceTemplate);
+        when(resourceRecordRepository.update(eq("test_name"), eq(1L), eq(3L), any(ResourceRecord.class))).thenReturn(false);
+        when(resourceRecordRepository.findVersion("test_name", 1L)).thenReturn(Optional.empty());
+        resourceRecordService.update("test_name", 1L, "\"0.1.3\"", resourceRecordUpdateDTO);
+    }
+
+    @Test(expected = VersionConflictException.class)
+    public void updateResourceRecordOfRepublishedTable() {
+        when(resourceTemplateService.findByTableName(anyString())).thenReturn(resourceTemplate);
+        resourceRecordService.update("test_name", 1L, "\"5.1.3\"", resourceRecordUpdateDTO);
+    }
+
+    @Test(expected = BadRequestException.class)
+    public void updateResourceRecordWithOtherRecordVersion() {
+        when(resourceTemplateService.findByTableName(anyString())).thenReturn(resourceTemplate);
+        resourceRecordService.update("test_name", 1L, "\"0.2.3\"", resourceRecordUpdateDTO);
+    }
+
+    @Test
+    public void generateUploadUrlBindsFileNameToResource() {
+        PresignedUrlDto presignedUrlDto = new PresignedUrlDto(PHOTO_NAME, "url", new Date());
+        when(resourceTemplateService.findByTableName(anyString())).thenReturn(resourceTemplate);
+        when(resourceRecordRepository.findVersion("test_name", 1L)).thenReturn(Optional.of(new VersionDto("0.1", 1L, false)));
+        when(fileStorageService.generatePresignedUploadUrl("test_name_1_", "image/png")).thenReturn(presignedUrlDto);
+        assertEquals(presignedUrlDto, resourceRecordService.generateUploadUrl("test_name", 1L, "image/png"));
+    }
+
+    @Test(expected = NotFoundException.class)
+    public void generateUploadUrlNotFound() {
+        when(resourceTemplateService.findByTableName(anyString())).thenReturn(resourceTemplate);
+        when(resourceRecordRepository.findVersion("test_name", 1L)).thenReturn(Optional.empty());
+        resourceRecordService.generateUploadUrl("test_name", 1L, "image/png");
+    }
+
+    @Test
+    public void completePhotoUploadAppendsFileName() {
+        when(resourceTemplateService.findByTableName(anyString())).thenReturn(resourceTemplate);
+        when(fileStorageService.isFileExist(PHOTO_NAME)).thenReturn(true);
+        when(resourceRecordRepository.appendFileName("test_name", 1L, FieldConstants.PHOTOS_NAMES, PHOTO_NAME))
+                .thenReturn(true);
+        resourceRecordService.completePhotoUpload("test_name", 1L, PHOTO_NAME);
+        verify(resourceRecordRepository, never()).findById(anyString(), anyLong());
+        verify(imageProcessingService).generateDerivatives(PHOTO_NAME);
+    }
+
+    @Test
+    public void completePhotoUploadOfOtherResource() {
+        when(resourceTemplateService.findByTableName(anyString())).thenReturn(resourceTemplate);
+        try {
+            resourceRecordService.completePhotoUpload("test_name", 2L, PHOTO_NAME);
+            fail();
+        } catch (BadRequestException e) {
+            assertEquals(ErrorMessage.FILE_IS_NOT_ISSUED_FOR_RESOURCE.getMessage() + PHOTO_NAME, e.getMessage());
+        }
+        verify(fileStorageService, never()).isFileExist(anyString());
+        verify(resourceRecordRepository, never()).appendFileName(anyString(), anyLong(), any(FieldConstants.class), anyString());
+    }
+
+    @Test
+    public void deletePhotoUploadedByPresignedUrl() {
+        when(resourceTemplateService.findByTableName(anyString())).thenReturn(resourceTemplate);
+        resourceRecord.setPhotosNames("first," + PHOTO_NAME + ",");
+        when(resourceRecordRepository.findById("test_name", 1L)).thenReturn(Optional.of(resourceRecord));
+        resourceRecordService.deletePhoto("test_name", 1L, PHOTO_NAME);
+        verify(fileStorageService).deleteFile(PHOTO_NAME);
+        verify(imageProcessingService).deleteDerivatives(PHOTO_NAME);
+        verify(fileStorageService, never()).deleteFile("first");
+        verify(resourceRecordRepository).removeFileNames("test_name", 1L, FieldConstants.PHOTOS_NAMES,
+                Collections.singletonList(PHOTO_NAME));
+    }
+
+    @Test(expected = BadRequestException.class)
+    public void completeDocumentUploadOfNotIssuedFileName() {
+        when(resourceTemplateService.findByTableName(anyString())).thenReturn(resourceTemplate);
+        resourceRecordService.completeDocumentUpload("test_name", 1L, "test_name_1_doc.pdf");
+    }
+
+    @Test(expected = NotFoundException.class)
+    public void completeDocumentUploadNotUploaded() {
+        when(resourceTemplateService.findByTableName(anyString())).thenReturn(resourceTemplate);
+        when(fileStorageService.isFileExist(DOCUMENT_NAME)).thenReturn(false);
+        resourceRecordService.completeDocumentUpload("test_name", 1L, DOCUMENT_NAME);
+    }
+
+    @Test(expected = NotFoundException.class)
+    public void completeDocumentUploadNotFound() {
+        when(resourceTemplateService.findByTableName(anyString())).thenReturn(resourceTemplate);
+        when(fileStorageService.isFileExist(DOCUMENT_NAME)).thenReturn(true);
+        resourceRecordService.completeDocumentUpload("test_name", 1L, DOCUMENT_NAME);
     }
 
     @Test
@@ -187,4 +437,233 @@ public class ResourceRecordServiceImplTest {
         when(resourceTemplateService.findByTableName(anyString())).thenReturn(resourceTemplate);
         Whitebox.invokeMethod(resourceRecordService, "checkIfResourceTemplateIsPublished", anyString());
     }
+
+    @Test
+    public void writeAllSuccess() throws Exception {
+        mockRecordPage();
+        String expected = "{\"content\":[{\"id\":1,\"name\":\"Oak\",\"description\":null,\"userId\":1," +
+                "\"photos\":null,\"document\":\"url,\",\"parameters\":{\"weight\":120," +
+                "\"coordinates\":[{\"lat\":49.5,\"lng\":24.25},{\"lat\":50.0,\"lng\":25.0}]}," +
+                "\"photoDerivatives\":null}],\"totalElements\":3,\"totalPages\":2,\"number\":1,\"size\":2," +
+                "\"numberOfElements\":1,\"first\":false,\"last\":true,\"empty\":false}";
+        assertEquals(objectMapper.readTree(expected), objectMapper.readTree(writePage(false)));
+    }
+
+    @Test
+    public void writeAllColumnarSuccess() throws Exception {
+        mockRecordPage();
+        String expected = "{\"columns\":[\"id\",\"name\",\"description\",\"userId\",\"photos\",\"document\"," +
+                "\"weight\",\"coordinates\",\"photoDerivatives\"]," +
+                "\"rows\":[[1,\"Oak\",null,1,null,\"url,\",120,[[49.5,24.25],[50.0,25.0]],null]]," +
+                "\"totalElements\":3,\"totalPages\":2,\"number\":1,\"size\":2," +
+                "\"numberOfElements\":1,\"first\":false,\"last\":true,\"empty\":false}";
+        assertEquals(objectMapper.readTree(expected), objectMapper.readTree(writePage(true)));
+    }
+
+    @Test
+    public void writeAllMalformedCoordinates() throws Exception {
+        mockRecordPage("49.5,24.25;50.0");
+        String expected = "{\"columns\":[\"id\",\"name\",\"description\",\"userId\",\"photos\",\"document\"," +
+                "\"weight\",\"coordinates\",\"photoDerivatives\"]," +
+                "\"rows\":[[1,\"Oak\",null,1,null,\"url,\",120,\"49.5,24.25;50.0\",null]]," +
+                "\"totalElements\":3,\"totalPages\":2,\"number\":1,\"size\":2," +
+                "\"numberOfElements\":1,\"first\":false,\"last\":true,\"empty\":false}";
+        assertEquals(objectMapper.readTree(expected), objectMapper.readTree(writePage(true)));
+    }
+
+    @Test
+    public void findVersionDTOSuccess() {
+        when(resourceTemplateService.findByTableName(anyString())).thenReturn(resourceTemplate);
+        when(resourceRecordRepository.findVersion("test_name", 1L))
+                .thenReturn(Optional.of(new VersionDto("1.3", 1000L, false)));
+        assertEquals(new VersionDto("0.1.3", 1000L, false), resourceRecordService.findVersionDTO("test_name", 1L));
+        verify(fileStorageService, never()).getPresignedUrlPeriod();
+    }
+
+    @Test
+    public void findVersionDTOWithFiles() {
+        when(resourceTemplateService.findByTableName(anyString())).thenReturn(resourceTemplate);
+        when(resourceRecordRepository.findVersion("test_name", 1L))
+                .thenReturn(Optional.of(new VersionDto("1.3", 1000L, true)));
+        when(fileStorageService.getPresignedUrlPeriod()).thenReturn(42L);
+        assertEquals("0.1.3-42", resourceRecordService.findVersionDTO("test_name", 1L).getVersion());
+    }
+
+    @Test(expected = NotFoundException.class)
+    public void findVersionDTOFailed() {
+        when(resourceTemplateService.findByTableName(anyString())).thenReturn(resourceTemplate);
+        when(resourceRecordRepository.findVersion("test_name", 1L)).thenReturn(Optional.empty());
+        resourceRecordService.findVersionDTO("test_name", 1L);
+    }
+
+    @Test
+    public void findPageVersionDTOSuccess() {
+        when(resourceTemplateService.findByTableName(anyString())).thenReturn(resourceTemplate);
+        when(resourceRecordRepository.findPageVersion("test_name", 1, 5))
+                .thenReturn(new VersionDto("digest", 1000L, false));
+        assertEquals("0.digest", resourceRecordService.findPageVersionDTO("test_name", 2, 5).getVersion());
+    }
+
+    private void mockRecordPage() throws Exception {
+        mockRecordPage("49.5,24.25;50.0,25.0");
+    }
+
+    private void mockRecordPage(String coordinates) throws Exception {
+        when(resourceTemplateService.findByTableName("name")).thenReturn(resourceTemplate);
+        doReturn("url,").when(resourceRecordService).generateUrlForFiles("document,");
+        Field<?>[] fields = {DSL.field("id", Long.class), DSL.field("name", String.class),
+                DSL.field("description", String.class), DSL.field("user_id", Long.class),
+                DSL.field("photos_names", String.class), DSL.field("documents_names", String.class),
+                DSL.field("weight", Integer.class), DSL.field("land_coordinate", String.class)};
+        DSLContext mockContext = DSL.using(SQLDialect.POSTGRES);
+        Result<Record> result = mockContext.newResult(fields);
+        Record record = mockContext.newRecord(fields);
+        record.fromArray(1L, "Oak", null, 1L, null, "document,", 120, coordinates);
+        result.add(record);
+        DSLContext dslContext = DSL.using(new MockConnection(ctx -> new MockResult[]{
+                new MockResult(result.size(), result)}), SQLDialect.POSTGRES);
+        when(resourceRecordRepository.count("name")).thenReturn(3L);
+        doAnswer(invocation -> {
+            BiConsumer<ResourceRecordColumns, Cursor<Record>> consumer = invocation.getArgument(3);
+            try (Cursor<Record> cursor = dslContext.selectFrom("name").fetchLazy()) {
+                consumer.accept(ResourceRecordColumns.of(cursor.fields()), cursor);
+            }
+            return null;
+        }).when(resourceRecordRepository).findAll(eq("name"), eq(1), eq(2), any());
+    }
+
+    @Test
+    public void writeAllExpandsReferences() throws Exception {
+        ResourceTemplate owners = new ResourceTemplate(2L, "owners", "owners", null, true, user,
+                Collections.emptyList(), Collections.emptyList(), 0L, null, null, null);
+        when(resourceTemplateService.findByTableName("name")).thenReturn(referenceTemplate("name", "owner", owners));
+        when(resourceTemplateService.findByTableName("owners")).thenReturn(owners);
+        Field<?>[] fields = {DSL.field("id", Long.class), DSL.field("name", String.class),
+                DSL.field("description", String.class), DSL.field("user_id", Long.class),
+                DSL.field("photos_names", String.class), DSL.field("documents_names", String.class),
+                DSL.field("owner_ref", Integer.class), DSL.field("owner_ref_name", String.class)};
+        DSLContext mockContext = DSL.using(SQLDialect.POSTGRES);
+        Result<Record> result = mockContext.newResult(fields);
+        Record record = mockContext.newRecord(fields);
+        record.fromArray(1L, "Oak", null, 1L, null, null, 5, "stale");
+        result.add(record);
+        DSLContext dslContext = DSL.using(new MockConnection(ctx -> new MockResult[]{
+                new MockResult(result.size(), result)}), SQLDialect.POSTGRES);
+        when(resourceRecordRepository.count("name")).thenReturn(1L);
+        doAnswer(invocation -> {
+            BiConsumer<ResourceRecordColumns, Cursor<Record>> consumer = invocation.getArgument(3);
+            try (Cursor<Record> cursor = dslContext.selectFrom("name").fetchLazy()) {
+                consumer.accept(ResourceRecordColumns.of(cursor.fields()), cursor);
+            }
+            return null;
+        }).when(resourceRecordRepository).findAll(eq("name"), eq(0), eq(2), any());
+        when(resourceRecordRepository.findAllById("owners", Collections.singleton(5L)))
+                .thenReturn(Collections.singletonList(new ResourceRecord(5L, "Ann", null, user, null, null, new HashMap<>())));
+
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)) {
+            resourceRecordService.writeAll("name", 1, 2, 1, true, generator);
+        }
+        JsonNode page = objectMapper.readTree(writer.toString());
+        assertEquals(objectMapper.readTree("[\"id\",\"name\",\"description\",\"userId\",\"photos\"," +
+                "\"document\",\"owner_ref\",\"owner_ref_name\",\"owner\",\"photoDerivatives\"]"), page.get("columns"));
+        assertEquals("Ann", page.at("/rows/0/7").asText());
+        assertEquals("Ann", page.at("/rows/0/8/name").asText());
+    }
+
+    private String writePage(boolean columnar) throws Exception {
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)) {
+            resourceRecordService.writeAll("name", 2, 2, 0, columnar, generator);
+        }
+        return writer.toString();
+    }
+
+    @Test
+    public void updateAllDryRunCountsRecords() {
+        when(resourceTemplateService.findByTableName("test_name")).thenReturn(templateWithParameters);
+        when(resourceRecordRepository.count(eq("test_name"), any())).thenReturn(5L);
+        ResourceRecordBulkResultDTO result = resourceRecordService.updateAll("test_name",
+                new ResourceRecordBulkUpdateDTO(weightFilter, Collections.singletonMap("weight", "120")), true);
+        assertEquals(new ResourceRecordBulkResultDTO(5L, 3, true), result);
+        verify(resourceRecordRepository, never()).updateChunk(anyString(), any(), any(), anyLong(), anyInt(), anyBoolean());
+    }
+
+    @Test
+    public void deleteAllDryRunCountsFullChunks() {
+        when(resourceTemplateService.findByTableName("test_name")).thenReturn(templateWithParameters);
+        when(resourceRecordRepository.count(eq("test_name"), any())).thenReturn(4L);
+        ResourceRecordBulkResultDTO result = resourceRecordService.deleteAll("test_name",
+                new ResourceRecordFilterDTO(weightFilter), true);
+        assertEquals(new ResourceRecordBulkResultDTO(4L, 2, true), result);
+        verify(resourceRecordRepository, never()).deleteChunk(anyString(), any(), anyInt());
+    }
+
+    @Test
+    public void updateAllInChunks() {
+        when(resourceTemplateService.findByTableName("test_name")).thenReturn(templateWithParameters);
+        when(resourceRecordRepository.updateChunk(eq("test_name"), any(), any(), eq(0L), eq(2), eq(true)))
+                .thenReturn(Arrays.asList(3L, 1L));
+        when(resourceRecordRepository.updateChunk(eq("test_name"), any(), any(), eq(3L), eq(2), eq(true)))
+                .thenReturn(Collections.singletonList(4L));
+        ResourceRecordBulkResultDTO result = resourceRecordService.updateAll("test_name",
+                new ResourceRecordBulkUpdateDTO(weightFilter, Collections.singletonMap("weight", "120")), false);
+        assertEquals(new ResourceRecordBulkResultDTO(3L, 2, false), result);
+        verify(resourceRecordRepository).updateChunk(eq("test_name"), any(),
+                eq(Collections.singletonMap("weight", 120)), eq(3L), eq(2), eq(true));
+    }
+
+    @Test
+    public void updateAllContinuesAfterShortChunk() {
+        when(resourceTemplateService.findByTableName("test_name")).thenReturn(templateWithParameters);
+        when(resourceRecordRepository.updateChunk(eq("test_name"), any(), any(), eq(0L), eq(2), eq(true)))
+                .thenReturn(Collections.singletonList(2L));
+        when(resourceRecordRepository.updateChunk(eq("test_name"), any(), any(), eq(2L), eq(2), eq(true)))
+                .thenReturn(Arrays.asList(3L, 5L));
+        ResourceRecordBulkResultDTO result = resourceRecordService.updateAll("test_name",
+                new ResourceRecordBulkUpdateDTO(weightFilter, Collections.singletonMap("weight", "120")), false);
+        assertEquals(new ResourceRecordBulkResultDTO(3L, 2, false), result);
+        verify(resourceRecordRepository).updateChunk(eq("test_name"), any(), any(), eq(5L), eq(2), eq(true));
+    }
+
+    @Test(expected = BadRequestException.class)
+    public void updateAllWithUnknownColumn() {
+        when(resourceTemplateService.findByTableName("test_name")).thenReturn(templateWithParameters);
+        resourceRecordService.updateAll("test_name",
+                new ResourceRecordBulkUpdateDTO(weightFilter, Collections.singletonMap("user_id", 2)), false);
+    }
+
+    @Test
+    public void deleteAllQueuesFileCleanup() {
+        when(resourceTemplateService.findByTableName("test_name")).thenReturn(templateWithParameters);
+        when(resourceRecordRepository.deleteChunk(eq("test_name"), any(), eq(2))).thenReturn(
+                Collections.singletonList(ResourceRecord.builder().id(1L).photosNames("first,second,").build()),
+                Collections.emptyList());
+        ResourceRecordBulkResultDTO result = resourceRecordService.deleteAll("test_name",
+                new ResourceRecordFilterDTO(weightFilter), false);
+        assertEquals(new ResourceRecordBulkResultDTO(1L, 1, false), result);
+        verify(fileCleanupService).deleteFiles(Arrays.asList("first", "second"), Collections.emptyList());
+        verify(fileStorageService, never()).deleteFile(anyString());
+    }
+
+    @Test(expected = BadRequestException.class)
+    public void deleteAllWithEmptyFilter() {
+        when(resourceTemplateService.findByTableName("test_name")).thenReturn(templateWithParameters);
+        resourceRecordService.deleteAll("test_name", new ResourceRecordFilterDTO(Collections.emptyList()), false);
+    }
+
+    @Test
+    public void searchSuccess() throws Exception {
+        when(resourceTemplateService.findByTableName("test_name")).thenReturn(resourceTemplate);
+        when(resourceRecordRepository.search("test_name", "oak tree", 0, 5)).thenReturn(new PageImpl<>(resourceRecords));
+        Page<ResourceRecordDTO> result = resourceRecordService.search("test_name", " oak tree ", 1, 5, 0);
+        assertEquals(2, result.getTotalElements());
+        assertEquals("TestName1", result.getContent().get(0).getName());
+    }
+
+    @Test(expected = BadRequestException.class)
+    public void searchWithEmptyQuery() throws Exception {
+        when(resourceTemplateService.findByTableName("test_name")).thenReturn(resourceTemplate);
+        resourceRecordService.search("test_name", "  ", 1, 5, 0);
+    }
 }
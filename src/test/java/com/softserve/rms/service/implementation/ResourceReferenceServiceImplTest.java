@@ -0,0 +1,151 @@
+package com.softserve.rms.service.implementation;
+
+import com.softserve.rms.dto.resourceRecord.ResourceRecordReferenceDTO;
+import com.softserve.rms.entities.ParameterType;
+import com.softserve.rms.entities.ResourceParameter;
+import com.softserve.rms.entities.ResourceRecord;
+import com.softserve.rms.entities.ResourceRelation;
+import com.softserve.rms.entities.ResourceTemplate;
+import com.softserve.rms.exceptions.resourseTemplate.ResourceTemplateIsNotPublishedException;
+import com.softserve.rms.repository.ResourceRecordRepository;
+import com.softserve.rms.repository.ResourceTemplateSearchRepository;
+import com.softserve.rms.service.ResourceTemplateService;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.domain.Page;
+import org.springframework.security.acls.domain.GrantedAuthoritySid;
+import org.springframework.security.acls.domain.PrincipalSid;
+import org.springframework.security.acls.model.Sid;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+
+import static org.jooq.impl.DSL.field;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ResourceReferenceServiceImplTest {
+    private static final List<Sid> READER_SIDS = Arrays.asList(new PrincipalSid("user@mail.com"),
+            new GrantedAuthoritySid("ROLE_USER"));
+
+    private ResourceReferenceServiceImpl resourceReferenceService;
+
+    @Mock
+    private ResourceRecordRepository resourceRecordRepository;
+
+    @Mock
+    private ResourceTemplateService resourceTemplateService;
+
+    @Mock
+    private ResourceTemplateSearchRepository resourceTemplateSearchRepository;
+
+    private ResourceTemplate trees = new ResourceTemplate(1L, "Trees", "trees", null, true, null,
+            Collections.emptyList(), new ArrayList<>(), 0L, null, null, null);
+
+    @Before
+    public void init() {
+        resourceReferenceService = new ResourceReferenceServiceImpl(resourceRecordRepository,
+                resourceTemplateService, resourceTemplateSearchRepository, Runnable::run);
+        SecurityContextHolder.getContext().setAuthentication(
+                new TestingAuthenticationToken("user@mail.com", null, "ROLE_USER"));
+    }
+
+    @After
+    public void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    public void findReferencingMergesTables() {
+        addReference(new ResourceTemplate(3L, "Parks", "parks", null, true, null,
+                null, null, 0L, null, null, null), "oak");
+        addReference(new ResourceTemplate(2L, "Gardens", "gardens", null, true, null,
+                null, null, 0L, null, null, null), "tree");
+        addReference(new ResourceTemplate(4L, "Drafts", "drafts", null, false, null,
+                null, null, 0L, null, null, null), "tree");
+        when(resourceTemplateService.findByTableName("trees")).thenReturn(trees);
+        when(resourceRecordRepository.findById("trees", 7L)).thenReturn(Optional.of(new ResourceRecord()));
+        when(resourceTemplateSearchRepository.findReadable(new HashSet<>(Arrays.asList(2L, 3L)), READER_SIDS))
+                .thenReturn(new HashSet<>(Arrays.asList(2L, 3L)));
+        when(resourceRecordRepository.count("gardens", field("tree_ref", Long.class).eq(7L))).thenReturn(3L);
+        when(resourceRecordRepository.count("parks", field("oak_ref", Long.class).eq(7L))).thenReturn(4L);
+        when(resourceRecordRepository.findAll("gardens", field("tree_ref", Long.class).eq(7L), 2L, 1))
+                .thenReturn(Collections.singletonList(record(12L, "Rose garden")));
+        when(resourceRecordRepository.findAll("parks", field("oak_ref", Long.class).eq(7L), 0L, 1))
+                .thenReturn(Collections.singletonList(record(5L, "Central park")));
+
+        Page<ResourceRecordReferenceDTO> result = resourceReferenceService.findReferencing("trees", 7L, 2, 2);
+
+        assertEquals(Arrays.asList(
+                new ResourceRecordReferenceDTO(2L, "Gardens", "gardens", "tree", 12L, "Rose garden"),
+                new ResourceRecordReferenceDTO(3L, "Parks", "parks", "oak", 5L, "Central park")),
+                result.getContent());
+        assertEquals(7, result.getTotalElements());
+        verify(resourceRecordRepository, never()).count(eq("drafts"), any());
+    }
+
+    @Test
+    public void findReferencingSkipsUnreadableTables() {
+        addReference(new ResourceTemplate(3L, "Parks", "parks", null, true, null,
+                null, null, 0L, null, null, null), "oak");
+        addReference(new ResourceTemplate(2L, "Gardens", "gardens", null, true, null,
+                null, null, 0L, null, null, null), "tree");
+        when(resourceTemplateService.findByTableName("trees")).thenReturn(trees);
+        when(resourceRecordRepository.findById("trees", 7L)).thenReturn(Optional.of(new ResourceRecord()));
+        when(resourceTemplateSearchRepository.findReadable(new HashSet<>(Arrays.asList(2L, 3L)), READER_SIDS))
+                .thenReturn(Collections.singleton(3L));
+        when(resourceRecordRepository.count("parks", field("oak_ref", Long.class).eq(7L))).thenReturn(1L);
+        when(resourceRecordRepository.findAll("parks", field("oak_ref", Long.class).eq(7L), 0L, 1))
+                .thenReturn(Collections.singletonList(record(5L, "Central park")));
+
+        Page<ResourceRecordReferenceDTO> result = resourceReferenceService.findReferencing("trees", 7L, 1, 5);
+
+        assertEquals(Collections.singletonList(
+                new ResourceRecordReferenceDTO(3L, "Parks", "parks", "oak", 5L, "Central park")),
+                result.getContent());
+        verify(resourceRecordRepository, never()).count(eq("gardens"), any());
+    }
+
+    @Test
+    public void findReferencingWithoutReferences() {
+        when(resourceTemplateService.findByTableName("trees")).thenReturn(trees);
+        when(resourceRecordRepository.findById("trees", 7L)).thenReturn(Optional.of(new ResourceRecord()));
+        when(resourceTemplateSearchRepository.findReadable(Collections.emptySet(), READER_SIDS))
+                .thenReturn(Collections.emptySet());
+        Page<ResourceRecordReferenceDTO> result = resourceReferenceService.findReferencing("trees", 7L, 1, 5);
+        assertEquals(0, result.getTotalElements());
+        verify(resourceRecordRepository, never()).count(anyString(), any());
+    }
+
+    @Test(expected = ResourceTemplateIsNotPublishedException.class)
+    public void findReferencingOfNotPublishedTemplate() {
+        trees.setIsPublished(false);
+        when(resourceTemplateService.findByTableName("trees")).thenReturn(trees);
+        resourceReferenceService.findReferencing("trees", 7L, 1, 5);
+    }
+
+    private void addReference(ResourceTemplate referencing, String columnName) {
+        ResourceParameter parameter = new ResourceParameter(null, columnName, columnName,
+                ParameterType.POINT_REFERENCE, null, referencing, null);
+        trees.getResourceRelations().add(new ResourceRelation(null, parameter, null));
+    }
+
+    private ResourceRecord record(Long id, String name) {
+        ResourceRecord resourceRecord = new ResourceRecord();
+        resourceRecord.setId(id);
+        resourceRecord.setName(name);
+        return resourceRecord;
+    }
+}
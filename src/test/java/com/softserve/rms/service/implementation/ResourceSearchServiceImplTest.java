@@ -0,0 +1,72 @@
+package com.softserve.rms.service.implementation;
+
+import com.softserve.rms.dto.search.ResourceSearchDTO;
+import com.softserve.rms.exceptions.BadRequestException;
+import com.softserve.rms.repository.ResourceSearchRepository;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ResourceSearchServiceImplTest {
+
+    @InjectMocks
+    private ResourceSearchServiceImpl resourceSearchService;
+
+    @Mock
+    private ResourceSearchRepository resourceSearchRepository;
+
+    private ResourceSearchDTO result = new ResourceSearchDTO(1L, "Trees", "trees_table", 7L,
+            "Old oak", "Old <b>oak</b> near the lake");
+
+    @After
+    public void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test(expected = AccessDeniedException.class)
+    public void searchByUserWithTemplateReadPermission() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new TestingAuthenticationToken("user@mail.com", null, "ROLE_USER"));
+        try {
+            resourceSearchService.search("oak", 1, 5);
+        } finally {
+            verify(resourceSearchRepository, never()).search(anyString(), anyInt(), anyInt());
+        }
+    }
+
+    @Test
+    public void searchByManager() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new TestingAuthenticationToken("manager@mail.com", null, "ROLE_MANAGER"));
+        when(resourceSearchRepository.search("oak", 1, 5))
+                .thenReturn(new PageImpl<>(Collections.singletonList(result), PageRequest.of(1, 5), 6));
+        Page<ResourceSearchDTO> found = resourceSearchService.search(" oak ", 2, 5);
+        assertEquals(Collections.singletonList(result), found.getContent());
+        assertEquals(6, found.getTotalElements());
+    }
+
+    @Test(expected = BadRequestException.class)
+    public void searchWithEmptyQuery() {
+        try {
+            resourceSearchService.search("  ", 1, 5);
+        } finally {
+            verify(resourceSearchRepository, never()).search(anyString(), anyInt(), anyInt());
+        }
+    }
+}
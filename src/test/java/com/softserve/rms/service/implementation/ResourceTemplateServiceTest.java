@@ -2,17 +2,25 @@ package com.softserve.rms.service.implementation;
 
 import com.softserve.rms.constants.ErrorMessage;
 import com.softserve.rms.dto.PermissionDto;
+import com.softserve.rms.dto.VersionDto;
 import com.softserve.rms.dto.security.ChangeOwnerDto;
 import com.softserve.rms.dto.template.ResourceTemplateDTO;
 import com.softserve.rms.dto.template.ResourceTemplateSaveDTO;
 import com.softserve.rms.entities.*;
+import com.softserve.rms.exceptions.BadRequestException;
 import com.softserve.rms.exceptions.NotFoundException;
 import com.softserve.rms.exceptions.NotUniqueNameException;
 import com.softserve.rms.exceptions.PermissionException;
 import com.softserve.rms.exceptions.resourseTemplate.*;
+import com.softserve.rms.mapper.ResourceParameterMapper;
+import com.softserve.rms.mapper.ResourceTemplateMapper;
+import com.softserve.rms.repository.ResourceParameterRepository;
 import com.softserve.rms.repository.ResourceTemplateRepository;
+import com.softserve.rms.repository.ResourceTemplateSearchRepository;
+import com.softserve.rms.repository.ResourceTemplateStatsRepository;
 import com.softserve.rms.repository.implementation.JooqDDL;
 import com.softserve.rms.util.Formatter;
+import com.softserve.rms.util.ResourceTablePartitioning;
 import org.jooq.DSLContext;
 import org.junit.Before;
 import org.junit.Test;
@@ -28,15 +36,25 @@ import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 import org.powermock.reflect.Whitebox;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.acls.domain.GrantedAuthoritySid;
+import org.springframework.security.acls.domain.PrincipalSid;
+import org.springframework.security.acls.model.Sid;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.lang.reflect.InvocationTargetException;
 import java.security.Principal;
 import java.util.*;
+import java.util.stream.Collectors;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 import static org.powermock.api.mockito.PowerMockito.doNothing;
@@ -65,23 +83,31 @@ public class ResourceTemplateServiceTest {
     private JooqDDL jooqDDL = PowerMockito.mock(JooqDDL.class);
     @Mock
     private Formatter formatter;
+    @Mock
+    private ResourceTemplateSearchRepository resourceTemplateSearchRepository;
+    @Mock
+    private ResourceTemplateStatsRepository resourceTemplateStatsRepository;
+    @Mock
+    private ResourceParameterRepository resourceParameterRepository;
 
     private Role role = new Role(2L, "MANAGER");
     private User user = new User(1L, "testName", "testSurname", "testEmail", "any",
             "any", false, role,"imageurl","google","12444", Collections.emptyList(), null, Collections.emptyList());
     private ResourceTemplate resourceTemplate = new ResourceTemplate(1L, "name", "name",
-            "description", false, user, Collections.emptyList(), Collections.emptyList());
+            "description", false, user, Collections.emptyList(), Collections.emptyList(), 0L, null, null, null);
     private ResourceTemplateSaveDTO resourceTemplateSaveDTO = new ResourceTemplateSaveDTO("name", "description");
     private ResourceTemplateDTO resourceTemplateDTO = new ResourceTemplateDTO(null, "name", "name",
-            "description", false, user.getId(), null);
+            "description", false, user.getId(), null, null);
     private ResourceTemplateDTO resourceTempDTO = new ResourceTemplateDTO(1L, "name", "name",
-            "description", false, user.getId(), Collections.emptyList());
+            "description", false, user.getId(), Collections.emptyList(), null);
     private Map<String, Object> map;
 
     @Before
     public void initializeMock() {
         resourceTemplateService = PowerMockito.spy(new ResourceTemplateServiceImpl(resourceTemplateRepository, userService,
-                permissionManagerService, dslContext, jooqDDL, formatter));
+                permissionManagerService, dslContext, jooqDDL, formatter,
+                new ResourceTemplateMapper(new ResourceParameterMapper()), resourceTemplateSearchRepository,
+                resourceTemplateStatsRepository, resourceParameterRepository));
         JooqDDL jooqDDL = mock(JooqDDL.class);
     }
 
@@ -107,6 +133,41 @@ public class ResourceTemplateServiceTest {
         resourceTemplateService.findDTOById(null);
     }
 
+    @Test
+    public void testFindVersionById() {
+        resourceTemplate.setVersion(4L);
+        resourceTemplate.setUpdatedAt(null);
+        when(resourceTemplateRepository.findById(1L)).thenReturn(Optional.of(resourceTemplate));
+        assertEquals(new VersionDto("1.4", null, false), resourceTemplateService.findVersionById(1L));
+    }
+
+    @Test
+    public void testFindDTOVersionByIdOfPublishedTemplate() {
+        resourceTemplate.setVersion(4L);
+        resourceTemplate.setUpdatedAt(null);
+        resourceTemplate.setIsPublished(true);
+        when(resourceTemplateRepository.findById(1L)).thenReturn(Optional.of(resourceTemplate));
+        when(resourceTemplateStatsRepository.findTableVersion(resourceTemplate.getTableName())).thenReturn(7L, 8L);
+        assertEquals(new VersionDto("1.4.7", null, false), resourceTemplateService.findDTOVersionById(1L));
+        assertEquals(new VersionDto("1.4.8", null, false), resourceTemplateService.findDTOVersionById(1L));
+    }
+
+    @Test
+    public void testFindDTOVersionByIdOfNotPublishedTemplate() {
+        resourceTemplate.setVersion(4L);
+        resourceTemplate.setUpdatedAt(null);
+        resourceTemplate.setIsPublished(false);
+        when(resourceTemplateRepository.findById(1L)).thenReturn(Optional.of(resourceTemplate));
+        assertEquals(new VersionDto("1.4", null, false), resourceTemplateService.findDTOVersionById(1L));
+        verify(resourceTemplateStatsRepository, never()).findTableVersion(anyString());
+    }
+
+    @Test(expected = NotFoundException.class)
+    public void testFindDTOVersionByTableNameFail() {
+        when(resourceTemplateRepository.findByTableName(anyString())).thenReturn(Optional.empty());
+        resourceTemplateService.findDTOVersionByTableName("name");
+    }
+
     @Test
     public void testFindAll() {
         when(resourceTemplateRepository.findAll()).thenReturn(Collections.singletonList(resourceTemplate));
@@ -128,6 +189,45 @@ public class ResourceTemplateServiceTest {
         assertEquals(resourceTemplateDTOs, resourceTemplateService.getAllByUserId(anyLong(), anyInt(), anyInt()).getContent());
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testFindAllLoadsParametersBySingleQuery() {
+        List<ResourceParameter> lazyParameters = mock(List.class);
+        resourceTemplate.setResourceParameters(lazyParameters);
+        ResourceTemplate second = new ResourceTemplate(2L, "cars", "cars",
+                "description", false, user, lazyParameters, Collections.emptyList(), 0L, null, null, null);
+        ResourceParameter weight = new ResourceParameter(11L, "Weight", "weight", ParameterType.POINT_INT,
+                null, second, null);
+        when(resourceTemplateRepository.findAll()).thenReturn(Arrays.asList(resourceTemplate, second));
+        when(resourceParameterRepository.findAllWithRelationsByResourceTemplateIdIn(Arrays.asList(1L, 2L)))
+                .thenReturn(Collections.singletonList(weight));
+        List<ResourceTemplateDTO> result = resourceTemplateService.getAll(1, 5).getContent();
+        assertEquals(Collections.emptyList(), result.get(0).getResourceParameters());
+        assertEquals(Long.valueOf(11L), result.get(1).getResourceParameters().get(0).getId());
+        verify(resourceParameterRepository).findAllWithRelationsByResourceTemplateIdIn(anyCollection());
+        verifyZeroInteractions(lazyParameters);
+    }
+
+    @Test
+    public void testFindAllPublishedWithRecordCounts() {
+        resourceTemplate.setIsPublished(true);
+        ResourceTemplate second = new ResourceTemplate(2L, "cars", "cars",
+                "description", true, user, Collections.emptyList(), Collections.emptyList(), 0L, null, null, null);
+        when(resourceTemplateRepository.findAllByIsPublishedIsTrue()).thenReturn(Arrays.asList(resourceTemplate, second));
+        when(resourceTemplateStatsRepository.countRecords(Arrays.asList("name", "cars")))
+                .thenReturn(Collections.singletonMap("name", 12L));
+        List<ResourceTemplateDTO> result = resourceTemplateService.findAllPublishedTemplates(1, 5).getContent();
+        assertEquals(Long.valueOf(12L), result.get(0).getRecordCount());
+        assertEquals(Long.valueOf(0L), result.get(1).getRecordCount());
+    }
+
+    @Test
+    public void testFindDTOByIdNotPublishedWithoutRecordCount() {
+        when(resourceTemplateRepository.findById(1L)).thenReturn(Optional.of(resourceTemplate));
+        assertEquals(null, resourceTemplateService.findDTOById(1L).getRecordCount());
+        verifyZeroInteractions(resourceTemplateStatsRepository);
+    }
+
     @Test(expected = ResourceTemplateCanNotBeModified.class)
     public void testUpdateResourceTemplateWithPublishFalse() {
         when(resourceTemplateRepository.findById(anyLong())).thenReturn(Optional.of(resourceTemplate));
@@ -140,7 +240,7 @@ public class ResourceTemplateServiceTest {
     public void testUpdateResourceTemplateWithPublishTrue() {
         when(resourceTemplateRepository.findById(anyLong())).thenReturn(Optional.of(resourceTemplate));
         ResourceTemplateDTO updatedDTO = new ResourceTemplateDTO(1L, "updated name", "updated_name",
-                "updated description", false, user.getId(), Collections.emptyList());
+                "updated description", false, user.getId(), Collections.emptyList(), null);
         map = new HashMap<>();
         map.put("name", "updated name");
         map.put("description", "updated description");
@@ -151,7 +251,7 @@ public class ResourceTemplateServiceTest {
     @Test
     public void testUpdateResourceTemplateWithDescription() throws Exception {
         ResourceTemplateDTO updatedDTO = new ResourceTemplateDTO(1L, "name", "name",
-                "updated description", false, user.getId(), Collections.emptyList());
+                "updated description", false, user.getId(), Collections.emptyList(), null);
         map = new HashMap<>();
         map.put("description", "updated description");
         ResourceTemplateDTO resultResourceTemplate = Whitebox.invokeMethod(
@@ -162,7 +262,7 @@ public class ResourceTemplateServiceTest {
     @Test
     public void testUpdateResourceTemplateWithName() throws Exception {
         ResourceTemplateDTO updatedDTO = new ResourceTemplateDTO(1L, "updated name", "updated_name",
-                "description", false, user.getId(), Collections.emptyList());
+                "description", false, user.getId(), Collections.emptyList(), null);
         map = new HashMap<>();
         map.put("name", "updated name");
         ResourceTemplateDTO resultResourceTemplate = Whitebox.invokeMethod(
@@ -213,12 +313,37 @@ public class ResourceTemplateServiceTest {
 
     @Test
     public void testSearchByNameOrDescription() {
-        List<ResourceTemplate> resourceTemplates = Collections.singletonList(resourceTemplate);
-        when(resourceTemplateRepository.findByNameContainsIgnoreCaseOrDescriptionContainsIgnoreCase
-                (anyString(), anyString())).thenReturn(resourceTemplates);
-        List<ResourceTemplateDTO> resourceTemplateDTOs = Collections.singletonList(resourceTempDTO);
-        String searchedWord = "name";
-        assertEquals(resourceTemplateDTOs, resourceTemplateService.searchByNameOrDescriptionContaining(searchedWord, 1, 1).getContent());
+        SecurityContextHolder.setContext(securityContext);
+        when(securityContext.getAuthentication()).thenReturn(authentication);
+        doReturn(Collections.singletonList(new SimpleGrantedAuthority("ROLE_MANAGER")))
+                .when(authentication).getAuthorities();
+        when(resourceTemplateSearchRepository.search("name", true, null, 0, 1))
+                .thenReturn(new PageImpl<>(Collections.singletonList(1L), PageRequest.of(0, 1), 3));
+        when(resourceTemplateRepository.findAllById(Collections.singletonList(1L)))
+                .thenReturn(Collections.singletonList(resourceTemplate));
+        Page<ResourceTemplateDTO> result = resourceTemplateService.searchByNameOrDescriptionContaining("name", true, 1, 1);
+        assertEquals(Collections.singletonList(resourceTempDTO), result.getContent());
+        assertEquals(3, result.getTotalElements());
+    }
+
+    @Test
+    public void testSearchByNameOrDescriptionReadableOnly() {
+        SecurityContextHolder.setContext(securityContext);
+        when(securityContext.getAuthentication()).thenReturn(authentication);
+        doReturn(Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER")))
+                .when(authentication).getAuthorities();
+        when(authentication.getPrincipal()).thenReturn("testEmail");
+        List<Sid> sids = Arrays.asList(new PrincipalSid("testEmail"), new GrantedAuthoritySid("ROLE_USER"));
+        when(resourceTemplateSearchRepository.search("na", true, sids, 1, 2))
+                .thenReturn(new PageImpl<>(Arrays.asList(2L, 1L), PageRequest.of(1, 2), 4));
+        ResourceTemplate second = new ResourceTemplate(2L, "nail", "nail",
+                "description", false, user, Collections.emptyList(), Collections.emptyList(), 0L, null, null, null);
+        when(resourceTemplateRepository.findAllById(Arrays.asList(2L, 1L)))
+                .thenReturn(Arrays.asList(resourceTemplate, second));
+        Page<ResourceTemplateDTO> result = resourceTemplateService.searchByNameOrDescriptionContaining("na", true, 2, 2);
+        assertEquals(Arrays.asList(2L, 1L), result.getContent().stream()
+                .map(ResourceTemplateDTO::getId).collect(Collectors.toList()));
+        assertEquals(1, result.getNumber());
     }
 
     @Test
@@ -251,11 +376,15 @@ public class ResourceTemplateServiceTest {
                 "verifyIfResourceTemplateIsNotPublished", Mockito.any(ResourceTemplate.class));
         PowerMockito.doNothing().when(
                 jooqDDL, "createResourceContainerTable", Mockito.any(ResourceTemplate.class));
+        resourceTemplate.setPartitionStrategy(PartitionStrategy.HASH);
+        resourceTemplate.setPartitionColumn("id");
         Whitebox.invokeMethod(resourceTemplateService, "publishResourceTemplate", resourceTemplate);
         verifyPrivate(resourceTemplateService, times(1)).
                 invoke("publishResourceTemplate", Mockito.any(ResourceTemplate.class));
         verifyPrivate(jooqDDL, times(1)).
                 invoke("createResourceContainerTable", Mockito.any(ResourceTemplate.class));
+        assertNull(resourceTemplate.getPartitionStrategy());
+        assertNull(resourceTemplate.getPartitionColumn());
     }
 
     @Test
@@ -301,11 +430,16 @@ public class ResourceTemplateServiceTest {
                 "verifyIfResourceTemplateIsPublished", Mockito.any(ResourceTemplate.class));
         PowerMockito.doNothing().when(
                 jooqDDL, "dropResourceContainerTable", Mockito.any(ResourceTemplate.class));
+        resourceTemplate.setPartitionStrategy(PartitionStrategy.RANGE);
+        resourceTemplate.setPartitionColumn("created_at");
         Whitebox.invokeMethod(resourceTemplateService, "unPublishResourceTemplate", resourceTemplate);
         verifyPrivate(resourceTemplateService, times(1)).
                 invoke("unPublishResourceTemplate", Mockito.any(ResourceTemplate.class));
         verifyPrivate(jooqDDL, times(1)).
                 invoke("dropResourceContainerTable", Mockito.any(ResourceTemplate.class));
+        assertFalse(resourceTemplate.getIsPublished());
+        assertNull(resourceTemplate.getPartitionStrategy());
+        assertNull(resourceTemplate.getPartitionColumn());
     }
 
     @Test
@@ -445,6 +579,44 @@ public class ResourceTemplateServiceTest {
         assertTrue(result);
     }
 
+    @Test
+    public void testSelectPublishWithPartitioning() throws Exception {
+        when(resourceTemplateRepository.findById(anyLong())).thenReturn(Optional.of(resourceTemplate));
+        PowerMockito.doReturn(true).when(resourceTemplateService,
+                "verifyIfResourceTemplateHasParameters", Mockito.any(ResourceTemplate.class));
+        map = new HashMap<>();
+        map.put("isPublished", true);
+        map.put("partitioning", Collections.singletonMap("strategy", "HASH"));
+        resourceTemplateService.selectPublishOrCancelPublishAction(resourceTemplate.getId(), map);
+        verify(jooqDDL).createResourceContainerTable(eq(resourceTemplate), any(ResourceTablePartitioning.class));
+        verify(jooqDDL, never()).createResourceContainerTable(resourceTemplate);
+        assertEquals(PartitionStrategy.HASH, resourceTemplate.getPartitionStrategy());
+        assertEquals("id", resourceTemplate.getPartitionColumn());
+        assertTrue(resourceTemplate.getIsPublished());
+    }
+
+    @Test(expected = BadRequestException.class)
+    public void testSelectPublishWithInvalidPartitioning() {
+        when(resourceTemplateRepository.findById(anyLong())).thenReturn(Optional.of(resourceTemplate));
+        map = new HashMap<>();
+        map.put("isPublished", true);
+        map.put("partitioning", Collections.singletonMap("strategy", "LIST"));
+        resourceTemplateService.selectPublishOrCancelPublishAction(resourceTemplate.getId(), map);
+    }
+
+    @Test(expected = BadRequestException.class)
+    public void testVerificationOfResourceTemplateReferencingPartitionedTemplate() throws Exception {
+        ResourceTemplate partitioned = new ResourceTemplate();
+        partitioned.setId(2L);
+        partitioned.setIsPublished(true);
+        partitioned.setPartitionStrategy(PartitionStrategy.HASH);
+        ResourceRelation resourceRelation = new ResourceRelation();
+        resourceRelation.setRelatedResourceTemplate(partitioned);
+        resourceTemplate.setResourceParameters(Collections.singletonList(new ResourceParameter(null, "owner",
+                "owner", ParameterType.POINT_REFERENCE, null, resourceTemplate, resourceRelation)));
+        Whitebox.invokeMethod(resourceTemplateService, "verifyIfResourceTemplateHasParameters", resourceTemplate);
+    }
+
     @Test(expected = NotFoundException.class)
     public void testFindByName() {
         when(resourceTemplateRepository.findByNameIgnoreCase(anyString())).thenReturn(Optional.empty());
@@ -457,6 +629,23 @@ public class ResourceTemplateServiceTest {
         resourceTemplateService.findByTableName(resourceTemplate.getTableName());
     }
 
+    @Test
+    public void testFindByTableNameWithoutAccessCheck() throws NoSuchMethodException {
+        when(resourceTemplateRepository.findUnsecuredByTableName("trees")).thenReturn(Optional.of(resourceTemplate));
+        assertEquals(resourceTemplate, resourceTemplateService.findByTableNameWithoutAccessCheck("trees"));
+        verify(resourceTemplateRepository, never()).findByTableName(anyString());
+        assertTrue(ResourceTemplateRepository.class.getMethod("findByTableName", String.class)
+                .isAnnotationPresent(PreAuthorize.class));
+        assertFalse(ResourceTemplateRepository.class.getMethod("findUnsecuredByTableName", String.class)
+                .isAnnotationPresent(PreAuthorize.class));
+    }
+
+    @Test(expected = NotFoundException.class)
+    public void testFindByTableNameWithoutAccessCheckNotFound() {
+        when(resourceTemplateRepository.findUnsecuredByTableName("trees")).thenReturn(Optional.empty());
+        resourceTemplateService.findByTableNameWithoutAccessCheck("trees");
+    }
+
     @Test
     public void addPermissionToResourceTemplateSuccess() {
         doNothing().when(permissionManagerService)
@@ -0,0 +1,72 @@
+package com.softserve.rms.service.implementation;
+
+import com.softserve.rms.repository.ResourceRecordRepository;
+import com.softserve.rms.repository.ResourceTemplateStatsRepository;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ResourceTemplateStatsServiceImplTest {
+
+    private ResourceTemplateStatsServiceImpl resourceTemplateStatsService;
+
+    @Mock
+    private ResourceTemplateStatsRepository resourceTemplateStatsRepository;
+
+    @Mock
+    private ResourceRecordRepository resourceRecordRepository;
+
+    @Before
+    public void init() {
+        resourceTemplateStatsService = new ResourceTemplateStatsServiceImpl(resourceTemplateStatsRepository,
+                resourceRecordRepository);
+    }
+
+    @Test
+    public void reconcileSkipsUnchangedTables() {
+        when(resourceTemplateStatsRepository.findPublishedTableNames())
+                .thenReturn(Arrays.asList("trees", "cars", "boats"));
+        when(resourceTemplateStatsRepository.findReconciledVersions())
+                .thenReturn(Collections.singletonMap("trees", 3L));
+        when(resourceRecordRepository.findTableVersion("trees")).thenReturn(3L);
+        when(resourceRecordRepository.findTableVersion("cars")).thenReturn(5L);
+        when(resourceRecordRepository.findTableVersion("boats")).thenReturn(0L);
+        resourceTemplateStatsService.reconcile();
+        verify(resourceTemplateStatsRepository, never()).reconcile(eq("trees"), anyLong());
+        verify(resourceTemplateStatsRepository).reconcile("cars", 5L);
+        verify(resourceTemplateStatsRepository).reconcile("boats", 0L);
+    }
+
+    @Test
+    public void reconcileChangedTable() {
+        when(resourceTemplateStatsRepository.findPublishedTableNames()).thenReturn(Collections.singletonList("trees"));
+        when(resourceTemplateStatsRepository.findReconciledVersions())
+                .thenReturn(Collections.singletonMap("trees", 3L));
+        when(resourceRecordRepository.findTableVersion("trees")).thenReturn(4L);
+        resourceTemplateStatsService.reconcile();
+        verify(resourceTemplateStatsRepository).reconcile("trees", 4L);
+    }
+
+    @Test
+    public void reconcileContinuesAfterFailedTable() {
+        when(resourceTemplateStatsRepository.findPublishedTableNames()).thenReturn(Arrays.asList("trees", "cars"));
+        doThrow(new DataAccessResourceFailureException("timeout"))
+                .when(resourceTemplateStatsRepository).reconcile("trees", 0L);
+        resourceTemplateStatsService.reconcile();
+        verify(resourceTemplateStatsRepository).reconcile("cars", 0L);
+        when(resourceTemplateStatsRepository.findPublishedTableNames()).thenReturn(Collections.singletonList("trees"));
+        resourceTemplateStatsService.reconcile();
+        verify(resourceTemplateStatsRepository, times(2)).reconcile("trees", 0L);
+    }
+}
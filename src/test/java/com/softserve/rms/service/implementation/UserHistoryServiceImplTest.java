@@ -0,0 +1,140 @@
+package com.softserve.rms.service.implementation;
+
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record1;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockResult;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.domain.Page;
+
+import javax.sql.DataSource;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class UserHistoryServiceImplTest {
+    private static final long MARCH_2 = Instant.parse("2020-03-02T00:00:00Z").toEpochMilli();
+    private static final long MARCH_4 = Instant.parse("2020-03-04T00:00:00Z").toEpochMilli();
+
+    @Mock
+    private DataSource dataSource;
+
+    private UserHistoryServiceImpl userHistoryService;
+
+    private List<String> statements = new ArrayList<>();
+
+    private List<List<Object>> bindings = new ArrayList<>();
+
+    private long count = 3L;
+
+    @Before
+    public void init() throws Exception {
+        DSLContext context = DSL.using(SQLDialect.POSTGRES);
+        Field<String> email = DSL.field("email", String.class);
+        Field<Long> total = DSL.field("count", Long.class);
+        when(dataSource.getConnection()).thenAnswer(invocation -> new MockConnection(ctx -> {
+            statements.add(ctx.sql());
+            bindings.add(Arrays.asList(ctx.bindings()));
+            if (ctx.sql().startsWith("select count(*)")) {
+                Result<Record1<Long>> result = context.newResult(total);
+                result.add(context.newRecord(total).values(count));
+                return new MockResult[]{new MockResult(1, result)};
+            }
+            Result<Record1<String>> result = context.newResult(email);
+            result.add(context.newRecord(email).values("user@mail.com"));
+            return new MockResult[]{new MockResult(1, result)};
+        }));
+        userHistoryService = new UserHistoryServiceImpl(dataSource);
+    }
+
+    @Test
+    public void getUserHistoryAppliesRangeToHistoryAndCount() {
+        Page<Map<String, Object>> page = userHistoryService.getUserHistory(7L, LocalDate.of(2020, 3, 2),
+                LocalDate.of(2020, 3, 3), 2, 2);
+
+        assertEquals(2, statements.size());
+        assertEquals(UserHistoryServiceImpl.USER_HISTORY_COUNT + " and h.revtstmp >= ? and h.revtstmp < ?",
+                statements.get(0));
+        assertEquals(Arrays.asList(7L, MARCH_2, MARCH_4), bindings.get(0));
+        assertEquals(UserHistoryServiceImpl.USER_HISTORY + " and h.revtstmp >= ? and h.revtstmp < ?" +
+                " order by h.rev limit ? offset ?", statements.get(1));
+        assertEquals(Arrays.asList(7L, MARCH_2, MARCH_4, 2, 2L), bindings.get(1));
+        assertEquals(3L, page.getTotalElements());
+        assertEquals("user@mail.com", page.getContent().get(0).get("email"));
+    }
+
+    @Test
+    public void getUserHistoryWithoutRange() {
+        userHistoryService.getUserHistory(7L, null, null, 1, 5);
+
+        assertEquals(UserHistoryServiceImpl.USER_HISTORY_COUNT, statements.get(0));
+        assertEquals(UserHistoryServiceImpl.USER_HISTORY + " order by h.rev limit ? offset ?", statements.get(1));
+        assertEquals(Arrays.asList(7L, 5, 0L), bindings.get(1));
+    }
+
+    @Test
+    public void getUserHistorySkipsPageOutOfRange() {
+        Page<Map<String, Object>> page = userHistoryService.getUserHistory(7L, null, null, 2, 3);
+
+        assertEquals(1, statements.size());
+        assertEquals(3L, page.getTotalElements());
+        assertTrue(page.getContent().isEmpty());
+    }
+
+    @Test
+    public void exportUserHistoryAppliesRange() {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        userHistoryService.exportUserHistory(7L, LocalDate.of(2020, 3, 2), null, rows::add);
+
+        assertEquals(UserHistoryServiceImpl.USER_HISTORY + " and h.revtstmp >= ? order by h.rev", statements.get(0));
+        assertEquals(Arrays.asList(7L, MARCH_2), bindings.get(0));
+        assertEquals(1, rows.size());
+    }
+
+    @Test
+    public void getDeletedAccountsAppliesUpperBound() {
+        userHistoryService.getDeletedAccounts(null, LocalDate.of(2020, 3, 3), 1, 5);
+
+        assertEquals(UserHistoryServiceImpl.DELETED_ACCOUNTS_COUNT + " and r.revtstmp < ?", statements.get(0));
+        assertEquals(Arrays.asList(MARCH_4), bindings.get(0));
+        assertEquals(UserHistoryServiceImpl.DELETED_ACCOUNTS + " and r.revtstmp < ?" +
+                " order by r.revtstmp, u.rev, u.id limit ? offset ?", statements.get(1));
+        assertEquals(Arrays.asList(MARCH_4, 5, 0L), bindings.get(1));
+    }
+
+    @Test
+    public void getAllAccountsAppliesLowerBound() {
+        userHistoryService.getAllAccounts(LocalDate.of(2020, 3, 4), null, 2, 5);
+
+        assertEquals(UserHistoryServiceImpl.ALL_ACCOUNTS_COUNT + " and r.revtstmp >= ?", statements.get(0));
+        assertEquals(Arrays.asList(MARCH_4), bindings.get(0));
+        assertEquals(1, statements.size());
+    }
+
+    @Test
+    public void getAllByDataSelectsWholeDay() {
+        userHistoryService.getAllByData(LocalDate.of(2020, 3, 3), 1, 5);
+
+        assertEquals(UserHistoryServiceImpl.ALL_ACCOUNTS_COUNT + " and r.revtstmp >= ? and r.revtstmp < ?",
+                statements.get(0));
+        assertEquals(Arrays.asList(MARCH_4 - 24 * 60 * 60 * 1000L, MARCH_4), bindings.get(0));
+        assertEquals(UserHistoryServiceImpl.FILTER_BY_DATE + " and r.revtstmp >= ? and r.revtstmp < ?" +
+                " order by r.revtstmp, u.rev, u.id limit ? offset ?", statements.get(1));
+    }
+}
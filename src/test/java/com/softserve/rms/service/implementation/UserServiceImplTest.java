@@ -11,6 +11,7 @@ import com.softserve.rms.exceptions.NotFoundException;
 import com.softserve.rms.exceptions.NotSavedException;
 import com.softserve.rms.exceptions.user.WrongEmailException;
 import com.softserve.rms.exceptions.user.WrongPasswordException;
+import com.softserve.rms.mapper.UserMapper;
 import com.softserve.rms.repository.AdminRepository;
 import com.softserve.rms.repository.UserRepository;
 import com.sun.security.auth.UserPrincipal;
@@ -19,6 +20,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -26,7 +28,6 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.datasource.DriverManagerDataSource;
 import org.mockito.Mockito;
-import org.modelmapper.ModelMapper;
 import org.powermock.api.mockito.PowerMockito;
 import org.powermock.modules.junit4.PowerMockRunner;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -34,6 +35,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.security.Principal;
 import javax.sql.DataSource;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -62,6 +64,8 @@ public class UserServiceImplTest {
     private AdminRepository adminRepository;
     @Mock
     private JdbcTemplate jdbcTemplate=new JdbcTemplate(new DriverManagerDataSource());
+    @Spy
+    private UserMapper userMapper = new UserMapper();
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -196,6 +200,18 @@ public class UserServiceImplTest {
         verify(userRepository, times(1)).findById(1L);
     }
 
+    @Test
+    public void getAllByIdTest() {
+        when(userRepository.findAllById(Collections.singleton(1L))).thenReturn(Collections.singletonList(testUser));
+        assertEquals(Collections.singletonMap(1L, testUser), userService.getAllById(Collections.singleton(1L)));
+    }
+
+    @Test(expected = NotFoundException.class)
+    public void getAllByIdExceptionTest() {
+        when(userRepository.findAllById(Arrays.asList(1L, 2L))).thenReturn(Collections.singletonList(testUser));
+        userService.getAllById(Arrays.asList(1L, 2L));
+    }
+
     @Test(expected = NotFoundException.class)
     public void getByIdExceptionTest() {
 
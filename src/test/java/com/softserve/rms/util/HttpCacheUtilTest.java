@@ -0,0 +1,43 @@
+package com.softserve.rms.util;
+
+import com.softserve.rms.dto.VersionDto;
+import org.junit.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import static org.junit.Assert.*;
+
+public class HttpCacheUtilTest {
+
+    private VersionDto version = new VersionDto("1.3", 1000L, false);
+
+    @Test
+    public void checkNotModifiedMatchingETag() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/resource-template/1");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"1.3-2\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertTrue(HttpCacheUtil.checkNotModified(new ServletWebRequest(request, response), version, 2));
+        assertEquals(304, response.getStatus());
+    }
+
+    @Test
+    public void checkNotModifiedChangedETag() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/resource-template/1");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"1.2\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertFalse(HttpCacheUtil.checkNotModified(new ServletWebRequest(request, response), version));
+        assertEquals(200, response.getStatus());
+        assertEquals("\"1.3\"", response.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    public void cachedResponseWithoutLastModified() {
+        ResponseEntity<String> response = HttpCacheUtil.cachedResponse(new VersionDto("1.3", null, false), "body");
+        assertEquals("no-cache, private", response.getHeaders().getCacheControl());
+        assertEquals(-1, response.getHeaders().getLastModified());
+        assertEquals("body", response.getBody());
+    }
+}
@@ -0,0 +1,74 @@
+package com.softserve.rms.util;
+
+import com.softserve.rms.dto.resourceRecord.ResourceRecordAggregateDTO;
+import com.softserve.rms.dto.resourceRecord.ResourceRecordAggregateDTO.Function;
+import com.softserve.rms.dto.resourceRecord.ResourceRecordAggregationDTO;
+import com.softserve.rms.dto.resourceRecord.ResourceRecordConditionDTO;
+import com.softserve.rms.dto.resourceRecord.ResourceRecordConditionDTO.Operator;
+import com.softserve.rms.entities.ParameterType;
+import com.softserve.rms.entities.ResourceParameter;
+import com.softserve.rms.entities.ResourceTemplate;
+import com.softserve.rms.exceptions.BadRequestException;
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+public class ResourceRecordAggregationTest {
+
+    private DSLContext dslContext = DSL.using(SQLDialect.POSTGRES);
+
+    private ResourceTemplate template = new ResourceTemplate(1L, "Trees", "trees", null, true, null, Arrays.asList(
+            new ResourceParameter(1L, "Weight", "weight", ParameterType.POINT_INT, null, null, null),
+            new ResourceParameter(2L, "Sort", "sort", ParameterType.POINT_STRING, null, null, null)),
+            Collections.emptyList(), 0L, null, null, null);
+
+    @Test
+    public void ofCompilesGroupsAndAggregates() {
+        ResourceRecordAggregation aggregation = ResourceRecordAggregation.of(template,
+                new ResourceRecordAggregationDTO(Collections.singletonList("sort"), Arrays.asList(
+                        aggregate(Function.COUNT, null),
+                        aggregate(Function.AVG, "weight"),
+                        new ResourceRecordAggregateDTO(Function.PERCENTILE, "weight", "median", 0.5, null, null, null),
+                        new ResourceRecordAggregateDTO(Function.HISTOGRAM, "weight", null, null, 0.0, 10.0, 1)),
+                        Collections.singletonList(new ResourceRecordConditionDTO("weight", Operator.GT, 1))));
+        assertEquals("sort", dslContext.renderInlined(aggregation.getGroupBy().get(0)));
+        assertEquals(Arrays.asList("count(*) \"count\"", "avg(weight) \"avg_weight\"",
+                "percentile_cont(0.5) within group (order by weight) \"median\"",
+                "array[count(*) filter (where width_bucket(weight, 0.0, 10.0, 1) = 0), "
+                        + "count(*) filter (where width_bucket(weight, 0.0, 10.0, 1) = 1), "
+                        + "count(*) filter (where width_bucket(weight, 0.0, 10.0, 1) = 2)] \"histogram_weight\""),
+                Arrays.asList(aggregation.getAggregates().stream()
+                        .map(field -> dslContext.renderInlined(DSL.select(field)).substring("select ".length()))
+                        .map(sql -> sql.replace(" as ", " ")).toArray()));
+        assertEquals("weight > 1", dslContext.renderInlined(aggregation.getCondition()));
+    }
+
+    @Test(expected = BadRequestException.class)
+    public void ofWithSumOfString() {
+        ResourceRecordAggregation.of(template, new ResourceRecordAggregationDTO(null,
+                Collections.singletonList(aggregate(Function.SUM, "sort")), null));
+    }
+
+    @Test(expected = BadRequestException.class)
+    public void ofWithHistogramWithoutBounds() {
+        ResourceRecordAggregation.of(template, new ResourceRecordAggregationDTO(null,
+                Collections.singletonList(aggregate(Function.HISTOGRAM, "weight")), null));
+    }
+
+    @Test(expected = BadRequestException.class)
+    public void ofWithRepeatedName() {
+        ResourceRecordAggregation.of(template, new ResourceRecordAggregationDTO(Collections.singletonList("sort"),
+                Collections.singletonList(new ResourceRecordAggregateDTO(Function.MAX, "weight", "sort",
+                        null, null, null, null)), null));
+    }
+
+    private ResourceRecordAggregateDTO aggregate(Function function, String column) {
+        return new ResourceRecordAggregateDTO(function, column, null, null, null, null, null);
+    }
+}
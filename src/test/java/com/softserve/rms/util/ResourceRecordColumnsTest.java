@@ -0,0 +1,46 @@
+package com.softserve.rms.util;
+
+import org.jooq.Field;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+import static org.jooq.impl.DSL.field;
+
+public class ResourceRecordColumnsTest {
+
+    private Field<?>[] fields = {field("id"), field("name"), field("description"), field("user_id"),
+            field("photos_names"), field("documents_names"), field("version"), field("updated_at"),
+            field("search_vector"), field("first_coordinate"), field("weight"), field("land_coordinate")};
+
+    @Test
+    public void ofResolvesColumns() {
+        ResourceRecordColumns columns = ResourceRecordColumns.of(fields);
+        assertEquals(0, columns.getIdIndex());
+        assertEquals(3, columns.getUserIdIndex());
+        assertEquals(5, columns.getDocumentsIndex());
+        assertEquals(2, columns.getParameterCount());
+        assertEquals("weight", columns.getParameterName(0).getValue());
+        assertFalse(columns.isCoordinate(0));
+        assertEquals(11, columns.getParameterIndex(1));
+        assertEquals("coordinates", columns.getParameterName(1).getValue());
+        assertTrue(columns.isCoordinate(1));
+    }
+
+    @Test
+    public void ofWithoutStaticColumns() {
+        ResourceRecordColumns columns = ResourceRecordColumns.of(new Field<?>[]{field("weight")});
+        assertEquals(ResourceRecordColumns.ABSENT, columns.getIdIndex());
+        assertEquals(ResourceRecordColumns.ABSENT, columns.getPhotosIndex());
+        assertEquals(1, columns.getParameterCount());
+    }
+
+    @Test
+    public void matchesSameColumns() {
+        ResourceRecordColumns columns = ResourceRecordColumns.of(fields);
+        assertTrue(columns.matches(fields.clone()));
+        assertFalse(columns.matches(new Field<?>[]{field("id")}));
+        Field<?>[] renamed = fields.clone();
+        renamed[10] = field("height");
+        assertFalse(columns.matches(renamed));
+    }
+}
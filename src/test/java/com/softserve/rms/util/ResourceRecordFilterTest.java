@@ -0,0 +1,86 @@
+package com.softserve.rms.util;
+
+import com.softserve.rms.dto.resourceRecord.ResourceRecordConditionDTO;
+import com.softserve.rms.dto.resourceRecord.ResourceRecordConditionDTO.Operator;
+import com.softserve.rms.entities.ParameterType;
+import com.softserve.rms.entities.PartitionStrategy;
+import com.softserve.rms.entities.ResourceParameter;
+import com.softserve.rms.entities.ResourceTemplate;
+import com.softserve.rms.exceptions.BadRequestException;
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class ResourceRecordFilterTest {
+
+    private DSLContext dslContext = DSL.using(SQLDialect.POSTGRES);
+
+    private ResourceRecordFilter filter = ResourceRecordFilter.of(new ResourceTemplate(1L, "Trees", "trees", null,
+            true, null, Arrays.asList(
+            new ResourceParameter(1L, "Weight", "weight", ParameterType.POINT_INT, null, null, null),
+            new ResourceParameter(2L, "Height", "height", ParameterType.RANGE_DOUBLE, null, null, null),
+            new ResourceParameter(3L, "Sort", "sort", ParameterType.POINT_STRING, null, null, null)),
+            Collections.emptyList(), 0L, null, null, null));
+
+    @Test
+    public void toConditionCompilesTypedConditions() {
+        String sql = dslContext.renderInlined(filter.toCondition(Arrays.asList(
+                new ResourceRecordConditionDTO("weight", Operator.GE, "100"),
+                new ResourceRecordConditionDTO("height_from", Operator.LT, 2.5),
+                new ResourceRecordConditionDTO("sort", Operator.LIKE, "Oak%"),
+                new ResourceRecordConditionDTO("id", Operator.IN, Arrays.asList(1, 2)),
+                new ResourceRecordConditionDTO("description", Operator.IS_NULL, null))));
+        assertEquals("(weight >= 100 and height_from < 2.5 and sort like 'Oak%' and id in (1, 2) "
+                + "and description is null)", sql);
+    }
+
+    @Test(expected = BadRequestException.class)
+    public void toConditionWithUnknownColumn() {
+        filter.toCondition(Collections.singletonList(new ResourceRecordConditionDTO("height", Operator.EQ, 1)));
+    }
+
+    @Test(expected = BadRequestException.class)
+    public void toConditionWithCreatedAtOfNotPartitionedTable() {
+        filter.toCondition(Collections.singletonList(
+                new ResourceRecordConditionDTO("created_at", Operator.GE, "2020-01-01 00:00:00")));
+    }
+
+    @Test
+    public void toConditionWithCreatedAtOfPartitionedTable() {
+        ResourceTemplate resourceTemplate = new ResourceTemplate();
+        resourceTemplate.setPartitionStrategy(PartitionStrategy.RANGE);
+        resourceTemplate.setPartitionColumn("created_at");
+        String sql = dslContext.renderInlined(ResourceRecordFilter.of(resourceTemplate).toCondition(
+                Collections.singletonList(new ResourceRecordConditionDTO("created_at", Operator.GE,
+                        "2020-01-01 00:00:00"))));
+        assertEquals("created_at >= timestamp '2020-01-01 00:00:00.0'", sql);
+    }
+
+    @Test(expected = BadRequestException.class)
+    public void toConditionWithNotConvertibleValue() {
+        filter.toCondition(Collections.singletonList(new ResourceRecordConditionDTO("weight", Operator.EQ, "heavy")));
+    }
+
+    @Test(expected = BadRequestException.class)
+    public void toConditionWithLikeOnNumber() {
+        filter.toCondition(Collections.singletonList(new ResourceRecordConditionDTO("weight", Operator.LIKE, "1%")));
+    }
+
+    @Test
+    public void toValuesConvertsValues() {
+        Map<String, Object> values = filter.toValues(Collections.singletonMap("height_to", "3"));
+        assertEquals(3.0, values.get("height_to"));
+    }
+
+    @Test(expected = BadRequestException.class)
+    public void toValuesOfStaticColumn() {
+        filter.toValues(Collections.singletonMap("id", 1));
+    }
+}
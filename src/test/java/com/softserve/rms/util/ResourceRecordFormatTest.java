@@ -0,0 +1,31 @@
+package com.softserve.rms.util;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class ResourceRecordFormatTest {
+
+    @Test
+    public void negotiateDefaultsToJson() {
+        assertEquals(ResourceRecordFormat.JSON, ResourceRecordFormat.negotiate(null));
+        assertEquals(ResourceRecordFormat.JSON, ResourceRecordFormat.negotiate("*/*"));
+        assertEquals(ResourceRecordFormat.JSON, ResourceRecordFormat.negotiate("text/html"));
+        assertEquals(ResourceRecordFormat.JSON, ResourceRecordFormat.negotiate("not a media type"));
+    }
+
+    @Test
+    public void negotiateRequestedFormat() {
+        assertEquals(ResourceRecordFormat.SMILE, ResourceRecordFormat.negotiate("application/x-jackson-smile"));
+        assertEquals(ResourceRecordFormat.COLUMNAR_JSON,
+                ResourceRecordFormat.negotiate("application/vnd.rms.columnar+json"));
+        assertEquals(ResourceRecordFormat.COLUMNAR_SMILE,
+                ResourceRecordFormat.negotiate("application/json;q=0.5, application/vnd.rms.columnar+smile"));
+    }
+
+    @Test
+    public void negotiateSkipsRejectedFormat() {
+        assertEquals(ResourceRecordFormat.SMILE,
+                ResourceRecordFormat.negotiate("application/json;q=0, application/*;q=0.1"));
+    }
+}
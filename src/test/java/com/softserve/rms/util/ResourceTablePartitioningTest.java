@@ -0,0 +1,69 @@
+package com.softserve.rms.util;
+
+import com.softserve.rms.entities.PartitionStrategy;
+import com.softserve.rms.exceptions.BadRequestException;
+import org.junit.Test;
+
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class ResourceTablePartitioningTest {
+
+    private Map<String, Object> options(String strategy, String column, List<Object> bounds) {
+        Map<String, Object> options = new HashMap<>();
+        options.put("strategy", strategy);
+        options.put("column", column);
+        options.put("bounds", bounds);
+        return options;
+    }
+
+    @Test
+    public void ofHashPartitionsById() {
+        ResourceTablePartitioning partitioning = ResourceTablePartitioning.of(Collections.singletonMap("strategy", "HASH"));
+        assertEquals(PartitionStrategy.HASH, partitioning.getStrategy());
+        assertEquals("id", partitioning.getColumn());
+        assertTrue(partitioning.getBounds().isEmpty());
+    }
+
+    @Test
+    public void ofRangeByCreationTime() {
+        ResourceTablePartitioning partitioning = ResourceTablePartitioning.of(options("RANGE", "created_at",
+                Arrays.asList("2020-01-01 00:00:00", Timestamp.valueOf("2021-01-01 00:00:00"))));
+        assertEquals(PartitionStrategy.RANGE, partitioning.getStrategy());
+        assertEquals("created_at", partitioning.getColumn());
+        assertEquals(Arrays.asList(Timestamp.valueOf("2020-01-01 00:00:00"), Timestamp.valueOf("2021-01-01 00:00:00")),
+                partitioning.getBounds());
+    }
+
+    @Test(expected = BadRequestException.class)
+    public void ofUnknownStrategy() {
+        ResourceTablePartitioning.of(Collections.singletonMap("strategy", "LIST"));
+    }
+
+    @Test(expected = BadRequestException.class)
+    public void ofHashWithBounds() {
+        ResourceTablePartitioning.of(options("HASH", null, Collections.singletonList(1)));
+    }
+
+    @Test(expected = BadRequestException.class)
+    public void ofRangeByParameter() {
+        ResourceTablePartitioning.of(options("RANGE", "weight", Collections.singletonList(1)));
+    }
+
+    @Test(expected = BadRequestException.class)
+    public void ofRangeWithDescendingBounds() {
+        ResourceTablePartitioning.of(options("RANGE", "created_at",
+                Arrays.asList("2021-01-01 00:00:00", "2020-01-01 00:00:00")));
+    }
+
+    @Test(expected = BadRequestException.class)
+    public void ofRangeWithoutBounds() {
+        ResourceTablePartitioning.of(options("RANGE", "created_at", null));
+    }
+}